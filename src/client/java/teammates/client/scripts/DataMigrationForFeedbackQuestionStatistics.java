@@ -0,0 +1,73 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.List;
+
+import teammates.client.remoteapi.RemoteApiClient;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.logic.api.Logic;
+import teammates.storage.api.FeedbackSessionsDb;
+
+/**
+ * Rebuilds the statistics aggregates of feedback questions from their responses,
+ * e.g. for questions created before the aggregates were kept.
+ */
+public class DataMigrationForFeedbackQuestionStatistics extends RemoteApiClient {
+
+    private Logic logic = new Logic();
+    private FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+
+    // modify this value to choose to rebuild the statistics for all sessions or a specific session
+    private boolean isForAllSession = true;
+
+    // modify for preview
+    private boolean isPreview = true;
+
+    public static void main(String[] args) throws IOException {
+        final long startTime = System.currentTimeMillis();
+
+        DataMigrationForFeedbackQuestionStatistics migrator = new DataMigrationForFeedbackQuestionStatistics();
+        migrator.doOperationRemotely();
+
+        final long endTime = System.currentTimeMillis();
+        System.out.println("Total execution time: " + (endTime - startTime) + "ms");
+    }
+
+    @Override
+    protected void doOperation() {
+        if (isForAllSession) {
+            rebuildStatisticsForAllSessions();
+        } else {
+            rebuildStatisticsForSession("Feedback Session Name", "Course ID"); // feedback session info
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private void rebuildStatisticsForAllSessions() {
+        List<FeedbackSessionAttributes> feedbackSessions = fsDb.getAllFeedbackSessions();
+
+        for (FeedbackSessionAttributes session : feedbackSessions) {
+            rebuildStatisticsForSession(session.getFeedbackSessionName(), session.getCourseId());
+        }
+    }
+
+    /* Operation for a specific session */
+    private void rebuildStatisticsForSession(String feedbackSessionName, String courseId) {
+        if (isPreview) {
+            System.out.println("Modifying : [" + courseId + ": " + feedbackSessionName + "]");
+            return;
+        }
+
+        try {
+            logic.rebuildFeedbackQuestionStatistics(feedbackSessionName, courseId);
+            System.out.println("Successfully rebuilt question statistics for session " + feedbackSessionName
+                               + " in course " + courseId);
+        } catch (EntityDoesNotExistException e) {
+            System.out.println("ERROR Failed to rebuild question statistics for session " + feedbackSessionName
+                               + " in course " + courseId);
+            e.printStackTrace();
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package teammates.client.scripts;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import com.google.appengine.api.search.Document;
@@ -18,6 +19,7 @@ import teammates.common.util.Const;
 import teammates.common.util.retry.MaximumRetriesExceededException;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
+import teammates.storage.search.SearchDocument;
 import teammates.storage.search.SearchManager;
 
 /**
@@ -103,32 +105,36 @@ public abstract class DataMigrationForFeedbackResponseCommentSearchDocument exte
         println("Running data migration for " + commentsToFix.size() + " invalid documents");
         println("Preview: " + isPreview());
 
-        List<Document> documentsToUpdate = new ArrayList<>();
+        // comments of the same course are kept together so that each batch reads the data of as few courses as possible
+        commentsToFix.sort(Comparator.comparing(comment -> comment.courseId));
+
+        List<FeedbackResponseCommentAttributes> commentsToUpdate = new ArrayList<>();
 
         LoopHelper loopHelper = new LoopHelper(BATCH_SIZE, "documents processed.");
 
         for (FeedbackResponseCommentAttributes commentToFix : commentsToFix) {
             loopHelper.recordLoop();
-            queueDocumentUpdate(commentToFix, documentsToUpdate);
+            commentsToUpdate.add(commentToFix);
 
-            if (documentsToUpdate.size() == BATCH_SIZE) {
-                updateAndClearDocuments(documentsToUpdate);
+            if (commentsToUpdate.size() == BATCH_SIZE) {
+                updateAndClearDocuments(commentsToUpdate);
             }
         }
-        updateAndClearDocuments(documentsToUpdate);
+        updateAndClearDocuments(commentsToUpdate);
 
         println("\nComplete! If there are any failures shown above, please rerun this script.");
     }
 
-    private void queueDocumentUpdate(FeedbackResponseCommentAttributes comment, List<Document> documentsToUpdate) {
-        documentsToUpdate.add(new FeedbackResponseCommentSearchDocument(comment).build());
-    }
-
-    private void updateAndClearDocuments(List<Document> documentsToUpdate) {
-        if (documentsToUpdate.isEmpty()) {
+    private void updateAndClearDocuments(List<FeedbackResponseCommentAttributes> commentsToUpdate) {
+        if (commentsToUpdate.isEmpty()) {
             return;
         }
 
+        List<Document> documentsToUpdate = new ArrayList<>();
+        for (SearchDocument document : FeedbackResponseCommentSearchDocument.fromComments(commentsToUpdate)) {
+            documentsToUpdate.add(document.build());
+        }
+
         println("Batch updating " + documentsToUpdate.size() + " documents...");
 
         if (!isPreview()) {
@@ -142,7 +148,7 @@ public abstract class DataMigrationForFeedbackResponseCommentSearchDocument exte
             }
         }
 
-        documentsToUpdate.clear();
+        commentsToUpdate.clear();
     }
 
     /**
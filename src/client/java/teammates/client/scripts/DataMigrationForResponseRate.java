@@ -18,7 +18,8 @@ public class DataMigrationForResponseRate extends RemoteApiClient {
 
     // modify this value to choose to update respondents for all sessions or a specific session
     private boolean isForAllSession = true;
-    // if modifying all sessions, modify this value to only update sessions with no respondents
+    // if modifying all sessions, modify this value to only update sessions with no respondents,
+    // and sessions whose respondents are still stored in the session entity and have not been recorded separately yet
     private boolean isOnlyModifyingZeroResponseRate = true;
 
     // modify for preview
@@ -63,8 +64,11 @@ public class DataMigrationForResponseRate extends RemoteApiClient {
         List<FeedbackSessionAttributes> feedbackSessionsWithNoRespondents = new ArrayList<>();
 
         for (FeedbackSessionAttributes feedbackSession : feedbackSessions) {
-            if (feedbackSession.getRespondingStudentList().size() != 0
-                    || feedbackSession.getRespondingInstructorList().size() != 0) {
+            String feedbackSessionName = feedbackSession.getFeedbackSessionName();
+            String courseId = feedbackSession.getCourseId();
+            boolean hasLegacyRespondents = !fsDb.getLegacyRespondents(feedbackSessionName, courseId, true).isEmpty()
+                    || !fsDb.getLegacyRespondents(feedbackSessionName, courseId, false).isEmpty();
+            if (!hasLegacyRespondents && logic.getNumberOfRespondents(feedbackSessionName, courseId) != 0) {
                 continue;
             }
 
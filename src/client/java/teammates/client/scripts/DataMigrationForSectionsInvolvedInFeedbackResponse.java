@@ -0,0 +1,77 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.client.remoteapi.RemoteApiClient;
+import teammates.client.scripts.util.LoopHelper;
+import teammates.storage.entity.FeedbackResponse;
+
+/**
+ * Script to populate the {@code sectionsInvolved} field of {@link FeedbackResponse}.
+ *
+ * <p>Responses are found by section through the indexed {@code sectionsInvolved} field, which is only
+ * written when a response is saved. This script re-saves all existing responses (keeping their
+ * {@code updatedAt} time stamps) so that responses created before the field existed are found as well.</p>
+ *
+ * <p>Until this script has been run with {@code isPreview} set to false and reports no affected responses, the
+ * section queries in {@code FeedbackResponsesDb} also match the giver and recipient sections, so that the
+ * responses not yet migrated still show up. Those fallback queries are to be removed only after that.</p>
+ */
+public class DataMigrationForSectionsInvolvedInFeedbackResponse extends RemoteApiClient {
+
+    /**
+     * Will not perform updates on the datastore if true.
+     */
+    private static final boolean isPreview = true;
+
+    private static final int BATCH_SIZE = 500;
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForSectionsInvolvedInFeedbackResponse().doOperationRemotely();
+    }
+
+    @Override
+    protected void doOperation() {
+        LoopHelper loopHelper = new LoopHelper(BATCH_SIZE, "responses processed.");
+        println("Running data migration for sectionsInvolved on feedback responses...");
+        println("Preview: " + isPreview);
+
+        int numberOfAffectedResponses = 0;
+        List<FeedbackResponse> responsesToSave = new ArrayList<>();
+        for (FeedbackResponse response : ofy().load().type(FeedbackResponse.class).chunk(BATCH_SIZE)) {
+            loopHelper.recordLoop();
+            if (isSectionsInvolvedUpToDate(response)) {
+                continue;
+            }
+            numberOfAffectedResponses++;
+            response.keepUpdateTimestamp = true;
+            responsesToSave.add(response);
+            if (responsesToSave.size() == BATCH_SIZE) {
+                saveResponses(responsesToSave);
+            }
+        }
+        saveResponses(responsesToSave);
+
+        println("Total number of responses: " + loopHelper.getCount());
+        println("Number of affected responses: " + numberOfAffectedResponses);
+    }
+
+    private boolean isSectionsInvolvedUpToDate(FeedbackResponse response) {
+        List<String> sectionsInvolved = response.getSectionsInvolved();
+        if (sectionsInvolved == null) {
+            return false;
+        }
+        response.updateSectionsInvolved();
+        return sectionsInvolved.equals(response.getSectionsInvolved());
+    }
+
+    private void saveResponses(List<FeedbackResponse> responses) {
+        if (!isPreview && !responses.isEmpty()) {
+            ofy().save().entities(responses).now();
+        }
+        responses.clear();
+    }
+
+}
@@ -1,25 +1,32 @@
 package teammates.client.scripts;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import com.googlecode.objectify.Key;
+
 import teammates.client.remoteapi.RemoteApiClient;
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -27,13 +34,77 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
 import teammates.logic.api.Logic;
+import teammates.storage.api.EntityChangesDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
-import teammates.test.driver.TestProperties;
-
+import teammates.storage.entity.Account;
+import teammates.storage.entity.AdminEmail;
+import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseStudent;
+import teammates.storage.entity.EntityChange;
+import teammates.storage.entity.FeedbackQuestion;
+import teammates.storage.entity.FeedbackResponse;
+import teammates.storage.entity.FeedbackResponseComment;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.Instructor;
+import teammates.storage.entity.StudentProfile;
+
+/**
+ * Backs up the entities changed since the previous backup, as recorded in the journal of entity changes.
+ *
+ * <p>The changed entities are saved in {@code changes.json}, grouped by their type and named by their keys,
+ * together with the keys of the deleted entities. The questions of the changed responses and comments are
+ * saved with them even if they did not change, as the responses and comments can only be matched to the
+ * questions restored by {@link UploadBackupData} through the session and number of their question.
+ *
+ * <p>A course with a change whose entity key is not known is backed up in full in {@code <courseId>.json}.
+ * So is a course with a deleted question or comment: their IDs are generated by the Datastore,
+ * so their keys cannot be used to find the restored entities to delete.
+ *
+ * <p>The journal may record a change of an entity whose write then failed, so the state of each changed
+ * entity is taken from the Datastore: an entity that no longer exists is backed up as deleted.
+ *
+ * <p>The time up to which changes are backed up is kept in {@code checkpoint.txt}, and the next backup
+ * continues from there. Without the file, all the changes in the journal are backed up. Changes are only
+ * kept for {@link Const.SystemParams#ENTITY_CHANGES_RETENTION_DAYS} days, so the backup is aborted if the
+ * checkpoint is older than that: a full backup is needed instead, after which the checkpoint is to be set to
+ * the time of the full backup.
+ */
 public class OfflineBackup extends RemoteApiClient {
+
+    private static final String CHECKPOINT_FILE_NAME = "checkpoint.txt";
+
+    /**
+     * Changes recorded shortly before the backup starts may not be returned by queries yet;
+     * they are left to the next backup.
+     */
+    private static final long CHANGE_SETTLING_TIME_IN_MILLIS = 60 * 1000;
+
+    private static final Map<String, String> SECTION_NAMES_BY_KIND = new HashMap<>();
+
+    static {
+        SECTION_NAMES_BY_KIND.put(Key.getKind(Account.class), "accounts");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(AdminEmail.class), "adminEmails");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(Course.class), "courses");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(FeedbackQuestion.class), "feedbackQuestions");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(FeedbackResponse.class), "feedbackResponses");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(FeedbackResponseComment.class), "feedbackResponseComments");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(FeedbackSession.class), "feedbackSessions");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(Instructor.class), "instructors");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(CourseStudent.class), "students");
+        SECTION_NAMES_BY_KIND.put(Key.getKind(StudentProfile.class), "profiles");
+    }
+
+    /** The kinds of entities whose IDs are generated by the Datastore. */
+    private static final Set<String> KINDS_WITH_GENERATED_IDS = new HashSet<>(Arrays.asList(
+            Key.getKind(FeedbackQuestion.class), Key.getKind(FeedbackResponseComment.class)));
+
+    /** The directory holding the checkpoint and the backup folders. */
+    protected String backupRootDirectory = "BackupFiles";
     protected String backupFileDirectory = "";
     private String currentFileName = "";
     private boolean hasPreviousEntity;
@@ -46,52 +117,194 @@ public class OfflineBackup extends RemoteApiClient {
 
     @Override
     protected void doOperation() {
-        List<String> logs = getModifiedLogs();
-        Set<String> courses = extractModifiedCourseIds(logs);
-        backupFileDirectory = "BackupFiles/Backup/" + getCurrentDateAndTime();
+        Date changesStart = readCheckpoint();
+        if (changesStart.getTime() > 0 && changesStart.before(TimeHelper.getDateOffsetToCurrentTime(
+                -Const.SystemParams.ENTITY_CHANGES_RETENTION_DAYS))) {
+            // the changes made between the checkpoint and the oldest change kept would be missed,
+            // so nothing is backed up and the checkpoint is left as it is
+            throw new IllegalStateException("The previous backup, up to " + changesStart
+                    + ", is older than the journal of entity changes, so the changes since then cannot all be"
+                    + " backed up. Take a full backup, then write its time in milliseconds to "
+                    + new File(backupRootDirectory, CHECKPOINT_FILE_NAME) + " to continue from there");
+        }
+        Date changesEnd = getChangesEnd();
+        List<EntityChange> changes = new EntityChangesDb().getChangesBetween(changesStart, changesEnd);
+        println("Backing up " + changes.size() + " changes since " + changesStart);
+
+        backupFileDirectory = backupRootDirectory + "/Backup/" + getCurrentDateAndTime();
         createBackupDirectory(backupFileDirectory);
-        retrieveEntitiesByCourse(courses);
+        retrieveChangedEntities(changes);
+        writeCheckpoint(changesEnd);
+    }
+
+    /**
+     * Returns the time up to which changes are backed up.
+     */
+    protected Date getChangesEnd() {
+        return new Date(System.currentTimeMillis() - CHANGE_SETTLING_TIME_IN_MILLIS);
     }
 
     /**
-     * Opens a connection to the entityModifiedLogs servlet to retrieve a log of all recently modified entities.
+     * Returns the time up to which changes were backed up by the previous backup,
+     * or the earliest possible time if there was no previous backup.
      */
-    private List<String> getModifiedLogs() {
-        List<String> modifiedLogs = new ArrayList<>();
+    private Date readCheckpoint() {
+        File checkpointFile = new File(backupRootDirectory, CHECKPOINT_FILE_NAME);
+        if (!checkpointFile.exists()) {
+            return new Date(0);
+        }
+        try {
+            String checkpoint = new String(Files.readAllBytes(checkpointFile.toPath()), StandardCharsets.UTF_8);
+            return new Date(Long.parseLong(checkpoint.trim()));
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Unable to read the checkpoint of the previous backup from "
+                    + checkpointFile + "; delete the file to back up all the changes in the journal", e);
+        }
+    }
+
+    private void writeCheckpoint(Date checkpoint) {
         try {
-            //Opens a URL connection to obtain the entity modified logs
-            URL url = new URL(TestProperties.TEAMMATES_URL + "/entityModifiedLogs");
+            Files.write(new File(backupRootDirectory, CHECKPOINT_FILE_NAME).toPath(),
+                        String.valueOf(checkpoint.getTime()).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Error occurred while trying to save the checkpoint: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the latest state of every changed entity with the questions it refers to, and backs up in full
+     * the courses with changes whose entity keys are not known or with deleted questions or comments.
+     */
+    private void retrieveChangedEntities(List<EntityChange> changes) {
+        // only the latest change of each entity matters
+        Map<String, EntityChange> latestChangesByKey = new LinkedHashMap<>();
+        Set<String> coursesToBackUpInFull = new HashSet<>();
+        for (EntityChange change : changes) {
+            if (change.getEntityKey() != null) {
+                latestChangesByKey.remove(change.getEntityKey());
+                latestChangesByKey.put(change.getEntityKey(), change);
+            } else if (change.getCourseId() != null) {
+                coursesToBackUpInFull.add(change.getCourseId());
+            } else {
+                println("Unable to back up a changed " + change.getEntityKind() + " as its key is not known");
+            }
+        }
+
+        // the state of an entity is taken from the Datastore rather than from its latest change,
+        // as the change may have been recorded for a write which then failed
+        List<Key<Object>> keysToRetrieve = new ArrayList<>();
+        for (String changedKey : latestChangesByKey.keySet()) {
+            keysToRetrieve.add(Key.<Object>create(changedKey));
+        }
 
-            URLConnection urlConn = url.openConnection();
+        Map<Key<Object>, Object> retrievedEntities = new LinkedHashMap<>(ofy().load().keys(keysToRetrieve));
+        List<Key<Object>> savedKeys = new ArrayList<>();
+        List<String> deletedKeys = new ArrayList<>();
+        Set<String> referencedQuestionIds = new HashSet<>();
+        for (Key<Object> key : keysToRetrieve) {
+            Object entity = retrievedEntities.get(key);
+            if (entity != null) {
+                savedKeys.add(key);
+                referencedQuestionIds.add(getFeedbackQuestionId(entity));
+            } else if (KINDS_WITH_GENERATED_IDS.contains(key.getKind())) {
+                String courseId = latestChangesByKey.get(key.toWebSafeString()).getCourseId();
+                if (courseId == null) {
+                    println("Unable to back up the deletion of a " + key.getKind() + " as its course is not known");
+                } else {
+                    coursesToBackUpInFull.add(courseId);
+                }
+            } else {
+                deletedKeys.add(key.toWebSafeString());
+                if (key.getKind().equals(Key.getKind(FeedbackResponse.class))) {
+                    referencedQuestionIds.add(getFeedbackQuestionIdOfResponseId(key.getName()));
+                }
+            }
+        }
 
-            BufferedReader in = new BufferedReader(new InputStreamReader(urlConn.getInputStream()));
-            String logMessage;
-            while ((logMessage = in.readLine()) != null) {
-                modifiedLogs.add(logMessage);
+        referencedQuestionIds.remove(null);
+        List<Key<Object>> questionKeysToRetrieve = new ArrayList<>();
+        for (String questionId : referencedQuestionIds) {
+            Key<Object> questionKey = Key.create(questionId);
+            if (!retrievedEntities.containsKey(questionKey)) {
+                questionKeysToRetrieve.add(questionKey);
             }
-            in.close();
-        } catch (IOException e) {
-            System.out.println("Error occurred while trying to access modified entity logs: " + e.getMessage());
         }
+        retrievedEntities.putAll(ofy().load().keys(questionKeysToRetrieve));
+        savedKeys.addAll(questionKeysToRetrieve);
+
+        Map<String, List<Key<Object>>> keysBySection = new LinkedHashMap<>();
+        for (Key<Object> key : savedKeys) {
+            if (retrievedEntities.get(key) == null) {
+                // a referenced question deleted since, whose course is backed up in full
+                continue;
+            }
+            keysBySection.computeIfAbsent(SECTION_NAMES_BY_KIND.get(key.getKind()), section -> new ArrayList<>())
+                    .add(key);
+        }
+
+        currentFileName = backupFileDirectory + "/changes.json";
+        appendToFile(currentFileName, "{\n");
+        for (Map.Entry<String, List<Key<Object>>> section : keysBySection.entrySet()) {
+            appendToFile(currentFileName, "\t\"" + section.getKey() + "\":{\n");
+            for (Key<Object> key : section.getValue()) {
+                EntityAttributes<?> attributes = makeAttributes(retrievedEntities.get(key));
+                appendToFile(currentFileName, formatJsonString(attributes.getJsonString(), key.toWebSafeString()));
+            }
+            hasPreviousEntity = false;
+            appendToFile(currentFileName, "\n\t},\n");
+        }
+        appendToFile(currentFileName, "\t\"deletedEntityKeys\":[");
+        for (int i = 0; i < deletedKeys.size(); i++) {
+            appendToFile(currentFileName, (i == 0 ? "\n" : ",\n") + "\t\t\"" + deletedKeys.get(i) + "\"");
+        }
+        appendToFile(currentFileName, "\n\t]\n}");
 
-        return modifiedLogs;
+        retrieveEntitiesByCourse(coursesToBackUpInFull);
     }
 
     /**
-     * Look through the logs and extracts all recently modified courses.
+     * Returns the ID of the question of a response or comment, or null for other entities.
      */
-    private Set<String> extractModifiedCourseIds(List<String> modifiedLogs) {
-
-        //Extracts the course Ids to be backup from the logs
-        Set<String> courses = new HashSet<>();
-        for (String course : modifiedLogs) {
-            course = course.trim();
-            if (!course.isEmpty()) {
-                courses.add(course);
-            }
+    private static String getFeedbackQuestionId(Object entity) {
+        if (entity instanceof FeedbackResponse) {
+            return ((FeedbackResponse) entity).getFeedbackQuestionId();
+        } else if (entity instanceof FeedbackResponseComment) {
+            return ((FeedbackResponseComment) entity).getFeedbackQuestionId();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the ID of the question of the response with the given ID,
+     * which is made of the question ID, the giver and the recipient of the response.
+     */
+    static String getFeedbackQuestionIdOfResponseId(String feedbackResponseId) {
+        return feedbackResponseId.substring(0, feedbackResponseId.indexOf('%'));
+    }
 
+    private static EntityAttributes<?> makeAttributes(Object entity) {
+        if (entity instanceof Account) {
+            return new AccountAttributes((Account) entity);
+        } else if (entity instanceof AdminEmail) {
+            return AdminEmailAttributes.valueOf((AdminEmail) entity);
+        } else if (entity instanceof Course) {
+            return new CourseAttributes((Course) entity);
+        } else if (entity instanceof FeedbackQuestion) {
+            return new FeedbackQuestionAttributes((FeedbackQuestion) entity);
+        } else if (entity instanceof FeedbackResponse) {
+            return new FeedbackResponseAttributes((FeedbackResponse) entity);
+        } else if (entity instanceof FeedbackResponseComment) {
+            return FeedbackResponseCommentAttributes.valueOf((FeedbackResponseComment) entity);
+        } else if (entity instanceof FeedbackSession) {
+            return FeedbackSessionAttributes.valueOf((FeedbackSession) entity);
+        } else if (entity instanceof Instructor) {
+            return InstructorAttributes.valueOf((Instructor) entity);
+        } else if (entity instanceof CourseStudent) {
+            return StudentAttributes.valueOf((CourseStudent) entity);
+        } else if (entity instanceof StudentProfile) {
+            return StudentProfileAttributes.valueOf((StudentProfile) entity);
         }
-        return courses;
+        throw new IllegalArgumentException("Unknown entity type: " + entity.getClass());
     }
 
     /**
@@ -4,6 +4,7 @@ import java.io.File;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -12,6 +13,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.googlecode.objectify.Key;
+
 import teammates.client.remoteapi.RemoteApiClient;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -23,10 +26,11 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.JsonUtils;
 import teammates.logic.api.Logic;
-import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
@@ -35,31 +39,43 @@ import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.ProfilesDb;
 import teammates.storage.api.StudentsDb;
+import teammates.storage.entity.Account;
+import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseStudent;
+import teammates.storage.entity.FeedbackResponse;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.Instructor;
+import teammates.storage.entity.StudentProfile;
 import teammates.test.driver.FileHelper;
 
 /**
  * Usage: This script imports a large data bundle to the appengine. The target of the script is the app with
  * appID in the test.properties file.Can use DataGenerator.java to generate random data.
  *
+ * <p>The backup folders written by {@link OfflineBackup} are uploaded oldest first, so that the entities
+ * end up in their latest backed up state:
+ * <ul>
+ * <li>{@code changes.json} holds the entities changed since the previous backup, which replace the existing
+ * ones, and the keys of the entities deleted since then, which are deleted.</li>
+ * <li>{@code <courseId>.json} holds all the entities of a course. The questions, responses and comments
+ * of the course are deleted before it is uploaded, as the deletions of questions and comments are not
+ * in {@code changes.json}.</li>
+ * </ul>
+ * Questions and comments get new IDs when they are uploaded, so they are matched to the existing ones through
+ * their session and question number, and through their course, giver and creation time respectively.
+ * The respondents of the sessions are not backed up; those of the sessions in the uploaded courses are rebuilt
+ * from the uploaded responses after all the folders are uploaded.
+ *
  * <p>Notes:
  * <ul>
- * <li>Edit SOURCE_FILE_NAME before use</li>
  * <li>Should not have any limit on the size of the databundle. However, the number of entities per request
  * should not be set to too large as it may cause DeadlineExceededException (especially for evaluations)</li>
  * </ul>
  */
 public class UploadBackupData extends RemoteApiClient {
 
-    private static final String BACKUP_FOLDER = "BackupFiles/Backup";
+    private static final String CHANGES_FILE_NAME = "changes.json";
 
-    private static DataBundle data;
-    private static String jsonString;
-
-    private static Set<String> coursesPersisted = new HashSet<>();
-    private static HashMap<String, FeedbackQuestionAttributes> feedbackQuestionsPersisted = new HashMap<>();
-    private static HashMap<String, String> feedbackQuestionIds = new HashMap<>();
-
-    private static Logic logic = new Logic();
     private static final CoursesDb coursesDb = new CoursesDb();
     private static final StudentsDb studentsDb = new StudentsDb();
     private static final InstructorsDb instructorsDb = new InstructorsDb();
@@ -68,7 +84,32 @@ public class UploadBackupData extends RemoteApiClient {
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
     private static final FeedbackResponseCommentsDb fcDb = new FeedbackResponseCommentsDb();
     private static final ProfilesDb profilesDb = new ProfilesDb();
-    private static final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
+
+    private static final Map<String, Class<?>> ENTITY_TYPES_BY_KIND = new HashMap<>();
+
+    static {
+        ENTITY_TYPES_BY_KIND.put(Key.getKind(Account.class), Account.class);
+        ENTITY_TYPES_BY_KIND.put(Key.getKind(Course.class), Course.class);
+        ENTITY_TYPES_BY_KIND.put(Key.getKind(FeedbackSession.class), FeedbackSession.class);
+        ENTITY_TYPES_BY_KIND.put(Key.getKind(Instructor.class), Instructor.class);
+        ENTITY_TYPES_BY_KIND.put(Key.getKind(CourseStudent.class), CourseStudent.class);
+    }
+
+    /** The directory holding the backup folders. */
+    protected String backupFolder = "BackupFiles/Backup";
+
+    private Logic logic = new Logic();
+
+    /** The questions of the file being uploaded, by their IDs in the backup. */
+    private Map<String, FeedbackQuestionAttributes> questionsInFile = new HashMap<>();
+
+    /** The IDs of the uploaded questions, by their IDs in the backup. */
+    private Map<String, String> uploadedQuestionIds = new HashMap<>();
+
+    /** The courses whose sessions, questions or responses have been uploaded. */
+    private Set<String> uploadedCourseIds = new HashSet<>();
+
+    private List<String> failedFiles = new ArrayList<>();
 
     public static void main(String[] args) throws Exception {
         UploadBackupData uploadBackupData = new UploadBackupData();
@@ -77,17 +118,21 @@ public class UploadBackupData extends RemoteApiClient {
 
     @Override
     protected void doOperation() {
-        String[] folders = getFolders();
+        for (String folder : getFolders()) {
+            uploadData(getBackupFilesInFolder(folder), folder);
+        }
+        rebuildRespondents();
 
-        for (String folder : folders) {
-            String[] backupFiles = getBackupFilesInFolder(folder);
-            uploadData(backupFiles, folder);
+        if (!failedFiles.isEmpty()) {
+            println("Unable to upload all the entities of " + failedFiles.size() + " files: " + failedFiles);
         }
     }
 
-    private static String[] getFolders() {
-        File backupFolder = new File(BACKUP_FOLDER);
-        String[] folders = backupFolder.list();
+    /**
+     * Returns the backup folders, oldest first.
+     */
+    private String[] getFolders() {
+        String[] folders = new File(backupFolder).list();
         if (folders == null) {
             return new String[] {};
         }
@@ -100,7 +145,7 @@ public class UploadBackupData extends RemoteApiClient {
 
                 Date secondDate = dateFormat.parse(o2);
 
-                return secondDate.compareTo(firstDate);
+                return firstDate.compareTo(secondDate);
             } catch (ParseException e) {
                 return 0;
             }
@@ -109,191 +154,309 @@ public class UploadBackupData extends RemoteApiClient {
         return folders;
     }
 
-    private static String[] getBackupFilesInFolder(String folder) {
-        String folderName = BACKUP_FOLDER + "/" + folder;
-        File currentFolder = new File(folderName);
-        return currentFolder.list();
+    /**
+     * Returns the backup files in the folder, with {@code changes.json} first as the course files
+     * of the same backup were written after it.
+     */
+    private String[] getBackupFilesInFolder(String folder) {
+        String[] backupFiles = new File(backupFolder + "/" + folder).list();
+        Arrays.sort(backupFiles, (o1, o2) -> Boolean.compare(!CHANGES_FILE_NAME.equals(o1),
+                                                             !CHANGES_FILE_NAME.equals(o2)));
+        return backupFiles;
     }
 
-    private static void uploadData(String[] backupFiles, String folder) {
+    private void uploadData(String[] backupFiles, String folder) {
         for (String backupFile : backupFiles) {
-            if (coursesPersisted.contains(backupFile)) {
-                System.out.println(backupFile + " already persisted.");
-                continue;
-            }
+            String filePath = backupFolder + "/" + folder + "/" + backupFile;
             try {
-                String folderName = BACKUP_FOLDER + "/" + folder;
+                String jsonString = FileHelper.readFile(filePath);
+                boolean isChangesFile = CHANGES_FILE_NAME.equals(backupFile);
+                BackupData data = JsonUtils.fromJson(jsonString, BackupData.class);
 
-                jsonString = FileHelper.readFile(folderName + "/" + backupFile);
-                data = JsonUtils.fromJson(jsonString, DataBundle.class);
+                if (!isChangesFile) {
+                    deleteFeedbackOfCourse(backupFile.substring(0, backupFile.length() - ".json".length()));
+                }
 
-                feedbackQuestionsPersisted = new HashMap<>();
-                feedbackQuestionIds = new HashMap<>();
+                questionsInFile = new HashMap<>(data.feedbackQuestions);
+                uploadedQuestionIds = new HashMap<>();
+                addUploadedCourseIds(data);
 
+                boolean isUploaded = true;
                 if (!data.accounts.isEmpty()) {
                     // Accounts
-                    persistAccounts(data.accounts);
+                    isUploaded &= persistAccounts(data.accounts);
                 }
                 if (!data.courses.isEmpty()) {
                     // Courses
-                    persistCourses(data.courses);
+                    isUploaded &= persistCourses(data.courses);
                 }
                 if (!data.instructors.isEmpty()) {
                     // Instructors
-                    persistInstructors(data.instructors);
+                    isUploaded &= persistInstructors(data.instructors);
                 }
                 if (!data.students.isEmpty()) {
                     // Students
-                    persistStudents(data.students);
+                    isUploaded &= persistStudents(data.students);
                 }
                 if (!data.feedbackSessions.isEmpty()) {
                     // Feedback sessions
-                    persistFeedbackSessions(data.feedbackSessions);
+                    isUploaded &= persistFeedbackSessions(data.feedbackSessions);
                 }
                 if (!data.feedbackQuestions.isEmpty()) {
                     // Feedback questions
-                    persistFeedbackQuestions(data.feedbackQuestions);
+                    isUploaded &= persistFeedbackQuestions(data.feedbackQuestions);
                 }
                 if (!data.feedbackResponses.isEmpty()) {
                     // Feedback responses
-                    persistFeedbackResponses(data.feedbackResponses);
+                    isUploaded &= persistFeedbackResponses(data.feedbackResponses);
                 }
                 if (!data.feedbackResponseComments.isEmpty()) {
                     // Feedback response comments
-                    persistFeedbackResponseComments(data.feedbackResponseComments);
+                    isUploaded &= persistFeedbackResponseComments(data.feedbackResponseComments);
                 }
                 if (!data.profiles.isEmpty()) {
                     // Profiles
-                    persistProfiles(data.profiles);
+                    isUploaded &= persistProfiles(data.profiles);
+                }
+                if (!data.deletedEntityKeys.isEmpty()) {
+                    // Deleted entities
+                    deleteEntities(data.deletedEntityKeys);
                 }
-                coursesPersisted.add(backupFile);
 
+                if (!isUploaded) {
+                    failedFiles.add(filePath);
+                }
             } catch (Exception e) {
-                System.out.println("Error in uploading files: " + e.getMessage());
+                println("Error in uploading " + filePath + ": " + TeammatesException.toStringWithStackTrace(e));
+                failedFiles.add(filePath);
             }
         }
     }
 
-    private static void persistAccounts(Map<String, AccountAttributes> accounts) {
+    private void addUploadedCourseIds(BackupData data) {
+        uploadedCourseIds.addAll(data.courses.keySet());
+        for (FeedbackSessionAttributes session : data.feedbackSessions.values()) {
+            uploadedCourseIds.add(session.getCourseId());
+        }
+        // the questions include those of the deleted responses
+        for (FeedbackQuestionAttributes question : data.feedbackQuestions.values()) {
+            uploadedCourseIds.add(question.courseId);
+        }
+        for (FeedbackResponseAttributes response : data.feedbackResponses.values()) {
+            uploadedCourseIds.add(response.courseId);
+        }
+    }
+
+    /**
+     * Records the respondents of the sessions in the uploaded courses from their responses,
+     * as the respondents are not part of the backups.
+     */
+    private void rebuildRespondents() {
+        for (String courseId : uploadedCourseIds) {
+            for (FeedbackSessionAttributes session : logic.getFeedbackSessionsForCourse(courseId)) {
+                try {
+                    logic.reconcileResponseRateStats(session);
+                } catch (InvalidParametersException | EntityDoesNotExistException e) {
+                    println("Error in rebuilding the respondents of " + session.getIdentificationString() + ": "
+                            + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the questions, responses and comments of the course,
+     * so that those deleted since the course was backed up are not left behind.
+     */
+    private static void deleteFeedbackOfCourse(String courseId) {
+        fcDb.deleteFeedbackResponseCommentsForCourse(courseId);
+        frDb.deleteFeedbackResponsesForCourse(courseId);
+        fqDb.deleteFeedbackQuestionsForCourse(courseId);
+    }
+
+    private boolean persistAccounts(Map<String, AccountAttributes> accounts) {
         try {
             for (AccountAttributes accountData : accounts.values()) {
                 logic.createAccount(accountData.googleId, accountData.name, accountData.isInstructor,
                                     accountData.email, accountData.institute);
             }
+            return true;
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading accounts: " + e.getMessage());
+            println("Error in uploading accounts: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void persistCourses(Map<String, CourseAttributes> courses) {
+    private boolean persistCourses(Map<String, CourseAttributes> courses) {
         try {
             coursesDb.createCourses(courses.values());
+            return true;
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading courses: " + e.getMessage());
+            println("Error in uploading courses: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void persistInstructors(Map<String, InstructorAttributes> instructors) {
+    private boolean persistInstructors(Map<String, InstructorAttributes> instructors) {
         try {
             instructorsDb.createInstructors(instructors.values());
+            return true;
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading instructors: " + e.getMessage());
+            println("Error in uploading instructors: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void persistStudents(Map<String, StudentAttributes> students) {
+    private boolean persistStudents(Map<String, StudentAttributes> students) {
         try {
             studentsDb.createStudentsWithoutSearchability(students.values());
+            return true;
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading students: " + e.getMessage());
+            println("Error in uploading students: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void persistFeedbackSessions(Map<String, FeedbackSessionAttributes> feedbackSessions) {
+    private boolean persistFeedbackSessions(Map<String, FeedbackSessionAttributes> feedbackSessions) {
         try {
             fbDb.createFeedbackSessions(feedbackSessions.values());
+            return true;
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading feedback sessions: " + e.getMessage());
+            println("Error in uploading feedback sessions: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void persistFeedbackQuestions(Map<String, FeedbackQuestionAttributes> map) {
-        Map<String, FeedbackQuestionAttributes> questions = map;
+    private boolean persistFeedbackQuestions(Map<String, FeedbackQuestionAttributes> questions) {
+        // the IDs in the backup are those of the backed up app; existing questions are matched by question number
+        for (FeedbackQuestionAttributes question : questions.values()) {
+            question.setId(null);
+        }
 
         try {
             fqDb.createFeedbackQuestions(questions.values());
-
-            for (FeedbackQuestionAttributes question : questions.values()) {
-                feedbackQuestionsPersisted.put(question.getId(), question);
-            }
-
+            return true;
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading feedback questions: " + e.getMessage());
+            println("Error in uploading feedback questions: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void persistFeedbackResponses(Map<String, FeedbackResponseAttributes> map) {
-        Map<String, FeedbackResponseAttributes> responses = map;
-
-        try {
-            for (FeedbackResponseAttributes response : responses.values()) {
-                adjustFeedbackResponseId(response);
+    private boolean persistFeedbackResponses(Map<String, FeedbackResponseAttributes> responses) {
+        List<FeedbackResponseAttributes> responsesToUpload = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses.values()) {
+            String questionId = getUploadedQuestionId(response.feedbackQuestionId);
+            if (questionId == null) {
+                println("Error in uploading feedback response " + response.getId()
+                        + ": its question is neither in the backup nor in the Datastore");
+                continue;
             }
+            response.feedbackQuestionId = questionId;
+            responsesToUpload.add(response);
+        }
 
-            frDb.createFeedbackResponses(responses.values());
+        try {
+            frDb.createFeedbackResponses(responsesToUpload);
+            return responsesToUpload.size() == responses.size();
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading feedback responses: " + e.getMessage());
+            println("Error in uploading feedback responses: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void persistFeedbackResponseComments(Map<String, FeedbackResponseCommentAttributes> map) {
-        Map<String, FeedbackResponseCommentAttributes> responseComments = map;
-
-        try {
-            for (FeedbackResponseCommentAttributes responseComment : responseComments.values()) {
-                adjustFeedbackResponseCommentId(responseComment);
+    private boolean persistFeedbackResponseComments(Map<String, FeedbackResponseCommentAttributes> comments) {
+        List<FeedbackResponseCommentAttributes> commentsToUpload = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes comment : comments.values()) {
+            String questionId = getUploadedQuestionId(comment.feedbackQuestionId);
+            if (questionId == null) {
+                println("Error in uploading feedback response comment " + comment.getId()
+                        + ": its question is neither in the backup nor in the Datastore");
+                continue;
             }
+            comment.feedbackResponseId = questionId + comment.feedbackResponseId.substring(
+                    OfflineBackup.getFeedbackQuestionIdOfResponseId(comment.feedbackResponseId).length());
+            comment.feedbackQuestionId = questionId;
+            // existing comments are matched by course, giver and creation time instead
+            comment.setId(null);
+            commentsToUpload.add(comment);
+        }
 
-            fcDb.createFeedbackResponseComments(responseComments.values());
+        try {
+            fcDb.createFeedbackResponseComments(commentsToUpload);
+            return commentsToUpload.size() == comments.size();
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading feedback response comments: " + e.getMessage());
+            println("Error in uploading feedback response comments: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void persistProfiles(Map<String, StudentProfileAttributes> studentProfiles) {
-        Map<String, StudentProfileAttributes> profiles = studentProfiles;
+    private boolean persistProfiles(Map<String, StudentProfileAttributes> studentProfiles) {
         try {
-            profilesDb.createEntities(profiles.values());
+            // overwrites the empty profiles created with the accounts
+            profilesDb.createEntitiesWithoutExistenceCheck(studentProfiles.values());
+            return true;
         } catch (InvalidParametersException e) {
-            System.out.println("Error in uploading profiles: " + e.getMessage());
+            println("Error in uploading profiles: " + e.getMessage());
+            return false;
         }
     }
 
-    private static void adjustFeedbackResponseId(FeedbackResponseAttributes response) {
-        FeedbackQuestionAttributes question = feedbackQuestionsPersisted.get(response.feedbackQuestionId);
-
-        if (feedbackQuestionIds.containsKey(question.getId())) {
-            response.feedbackQuestionId = feedbackQuestionIds.get(question.getId());
-        } else {
-            String newId = feedbackQuestionsLogic.getFeedbackQuestion(
-                    response.feedbackSessionName, response.courseId,
-                    question.questionNumber).getId();
-            response.feedbackQuestionId = newId;
-            feedbackQuestionIds.put(question.getId(), newId);
+    /**
+     * Deletes the entities with the given keys of the backed up app.
+     */
+    private void deleteEntities(List<String> deletedEntityKeys) {
+        List<Key<?>> keysToDelete = new ArrayList<>();
+        for (String deletedEntityKey : deletedEntityKeys) {
+            Key<?> key = Key.create(deletedEntityKey);
+            // the keys of the backed up app are recreated in this app from their kinds and names
+            if (ENTITY_TYPES_BY_KIND.containsKey(key.getKind())) {
+                keysToDelete.add(Key.create(ENTITY_TYPES_BY_KIND.get(key.getKind()), key.getName()));
+            } else if (key.getKind().equals(Key.getKind(StudentProfile.class))) {
+                keysToDelete.add(Key.create(Key.create(Account.class, key.getParent().getName()),
+                                            StudentProfile.class, key.getName()));
+            } else if (key.getKind().equals(Key.getKind(FeedbackResponse.class))) {
+                String backedUpQuestionId = OfflineBackup.getFeedbackQuestionIdOfResponseId(key.getName());
+                String questionId = getUploadedQuestionId(backedUpQuestionId);
+                if (questionId == null) {
+                    // the question was deleted as well, and its course was backed up in full
+                    continue;
+                }
+                keysToDelete.add(Key.create(FeedbackResponse.class,
+                                            questionId + key.getName().substring(backedUpQuestionId.length())));
+            }
+            // other kinds, such as admin emails, are not uploaded
         }
+        ofy().delete().keys(keysToDelete).now();
     }
 
-    private static void adjustFeedbackResponseCommentId(FeedbackResponseCommentAttributes response) {
-        FeedbackQuestionAttributes question = feedbackQuestionsPersisted.get(response.feedbackQuestionId);
+    /**
+     * Returns the ID of the uploaded question with the given ID in the backup, or null if the question
+     * is neither in the file being uploaded nor in the Datastore.
+     */
+    private String getUploadedQuestionId(String backedUpQuestionId) {
+        if (uploadedQuestionIds.containsKey(backedUpQuestionId)) {
+            return uploadedQuestionIds.get(backedUpQuestionId);
+        }
 
-        if (feedbackQuestionIds.containsKey(question.getId())) {
-            response.feedbackQuestionId = feedbackQuestionIds.get(question.getId());
+        FeedbackQuestionAttributes question = questionsInFile.get(backedUpQuestionId);
+        if (question == null) {
+            // only backups made before the questions of changed responses were backed up with them;
+            // the question can still be found when uploading into the backed up app itself
+            question = fqDb.getFeedbackQuestionsForIds(Arrays.asList(backedUpQuestionId)).get(backedUpQuestionId);
         } else {
-            String newId = feedbackQuestionsLogic.getFeedbackQuestion(
-                    response.feedbackSessionName, response.courseId,
-                    question.questionNumber).getId();
-            response.feedbackQuestionId = newId;
-            feedbackQuestionIds.put(question.getId(), newId);
+            question = fqDb.getFeedbackQuestion(question.feedbackSessionName, question.courseId,
+                                                question.questionNumber);
         }
+
+        String questionId = question == null ? null : question.getId();
+        uploadedQuestionIds.put(backedUpQuestionId, questionId);
+        return questionId;
+    }
+
+    /**
+     * The content of a backup file: the backed up entities, and the keys of the deleted entities.
+     */
+    private static class BackupData extends DataBundle {
+        List<String> deletedEntityKeys = new ArrayList<>();
     }
 }
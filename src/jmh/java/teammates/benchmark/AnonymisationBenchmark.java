@@ -0,0 +1,119 @@
+package teammates.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.StringHelper;
+
+/**
+ * Measures the anonymisation of givers and recipients in session results.
+ *
+ * <p>{@code bundleWithHiddenParticipants} builds a bundle whose givers and recipients are all hidden,
+ * anonymising them with a per-bundle table of anonymous names; {@code bundleWithVisibleParticipants} is the
+ * cost of building the same bundle without anonymisation. {@code anonymiseWithNewCiphers} anonymises every
+ * giver and recipient the way the bundle used to: twice per response, creating a new cipher every time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AnonymisationBenchmark {
+
+    @Param({"100", "300"})
+    private int numOfStudents;
+
+    private SyntheticResultsData data;
+    private Map<String, String> emailNameTable = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = new SyntheticResultsData(numOfStudents);
+        data.addPeerTextQuestion(1, 5);
+        data.addPeerTextQuestion(2, 3);
+        for (StudentAttributes student : data.students) {
+            emailNameTable.put(student.email, student.name);
+        }
+    }
+
+    @Benchmark
+    public FeedbackSessionResultsBundle bundleWithHiddenParticipants() {
+        return data.getResultsBundle(false);
+    }
+
+    @Benchmark
+    public FeedbackSessionResultsBundle bundleWithVisibleParticipants() {
+        return data.getResultsBundle(true);
+    }
+
+    @Benchmark
+    public void anonymiseWithNewCiphers(Blackhole blackhole) throws Exception {
+        for (FeedbackResponseAttributes response : data.responses) {
+            String giverName = getName(response.giver);
+            blackhole.consume(getAnonEmailWithNewCipher(FeedbackParticipantType.STUDENTS, giverName));
+            blackhole.consume(getAnonNameWithNewCipher(FeedbackParticipantType.STUDENTS, giverName));
+            String recipientName = getName(response.recipient);
+            blackhole.consume(getAnonEmailWithNewCipher(FeedbackParticipantType.OWN_TEAM_MEMBERS, recipientName));
+            blackhole.consume(getAnonNameWithNewCipher(FeedbackParticipantType.OWN_TEAM_MEMBERS, recipientName));
+        }
+    }
+
+    @Benchmark
+    public void anonymiseWithoutMemoization(Blackhole blackhole) {
+        for (FeedbackResponseAttributes response : data.responses) {
+            String giverName = getName(response.giver);
+            blackhole.consume(FeedbackSessionResultsBundle.getAnonEmail(FeedbackParticipantType.STUDENTS, giverName));
+            blackhole.consume(FeedbackSessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, giverName));
+            String recipientName = getName(response.recipient);
+            blackhole.consume(FeedbackSessionResultsBundle.getAnonEmail(
+                    FeedbackParticipantType.OWN_TEAM_MEMBERS, recipientName));
+            blackhole.consume(FeedbackSessionResultsBundle.getAnonName(
+                    FeedbackParticipantType.OWN_TEAM_MEMBERS, recipientName));
+        }
+    }
+
+    private String getName(String email) {
+        return emailNameTable.get(email);
+    }
+
+    private static String getAnonEmailWithNewCipher(FeedbackParticipantType type, String name) throws Exception {
+        String anonName = getAnonNameWithNewCipher(type, name);
+        return anonName + "@@" + anonName + ".com";
+    }
+
+    private static String getAnonNameWithNewCipher(FeedbackParticipantType type, String name) throws Exception {
+        SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
+        String encryptedName = StringHelper.byteArrayToHexString(cipher.doFinal(name.getBytes()));
+        String hashedEncryptedName = Long.toString(Math.abs((long) encryptedName.hashCode()));
+        return String.format(Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " %s %s",
+                             type.toSingularFormString(), hashedEncryptedName);
+    }
+
+}
@@ -0,0 +1,50 @@
+package teammates.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EnrollException;
+import teammates.logic.core.StudentsLogic;
+
+/**
+ * Measures the parsing and validation of the lines entered on the enrollment page,
+ * which happens before any student is written to the Datastore.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EnrollmentParsingBenchmark {
+
+    @Param({"100", "1000"})
+    private int numOfStudents;
+
+    private String enrollLines;
+
+    @Setup(Level.Trial)
+    public void setUpEnrollLines() {
+        enrollLines = new SyntheticResultsData(numOfStudents).getEnrollLines();
+    }
+
+    @Benchmark
+    public List<StudentAttributes> createStudents() throws EnrollException {
+        return StudentsLogic.inst().createStudents(enrollLines, SyntheticResultsData.COURSE_ID);
+    }
+
+}
@@ -0,0 +1,97 @@
+package teammates.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.logic.core.FeedbackSessionsLogic;
+
+/**
+ * Measures the rendering of a session with rubric and MSQ questions, which repeatedly reads the
+ * question and response details of every response.
+ *
+ * <p>Run with {@code -PjmhProfiler=gc} to see the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FeedbackDetailsParsingBenchmark {
+
+    private static final String RUBRIC_QUESTION_META_DATA = "{\"rubricSubQuestions\":[\"This student has done a good job.\","
+            + "\"This student has tried his/her best.\",\"This student has communicated well.\"],"
+            + "\"rubricWeights\":[1.25,-1.7,0.5],\"questionText\":\"Please choose the best choice for each sub-question.\","
+            + "\"numOfRubricChoices\":3,\"numOfRubricSubQuestions\":3,\"questionType\":\"RUBRIC\","
+            + "\"hasAssignedWeights\":true,\"rubricChoices\":[\"Yes\",\"Sometimes\",\"No\"],"
+            + "\"rubricDescriptions\":[[\"\",\"\",\"\"],[\"Always\",\"Half the time\",\"Never\"],[\"\",\"\",\"\"]]}";
+
+    private static final String MSQ_QUESTION_META_DATA = "{\"msqChoices\":[\"Leadership\",\"Coding\",\"Design\","
+            + "\"Testing\",\"Documentation\"],\"questionText\":\"Which roles did your teammate take on?\","
+            + "\"questionType\":\"MSQ\",\"numOfMsqChoices\":5,\"otherEnabled\":true,"
+            + "\"maxSelectableChoices\":-2147483648,\"minSelectableChoices\":-2147483648}";
+
+    private static final String[] MSQ_CHOICES = {"Leadership", "Coding", "Design", "Testing", "Documentation"};
+
+    @Param({"100", "300"})
+    private int numOfStudents;
+
+    private SyntheticResultsData data;
+    private FeedbackSessionResultsBundle bundle;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = new SyntheticResultsData(numOfStudents);
+        data.addPeerQuestion(1, FeedbackQuestionType.RUBRIC, RUBRIC_QUESTION_META_DATA, 7,
+                (giver, recipient) -> "{\"answer\":[" + (giver + recipient) % 3 + "," + giver % 3 + ","
+                        + recipient % 3 + "],\"questionType\":\"RUBRIC\"}");
+        data.addPeerQuestion(2, FeedbackQuestionType.MSQ, MSQ_QUESTION_META_DATA, 4,
+                (giver, recipient) -> "{\"isOther\":false,\"answers\":[\"" + MSQ_CHOICES[giver % 5] + "\",\""
+                        + MSQ_CHOICES[recipient % 5] + "\"],\"otherFieldContent\":\"\",\"questionType\":\"MSQ\"}");
+    }
+
+    /**
+     * Rebuilds the bundle from copies of the questions and responses, as they would be loaded afresh
+     * from the datastore in every request.
+     */
+    @Setup(Level.Invocation)
+    public void setUpBundle() {
+        bundle = data.getResultsBundle();
+    }
+
+    @Benchmark
+    public String csvWithStatistics() {
+        return FeedbackSessionsLogic.inst().getFeedbackSessionResultsSummaryAsCsv(bundle, null, false, true);
+    }
+
+    @Benchmark
+    public void answersInCsvFormat(Blackhole blackhole) {
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                : bundle.getQuestionResponseMap().entrySet()) {
+            FeedbackQuestionAttributes question = entry.getKey();
+            for (FeedbackResponseAttributes response : entry.getValue()) {
+                blackhole.consume(response.getResponseDetails().getAnswerCsv(question.getQuestionDetails()));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.logic.core.FeedbackSessionsLogic;
+
+/**
+ * Measures CSV generation of session results with the "missing responses" rows included,
+ * which is dominated by the computation of possible givers and recipients without responses.
+ * The baseline runs {@link LegacyResultsCsv}, a copy of the CSV generation as it was before those rows were
+ * computed in linear time, on the same data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FeedbackSessionResultsCsvBenchmark {
+
+    @Param({"100", "300", "600"})
+    private int numOfStudents;
+
+    private SyntheticResultsData data;
+    private FeedbackSessionResultsBundle bundle;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = new SyntheticResultsData(numOfStudents);
+        data.addPeerTextQuestion(1, 5);
+        data.addPeerTextQuestion(2, 3);
+
+        String csv = FeedbackSessionsLogic.inst().getFeedbackSessionResultsSummaryAsCsv(
+                data.getResultsBundle(), null, true, false);
+        String legacyCsv = LegacyResultsCsv.getFeedbackSessionResultsSummaryAsCsv(
+                data.getResultsBundle(), null, true, false);
+        if (!csv.equals(legacyCsv)) {
+            throw new IllegalStateException("The CSV differs from the one generated by the baseline");
+        }
+    }
+
+    /**
+     * Rebuilds the bundle so that values memoized by one invocation are not reused by the next.
+     */
+    @Setup(Level.Invocation)
+    public void setUpBundle() {
+        bundle = data.getResultsBundle();
+    }
+
+    @Benchmark
+    public String csvWithMissingResponses() {
+        return FeedbackSessionsLogic.inst().getFeedbackSessionResultsSummaryAsCsv(bundle, null, true, false);
+    }
+
+    @Benchmark
+    public String csvWithMissingResponsesBeforeChange() {
+        return LegacyResultsCsv.getFeedbackSessionResultsSummaryAsCsv(bundle, null, true, false);
+    }
+
+    @Benchmark
+    public String csvWithoutMissingResponses() {
+        return FeedbackSessionsLogic.inst().getFeedbackSessionResultsSummaryAsCsv(bundle, null, false, false);
+    }
+
+}
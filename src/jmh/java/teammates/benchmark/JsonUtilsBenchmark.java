@@ -0,0 +1,58 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Measures the serialization of a course with its session results to and from JSON,
+ * as done when importing data bundles and in the backdoor API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    @Param({"100", "300"})
+    private int numOfStudents;
+
+    private DataBundle dataBundle;
+    private String dataBundleJson;
+
+    @Setup(Level.Trial)
+    public void setUpDataBundle() {
+        SyntheticResultsData data = new SyntheticResultsData(numOfStudents);
+        data.addPeerTextQuestion(1, 5);
+        data.addPeerTextQuestion(2, 3);
+        dataBundle = data.getDataBundle();
+        dataBundleJson = JsonUtils.toJson(dataBundle);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(dataBundle);
+    }
+
+    @Benchmark
+    public DataBundle fromJson() {
+        return JsonUtils.fromJson(dataBundleJson, DataBundle.class);
+    }
+
+}
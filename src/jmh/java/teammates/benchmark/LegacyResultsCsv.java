@@ -0,0 +1,233 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.util.Const;
+import teammates.common.util.SanitizationHelper;
+import teammates.common.util.StringHelper;
+
+/**
+ * A copy of the CSV generation of session results in {@code FeedbackSessionsLogic} as it was before the
+ * "missing responses" rows were computed in linear time, kept as the baseline of
+ * {@link FeedbackSessionResultsCsvBenchmark}.
+ *
+ * <p>The possible givers and recipients without responses are tracked in array lists, from which every
+ * response removes its giver and recipient with {@link List#remove(Object)}, and the possible recipients
+ * of every giver are computed anew by {@link FeedbackSessionResultsBundle#getPossibleRecipients}.
+ * The code is unchanged apart from being static; only the bundle it calls into is the current one.
+ */
+final class LegacyResultsCsv {
+
+    private LegacyResultsCsv() {
+        // utility class
+    }
+
+    static String getFeedbackSessionResultsSummaryAsCsv(
+            FeedbackSessionResultsBundle results, String section,
+            boolean isMissingResponsesShown, boolean isStatsShown) {
+        // sort responses by giver > recipient > qnNumber
+        results.responses.sort(results.compareByGiverRecipientQuestion);
+
+        StringBuilder exportBuilder = new StringBuilder(100);
+
+        exportBuilder.append(String.format("Course,%s",
+                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
+                     .append(Const.EOL)
+                     .append(String.format("Session Name,%s",
+                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
+                     .append(Const.EOL);
+
+        if (section != null) {
+            exportBuilder.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(section)))
+                         .append(Const.EOL);
+        }
+
+        exportBuilder.append(Const.EOL).append(Const.EOL);
+
+        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                results.getQuestionResponseMap().entrySet();
+
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                    results, entry, isMissingResponsesShown, isStatsShown, section));
+        }
+
+        return exportBuilder.toString();
+    }
+
+    private static StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
+            FeedbackSessionResultsBundle fsrBundle,
+            Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
+            boolean isMissingResponsesShown, boolean isStatsShown, String section) {
+
+        FeedbackQuestionAttributes question = entry.getKey();
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
+        List<FeedbackResponseAttributes> allResponses = entry.getValue();
+
+        StringBuilder exportBuilder = new StringBuilder();
+
+        exportBuilder.append("Question " + Integer.toString(question.questionNumber) + ","
+                + SanitizationHelper.sanitizeForCsv(questionDetails.getQuestionText())
+                + Const.EOL + Const.EOL);
+
+        String statistics = questionDetails.getQuestionResultStatisticsCsv(allResponses,
+                                    question, fsrBundle);
+        if (!statistics.isEmpty() && isStatsShown) {
+            exportBuilder.append("Summary Statistics,").append(Const.EOL);
+            exportBuilder.append(statistics).append(Const.EOL);
+        }
+
+        List<String> possibleGiversWithoutResponses = fsrBundle.getPossibleGiversInSection(question, section);
+        List<String> possibleRecipientsForGiver = new ArrayList<>();
+        String prevGiver = "";
+
+        int maxNumOfResponseComments = getMaxNumberOfResponseComments(allResponses, fsrBundle.getResponseComments());
+        exportBuilder.append(questionDetails.getCsvDetailedResponsesHeader(maxNumOfResponseComments));
+
+        for (FeedbackResponseAttributes response : allResponses) {
+
+            if (!fsrBundle.isRecipientVisible(response) || !fsrBundle.isGiverVisible(response)) {
+                possibleGiversWithoutResponses.clear();
+                possibleRecipientsForGiver.clear();
+            }
+
+            // keep track of possible recipients with no responses
+            removeParticipantIdentifierFromList(question.giverType,
+                    possibleGiversWithoutResponses, response.giver, fsrBundle);
+
+            boolean isNewGiver = !prevGiver.equals(response.giver);
+            // print missing responses from the current giver
+            if (isNewGiver && isMissingResponsesShown) {
+                exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(fsrBundle,
+                        question, questionDetails,
+                        possibleRecipientsForGiver, prevGiver));
+                String giverIdentifier = question.giverType == FeedbackParticipantType.TEAMS
+                                             ? fsrBundle.getFullNameFromRoster(response.giver)
+                                             : response.giver;
+
+                possibleRecipientsForGiver = fsrBundle.getPossibleRecipients(question, giverIdentifier);
+            }
+
+            removeParticipantIdentifierFromList(question.recipientType, possibleRecipientsForGiver,
+                                                response.recipient, fsrBundle);
+            prevGiver = response.giver;
+
+            // do not show all possible givers and recipients if there are anonymous givers and recipients
+            boolean hasCommentsForResponses = fsrBundle.responseComments.containsKey(response.getId());
+
+            exportBuilder.append(questionDetails.getCsvDetailedResponsesRow(fsrBundle, response, question,
+                    hasCommentsForResponses));
+        }
+
+        // add the rows for the possible givers and recipients who have missing responses
+        if (isMissingResponsesShown) {
+            exportBuilder.append(
+                    getRemainingRowsInCsvFormat(
+                            fsrBundle, entry, question, questionDetails,
+                            possibleGiversWithoutResponses, possibleRecipientsForGiver, prevGiver));
+        }
+
+        exportBuilder.append(Const.EOL + Const.EOL);
+        return exportBuilder;
+    }
+
+    private static int getMaxNumberOfResponseComments(List<FeedbackResponseAttributes> allResponses,
+            Map<String, List<FeedbackResponseCommentAttributes>> responseComments) {
+
+        if (allResponses == null || allResponses.isEmpty()) {
+            return 0;
+        }
+
+        int maxCommentsNum = 0;
+        for (FeedbackResponseAttributes response : allResponses) {
+            List<FeedbackResponseCommentAttributes> commentAttributes = responseComments.get(response.getId());
+            if (commentAttributes != null && maxCommentsNum < commentAttributes.size()) {
+                maxCommentsNum = commentAttributes.size();
+            }
+        }
+
+        return maxCommentsNum;
+    }
+
+    private static void removeParticipantIdentifierFromList(
+            FeedbackParticipantType participantIdentifierType,
+            List<String> participantIdentifierList, String participantIdentifier,
+            FeedbackSessionResultsBundle bundle) {
+        if (participantIdentifierType == FeedbackParticipantType.TEAMS) {
+            participantIdentifierList.remove(bundle.getFullNameFromRoster(participantIdentifier));
+        } else {
+            participantIdentifierList.remove(participantIdentifier);
+        }
+    }
+
+    private static StringBuilder getRemainingRowsInCsvFormat(
+            FeedbackSessionResultsBundle results,
+            Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
+            FeedbackQuestionAttributes question,
+            FeedbackQuestionDetails questionDetails,
+            List<String> remainingPossibleGivers,
+            List<String> possibleRecipientsForGiver, String prevGiver) {
+        StringBuilder exportBuilder = new StringBuilder();
+
+        if (possibleRecipientsForGiver != null) {
+            exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
+                    question, questionDetails, possibleRecipientsForGiver,
+                    prevGiver));
+
+        }
+
+        removeParticipantIdentifierFromList(question.giverType, remainingPossibleGivers, prevGiver, results);
+
+        for (String possibleGiverWithNoResponses : remainingPossibleGivers) {
+            List<String> possibleRecipientsForRemainingGiver =
+                    results.getPossibleRecipients(entry.getKey(), possibleGiverWithNoResponses);
+
+            exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
+                    question, questionDetails, possibleRecipientsForRemainingGiver,
+                    possibleGiverWithNoResponses));
+        }
+
+        return exportBuilder;
+    }
+
+    private static StringBuilder getRowsOfPossibleRecipientsInCsvFormat(
+            FeedbackSessionResultsBundle results,
+            FeedbackQuestionAttributes question,
+            FeedbackQuestionDetails questionDetails,
+            List<String> possibleRecipientsForGiver, String giver) {
+        StringBuilder exportBuilder = new StringBuilder();
+        for (String possibleRecipient : possibleRecipientsForGiver) {
+            String giverName = results.getFullNameFromRoster(giver);
+            String giverLastName = results.getLastNameFromRoster(giver);
+            String giverEmail = results.getDisplayableEmailFromRoster(giver);
+            String possibleRecipientName = results.getFullNameFromRoster(possibleRecipient);
+            String possibleRecipientLastName = results.getLastNameFromRoster(possibleRecipient);
+            String possibleRecipientEmail = results.getDisplayableEmailFromRoster(possibleRecipient);
+
+            if (questionDetails.shouldShowNoResponseText(question)) {
+                exportBuilder.append(SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver))
+                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverName))
+                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverLastName))
+                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverEmail))
+                        + "," + SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(possibleRecipient))
+                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientName))
+                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientLastName))
+                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientEmail))
+                        + "," + questionDetails.getNoResponseTextInCsv(giver, possibleRecipient, results, question)
+                        + Const.EOL);
+            }
+        }
+        return exportBuilder;
+    }
+
+}
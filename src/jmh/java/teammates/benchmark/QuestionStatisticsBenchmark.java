@@ -0,0 +1,161 @@
+package teammates.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+
+/**
+ * Measures the summary statistics of a question of every type, as shown on the results page
+ * and included in the CSV export.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class QuestionStatisticsBenchmark {
+
+    private static final String[] CHOICES = {"Leadership", "Coding", "Design", "Testing", "Documentation"};
+    private static final String CHOICES_JSON =
+            "[\"Leadership\",\"Coding\",\"Design\",\"Testing\",\"Documentation\"]";
+
+    @Param({"MCQ", "MSQ", "NUMSCALE", "CONSTSUM", "CONTRIB", "RUBRIC", "RANK_OPTIONS", "RANK_RECIPIENTS", "TEXT"})
+    private FeedbackQuestionType questionType;
+
+    @Param({"100", "300"})
+    private int numOfStudents;
+
+    private SyntheticResultsData data;
+    private FeedbackSessionResultsBundle bundle;
+    private FeedbackQuestionAttributes question;
+    private FeedbackQuestionDetails questionDetails;
+    private List<FeedbackResponseAttributes> responses;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = new SyntheticResultsData(numOfStudents);
+        addQuestion();
+    }
+
+    /**
+     * Rebuilds the bundle so that values memoized by one invocation, e.g. contribution results,
+     * are not reused by the next.
+     */
+    @Setup(Level.Invocation)
+    public void setUpBundle() {
+        bundle = data.getResultsBundle();
+        question = bundle.questions.values().iterator().next();
+        questionDetails = question.getQuestionDetails();
+        responses = bundle.getQuestionResponseMap().get(question);
+    }
+
+    @Benchmark
+    public String statisticsHtml() {
+        return questionDetails.getQuestionResultStatisticsHtml(responses, question, null, bundle, "question");
+    }
+
+    @Benchmark
+    public String statisticsCsv() {
+        return questionDetails.getQuestionResultStatisticsCsv(responses, question, bundle);
+    }
+
+    private void addQuestion() {
+        switch (questionType) {
+        case MCQ:
+            data.addPeerQuestion(1, questionType, "{\"numOfMcqChoices\":5,\"mcqChoices\":" + CHOICES_JSON
+                    + ",\"questionText\":\"What was the main role of your teammate?\",\"questionType\":\"MCQ\","
+                    + "\"otherEnabled\":false}", 5,
+                    (giver, recipient) -> "{\"answer\":\"" + CHOICES[(giver + recipient) % 5]
+                            + "\",\"otherFieldContent\":\"\",\"questionType\":\"MCQ\"}");
+            break;
+        case MSQ:
+            data.addPeerQuestion(1, questionType, "{\"msqChoices\":" + CHOICES_JSON
+                    + ",\"questionText\":\"Which roles did your teammate take on?\",\"questionType\":\"MSQ\","
+                    + "\"numOfMsqChoices\":5,\"otherEnabled\":false}", 5,
+                    (giver, recipient) -> "{\"isOther\":false,\"answers\":[\"" + CHOICES[giver % 5] + "\",\""
+                            + CHOICES[(recipient + 1) % 5] + "\"],\"otherFieldContent\":\"\",\"questionType\":\"MSQ\"}");
+            break;
+        case NUMSCALE:
+            data.addPeerQuestion(1, questionType, "{\"minScale\":1,\"questionText\":\"Rate your teammate.\","
+                    + "\"questionType\":\"NUMSCALE\",\"maxScale\":5,\"step\":0.5}", 5,
+                    (giver, recipient) -> "{\"answer\":" + (1 + (giver + recipient) % 9 * 0.5)
+                            + ",\"questionType\":\"NUMSCALE\"}");
+            break;
+        case CONSTSUM:
+            data.addPeerQuestion(1, questionType, "{\"distributeToRecipients\":true,\"pointsPerOption\":false,"
+                    + "\"questionText\":\"Split the credit among your teammates.\",\"numOfConstSumOptions\":0,"
+                    + "\"questionType\":\"CONSTSUM\",\"points\":100,\"constSumOptions\":[]}", 5,
+                    (giver, recipient) -> "{\"answers\":[" + (10 + (giver * 7 + recipient) % 30)
+                            + "],\"questionType\":\"CONSTSUM\"}");
+            break;
+        case CONTRIB:
+            data.addPeerQuestion(1, questionType, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF,
+                    "{\"questionText\":\"How much has each team member contributed?\",\"questionType\":\"CONTRIB\"}",
+                    5, (giver, recipient) -> "{\"answer\":" + (70 + (giver * 13 + recipient * 7) % 61)
+                            + ",\"questionType\":\"CONTRIB\"}");
+            break;
+        case RUBRIC:
+            data.addPeerQuestion(1, questionType, "{\"rubricSubQuestions\":[\"This student has done a good job.\","
+                    + "\"This student has communicated well.\"],\"rubricWeights\":[1.25,-1.7],"
+                    + "\"questionText\":\"Please choose the best choice for each sub-question.\","
+                    + "\"numOfRubricChoices\":2,\"numOfRubricSubQuestions\":2,\"questionType\":\"RUBRIC\","
+                    + "\"hasAssignedWeights\":true,\"rubricChoices\":[\"Yes\",\"No\"],"
+                    + "\"rubricDescriptions\":[[\"\",\"\"],[\"\",\"\"]]}", 5,
+                    (giver, recipient) -> "{\"answer\":[" + (giver + recipient) % 2 + "," + giver % 2
+                            + "],\"questionType\":\"RUBRIC\"}");
+            break;
+        case RANK_OPTIONS:
+            data.addPeerQuestion(1, questionType, "{\"areDuplicatesAllowed\":false,"
+                    + "\"questionText\":\"Rank the strengths of your teammate.\",\"questionType\":\"RANK_OPTIONS\","
+                    + "\"options\":" + CHOICES_JSON + "}", 5,
+                    (giver, recipient) -> "{\"answers\":" + getRanking(giver + recipient)
+                            + ",\"questionType\":\"RANK_OPTIONS\"}");
+            break;
+        case RANK_RECIPIENTS:
+            data.addPeerQuestion(1, questionType, "{\"areDuplicatesAllowed\":false,"
+                    + "\"questionText\":\"Rank your teammates.\",\"questionType\":\"RANK_RECIPIENTS\"}", 5,
+                    // ranks the other members of the team from 1 to TEAM_SIZE - 1
+                    (giver, recipient) -> "{\"answer\":"
+                            + (recipient - giver + SyntheticResultsData.TEAM_SIZE) % SyntheticResultsData.TEAM_SIZE
+                            + ",\"questionType\":\"RANK_RECIPIENTS\"}");
+            break;
+        case TEXT:
+            data.addPeerTextQuestion(1, 5);
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported question type: " + questionType);
+        }
+    }
+
+    /**
+     * Returns a ranking of the {@link #CHOICES} as a JSON array, rotated by {@code seed}.
+     */
+    private static String getRanking(int seed) {
+        StringBuilder ranking = new StringBuilder("[");
+        for (int i = 0; i < CHOICES.length; i++) {
+            ranking.append(i == 0 ? "" : ",").append(1 + (i + seed) % CHOICES.length);
+        }
+        return ranking.append(']').toString();
+    }
+
+}
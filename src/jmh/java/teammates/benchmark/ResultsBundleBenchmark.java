@@ -0,0 +1,77 @@
+package teammates.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Measures the construction of session results and the groupings of responses used by the results pages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ResultsBundleBenchmark {
+
+    @Param({"100", "300", "600"})
+    private int numOfStudents;
+
+    private SyntheticResultsData data;
+    private FeedbackSessionResultsBundle bundle;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = new SyntheticResultsData(numOfStudents);
+        data.addPeerTextQuestion(1, 5);
+        data.addPeerTextQuestion(2, 3);
+        data.addPeerTextQuestion(3, 7);
+    }
+
+    /**
+     * Rebuilds the bundle so that values memoized by one invocation are not reused by the next.
+     */
+    @Setup(Level.Invocation)
+    public void setUpBundle() {
+        bundle = data.getResultsBundle();
+    }
+
+    @Benchmark
+    public FeedbackSessionResultsBundle construction() {
+        return data.getResultsBundle();
+    }
+
+    @Benchmark
+    public Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedByGiver() {
+        return bundle.getResponsesSortedByGiver();
+    }
+
+    @Benchmark
+    public Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedByRecipient() {
+        return bundle.getResponsesSortedByRecipient();
+    }
+
+    @Benchmark
+    public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> questionsSortedByRecipient() {
+        return bundle.getQuestionResponseMapSortedByRecipient();
+    }
+
+}
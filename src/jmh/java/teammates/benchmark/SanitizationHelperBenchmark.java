@@ -0,0 +1,61 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.util.SanitizationHelper;
+
+/**
+ * Measures the sanitization applied to every name, answer and comment shown on the results pages
+ * and written to the CSV export.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SanitizationHelperBenchmark {
+
+    private String plainText = "Alice's \"report\" was great: <5% errors & 100/100 tests passed, "
+            + "but she could've split the work on the UI/UX part better.";
+    private String sanitizedText = SanitizationHelper.sanitizeForHtml(plainText);
+    private String richText = "<p>Alice's <b>report</b> was <i>great</i>:</p><ul><li>&lt;5% errors</li>"
+            + "<li>100/100 tests passed</li></ul><p><a href=\"https://example.com/report\" target=\"_blank\">"
+            + "Full report</a><script>alert('x')</script></p><img src=\"javascript:alert(1)\" onerror=\"x()\">";
+
+    @Benchmark
+    public String sanitizeForHtml() {
+        return SanitizationHelper.sanitizeForHtml(plainText);
+    }
+
+    @Benchmark
+    public String desanitizeIfHtmlSanitized() {
+        return SanitizationHelper.desanitizeIfHtmlSanitized(sanitizedText);
+    }
+
+    @Benchmark
+    public String sanitizeForRichText() {
+        return SanitizationHelper.sanitizeForRichText(richText);
+    }
+
+    @Benchmark
+    public String sanitizeForCsv() {
+        return SanitizationHelper.sanitizeForCsv(plainText);
+    }
+
+    @Benchmark
+    public String sanitizeForJs() {
+        return SanitizationHelper.sanitizeForJs(plainText);
+    }
+
+}
@@ -0,0 +1,240 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResponseStatus;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.util.Const;
+
+/**
+ * Builds in-memory course rosters and feedback results of a configurable size for the benchmarks.
+ */
+public class SyntheticResultsData {
+
+    public static final String COURSE_ID = "benchmark.course";
+    public static final String SESSION_NAME = "Benchmark Session";
+    public static final String INSTRUCTOR_EMAIL = "instructor@benchmark.tmt";
+
+    public static final int TEAM_SIZE = 5;
+    public static final int TEAMS_PER_SECTION = 10;
+
+    public final List<StudentAttributes> students = new ArrayList<>();
+    public final List<InstructorAttributes> instructors = new ArrayList<>();
+    public final FeedbackSessionAttributes session;
+    public final List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+    public final List<FeedbackResponseAttributes> responses = new ArrayList<>();
+
+    /**
+     * Creates a course of {@code numOfStudents} students in teams of {@link #TEAM_SIZE}.
+     */
+    public SyntheticResultsData(int numOfStudents) {
+        for (int i = 0; i < numOfStudents; i++) {
+            int teamIndex = i / TEAM_SIZE;
+            students.add(StudentAttributes.builder(COURSE_ID, "Student " + i + " Benchmark", getStudentEmail(i))
+                    .withTeam("Team " + teamIndex)
+                    .withSection("Section " + teamIndex / TEAMS_PER_SECTION)
+                    .withComments("")
+                    .withGoogleId("student" + i + ".benchmark")
+                    .build());
+        }
+        instructors.add(InstructorAttributes.builder("instructor.benchmark", COURSE_ID, "Instructor", INSTRUCTOR_EMAIL)
+                .build());
+        session = FeedbackSessionAttributes.builder(SESSION_NAME, COURSE_ID, INSTRUCTOR_EMAIL).build();
+    }
+
+    public static String getStudentEmail(int index) {
+        return "student" + index + "@benchmark.tmt";
+    }
+
+    public CourseRoster getRoster() {
+        return new CourseRoster(students, instructors);
+    }
+
+    /**
+     * Returns the students in the format of the enrollment page, one student per line after the header line.
+     */
+    public String getEnrollLines() {
+        StringBuilder enrollLines = new StringBuilder("Section|Team|Name|Email|Comments");
+        for (StudentAttributes student : students) {
+            enrollLines.append(Const.EOL).append(student.section).append('|').append(student.team).append('|')
+                    .append(student.name).append('|').append(student.email).append('|').append(student.comments);
+        }
+        return enrollLines.toString();
+    }
+
+    /**
+     * Adds a text question answered by every student for every other member of the team,
+     * except that every {@code skipEvery}-th student does not respond at all.
+     */
+    public FeedbackQuestionAttributes addPeerTextQuestion(int questionNumber, int skipEvery) {
+        FeedbackQuestionAttributes question = createQuestion(questionNumber, FeedbackQuestionType.TEXT,
+                FeedbackParticipantType.OWN_TEAM_MEMBERS);
+        question.setQuestionDetails(new FeedbackTextQuestionDetails("How did your teammate perform?"));
+        addPeerResponses(question, skipEvery,
+                (giver, recipient) -> new Text("Answer from " + giver + " to " + recipient));
+        return question;
+    }
+
+    /**
+     * Adds a question with the given metadata answered by every student for every other member of the team,
+     * except that every {@code skipEvery}-th student does not respond at all.
+     */
+    public FeedbackQuestionAttributes addPeerQuestion(int questionNumber, FeedbackQuestionType questionType,
+                                                      String questionMetaData, int skipEvery,
+                                                      BiFunction<Integer, Integer, String> responseMetaDataGenerator) {
+        return addPeerQuestion(questionNumber, questionType, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+                questionMetaData, skipEvery, responseMetaDataGenerator);
+    }
+
+    /**
+     * Adds a question with the given metadata answered by every student for every member of the team, including
+     * the student if {@code recipientType} is {@link FeedbackParticipantType#OWN_TEAM_MEMBERS_INCLUDING_SELF},
+     * except that every {@code skipEvery}-th student does not respond at all.
+     */
+    public FeedbackQuestionAttributes addPeerQuestion(int questionNumber, FeedbackQuestionType questionType,
+                                                      FeedbackParticipantType recipientType,
+                                                      String questionMetaData, int skipEvery,
+                                                      BiFunction<Integer, Integer, String> responseMetaDataGenerator) {
+        FeedbackQuestionAttributes question = createQuestion(questionNumber, questionType, recipientType);
+        question.questionMetaData = new Text(questionMetaData);
+        addPeerResponses(question, skipEvery,
+                (giver, recipient) -> new Text(responseMetaDataGenerator.apply(giver, recipient)));
+        return question;
+    }
+
+    private void addPeerResponses(FeedbackQuestionAttributes question, int skipEvery,
+                                  BiFunction<Integer, Integer, Text> responseMetaDataGenerator) {
+        boolean isSelfIncluded = question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
+        for (int giver = 0; giver < students.size(); giver++) {
+            if (giver % skipEvery == 0) {
+                continue;
+            }
+            int teamStart = giver / TEAM_SIZE * TEAM_SIZE;
+            int teamEnd = Math.min(teamStart + TEAM_SIZE, students.size());
+            for (int recipient = teamStart; recipient < teamEnd; recipient++) {
+                if (recipient != giver || isSelfIncluded) {
+                    addResponse(question, giver, recipient, responseMetaDataGenerator.apply(giver, recipient));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a question given by students with all responses visible to instructors.
+     */
+    public FeedbackQuestionAttributes createQuestion(int questionNumber, FeedbackQuestionType questionType,
+                                                     FeedbackParticipantType recipientType) {
+        FeedbackQuestionAttributes question = new FeedbackQuestionAttributes();
+        question.setId("question" + questionNumber);
+        question.feedbackSessionName = SESSION_NAME;
+        question.courseId = COURSE_ID;
+        question.creatorEmail = INSTRUCTOR_EMAIL;
+        question.questionNumber = questionNumber;
+        question.questionType = questionType;
+        question.giverType = FeedbackParticipantType.STUDENTS;
+        question.recipientType = recipientType;
+        question.numberOfEntitiesToGiveFeedbackTo = Const.MAX_POSSIBLE_RECIPIENTS;
+        question.questionDescription = new Text("");
+        question.showResponsesTo = new ArrayList<>();
+        question.showResponsesTo.add(FeedbackParticipantType.INSTRUCTORS);
+        question.showGiverNameTo = new ArrayList<>(question.showResponsesTo);
+        question.showRecipientNameTo = new ArrayList<>(question.showResponsesTo);
+        questions.add(question);
+        return question;
+    }
+
+    /**
+     * Adds a response from the {@code giver}-th student to the {@code recipient}-th student.
+     */
+    public FeedbackResponseAttributes addResponse(FeedbackQuestionAttributes question, int giver, int recipient,
+                                                  Text responseMetaData) {
+        StudentAttributes giverStudent = students.get(giver);
+        StudentAttributes recipientStudent = students.get(recipient);
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes(SESSION_NAME, COURSE_ID,
+                question.getId(), question.questionType, giverStudent.email, giverStudent.section,
+                recipientStudent.email, recipientStudent.section, responseMetaData);
+        response.setId(question.getId() + "%" + giverStudent.email + "%" + recipientStudent.email);
+        responses.add(response);
+        return response;
+    }
+
+    /**
+     * Returns the course as a data bundle, the format of the data imported by {@code GenerateLargeScaledData}.
+     */
+    public DataBundle getDataBundle() {
+        DataBundle dataBundle = new DataBundle();
+        for (StudentAttributes student : students) {
+            dataBundle.students.put(student.email, student);
+        }
+        for (InstructorAttributes instructor : instructors) {
+            dataBundle.instructors.put(instructor.email, instructor);
+        }
+        dataBundle.feedbackSessions.put(session.getFeedbackSessionName(), session);
+        for (FeedbackQuestionAttributes question : questions) {
+            dataBundle.feedbackQuestions.put(question.getId(), question);
+        }
+        for (FeedbackResponseAttributes response : responses) {
+            dataBundle.feedbackResponses.put(response.getId(), response);
+        }
+        return dataBundle;
+    }
+
+    /**
+     * Builds the results bundle that an instructor of the course would see.
+     * A fresh bundle of copied questions and responses is built on every call, as they cache derived data.
+     */
+    public FeedbackSessionResultsBundle getResultsBundle() {
+        return getResultsBundle(true);
+    }
+
+    /**
+     * Builds the results bundle that an instructor of the course would see, with the givers and recipients
+     * of all responses hidden from the instructor if {@code areParticipantsVisible} is false.
+     */
+    public FeedbackSessionResultsBundle getResultsBundle(boolean areParticipantsVisible) {
+        Map<String, FeedbackQuestionAttributes> questionMap = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            questionMap.put(question.getId(), question.getCopy());
+        }
+
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        for (StudentAttributes student : students) {
+            emailNameTable.put(student.email, student.name);
+            emailLastNameTable.put(student.email, student.lastName);
+            emailTeamNameTable.put(student.email, student.team);
+        }
+
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        List<FeedbackResponseAttributes> responsesCopy = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            visibilityTable.put(response.getId(), new boolean[] {areParticipantsVisible, areParticipantsVisible});
+            responsesCopy.add(new FeedbackResponseAttributes(response));
+        }
+
+        return new FeedbackSessionResultsBundle(session, responsesCopy, questionMap, emailNameTable,
+                emailLastNameTable, emailTeamNameTable, new HashMap<String, Set<String>>(), visibilityTable,
+                new FeedbackSessionResponseStatus(), getRoster(),
+                new HashMap<String, List<FeedbackResponseCommentAttributes>>());
+    }
+
+}
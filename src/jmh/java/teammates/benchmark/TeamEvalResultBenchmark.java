@@ -0,0 +1,59 @@
+package teammates.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.TeamEvalResult;
+
+/**
+ * Measures the contribution calculation of a team, which is done for every team of a course
+ * whenever the results of a contribution question are shown.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TeamEvalResultBenchmark {
+
+    @Param({"5", "10"})
+    private int teamSize;
+
+    private int[][] submissionValues;
+
+    /**
+     * Creates the points of a team in which every tenth member has not submitted.
+     */
+    @Setup(Level.Trial)
+    public void setUpSubmissionValues() {
+        Random random = new Random(teamSize);
+        submissionValues = new int[teamSize][teamSize];
+        for (int giver = 0; giver < teamSize; giver++) {
+            for (int recipient = 0; recipient < teamSize; recipient++) {
+                submissionValues[giver][recipient] = giver % 10 == 9
+                                                   ? TeamEvalResult.NSB
+                                                   : 50 + random.nextInt(101);
+            }
+        }
+    }
+
+    @Benchmark
+    public TeamEvalResult calculation() {
+        return new TeamEvalResult(submissionValues);
+    }
+
+}
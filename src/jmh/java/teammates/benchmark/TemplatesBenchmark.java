@@ -0,0 +1,94 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.util.Const;
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
+import teammates.common.util.Templates.FeedbackQuestion.Slots;
+
+/**
+ * Compares {@link Templates#populateTemplate} with replacing the keys one by one, which is how templates
+ * used to be populated, for a feedback session email and for an MCQ option fragment.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TemplatesBenchmark {
+
+    private String[] emailKeyValuePairs;
+    private String[] optionKeyValuePairs;
+
+    @Setup(Level.Trial)
+    public void setUpKeyValuePairs() {
+        emailKeyValuePairs = new String[] {
+                "${userName}", "Alice Betsy",
+                "${courseName}", "Software Engineering",
+                "${courseId}", "CS2103T-AY1718S1",
+                "${feedbackSessionName}", "Peer Evaluation 1",
+                "${deadline}", "Sun, 01 Oct 2017, 11:59 PM",
+                "${instructorFragment}", "",
+                "${sessionInstructions}", "Please give honest and constructive feedback to your teammates.",
+                "${submitUrl}", "https://teammatesv4.appspot.com/page/studentFeedbackSubmissionEditPage"
+                        + "?courseid=CS2103T-AY1718S1&fsname=Peer+Evaluation+1&key=ABCDEF0123456789",
+                "${status}", "A new feedback session has been created.",
+                "${feedbackAction}", "submit",
+                "${additionalInstructions}", "",
+                "${coOwnersEmails}", "Brian Wong (brian@example.com), Clare Tan (clare@example.com)",
+                "${supportEmail}", "teammates@comp.nus.edu.sg",
+        };
+        optionKeyValuePairs = new String[] {
+                Slots.QUESTION_INDEX, "3",
+                Slots.RESPONSE_INDEX, "12",
+                Slots.DISABLED, "",
+                Slots.CHECKED, "checked",
+                Slots.FEEDBACK_RESPONSE_TEXT, Const.ParamsNames.FEEDBACK_RESPONSE_TEXT,
+                Slots.MCQ_CHOICE_VALUE, "Strongly agree",
+        };
+    }
+
+    @Benchmark
+    public String emailWithPopulateTemplate() {
+        return Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION, emailKeyValuePairs);
+    }
+
+    @Benchmark
+    public String emailWithReplaceOneByOne() {
+        return replaceOneByOne(EmailTemplates.USER_FEEDBACK_SESSION, emailKeyValuePairs);
+    }
+
+    @Benchmark
+    public String optionFragmentWithPopulateTemplate() {
+        return Templates.populateTemplate(FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT, optionKeyValuePairs);
+    }
+
+    @Benchmark
+    public String optionFragmentWithReplaceOneByOne() {
+        return replaceOneByOne(FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT, optionKeyValuePairs);
+    }
+
+    private static String replaceOneByOne(String template, String... keyValuePairs) {
+        String populatedTemplate = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return populatedTemplate;
+    }
+
+}
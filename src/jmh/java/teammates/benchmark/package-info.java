@@ -0,0 +1,4 @@
+/**
+ * Contains JMH micro-benchmarks for CPU-heavy logic that does not need a deployed instance.
+ */
+package teammates.benchmark;
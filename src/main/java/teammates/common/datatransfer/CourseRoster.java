@@ -1,26 +1,35 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 
 /**
  * Contains a list of students and instructors in a course. Useful for caching
  * a copy of student and instructor details of a course instead of reading
  * them from the database multiple times.
+ *
+ * <p>The roster is a snapshot taken when it is created: students and instructors
+ * cannot be added or removed afterwards. Students are indexed by email, team and section.
  */
 public class CourseRoster {
 
-    Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
-    Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    private final Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
+    private final Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    private final Map<String, List<StudentAttributes>> studentListByTeam = new HashMap<>();
+    private final Map<String, List<StudentAttributes>> studentListBySection = new HashMap<>();
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
         populateStudentListByEmail(students);
         populateInstructorListByEmail(instructors);
+        populateStudentListsByTeamAndSection();
     }
 
     public List<StudentAttributes> getStudents() {
@@ -64,6 +73,37 @@ public class CourseRoster {
         return instructorListByEmail.get(email);
     }
 
+    /**
+     * Returns the names of all teams that have at least one student.
+     */
+    public Set<String> getTeamNames() {
+        return Collections.unmodifiableSet(studentListByTeam.keySet());
+    }
+
+    /**
+     * Returns the students in the team, or an empty list if there is no such team.
+     */
+    public List<StudentAttributes> getTeamMembers(String teamName) {
+        List<StudentAttributes> teamMembers = studentListByTeam.get(teamName);
+        return teamMembers == null ? Collections.emptyList() : Collections.unmodifiableList(teamMembers);
+    }
+
+    /**
+     * Returns the students in the section, or an empty list if there is no such section.
+     */
+    public List<StudentAttributes> getStudentsInSection(String sectionName) {
+        List<StudentAttributes> studentsInSection = studentListBySection.get(sectionName);
+        return studentsInSection == null ? Collections.emptyList() : Collections.unmodifiableList(studentsInSection);
+    }
+
+    /**
+     * Returns the section of the team, or {@link Const#DEFAULT_SECTION} if there is no such team.
+     */
+    public String getSectionForTeam(String teamName) {
+        List<StudentAttributes> teamMembers = studentListByTeam.get(teamName);
+        return teamMembers == null ? Const.DEFAULT_SECTION : teamMembers.get(0).section;
+    }
+
     private void populateStudentListByEmail(List<StudentAttributes> students) {
 
         if (students == null) {
@@ -75,6 +115,14 @@ public class CourseRoster {
         }
     }
 
+    private void populateStudentListsByTeamAndSection() {
+        // indexed from the email map so that a student listed twice is only indexed once
+        for (StudentAttributes s : studentListByEmail.values()) {
+            studentListByTeam.computeIfAbsent(s.team, team -> new ArrayList<>()).add(s);
+            studentListBySection.computeIfAbsent(s.section, section -> new ArrayList<>()).add(s);
+        }
+    }
+
     private void populateInstructorListByEmail(List<InstructorAttributes> instructors) {
 
         if (instructors == null) {
@@ -0,0 +1,164 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Represents the counts that the statistics of a feedback question are computed from,
+ * i.e. the number of responses to the question and the number of times each answer key occurs in the responses.
+ *
+ * <p>The counts of a set of responses are the sums of the counts of the individual responses.
+ * The aggregate also keeps a fingerprint of the question details and of the IDs and answers of the responses
+ * it counts, so that a stored aggregate can be checked against the question and responses it is to stand for.
+ *
+ * @see FeedbackQuestionDetails#getStatisticsAggregateKeys(FeedbackResponseAttributes)
+ */
+public class FeedbackQuestionStatisticsAggregate {
+
+    private int numberOfResponses;
+
+    /** Maps each answer key to the number of times it occurs. Keys with a count of 0 are not kept. */
+    private Map<String, Integer> answerCounts;
+
+    /** The fingerprint of the question details plus the sum of the fingerprints of the responses. */
+    private long responsesFingerprint;
+
+    public FeedbackQuestionStatisticsAggregate() {
+        this(0, new HashMap<String, Integer>());
+    }
+
+    public FeedbackQuestionStatisticsAggregate(int numberOfResponses, Map<String, Integer> answerCounts) {
+        this(numberOfResponses, answerCounts, 0);
+    }
+
+    public FeedbackQuestionStatisticsAggregate(int numberOfResponses, Map<String, Integer> answerCounts,
+                                               long responsesFingerprint) {
+        this.numberOfResponses = numberOfResponses;
+        this.answerCounts = new HashMap<>();
+        answerCounts.forEach(this::addAnswerCount);
+        this.responsesFingerprint = responsesFingerprint;
+    }
+
+    /**
+     * Returns the counts of the given responses to a question with the given details.
+     */
+    public static FeedbackQuestionStatisticsAggregate of(FeedbackQuestionDetails questionDetails,
+                                                         List<FeedbackResponseAttributes> responses) {
+        FeedbackQuestionStatisticsAggregate aggregate = new FeedbackQuestionStatisticsAggregate(
+                0, new HashMap<String, Integer>(), fingerprintOf(questionDetails));
+        for (FeedbackResponseAttributes response : responses) {
+            aggregate.addResponse(questionDetails, response);
+        }
+        return aggregate;
+    }
+
+    /**
+     * Returns the fingerprint of an aggregate of exactly the given responses to a question with the given details.
+     * The fingerprint changes whenever a response is added, removed, or given a different answer, and whenever
+     * the question details, which the answer keys can depend on, change.
+     */
+    private static long fingerprintOf(FeedbackQuestionDetails questionDetails,
+                                      List<FeedbackResponseAttributes> responses) {
+        long fingerprint = fingerprintOf(questionDetails);
+        for (FeedbackResponseAttributes response : responses) {
+            fingerprint += fingerprintOf(response);
+        }
+        return fingerprint;
+    }
+
+    private static long fingerprintOf(FeedbackQuestionDetails questionDetails) {
+        return hash(JsonUtils.toJson(questionDetails));
+    }
+
+    private static long fingerprintOf(FeedbackResponseAttributes response) {
+        String answer = response.responseMetaData == null ? "" : response.responseMetaData.getValue();
+        return hash(response.getId() + '\0' + answer);
+    }
+
+    /**
+     * Returns the 64-bit FNV-1a hash of the value.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public void addResponse(FeedbackQuestionDetails questionDetails, FeedbackResponseAttributes response) {
+        numberOfResponses++;
+        responsesFingerprint += fingerprintOf(response);
+
+        for (String key : questionDetails.getStatisticsAggregateKeys(response)) {
+            addAnswerCount(key, 1);
+        }
+    }
+
+    private void addAnswerCount(String key, int change) {
+        int count = answerCounts.getOrDefault(key, 0) + change;
+        if (count == 0) {
+            answerCounts.remove(key);
+        } else {
+            answerCounts.put(key, count);
+        }
+    }
+
+    public int getNumberOfResponses() {
+        return numberOfResponses;
+    }
+
+    public int getAnswerCount(String key) {
+        return answerCounts.getOrDefault(key, 0);
+    }
+
+    public Map<String, Integer> getAnswerCounts() {
+        return Collections.unmodifiableMap(answerCounts);
+    }
+
+    public long getResponsesFingerprint() {
+        return responsesFingerprint;
+    }
+
+    /**
+     * Returns true if this aggregate counts exactly the given responses to a question with the given details,
+     * as far as the fingerprint tells.
+     */
+    public boolean isOf(FeedbackQuestionDetails questionDetails, List<FeedbackResponseAttributes> responses) {
+        return numberOfResponses == responses.size()
+                && responsesFingerprint == fingerprintOf(questionDetails, responses);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FeedbackQuestionStatisticsAggregate)) {
+            return false;
+        }
+        FeedbackQuestionStatisticsAggregate otherAggregate = (FeedbackQuestionStatisticsAggregate) other;
+        return numberOfResponses == otherAggregate.numberOfResponses
+                && answerCounts.equals(otherAggregate.answerCounts)
+                && responsesFingerprint == otherAggregate.responsesFingerprint;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * numberOfResponses + answerCounts.hashCode()) + Long.hashCode(responsesFingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackQuestionStatisticsAggregate [numberOfResponses=" + numberOfResponses
+                + ", answerCounts=" + answerCounts + ", responsesFingerprint=" + responsesFingerprint + "]";
+    }
+
+}
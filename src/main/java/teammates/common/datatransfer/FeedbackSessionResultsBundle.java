@@ -62,9 +62,13 @@ public class FeedbackSessionResultsBundle {
     // For contribution questions.
     // Key is questionId, value is a map of student email to StudentResultSumary
     public Map<String, Map<String, StudentResultSummary>> contributionQuestionStudentResultSummary = new HashMap<>();
-    // Key is questionId, value is a map of team name to TeamEvalResult
+    // Key is questionId, value is a map of team name to TeamEvalResult, computed once for all views of the question
     public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults = new HashMap<>();
 
+    // Key is questionId, value is the stored statistics aggregate of all responses to the question.
+    // Only set for questions whose statistics are aggregated, for viewers who may see all responses.
+    public Map<String, FeedbackQuestionStatisticsAggregate> questionStatistics = new HashMap<>();
+
     /*
      * sectionTeamNameTable takes into account the section viewing privileges of the logged-in instructor
      * and the selected section for viewing
@@ -76,6 +80,16 @@ public class FeedbackSessionResultsBundle {
     */
     public Map<String, Set<String>> sectionTeamNameTable;
 
+    // Key is questionId, value is a map of giver participant identifier to its possible recipients
+    private Map<String, Map<String, List<String>>> possibleRecipientsTable = new HashMap<>();
+
+    // Key is participant type, value is a map of participant name to anonymous name.
+    // Computing an anonymous name involves encryption, and the same participant is anonymised for many responses.
+    private Map<FeedbackParticipantType, Map<String, String>> anonNameTable = new HashMap<>();
+
+    private List<String> sortedStudentEmails;
+    private List<String> sortedInstructorEmails;
+
     private Comparator<FeedbackResponseAttributes> compareByGiverSection =
             Comparator.comparing(fra -> fra.giverSection);
 
@@ -338,8 +352,8 @@ public class FeedbackSessionResultsBundle {
             FeedbackParticipantType participantType = question.recipientType;
 
             if (!isRecipientVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                name = getMemoizedAnonName(participantType, name);
+                String anonEmail = getAnonEmailForAnonName(name);
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -352,8 +366,8 @@ public class FeedbackSessionResultsBundle {
             participantType = question.giverType;
 
             if (!isGiverVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                name = getMemoizedAnonName(participantType, name);
+                String anonEmail = getAnonEmailForAnonName(name);
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -404,13 +418,16 @@ public class FeedbackSessionResultsBundle {
     }
 
     public static String getAnonEmail(FeedbackParticipantType type, String name) {
-        String anonName = getAnonName(type, name);
+        return getAnonEmailForAnonName(getAnonName(type, name));
+    }
+
+    private static String getAnonEmailForAnonName(String anonName) {
         return anonName + "@@" + anonName + ".com";
     }
 
     public String getAnonEmailFromStudentEmail(String studentEmail) {
         String name = roster.getStudentForEmail(studentEmail).name;
-        return getAnonEmail(FeedbackParticipantType.STUDENTS, name);
+        return getAnonEmailForAnonName(getMemoizedAnonName(FeedbackParticipantType.STUDENTS, name));
     }
 
     public String getAnonNameWithoutNumericalId(FeedbackParticipantType type) {
@@ -424,6 +441,14 @@ public class FeedbackSessionResultsBundle {
                 Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " %s %s", participantType, hashedEncryptedName);
     }
 
+    /**
+     * Returns the same value as {@link #getAnonName}, computing it only once per participant for this bundle.
+     */
+    public String getMemoizedAnonName(FeedbackParticipantType type, String name) {
+        return anonNameTable.computeIfAbsent(type, participantType -> new HashMap<>())
+                            .computeIfAbsent(name, participantName -> getAnonName(type, participantName));
+    }
+
     private static String getEncryptedName(String name) {
         return StringHelper.encrypt(name);
     }
@@ -584,6 +609,14 @@ public class FeedbackSessionResultsBundle {
         return new HashSet<>(rosterSectionTeamNameTable.getOrDefault(sectionName, new HashSet<>()));
     }
 
+    /**
+     * Returns the stored statistics aggregate of all responses to the question,
+     * or null if it is not available to the viewer of the bundle.
+     */
+    public FeedbackQuestionStatisticsAggregate getQuestionStatistics(String questionId) {
+        return questionStatistics.get(questionId);
+    }
+
     public boolean isParticipantIdentifierStudent(String participantIdentifier) {
         StudentAttributes student = roster.getStudentForEmail(participantIdentifier);
         return student != null;
@@ -827,6 +860,25 @@ public class FeedbackSessionResultsBundle {
         }
     }
 
+    /**
+     * Get the possible recipients for a giver for the question specified, as given by
+     * {@link #getPossibleRecipients(FeedbackQuestionAttributes, String)}.
+     *
+     * <p>The possible recipients of each giver are computed only once for each question
+     * and are reused for the lifetime of the bundle.
+     *
+     * @return an unmodifiable list of participant identifiers that can receive a response
+     *         from the giver specified by the participantIdentifier
+     */
+    public List<String> getPossibleRecipientsFromTable(FeedbackQuestionAttributes fqa,
+                                                       String giverParticipantIdentifier) {
+        Map<String, List<String>> possibleRecipientsForQuestion =
+                possibleRecipientsTable.computeIfAbsent(fqa.getId(), key -> new HashMap<>());
+
+        return possibleRecipientsForQuestion.computeIfAbsent(giverParticipantIdentifier,
+                giver -> Collections.unmodifiableList(getPossibleRecipients(fqa, giver)));
+    }
+
     /**
      * Get the possible recipients for a INSTRUCTOR giver for the question specified.
      * @return a list of possible recipients that can receive a response from giver specified by
@@ -1003,26 +1055,30 @@ public class FeedbackSessionResultsBundle {
      * Returns a list of student emails, sorted by section name.
      */
     private List<String> getSortedListOfStudentEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<StudentAttributes> students = roster.getStudents();
-        StudentAttributes.sortBySectionName(students);
-        for (StudentAttributes student : students) {
-            emailList.add(student.email);
+        if (sortedStudentEmails == null) {
+            sortedStudentEmails = new ArrayList<>();
+            List<StudentAttributes> students = roster.getStudents();
+            StudentAttributes.sortBySectionName(students);
+            for (StudentAttributes student : students) {
+                sortedStudentEmails.add(student.email);
+            }
         }
-        return emailList;
+        return new ArrayList<>(sortedStudentEmails);
     }
 
     /**
      * Returns a list of instructor emails, sorted alphabetically.
      */
     private List<String> getSortedListOfInstructorEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<InstructorAttributes> instructors = roster.getInstructors();
-        for (InstructorAttributes instructor : instructors) {
-            emailList.add(instructor.email);
+        if (sortedInstructorEmails == null) {
+            sortedInstructorEmails = new ArrayList<>();
+            List<InstructorAttributes> instructors = roster.getInstructors();
+            for (InstructorAttributes instructor : instructors) {
+                sortedInstructorEmails.add(instructor.email);
+            }
+            Collections.sort(sortedInstructorEmails);
         }
-        Collections.sort(emailList);
-        return emailList;
+        return new ArrayList<>(sortedInstructorEmails);
     }
 
     /**
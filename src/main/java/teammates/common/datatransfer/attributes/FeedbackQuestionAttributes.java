@@ -44,6 +44,11 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     protected transient Date updatedAt;
     private String feedbackQuestionId;
 
+    // parsed form of questionMetaData; only valid while questionMetaData and questionType are unchanged
+    private transient FeedbackQuestionDetails questionDetails;
+    private transient Text questionDetailsMetaData;
+    private transient FeedbackQuestionType questionDetailsType;
+
     public FeedbackQuestionAttributes() {
         // attributes to be set after construction
     }
@@ -556,9 +561,24 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     /**
      * Retrieves the Feedback*QuestionDetails object for this question.
      *
+     * <p>The question details are parsed only once and reused until {@code questionMetaData} or
+     * {@code questionType} is changed. The returned object is shared between callers; to change the
+     * question details, modify a new object and pass it to {@link #setQuestionDetails(FeedbackQuestionDetails)}.
+     *
      * @return The Feedback*QuestionDetails object representing the question's details
      */
     public FeedbackQuestionDetails getQuestionDetails() {
+        // Text wraps the same String instance until the metadata is replaced, so the equality check is cheap
+        if (questionDetails == null || !questionMetaData.equals(questionDetailsMetaData)
+                || questionDetailsType != questionType) {
+            questionDetails = parseQuestionDetails();
+            questionDetailsMetaData = questionMetaData;
+            questionDetailsType = questionType;
+        }
+        return questionDetails;
+    }
+
+    private FeedbackQuestionDetails parseQuestionDetails() {
         final String questionMetaDataValue = questionMetaData.getValue();
         // For old Text questions, the questionText simply contains the question, not a JSON
         if (questionType == FeedbackQuestionType.TEXT && !isValidJsonString(questionMetaDataValue)) {
@@ -45,6 +45,11 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     protected transient Date updatedAt;
     private String feedbackResponseId;
 
+    // parsed form of responseMetaData; only valid while responseMetaData and feedbackQuestionType are unchanged
+    private transient FeedbackResponseDetails responseDetails;
+    private transient Text responseDetailsMetaData;
+    private transient FeedbackQuestionType responseDetailsType;
+
     public FeedbackResponseAttributes() {
         // attributes to be set after construction
     }
@@ -188,6 +193,9 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
 
     /**
      * Retrieves the Feedback*ResponseDetails object for this response.
+     *
+     * <p>The response details are parsed only once and reused until {@code responseMetaData} or
+     * {@code feedbackQuestionType} is changed. The returned object is shared between callers.
      * @return The Feedback*ResponseDetails object representing the response's details
      */
     public FeedbackResponseDetails getResponseDetails() {
@@ -196,6 +204,17 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
             return null;
         }
 
+        // re-parse only if the metadata has been replaced with a different value
+        if (responseDetails == null || !responseMetaData.equals(responseDetailsMetaData)
+                || responseDetailsType != feedbackQuestionType) {
+            responseDetails = parseResponseDetails();
+            responseDetailsMetaData = responseMetaData;
+            responseDetailsType = feedbackQuestionType;
+        }
+        return responseDetails;
+    }
+
+    private FeedbackResponseDetails parseResponseDetails() {
         Class<? extends FeedbackResponseDetails> responseDetailsClass = getFeedbackResponseDetailsClass();
 
         if (responseDetailsClass == FeedbackTextResponseDetails.class) {
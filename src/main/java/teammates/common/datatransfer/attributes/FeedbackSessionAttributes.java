@@ -5,9 +5,7 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.TimeZone;
 
 import com.google.appengine.api.datastore.Text;
@@ -43,15 +41,13 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     private boolean isOpeningEmailEnabled;
     private boolean isClosingEmailEnabled;
     private boolean isPublishedEmailEnabled;
-    private transient Set<String> respondingInstructorList;
-    private transient Set<String> respondingStudentList;
+    private transient Integer expectedRespondentTotal;
+    private transient boolean hasLegacyRespondents;
 
     FeedbackSessionAttributes() {
         isOpeningEmailEnabled = true;
         isClosingEmailEnabled = true;
         isPublishedEmailEnabled = true;
-        respondingInstructorList = new HashSet<>();
-        respondingStudentList = new HashSet<>();
 
         instructions = new Text("");
     }
@@ -73,8 +69,9 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 .withSentPublishedEmail(fs.isSentPublishedEmail())
                 .withOpeningEmailEnabled(fs.isOpeningEmailEnabled())
                 .withPublishedEmailEnabled(fs.isPublishedEmailEnabled())
-                .withRespondingInstructorList(fs.getRespondingInstructorList())
-                .withRespondingStudentList(fs.getRespondingStudentList())
+                .withExpectedRespondentTotal(fs.getExpectedRespondentTotal())
+                .withLegacyRespondents(!fs.getRespondingInstructorList().isEmpty()
+                                       || !fs.getRespondingStudentList().isEmpty())
                 .withClosingEmailEnabled(fs.isClosingEmailEnabled())
                 .build();
     }
@@ -87,8 +84,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
      * <li>{@code isOpeningEmailEnabled = true}</li>
      * <li>{@code isClosingEmailEnabled = true}</li>
      * <li>{@code isPublishedEmailEnabled = true}</li>
-     * <li>{@code respondingInstructorList = new HashSet<>()}</li>
-     * <li>{@code respondingStudentList = new HashSet<>()}</li>
      * </ul>
      */
     public static Builder builder(String feedbackSessionName, String courseId, String creatorEmail) {
@@ -96,7 +91,9 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     }
 
     public FeedbackSessionAttributes getCopy() {
-        return valueOf(toEntity());
+        FeedbackSessionAttributes copy = valueOf(toEntity());
+        copy.setHasLegacyRespondents(hasLegacyRespondents);
+        return copy;
     }
 
     public String getCourseId() {
@@ -133,12 +130,13 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
 
     @Override
     public FeedbackSession toEntity() {
-        return new FeedbackSession(feedbackSessionName, courseId, creatorEmail, instructions, createdTime,
-                                   startTime, endTime, sessionVisibleFromTime, resultsVisibleFromTime,
-                                   timeZone, gracePeriod, feedbackSessionType, sentOpenEmail,
-                                   sentClosingEmail, sentClosedEmail, sentPublishedEmail,
-                                   isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled,
-                                   respondingInstructorList, respondingStudentList);
+        FeedbackSession fs = new FeedbackSession(feedbackSessionName, courseId, creatorEmail, instructions,
+                                                 createdTime, startTime, endTime, sessionVisibleFromTime,
+                                                 resultsVisibleFromTime, timeZone, gracePeriod, feedbackSessionType,
+                                                 sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail,
+                                                 isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled);
+        fs.setExpectedRespondentTotal(expectedRespondentTotal);
+        return fs;
     }
 
     @Override
@@ -641,20 +639,28 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
     }
 
-    public Set<String> getRespondingInstructorList() {
-        return respondingInstructorList;
+    /**
+     * Returns the number of students and instructors expected to respond to the session,
+     * or null if the number is not known and has to be computed.
+     */
+    public Integer getExpectedRespondentTotal() {
+        return expectedRespondentTotal;
     }
 
-    public void setRespondingInstructorList(Set<String> respondingInstructorList) {
-        this.respondingInstructorList = respondingInstructorList;
+    public void setExpectedRespondentTotal(Integer expectedRespondentTotal) {
+        this.expectedRespondentTotal = expectedRespondentTotal;
     }
 
-    public Set<String> getRespondingStudentList() {
-        return respondingStudentList;
+    /**
+     * Returns true if some respondents of the session are still stored in the session entity,
+     * i.e. have not been recorded as {@link teammates.storage.entity.FeedbackSessionRespondent} markers yet.
+     */
+    public boolean hasLegacyRespondents() {
+        return hasLegacyRespondents;
     }
 
-    public void setRespondingStudentList(Set<String> respondingStudentList) {
-        this.respondingStudentList = respondingStudentList;
+    public void setHasLegacyRespondents(boolean hasLegacyRespondents) {
+        this.hasLegacyRespondents = hasLegacyRespondents;
     }
 
     public String getEndTimeInIso8601Format() {
@@ -771,19 +777,13 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
             return this;
         }
 
-        public Builder withRespondingInstructorList(Set<String> respondingInstructorList) {
-            Set<String> respondingList = respondingInstructorList == null
-                    ? new HashSet<String>()
-                    : respondingInstructorList;
-            feedbackSessionAttributes.setRespondingInstructorList(respondingList);
+        public Builder withExpectedRespondentTotal(Integer expectedRespondentTotal) {
+            feedbackSessionAttributes.setExpectedRespondentTotal(expectedRespondentTotal);
             return this;
         }
 
-        public Builder withRespondingStudentList(Set<String> respondingStudentList) {
-            Set<String> respondingList = respondingStudentList == null
-                    ? new HashSet<String>()
-                    : respondingStudentList;
-            feedbackSessionAttributes.setRespondingStudentList(respondingList);
+        public Builder withLegacyRespondents(boolean hasLegacyRespondents) {
+            feedbackSessionAttributes.setHasLegacyRespondents(hasLegacyRespondents);
             return this;
         }
 
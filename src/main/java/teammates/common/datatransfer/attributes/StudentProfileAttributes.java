@@ -28,6 +28,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
     public String gender; // only accepts "male", "female" or "other"
     public String moreInfo;
     public String pictureKey;
+    public String pictureThumbnailKey; // empty if the picture has no thumbnail
     public Date modifiedDate;
 
     StudentProfileAttributes() {
@@ -40,6 +41,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
         this.gender = "other";
         this.moreInfo = "";
         this.pictureKey = "";
+        this.pictureThumbnailKey = "";
         this.modifiedDate = new Date();
     }
 
@@ -53,6 +55,8 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
                 .withNationality(sp.getNationality())
                 .withMoreInfo(sp.getMoreInfo().getValue())
                 .withPictureKey(sp.getPictureKey().getKeyString())
+                .withPictureThumbnailKey(sp.getPictureThumbnailKey() == null
+                                         ? null : sp.getPictureThumbnailKey().getKeyString())
                 .withModifiedDate(sp.getModifiedDate())
                 .build();
     }
@@ -75,6 +79,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
                 .withNationality(nationality)
                 .withMoreInfo(moreInfo)
                 .withPictureKey(pictureKey)
+                .withPictureThumbnailKey(pictureThumbnailKey)
                 .withModifiedDate(modifiedDate)
                 .build();
     }
@@ -130,6 +135,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
         addNonEmptyError(validator.getInvalidityInfoForGender(gender), errors);
 
         Assumption.assertNotNull(this.pictureKey);
+        Assumption.assertNotNull(this.pictureThumbnailKey);
 
         // No validation for modified date as it is determined by the system.
         // No validation for More Info. It will properly sanitized.
@@ -145,7 +151,8 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
     @Override
     public StudentProfile toEntity() {
         return new StudentProfile(googleId, shortName, email, institute, nationality, gender,
-                                  new Text(moreInfo), new BlobKey(this.pictureKey));
+                                  new Text(moreInfo), new BlobKey(this.pictureKey),
+                                  new BlobKey(this.pictureThumbnailKey));
     }
 
     @Override
@@ -233,6 +240,13 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
             return this;
         }
 
+        public Builder withPictureThumbnailKey(String pictureThumbnailKey) {
+            if (pictureThumbnailKey != null) {
+                profileAttributes.pictureThumbnailKey = pictureThumbnailKey;
+            }
+            return this;
+        }
+
         public Builder withModifiedDate(Date modifiedDate) {
             profileAttributes.modifiedDate = modifiedDate == null ? new Date() : modifiedDate;
             return this;
@@ -11,6 +11,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -394,7 +396,8 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         StringBuilder fragments = new StringBuilder();
         List<String> options = constSumOptions;
 
-        Map<String, List<Integer>> optionPoints = generateOptionPointsMapping(responses);
+        Map<String, List<Integer>> optionPoints =
+                generateOptionPointsMapping(getStatisticsAggregate(responses, question, bundle, "question".equals(view)));
 
         DecimalFormat df = new DecimalFormat("#.##");
 
@@ -456,6 +459,7 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
 
         StringBuilder fragments = new StringBuilder();
         List<String> options = constSumOptions;
+        // the received points are listed in the order of the responses, which the aggregate does not keep
         Map<String, List<Integer>> optionPoints = generateOptionPointsMapping(responses);
 
         DecimalFormat df = new DecimalFormat("#.##");
@@ -537,6 +541,32 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         });
     }
 
+    /**
+     * Returns a key for each option or recipient receiving points in the response, which identifies the points
+     * and the option index or the recipient.
+     */
+    @Override
+    public List<String> getStatisticsAggregateKeys(FeedbackResponseAttributes response) {
+        FeedbackConstantSumResponseDetails frd = (FeedbackConstantSumResponseDetails) response.getResponseDetails();
+
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < frd.getAnswerList().size(); i++) {
+            String optionReceivingPoints =
+                    distributeToRecipients ? response.recipient : String.valueOf(i);
+            keys.add(frd.getAnswerList().get(i) + ":" + optionReceivingPoints);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns true if the points are distributed among options, or if the recipients of the responses are not hidden
+     * from instructors, as the recipients of the responses in a results bundle would otherwise be anonymised.
+     */
+    @Override
+    protected boolean isStoredStatisticsAggregateUsable(FeedbackQuestionAttributes question) {
+        return !distributeToRecipients || question.showRecipientNameTo.contains(FeedbackParticipantType.INSTRUCTORS);
+    }
+
     /**
      * From the feedback responses, generate a mapping of the option to a list of points received for that option.
      * The key of the map returned is the option name / recipient's participant identifier.
@@ -561,6 +591,26 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return optionPoints;
     }
 
+    /**
+     * From the statistics aggregate of the responses, generate a mapping of the option to a list of points received
+     * for that option.
+     * The key of the map returned is the option name / recipient's participant identifier.
+     * The values of the map are list of points received by the key, in no particular order.
+     * @see #getStatisticsAggregateKeys(FeedbackResponseAttributes)
+     */
+    private Map<String, List<Integer>> generateOptionPointsMapping(FeedbackQuestionStatisticsAggregate aggregate) {
+
+        Map<String, List<Integer>> optionPoints = new HashMap<>();
+        aggregate.getAnswerCounts().forEach((key, count) -> {
+            String[] pointsAndOption = key.split(":", 2);
+            int pointsReceived = Integer.parseInt(pointsAndOption[0]);
+            for (int i = 0; i < count; i++) {
+                updateOptionPointsMapping(optionPoints, pointsAndOption[1], pointsReceived);
+            }
+        });
+        return optionPoints;
+    }
+
     /**
      * Used to update the OptionPointsMapping for the option optionReceivingPoints.
      */
@@ -179,28 +179,15 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //List of teams with at least one response
         List<String> teamNames = getTeamsWithAtLeastOneResponse(actualResponses, bundle);
 
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
         //Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults = getTeamResults(bundle, question, teamNames);
 
         TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
         if (currentUserTeamResults == null) {
             return "";
         }
 
-        int currentUserIndex = teamMembersEmail.get(currentUserTeam).indexOf(studentEmail);
+        int currentUserIndex = currentUserTeamResults.studentEmails.indexOf(studentEmail);
         int selfClaim = currentUserTeamResults.claimed[currentUserIndex][currentUserIndex];
         int teamClaim = currentUserTeamResults.denormalizedAveragePerceived[currentUserIndex][currentUserIndex];
 
@@ -238,25 +225,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //List of teams visible to the instructor and in the selected section
         List<String> teamNames = getTeamNames(bundle);
 
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
         //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults = getTeamResults(bundle, question, teamNames);
 
         //Each person's results summary
-        Map<String, StudentResultSummary> studentResults = getStudentResults(
-                teamMembersEmail, teamResults);
+        Map<String, StudentResultSummary> studentResults = getStudentResults(teamResults);
 
         //Check visibility of recipient
         boolean hideRecipient = false;
@@ -277,15 +250,14 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String name = bundle.roster.getStudentForEmail(email).name;
             String team = bundle.roster.getStudentForEmail(email).team;
 
-            List<String> teamEmails = teamMembersEmail.get(team);
             TeamEvalResult teamResult = teamResults.get(team);
-            int studentIndx = teamEmails.indexOf(email);
+            int studentIndx = teamResult.studentEmails.indexOf(email);
 
             String displayName = name;
             String displayTeam = team;
 
             if (hideRecipient) {
-                displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
+                displayName = bundle.getMemoizedAnonName(type, name);
                 displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
             }
             int[] incomingPoints = new int[teamResult.normalizedPeerContributionRatio.length];
@@ -327,25 +299,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //List of teams visible to the instructor and in the selected section
         List<String> teamNames = getTeamNames(bundle);
 
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
         //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults = getTeamResults(bundle, question, teamNames);
 
         //Each person's results summary
-        Map<String, StudentResultSummary> studentResults = getStudentResults(
-                teamMembersEmail, teamResults);
+        Map<String, StudentResultSummary> studentResults = getStudentResults(teamResults);
 
         //Check visibility of recipient
         boolean hideRecipient = false;
@@ -369,15 +327,14 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String name = bundle.roster.getStudentForEmail(email).name;
             String team = bundle.roster.getStudentForEmail(email).team;
 
-            List<String> teamEmails = teamMembersEmail.get(team);
             TeamEvalResult teamResult = teamResults.get(team);
-            int studentIndx = teamEmails.indexOf(email);
+            int studentIndx = teamResult.studentEmails.indexOf(email);
 
             String displayName;
             String displayTeam;
             String displayEmail;
             if (hideRecipient) {
-                displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
+                displayName = bundle.getMemoizedAnonName(type, name);
                 displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
                 displayEmail = Const.USER_NOBODY_TEXT;
             } else {
@@ -442,48 +399,62 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         List<String> teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
 
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-
-        return getStudentResults(teamMembersEmail, teamResults);
+        return getStudentResults(getTeamResults(bundle, question, teamNames));
     }
 
     /**
-     * Returns A Map with student email as key and TeamEvalResult as value for the specified question.
+     * Returns A Map with team name as key and TeamEvalResult as value for the specified question,
+     * for the teams visible in the bundle and the teams with at least one response.<br>
+     * The results of a team depend only on its members and its responses, so they are computed once
+     * and kept in the bundle for all views of the question.
      */
     Map<String, TeamEvalResult> getTeamEvalResults(FeedbackSessionResultsBundle bundle,
             FeedbackQuestionAttributes question) {
+        return bundle.contributionQuestionTeamEvalResults.computeIfAbsent(question.getId(), key -> {
+            List<FeedbackResponseAttributes> responses = getActualResponses(question, bundle);
 
-        List<FeedbackResponseAttributes> responses = getActualResponses(question, bundle);
+            List<String> teamNames = getTeamNames(bundle);
+            for (String teamName : getTeamsWithAtLeastOneResponse(responses, bundle)) {
+                if (!teamNames.contains(teamName)) {
+                    teamNames.add(teamName);
+                }
+            }
 
-        List<String> teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
+            Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
+            // teams without members in the roster, e.g. the instructors team, have no results
+            teamNames.retainAll(teamMembersEmail.keySet());
 
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
+            Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
+                    responses, bundle, teamNames);
 
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
+            Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
+                    teamNames, teamMembersEmail, teamResponses);
 
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+            return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        });
+    }
 
-        return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+    /**
+     * Returns the results of the given teams for the specified question, in the order of {@code teamNames}.
+     */
+    private Map<String, TeamEvalResult> getTeamResults(FeedbackSessionResultsBundle bundle,
+            FeedbackQuestionAttributes question, List<String> teamNames) {
+        Map<String, TeamEvalResult> allTeamResults = getTeamEvalResults(bundle, question);
+        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
+        for (String team : teamNames) {
+            TeamEvalResult teamResult = allTeamResults.get(team);
+            if (teamResult != null) {
+                teamResults.put(team, teamResult);
+            }
+        }
+        return teamResults;
     }
 
-    private Map<String, StudentResultSummary> getStudentResults(
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, TeamEvalResult> teamResults) {
+    private Map<String, StudentResultSummary> getStudentResults(Map<String, TeamEvalResult> teamResults) {
         Map<String, StudentResultSummary> studentResults = new LinkedHashMap<>();
         teamResults.forEach((key, teamResult) -> {
-            List<String> teamEmails = teamMembersEmail.get(key);
             int i = 0;
-            for (String studentEmail : teamEmails) {
+            for (String studentEmail : teamResult.studentEmails) {
                 StudentResultSummary summary = new StudentResultSummary();
                 summary.claimedToInstructor = teamResult.normalizedClaimed[i][i];
                 summary.perceivedToInstructor = teamResult.normalizedAveragePerceived[i];
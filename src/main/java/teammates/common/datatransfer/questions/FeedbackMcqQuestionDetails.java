@@ -8,8 +8,10 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -383,7 +385,10 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         StringBuilder fragments = new StringBuilder();
-        Map<String, Integer> answerFrequency = collateAnswerFrequency(responses);
+        FeedbackQuestionStatisticsAggregate aggregate =
+                getStatisticsAggregate(responses, question, bundle, "question".equals(view));
+        Map<String, Integer> answerFrequency = collateAnswerFrequency(aggregate);
+        int numberOfResponses = aggregate.getNumberOfResponses();
 
         DecimalFormat df = new DecimalFormat("#.##");
 
@@ -391,7 +396,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
                 fragments.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
                         Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(key),
                         Slots.COUNT, value.toString(),
-                        Slots.PERCENTAGE, df.format(100 * (double) value / responses.size()))));
+                        Slots.PERCENTAGE, df.format(100 * (double) value / numberOfResponses))));
 
         return Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS, Slots.FRAGMENTS, fragments.toString());
     }
@@ -406,13 +411,15 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         StringBuilder fragments = new StringBuilder();
-        Map<String, Integer> answerFrequency = collateAnswerFrequency(responses);
+        FeedbackQuestionStatisticsAggregate aggregate = getStatisticsAggregate(responses, question, bundle, true);
+        Map<String, Integer> answerFrequency = collateAnswerFrequency(aggregate);
+        int numberOfResponses = aggregate.getNumberOfResponses();
 
         DecimalFormat df = new DecimalFormat("#.##");
 
         answerFrequency.forEach((key, value) -> fragments.append(SanitizationHelper.sanitizeForCsv(key)).append(',')
                      .append(value.toString()).append(',')
-                     .append(df.format(100 * (double) value / responses.size())).append(Const.EOL));
+                     .append(df.format(100 * (double) value / numberOfResponses)).append(Const.EOL));
 
         return "Choice, Response Count, Percentage" + Const.EOL
                + fragments.toString();
@@ -469,7 +476,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
-    private Map<String, Integer> collateAnswerFrequency(List<FeedbackResponseAttributes> responses) {
+    private Map<String, Integer> collateAnswerFrequency(FeedbackQuestionStatisticsAggregate aggregate) {
         Map<String, Integer> answerFrequency = new LinkedHashMap<>();
 
         for (String option : mcqChoices) {
@@ -480,14 +487,9 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             answerFrequency.put("Other", 0);
         }
 
-        for (FeedbackResponseAttributes response : responses) {
-            FeedbackResponseDetails responseDetails = response.getResponseDetails();
-            boolean isOtherOptionAnswer =
-                    ((FeedbackMcqResponseDetails) responseDetails).isOtherOptionAnswer();
-            String key = isOtherOptionAnswer ? "Other" : responseDetails.getAnswerString();
-
-            answerFrequency.put(key, answerFrequency.getOrDefault(key, 0) + 1);
-        }
+        // answers which are no longer options are listed after the options
+        new TreeMap<>(aggregate.getAnswerCounts()).forEach((key, count) ->
+                answerFrequency.put(key, answerFrequency.getOrDefault(key, 0) + count));
 
         return answerFrequency;
     }
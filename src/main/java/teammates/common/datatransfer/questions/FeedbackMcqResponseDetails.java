@@ -1,5 +1,7 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import teammates.common.util.Const;
@@ -77,6 +79,14 @@ public class FeedbackMcqResponseDetails extends FeedbackResponseDetails {
         return SanitizationHelper.sanitizeForCsv(getAnswerString());
     }
 
+    /**
+     * Returns the chosen option, or {@code "Other"} for an answer to the "Other" option.
+     */
+    @Override
+    public List<String> getStatisticsAggregateKeys() {
+        return Collections.singletonList(isOther ? "Other" : answer);
+    }
+
     public Boolean isOtherOptionAnswer() {
         return isOther;
     }
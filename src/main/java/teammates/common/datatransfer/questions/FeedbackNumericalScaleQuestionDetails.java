@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -25,6 +26,9 @@ import teammates.ui.template.InstructorFeedbackResultsResponseRow;
 
 public class FeedbackNumericalScaleQuestionDetails extends
         FeedbackQuestionDetails {
+    private static final String SELF_RESPONSE_KEY = "self";
+    private static final String OTHER_RESPONSE_KEY = "other";
+
     private int minScale;
     private int maxScale;
     private double step;
@@ -178,12 +182,12 @@ public class FeedbackNumericalScaleQuestionDetails extends
         if ("student".equals(view)) {
             return getStudentQuestionResultsStatisticsHtml(responses, studentEmail, question, bundle);
         }
-        return getInstructorQuestionResultsStatisticsHtml(responses, question, bundle);
+        return getInstructorQuestionResultsStatisticsHtml(responses, question, bundle, "question".equals(view));
     }
 
     private String getInstructorQuestionResultsStatisticsHtml(
             List<FeedbackResponseAttributes> responses,
-            FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
+            FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle, boolean isForAllResponses) {
         Map<String, Double> min = new HashMap<>();
         Map<String, Double> max = new HashMap<>();
         Map<String, Double> average = new HashMap<>();
@@ -196,8 +200,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        populateSummaryStatistics(getStatisticsAggregate(responses, question, bundle, isForAllResponses),
+                                  min, max, average, averageExcludingSelf, total, totalExcludingSelf,
+                                  numResponses, numResponsesExcludingSelf);
 
         boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
 
@@ -265,8 +270,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        populateSummaryStatistics(getStatisticsAggregate(responses, question, bundle, false),
+                                  min, max, average, averageExcludingSelf, total, totalExcludingSelf,
+                                  numResponses, numResponsesExcludingSelf);
         boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
 
         String fragmentTemplateToUse = showAvgExcludingSelf
@@ -468,8 +474,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        populateSummaryStatistics(getStatisticsAggregate(responses, question, bundle, true),
+                                  min, max, average, averageExcludingSelf, total, totalExcludingSelf,
+                                  numResponses, numResponsesExcludingSelf);
 
         boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
 
@@ -529,32 +536,54 @@ public class FeedbackNumericalScaleQuestionDetails extends
         return false;
     }
 
-    private void populateSummaryStatisticsFromResponses(
-            List<FeedbackResponseAttributes> responses,
+    /**
+     * Returns a key which identifies the answer, whether the response is a self response, and the recipient.
+     */
+    @Override
+    public List<String> getStatisticsAggregateKeys(FeedbackResponseAttributes response) {
+        FeedbackNumericalScaleResponseDetails responseDetails =
+                (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
+        boolean isSelfResponse = response.giver.equalsIgnoreCase(response.recipient);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(responseDetails.getAnswer() + ":" + (isSelfResponse ? SELF_RESPONSE_KEY : OTHER_RESPONSE_KEY)
+                 + ":" + response.recipient);
+        return keys;
+    }
+
+    /**
+     * Returns true if the recipients of the responses are not hidden from instructors,
+     * as the recipients of the responses in a results bundle would otherwise be anonymised.
+     */
+    @Override
+    protected boolean isStoredStatisticsAggregateUsable(FeedbackQuestionAttributes question) {
+        return question.showRecipientNameTo.contains(FeedbackParticipantType.INSTRUCTORS);
+    }
+
+    private void populateSummaryStatistics(
+            FeedbackQuestionStatisticsAggregate aggregate,
             Map<String, Double> min, Map<String, Double> max,
             Map<String, Double> average, Map<String, Double> averageExcludingSelf,
             Map<String, Double> total, Map<String, Double> totalExcludingSelf,
             Map<String, Integer> numResponses,
             Map<String, Integer> numResponsesExcludingSelf) {
 
-        for (FeedbackResponseAttributes response : responses) {
-            FeedbackNumericalScaleResponseDetails responseDetails =
-                    (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
-            double answer = responseDetails.getAnswer();
-            String giverEmail = response.giver;
-            String recipientEmail = response.recipient;
+        aggregate.getAnswerCounts().forEach((key, count) -> {
+            String[] answerAndRecipient = key.split(":", 3);
+            double answer = Double.parseDouble(answerAndRecipient[0]);
+            boolean isSelfResponse = SELF_RESPONSE_KEY.equals(answerAndRecipient[1]);
+            String recipientEmail = answerAndRecipient[2];
 
             // Compute number of responses including user's self response
-            int numOfResponses = numResponses.getOrDefault(recipientEmail, 0) + 1;
+            int numOfResponses = numResponses.getOrDefault(recipientEmail, 0) + count;
             numResponses.put(recipientEmail, numOfResponses);
 
             // Compute number of responses excluding user's self response
             if (!numResponsesExcludingSelf.containsKey(recipientEmail)) {
                 numResponsesExcludingSelf.put(recipientEmail, 0);
             }
-            boolean isSelfResponse = giverEmail.equalsIgnoreCase(recipientEmail);
             if (!isSelfResponse) {
-                int numOfResponsesExcludingSelf = numResponsesExcludingSelf.get(recipientEmail) + 1;
+                int numOfResponsesExcludingSelf = numResponsesExcludingSelf.get(recipientEmail) + count;
                 numResponsesExcludingSelf.put(recipientEmail, numOfResponsesExcludingSelf);
             }
 
@@ -567,7 +596,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
             max.put(recipientEmail, maxScoreReceived);
 
             // Compute total score received
-            double totalScore = total.getOrDefault(recipientEmail, 0.0) + answer;
+            double totalScore = total.getOrDefault(recipientEmail, 0.0) + answer * count;
             total.put(recipientEmail, totalScore);
 
             // Compute total score received excluding self
@@ -578,8 +607,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
                 Double totalScoreExcludingSelf = totalExcludingSelf.get(recipientEmail);
 
                 // totalScoreExcludingSelf == null when the user has only self response
-                totalExcludingSelf.put(recipientEmail,
-                                       totalScoreExcludingSelf == null ? answer : totalScoreExcludingSelf + answer);
+                totalExcludingSelf.put(recipientEmail, totalScoreExcludingSelf == null
+                                                       ? answer * count
+                                                       : totalScoreExcludingSelf + answer * count);
             }
 
             // Compute average score received
@@ -595,7 +625,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
                         totalExcludingSelf.get(recipientEmail) / numResponsesExcludingSelf.get(recipientEmail);
                 averageExcludingSelf.put(recipientEmail, averageReceivedExcludingSelf);
             }
-        }
+        });
     }
 
     private List<String> getHiddenRecipients(
@@ -1,10 +1,12 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -62,6 +64,49 @@ public abstract class FeedbackQuestionDetails {
                                                           FeedbackQuestionAttributes question,
                                                           FeedbackSessionResultsBundle bundle);
 
+    /**
+     * Returns the counts of the answers in {@code responses}, which are responses to {@code question}.
+     * If the statistics are for all the responses to the question, the stored aggregate of the question in the bundle
+     * is used if there is one; otherwise the answers are counted.
+     *
+     * @param isForAllResponses true if {@code responses} are all the responses to the question in the bundle,
+     *                          e.g. for the question view of the whole session
+     * @see FeedbackQuestionType#isStatisticsAggregated()
+     * @see FeedbackSessionResultsBundle#getQuestionStatistics(String)
+     */
+    protected FeedbackQuestionStatisticsAggregate getStatisticsAggregate(List<FeedbackResponseAttributes> responses,
+            FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle, boolean isForAllResponses) {
+        FeedbackQuestionStatisticsAggregate storedAggregate =
+                bundle == null || !isForAllResponses || !isStoredStatisticsAggregateUsable(question)
+                ? null
+                : bundle.getQuestionStatistics(question.getId());
+        if (storedAggregate != null) {
+            return storedAggregate;
+        }
+        return FeedbackQuestionStatisticsAggregate.of(this, responses);
+    }
+
+    /**
+     * Returns true if the stored statistics aggregate of all responses to the question can be used in place of
+     * the responses to the question in a results bundle. Override in child classes if necessary.
+     */
+    protected boolean isStoredStatisticsAggregateUsable(FeedbackQuestionAttributes question) {
+        return true;
+    }
+
+    /**
+     * Returns the keys under which the response is counted in a {@link FeedbackQuestionStatisticsAggregate}
+     * of the responses to this question, for question types whose statistics are computed from such an aggregate.
+     * Returns the keys of the answer by default; override in child classes whose statistics also depend on
+     * the giver or recipient of the response.
+     *
+     * @see FeedbackResponseDetails#getStatisticsAggregateKeys()
+     */
+    public List<String> getStatisticsAggregateKeys(FeedbackResponseAttributes response) {
+        FeedbackResponseDetails responseDetails = response.getResponseDetails();
+        return responseDetails == null ? new ArrayList<String>() : responseDetails.getStatisticsAggregateKeys();
+    }
+
     public abstract boolean isChangesRequiresResponseDeletion(FeedbackQuestionDetails newDetails);
 
     public abstract String getCsvHeader();
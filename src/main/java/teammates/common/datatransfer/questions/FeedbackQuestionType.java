@@ -175,6 +175,20 @@ public enum FeedbackQuestionType {
         return responseDetailsClass;
     }
 
+    /**
+     * Returns true if the statistics of questions of this type are computed from
+     * a {@link teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate} of the responses,
+     * which is stored for each question and recomputed from the responses after they change.
+     *
+     * <p>The statistics of the other types are computed from the responses themselves: those of MSQ questions
+     * depend on how the answers are combined within each response, those of rank recipient questions on how ties
+     * are normalised across all responses of a giver, those of rank option questions list every rank in the order
+     * of the responses, and those of contribution questions depend on the responses of each team as a whole.
+     */
+    public boolean isStatisticsAggregated() {
+        return this == MCQ || this == RUBRIC || this == CONSTSUM || this == NUMSCALE;
+    }
+
     /**
      * Returns CONSTSUM if passed CONSTSUM_OPTION or CONSTSUM_RECIPIENT as argument.
      * Any other string is returned as is.
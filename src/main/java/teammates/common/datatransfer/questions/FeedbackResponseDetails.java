@@ -1,7 +1,10 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -59,6 +62,17 @@ public abstract class FeedbackResponseDetails {
         return getAnswerCsv(question.getQuestionDetails());
     }
 
+    /**
+     * Returns the keys under which the answer is counted in a {@link FeedbackQuestionStatisticsAggregate},
+     * for question types whose statistics are computed from such an aggregate.
+     * The keys of an answer depend on the answer only. Returns an empty list by default.
+     *
+     * @see FeedbackQuestionType#isStatisticsAggregated()
+     */
+    public List<String> getStatisticsAggregateKeys() {
+        return new ArrayList<>();
+    }
+
     public static FeedbackResponseDetails createResponseDetails(
             String[] answer, FeedbackQuestionType questionType,
             FeedbackQuestionDetails questionDetails,
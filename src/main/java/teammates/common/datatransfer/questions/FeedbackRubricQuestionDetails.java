@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -589,7 +590,9 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         FeedbackRubricQuestionDetails fqd =
                 (FeedbackRubricQuestionDetails) question.getQuestionDetails();
 
-        RubricStatistics statistics = new RubricStatistics(responsesForStatistics, fqd);
+        RubricStatistics statistics =
+                new RubricStatistics(getStatisticsAggregate(responsesForStatistics, question, bundle,
+                                                           "question".equals(view)), fqd);
         int[][] responseFrequency = statistics.getResponseFrequency();
         float[][] rubricStats = statistics.getPercentageFrequencyAndAverage();
 
@@ -764,7 +767,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         DecimalFormat df = new DecimalFormat("#");
         DecimalFormat dfAverage = new DecimalFormat("0.00");
 
-        RubricStatistics statistics = new RubricStatistics(responses, this);
+        RubricStatistics statistics =
+                new RubricStatistics(getStatisticsAggregate(responses, question, bundle, true), this);
         int[][] responseFrequency = statistics.getResponseFrequency();
         float[][] rubricStats = statistics.getPercentageFrequencyAndAverage();
 
@@ -1225,16 +1229,16 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
          */
         float[][] percentageFrequencyAndAverage;
 
-        List<FeedbackResponseAttributes> responses;
+        FeedbackQuestionStatisticsAggregate aggregate;
         FeedbackRubricQuestionDetails questionDetails;
 
         int numOfRubricSubQuestions;
         int numOfRubricChoices;
         int responseTotalIndex;
 
-        RubricStatistics(List<FeedbackResponseAttributes> responses, FeedbackRubricQuestionDetails questionDetails) {
+        RubricStatistics(FeedbackQuestionStatisticsAggregate aggregate, FeedbackRubricQuestionDetails questionDetails) {
 
-            this.responses = responses;
+            this.aggregate = aggregate;
             this.questionDetails = questionDetails;
 
             this.numOfRubricSubQuestions = questionDetails.getNumOfRubricSubQuestions();
@@ -1248,14 +1252,11 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         void calculateResponseFrequency() {
             responseFrequency = new int[numOfRubricSubQuestions][numOfRubricChoices + 1];
             // count frequencies
-            for (FeedbackResponseAttributes response : responses) {
-                FeedbackRubricResponseDetails frd = (FeedbackRubricResponseDetails) response.getResponseDetails();
-                for (int i = 0; i < numOfRubricSubQuestions; i++) {
-                    int chosenChoice = frd.getAnswer(i);
-                    if (chosenChoice != -1) {
-                        responseFrequency[i][chosenChoice] += 1;
-                        responseFrequency[i][responseTotalIndex] += 1;
-                    }
+            for (int i = 0; i < numOfRubricSubQuestions; i++) {
+                for (int j = 0; j < numOfRubricChoices; j++) {
+                    int frequency = aggregate.getAnswerCount(FeedbackRubricResponseDetails.getStatisticsAggregateKey(i, j));
+                    responseFrequency[i][j] = frequency;
+                    responseFrequency[i][responseTotalIndex] += frequency;
                 }
             }
         }
@@ -166,6 +166,30 @@ public class FeedbackRubricResponseDetails extends FeedbackResponseDetails {
         return answer.toString();
     }
 
+    /**
+     * Returns a key for each answered sub-question, which identifies the sub-question and the chosen choice.
+     *
+     * @see #getStatisticsAggregateKey(int, int)
+     */
+    @Override
+    public List<String> getStatisticsAggregateKeys() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < answer.size(); i++) {
+            int chosenChoice = answer.get(i);
+            if (chosenChoice != -1) {
+                keys.add(getStatisticsAggregateKey(i, chosenChoice));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the key under which choosing {@code choice} for {@code subQuestionIndex} is counted.
+     */
+    public static String getStatisticsAggregateKey(int subQuestionIndex, int choice) {
+        return subQuestionIndex + "-" + choice;
+    }
+
     public int getAnswer(int subQuestionIndex) {
         return answer.get(subQuestionIndex);
     }
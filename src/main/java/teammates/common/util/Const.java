@@ -139,6 +139,15 @@ public final class Const {
         /** Number to trim the Google ID when displaying to the user. */
         public static final int USER_ID_MAX_DISPLAY_LENGTH = 23;
 
+        /** Upper bound on how long an entity is kept in the memcache tier of the Datastore cache. */
+        public static final int ENTITY_CACHE_EXPIRATION_SECONDS = 60 * 60;
+
+        /**
+         * Number of days the journal of entity changes is kept for.
+         * Incremental backups must run more often than this, or changes are missed.
+         */
+        public static final int ENTITY_CHANGES_RETENTION_DAYS = 30;
+
         /* Field sizes and error messages for invalid fields can be found
          * in the FieldValidator class.
          */
@@ -149,6 +158,9 @@ public final class Const {
 
         public static final String DEFAULT_PROFILE_PICTURE_PATH = "/images/profile_picture_default.png";
 
+        /** Width and height that thumbnails of profile pictures fit in, matching the size of cropped pictures. */
+        public static final int PROFILE_PICTURE_THUMBNAIL_SIZE = 150;
+
         public static final List<String> PAGES_REQUIRING_ORIGIN_VALIDATION = Collections.unmodifiableList(
                 Arrays.asList(
                         ActionURIs.ADMIN_ACCOUNT_DELETE,
@@ -850,6 +862,8 @@ public final class Const {
         public static final String EMAIL_SENDERNAME = "sendername";
         public static final String EMAIL_SUBJECT = "subject";
         public static final String EMAIL_REPLY_TO_ADDRESS = "reply";
+        public static final String EMAIL_BATCH = "emailbatch";
+        public static final String EMAIL_BATCH_ATTEMPT = "emailbatchattempt";
 
         public static final String COMMENT_EDITTYPE = "commentedittype";
         public static final String COMMENT_ID = "commentid";
@@ -863,6 +877,8 @@ public final class Const {
         public static final String SUBMISSION_REMIND_USERLIST = "usersToRemind";
 
         public static final String ENROLLMENT_DETAILS = "enrollmentdetails";
+        public static final String RESPONSE_ADJUSTMENT_CURSOR = "responseadjustmentcursor";
+        public static final String ENTITY_CHANGES_CLEANUP_CURSOR = "entitychangescleanupcursor";
 
         public static final String SEARCH_KEY = "searchkey";
         public static final String DISPLAY_ARCHIVE = "displayarchive";
@@ -1049,6 +1065,9 @@ public final class Const {
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS = "/auto/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_FEEDBACK_RESPONSE_RATE_RECONCILIATION =
+                "/auto/feedbackSessionResponseRateReconciliation";
+        public static final String AUTOMATED_ENTITY_CHANGES_CLEANUP = "/auto/entityChangesCleanup";
 
         public static final String ERROR_FEEDBACK_SUBMIT = "/page/errorFeedbackSubmit";
 
@@ -1070,6 +1089,12 @@ public final class Const {
         public static final String ADMIN_SEND_EMAIL_QUEUE_NAME = "admin-send-email-queue";
         public static final String ADMIN_SEND_EMAIL_WORKER_URL = "/worker/adminSendEmail";
 
+        public static final String ENTITY_CHANGES_CLEANUP_QUEUE_NAME = "entity-changes-cleanup-queue";
+        public static final String ENTITY_CHANGES_CLEANUP_WORKER_URL = "/worker/entityChangesCleanup";
+
+        public static final String FEEDBACK_QUESTION_STATISTICS_QUEUE_NAME = "feedback-question-statistics-queue";
+        public static final String FEEDBACK_QUESTION_STATISTICS_WORKER_URL = "/worker/feedbackQuestionStatistics";
+
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME = "feedback-response-adjustment-queue";
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL = "/worker/feedbackResponseAdjustment";
 
@@ -11,6 +11,13 @@ import javax.crypto.spec.SecretKeySpec;
  * Cryptographic helper functions.
  */
 public final class CryptoHelper {
+
+    /**
+     * MACs are expensive to create but not thread-safe, so each thread keeps its own.
+     * A MAC returns to its initialized state after every {@link Mac#doFinal}, ready for the next message.
+     */
+    private static final ThreadLocal<Mac> SESSION_TOKEN_MAC = ThreadLocal.withInitial(CryptoHelper::createMac);
+
     private CryptoHelper() {
         // utility class
     }
@@ -20,6 +27,12 @@ public final class CryptoHelper {
      * Uses {@link Config#ENCRYPTION_KEY} as the secret key for the HMAC-MD5.
      */
     public static String computeSessionToken(String sessionId) {
+        Charset charset = Charset.forName("UTF-8");
+        byte[] encryptedSessionId = SESSION_TOKEN_MAC.get().doFinal(sessionId.getBytes(charset));
+        return StringHelper.byteArrayToHexString(encryptedSessionId);
+    }
+
+    private static Mac createMac() {
         SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
         Mac mac = null;
         try {
@@ -30,8 +43,6 @@ public final class CryptoHelper {
         } catch (InvalidKeyException e) {
             Assumption.fail("Invalid encryption key encountered. Check your build.properties file.");
         }
-        Charset charset = Charset.forName("UTF-8");
-        byte[] encryptedSessionId = mac.doFinal(sessionId.getBytes(charset));
-        return StringHelper.byteArrayToHexString(encryptedSessionId);
+        return mac;
     }
 }
@@ -6,24 +6,32 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.UUID;
 
 import com.google.appengine.api.blobstore.BlobInfoFactory;
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.blobstore.BlobstoreInputStream;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 import com.google.appengine.api.blobstore.UploadOptions;
+import com.google.appengine.api.images.Image;
+import com.google.appengine.api.images.ImagesService;
+import com.google.appengine.api.images.ImagesServiceFactory;
+import com.google.appengine.api.images.OutputSettings;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
 import com.google.appengine.tools.cloudstorage.GcsFilename;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
 import com.google.appengine.tools.cloudstorage.GcsServiceFactory;
 import com.google.appengine.tools.cloudstorage.RetryParams;
 
+import teammates.common.exception.TeammatesException;
+
 /**
  * Holds functions for operations related to Google Cloud Storage.
  */
 public final class GoogleCloudStorageHelper {
 
     private static final int MAX_READING_LENGTH = 900000;
+    private static final String THUMBNAIL_FILE_NAME_PREFIX = "thumbnail-";
     private static final Logger log = Logger.getLogger();
 
     private GoogleCloudStorageHelper() {
@@ -54,13 +62,63 @@ public final class GoogleCloudStorageHelper {
         }
     }
 
+    /**
+     * Deletes the image with the specified {@link BlobKey} in the Google Cloud Storage,
+     * together with its thumbnail if there is one.
+     */
+    public static void deleteImage(BlobKey imageKey) {
+        deleteFile(imageKey);
+        try {
+            BlobstoreServiceFactory.getBlobstoreService().delete(getThumbnailKey(imageKey));
+        } catch (Exception e) {
+            // the image has no thumbnail
+        }
+    }
+
     /**
      * Writes a byte array {@code imageData} as image to the Google Cloud Storage,
-     * with the {@code googleId} as the identifier name for the image.
+     * with the {@code googleId} as the identifier name for the image.<br>
+     * Every call writes a new file, so that a returned key always refers to the same image
+     * and the image can be cached by browsers for as long as the key is in use.
      * @return the {@link BlobKey} used as the image's identifier in Google Cloud Storage
      */
     public static String writeImageDataToGcs(String googleId, byte[] imageData) throws IOException {
-        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, googleId);
+        return writeFileToGcs(googleId + "-" + UUID.randomUUID(), imageData).getKeyString();
+    }
+
+    /**
+     * Writes a thumbnail of the image {@code imageData}, which was written with the specified key, to the
+     * Google Cloud Storage. The thumbnail fits in {@value Const.SystemParams#PROFILE_PICTURE_THUMBNAIL_SIZE}
+     * pixels and is named after the image, so that it is deleted together with the image.<br>
+     * Images which are already small enough, or which could not be resized, have no thumbnail.
+     * @return the {@link BlobKey} of the thumbnail, or an empty string if the image has no thumbnail
+     */
+    public static String writeThumbnailToGcs(String imageKey, byte[] imageData) {
+        int thumbnailSize = Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_SIZE;
+        try {
+            Image image = ImagesServiceFactory.makeImage(imageData);
+            if (image.getWidth() <= thumbnailSize && image.getHeight() <= thumbnailSize) {
+                return "";
+            }
+            Image thumbnail = ImagesServiceFactory.getImagesService().applyTransform(
+                    ImagesServiceFactory.makeResize(thumbnailSize, thumbnailSize), image,
+                    new OutputSettings(ImagesService.OutputEncoding.PNG));
+            return writeFileToGcs(THUMBNAIL_FILE_NAME_PREFIX + imageKey, thumbnail.getImageData()).getKeyString();
+        } catch (RuntimeException | IOException e) {
+            // the image will be served in full size instead
+            log.warning("Failed to write thumbnail of image with key: " + imageKey + "\n"
+                    + TeammatesException.toStringWithStackTrace(e));
+            return "";
+        }
+    }
+
+    private static BlobKey getThumbnailKey(BlobKey imageKey) {
+        return BlobstoreServiceFactory.getBlobstoreService()
+                .createGsBlobKey(getGsFilePath(THUMBNAIL_FILE_NAME_PREFIX + imageKey.getKeyString()));
+    }
+
+    private static BlobKey writeFileToGcs(String fileName, byte[] imageData) throws IOException {
+        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, fileName);
         GcsOutputChannel outputChannel =
                 GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
                                  .createOrReplace(gcsFilename,
@@ -69,8 +127,11 @@ public final class GoogleCloudStorageHelper {
         outputChannel.write(ByteBuffer.wrap(imageData));
         outputChannel.close();
 
-        return BlobstoreServiceFactory.getBlobstoreService()
-                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + googleId).getKeyString();
+        return BlobstoreServiceFactory.getBlobstoreService().createGsBlobKey(getGsFilePath(fileName));
+    }
+
+    private static String getGsFilePath(String fileName) {
+        return "/gs/" + Config.GCS_BUCKETNAME + "/" + fileName;
     }
 
     /**
@@ -22,6 +22,16 @@ import com.google.gson.JsonSyntaxException;
  */
 public final class JsonUtils {
 
+    /**
+     * Gson objects are immutable and thread-safe once created, so a single instance is shared.
+     */
+    private static final Gson TEAMMATES_GSON = createTeammatesGson();
+
+    /**
+     * Fallback for existing data that does not use the prescribed date format.
+     */
+    private static final Gson DEFAULT_GSON = new Gson();
+
     private JsonUtils() {
         // utility class
     }
@@ -30,7 +40,7 @@ public final class JsonUtils {
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getTeammatesGson() {
+    private static Gson createTeammatesGson() {
         return new GsonBuilder().registerTypeAdapter(Date.class, new TeammatesDateAdapter())
                                 .setPrettyPrinting()
                                 .disableHtmlEscaping()
@@ -43,7 +53,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return TEAMMATES_GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -52,7 +62,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return TEAMMATES_GSON.toJson(src);
     }
 
     /**
@@ -62,10 +72,10 @@ public final class JsonUtils {
      */
     public static <T> T fromJson(String json, Type typeOfT) {
         try {
-            return getTeammatesGson().fromJson(json, typeOfT);
+            return TEAMMATES_GSON.fromJson(json, typeOfT);
         } catch (JsonSyntaxException e) {
             // some of the existing data does not use the prescribed date format
-            return new Gson().fromJson(json, typeOfT);
+            return DEFAULT_GSON.fromJson(json, typeOfT);
         }
     }
 
@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.security.GeneralSecurityException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +22,17 @@ import teammates.common.exception.InvalidParametersException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    private static final String ENCRYPTION_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+
+    /**
+     * Ciphers are expensive to create but not thread-safe, so each thread keeps its own.
+     * A cipher returns to its initialized state after every {@link Cipher#doFinal}, ready for the next message.
+     */
+    private static final ThreadLocal<Cipher> ENCRYPTION_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> DECRYPTION_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+
     private StringHelper() {
         // utility class
     }
@@ -129,12 +141,11 @@ public final class StringHelper {
 
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes());
+            byte[] encrypted = ENCRYPTION_CIPHER.get().doFinal(value.getBytes());
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
+            // the state of the cipher is unknown after a failure
+            ENCRYPTION_CIPHER.remove();
             throw new RuntimeException(e);
         }
     }
@@ -149,15 +160,25 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = DECRYPTION_CIPHER.get().doFinal(hexStringToByteArray(message));
             return new String(decrypted);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+            DECRYPTION_CIPHER.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
+            DECRYPTION_CIPHER.remove();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Cipher createCipher(int mode) {
+        try {
+            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+            Cipher cipher = Cipher.getInstance(ENCRYPTION_TRANSFORMATION);
+            cipher.init(mode, sks);
+            return cipher;
+        } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
     }
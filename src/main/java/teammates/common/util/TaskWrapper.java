@@ -10,11 +10,24 @@ public class TaskWrapper {
     private final String queueName;
     private final String workerUrl;
     private final Map<String, String[]> paramMap;
+    private final long countdownTime;
+    private final String taskName;
 
     public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap) {
+        this(queueName, workerUrl, paramMap, 0);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap, long countdownTime) {
+        this(queueName, workerUrl, paramMap, countdownTime, null);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap, long countdownTime,
+                       String taskName) {
         this.queueName = queueName;
         this.workerUrl = workerUrl;
         this.paramMap = paramMap;
+        this.countdownTime = countdownTime;
+        this.taskName = taskName;
     }
 
     public String getQueueName() {
@@ -29,4 +42,19 @@ public class TaskWrapper {
         return paramMap;
     }
 
+    /**
+     * Returns the time delay in milliseconds before the task is to be executed.
+     */
+    public long getCountdownTime() {
+        return countdownTime;
+    }
+
+    /**
+     * Returns the name of the task, or null if the task is to be given a unique name.
+     * A named task is added at most once: adding a task whose name was already used is ignored.
+     */
+    public String getTaskName() {
+        return taskName;
+    }
+
 }
@@ -1,9 +1,22 @@
 package teammates.common.util;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class Templates {
 
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
 
+    /**
+     * Upper bound of the number of parsed templates kept, in case templates are built at runtime.
+     */
+    private static final int MAX_COMPILED_TEMPLATES = 500;
+
+    private static final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
     private Templates() {
         // utility class
     }
@@ -19,6 +32,27 @@ public final class Templates {
     public static String populateTemplate(String template, String... keyValuePairs) {
         Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
                 keyValuePairs.length % 2 == 0);
+        if (template != null && keyValuePairs.length > 0) {
+            String populatedTemplate = getCompiledTemplate(template).render(keyValuePairs);
+            if (populatedTemplate != null) {
+                return populatedTemplate;
+            }
+        }
+        return replaceOneByOne(template, keyValuePairs);
+    }
+
+    private static CompiledTemplate getCompiledTemplate(String template) {
+        CompiledTemplate compiledTemplate = compiledTemplates.get(template);
+        if (compiledTemplate == null) {
+            compiledTemplate = new CompiledTemplate(template);
+            if (compiledTemplates.size() < MAX_COMPILED_TEMPLATES) {
+                compiledTemplates.putIfAbsent(template, compiledTemplate);
+            }
+        }
+        return compiledTemplate;
+    }
+
+    private static String replaceOneByOne(String template, String... keyValuePairs) {
         String populatedTemplate = template;
         for (int i = 0; i < keyValuePairs.length; i += 2) {
             populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
@@ -488,4 +522,141 @@ public final class Templates {
         public static final String TEAM_EVALUATION =
                 FileHelper.readResourceFile("feedbackSessionTeamEvaluationTemplate.json");
     }
+
+    /**
+     * A template parsed once into literal text and {@code ${...}} placeholders, so that it can be populated
+     * in a single pass instead of one full-string replacement per key.
+     *
+     * <p>The single pass gives the same output as replacing the keys one by one only when placeholders cannot
+     * be formed or matched in any other way. Hence {@link #render} declines templates with a {@code $}
+     * outside of a placeholder, keys not shaped like a placeholder, and values containing a {@code $}.
+     */
+    private static final class CompiledTemplate {
+
+        private final boolean isRenderable;
+        private final String[] literals;
+        private final String[] placeholders;
+        private final int[] placeholderIndexes;
+        private final Map<String, Integer> indexesByPlaceholder = new HashMap<>();
+        private final int literalsLength;
+
+        CompiledTemplate(String template) {
+            List<String> literalList = new ArrayList<>();
+            List<String> placeholderList = new ArrayList<>();
+            List<Integer> placeholderIndexList = new ArrayList<>();
+            boolean hasStrayDollar = false;
+
+            int literalStart = 0;
+            int dollarIndex = template.indexOf('$');
+            while (dollarIndex != -1 && !hasStrayDollar) {
+                int placeholderEnd = findPlaceholderEnd(template, dollarIndex);
+                if (placeholderEnd == -1) {
+                    hasStrayDollar = true;
+                } else {
+                    String placeholder = template.substring(dollarIndex, placeholderEnd);
+                    literalList.add(template.substring(literalStart, dollarIndex));
+                    Integer index = indexesByPlaceholder.get(placeholder);
+                    if (index == null) {
+                        index = placeholderList.size();
+                        indexesByPlaceholder.put(placeholder, index);
+                        placeholderList.add(placeholder);
+                    }
+                    placeholderIndexList.add(index);
+                    literalStart = placeholderEnd;
+                    dollarIndex = template.indexOf('$', placeholderEnd);
+                }
+            }
+            literalList.add(template.substring(literalStart));
+
+            this.isRenderable = !hasStrayDollar;
+            this.literals = literalList.toArray(new String[0]);
+            this.placeholders = placeholderList.toArray(new String[0]);
+            this.placeholderIndexes = new int[placeholderIndexList.size()];
+            for (int i = 0; i < placeholderIndexes.length; i++) {
+                placeholderIndexes[i] = placeholderIndexList.get(i);
+            }
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalsLength = length;
+        }
+
+        /**
+         * Returns the end (exclusive) of the placeholder starting at {@code start},
+         * or -1 if no placeholder starts there.
+         */
+        private static int findPlaceholderEnd(String text, int start) {
+            if (start + 1 >= text.length() || text.charAt(start) != '$' || text.charAt(start + 1) != '{') {
+                return -1;
+            }
+            for (int i = start + 2; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '}') {
+                    return i + 1;
+                }
+                if (c == '$' || c == '{') {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean isPlaceholder(String key) {
+            return findPlaceholderEnd(key, 0) == key.length();
+        }
+
+        /**
+         * Populates the template in a single pass.
+         *
+         * @return the populated template, or null if the result could differ from replacing the keys one by one
+         */
+        String render(String[] keyValuePairs) {
+            if (!isRenderable) {
+                return null;
+            }
+
+            String[] values = new String[placeholders.length];
+            for (int i = 0; i < keyValuePairs.length; i += 2) {
+                String key = keyValuePairs[i];
+                String value = keyValuePairs[i + 1];
+                if (key == null || value == null) {
+                    return null;
+                }
+                Integer index = indexesByPlaceholder.get(key);
+                if (index == null) {
+                    if (!isPlaceholder(key)) {
+                        // such keys may occur in the literal text
+                        return null;
+                    }
+                    continue;
+                }
+                if (value.indexOf('$') != -1) {
+                    // a later key could match inside the value
+                    return null;
+                }
+                if (values[index] == null) {
+                    // when a key is repeated, only its first value is used
+                    values[index] = value;
+                }
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    values[i] = placeholders[i];
+                }
+            }
+
+            int length = literalsLength;
+            for (int index : placeholderIndexes) {
+                length += values[index].length();
+            }
+            StringBuilder populatedTemplate = new StringBuilder(length);
+            for (int i = 0; i < placeholderIndexes.length; i++) {
+                populatedTemplate.append(literals[i]).append(values[placeholderIndexes[i]]);
+            }
+            return populatedTemplate.append(literals[literals.length - 1]).toString();
+        }
+
+    }
+
 }
@@ -6,6 +6,7 @@ import java.util.List;
 
 import com.google.appengine.api.log.AppLogLine;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -288,11 +289,13 @@ public class EmailGenerator {
 
         if (isEmailNeeded) {
             List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
+            CourseRoster roster = new CourseRoster(studentsForCourse,
+                    instructorsLogic.getInstructorsForCourse(session.getCourseId()));
 
             for (StudentAttributes student : studentsForCourse) {
                 try {
                     if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
+                            session.getCourseId(), student.email, roster)) {
                         students.add(student);
                     }
                 } catch (EntityDoesNotExistException e) {
@@ -1,6 +1,9 @@
 package teammates.logic.api;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
@@ -46,6 +49,24 @@ public class EmailSender {
         log.info(emailLogInfo);
     }
 
+    /**
+     * Sends the given {@code messages} in batches and generates a log report for each email sent.
+     *
+     * @return the messages which could not be sent
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> messages) {
+        List<EmailWrapper> failedMessages = service.sendEmails(messages);
+
+        Set<EmailWrapper> failedMessageSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedMessageSet.addAll(failedMessages);
+        for (EmailWrapper message : messages) {
+            if (!failedMessageSet.contains(message)) {
+                log.info(new EmailLogEntry(message).generateLogMessage());
+            }
+        }
+        return failedMessages;
+    }
+
     /**
      * Sends the given {@code message} with Javamail service regardless of configuration.
      */
@@ -1,5 +1,7 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +44,7 @@ import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.AdminEmailsLogic;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.EntityChangesLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
@@ -68,6 +71,7 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final EntityChangesLogic entityChangesLogic = EntityChangesLogic.inst();
 
     /**
      * Creates a new Account based on given values. If a profile is not given,
@@ -165,13 +169,14 @@ public class Logic {
      * * All parameters are non-null.<br>
      * * {@code newAccountAttributes} represents an existing account.
      */
-    public void updateStudentProfilePicture(String googleId, String newPictureKey)
+    public void updateStudentProfilePicture(String googleId, String newPictureKey, String newPictureThumbnailKey)
             throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(googleId);
         Assumption.assertNotNull(newPictureKey);
+        Assumption.assertNotNull(newPictureThumbnailKey);
 
-        profilesLogic.updateStudentProfilePicture(googleId, newPictureKey);
+        profilesLogic.updateStudentProfilePicture(googleId, newPictureKey, newPictureThumbnailKey);
     }
 
     /**
@@ -1095,6 +1100,19 @@ public class Logic {
         return coursesLogic.getCourseStudentListAsCsv(courseId, googleId);
     }
 
+    /**
+     * Writes students list of a course in CSV format to {@code writer}. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null. <br>
+     */
+    public void writeCourseStudentListAsCsv(Writer writer, CourseAttributes course) throws IOException {
+
+        Assumption.assertNotNull(writer);
+        Assumption.assertNotNull(course);
+
+        coursesLogic.writeCourseStudentListAsCsv(writer, course);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1305,6 +1323,25 @@ public class Logic {
                 isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments) in CSV format to {@code writer}, one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryAsCsv(Writer, FeedbackSessionAttributes,
+     *      String, boolean, boolean)
+     */
+    public void writeFeedbackSessionResultSummaryAsCsv(
+            Writer writer, FeedbackSessionAttributes session, String instructorEmail,
+            boolean isMissingResponsesShown, boolean isStatsShown)
+            throws IOException {
+
+        Assumption.assertNotNull(writer);
+        Assumption.assertNotNull(session);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryAsCsv(
+                writer, session, instructorEmail, isMissingResponsesShown, isStatsShown);
+    }
+
     /**
      * Generates summary results (without comments) within a section in CSV format. <br>
      * Preconditions: <br>
@@ -1372,6 +1409,44 @@ public class Logic {
         feedbackSessionsLogic.updateRespondentsForSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Rebuilds the statistics aggregates of the questions in the session from their responses.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void rebuildFeedbackQuestionStatistics(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        feedbackResponsesLogic.rebuildStatisticsForSession(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Recomputes the statistics aggregate of the question from its responses.
+     * Does nothing if the question does not exist or its statistics are not aggregated.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void recomputeFeedbackQuestionStatistics(String feedbackQuestionId) {
+        Assumption.assertNotNull(feedbackQuestionId);
+
+        feedbackResponsesLogic.recomputeStatisticsForQuestion(feedbackQuestionId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the number of students and instructors who have responded to the session
+     */
+    public int getNumberOfRespondents(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return feedbackSessionsLogic.getNumberOfRespondents(feedbackSessionName, courseId);
+    }
+
     public void addInstructorRespondent(String email, String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException, InvalidParametersException {
 
@@ -1763,6 +1838,27 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionResultsForInstructor(feedbackSessionName, courseId, userEmail);
     }
 
+    /**
+     * Gets a question+response bundle for the responses given or received by the student
+     * that are visible to the instructor for a feedback session.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @see FeedbackSessionsLogic#getFeedbackSessionResultsForInstructorInvolvingStudent(String, String, String,
+     *      StudentAttributes)
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorInvolvingStudent(
+            String feedbackSessionName, String courseId, String userEmail, StudentAttributes student)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(userEmail);
+        Assumption.assertNotNull(student);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorInvolvingStudent(
+                feedbackSessionName, courseId, userEmail, student);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the instructor for a feedback session in a specific section.
@@ -1893,6 +1989,20 @@ public class Logic {
         feedbackResponsesLogic.updateFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Updates multiple existing responses with batched Datastore operations.
+     * A response that cannot be updated does not prevent the others from being updated.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @see FeedbackResponsesLogic#updateFeedbackResponses(List)
+     */
+    public void updateFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.updateFeedbackResponses(feedbackResponses);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1902,6 +2012,16 @@ public class Logic {
         feedbackResponsesLogic.deleteFeedbackResponseAndCascade(feedbackResponse);
     }
 
+    /**
+     * Deletes multiple responses and their comments with batched Datastore operations.
+     * Preconditions: <br>
+     * * All parameters are non-null. All responses have an id.
+     */
+    public void deleteFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses) {
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.deleteFeedbackResponsesAndCascade(feedbackResponses);
+    }
+
     /**
      * Create a feedback response comment, and return the created comment
      * Preconditions: <br>
@@ -2171,6 +2291,20 @@ public class Logic {
         studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
     }
 
+    /**
+     * Adjusts multiple feedback responses for the changes of team and section in {@code enrollmentList}
+     * with batched Datastore operations.
+     *
+     * @see StudentsLogic#adjustFeedbackResponsesForEnrollments(List, List)
+     */
+    public void adjustFeedbackResponsesForEnrollments(List<StudentEnrollDetails> enrollmentList,
+                                                      List<FeedbackResponseAttributes> responses)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(enrollmentList);
+        Assumption.assertNotNull(responses);
+        studentsLogic.adjustFeedbackResponsesForEnrollments(enrollmentList, responses);
+    }
+
     /**
      * Returns returns a list of sessions that were closed within past hour.
      *
@@ -2197,6 +2331,42 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsWhichNeedOpenEmailsToBeSent();
     }
 
+    /**
+     * Returns the sessions whose response rate statistics may still change.
+     *
+     * @see FeedbackSessionsLogic#getFeedbackSessionsPossiblyReceivingResponses()
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyReceivingResponses() {
+        return feedbackSessionsLogic.getFeedbackSessionsPossiblyReceivingResponses();
+    }
+
+    /**
+     * Recomputes the stored response rate statistics of the session.
+     *
+     * <br> Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return true if any of the stored values had drifted and was repaired
+     * @see FeedbackSessionsLogic#reconcileResponseRateStats(FeedbackSessionAttributes)
+     */
+    public boolean reconcileResponseRateStats(FeedbackSessionAttributes session)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(session);
+        return feedbackSessionsLogic.reconcileResponseRateStats(session);
+    }
+
+    /**
+     * Deletes up to {@code maxChanges} of the entries of the journal of entity changes
+     * which are past their retention period.
+     *
+     * @param cursor the ID of the last entry deleted by the previous call, or null to start from the beginning
+     * @return the IDs of the entries deleted
+     * @see EntityChangesLogic#deleteExpiredChanges(String, int)
+     */
+    public List<String> deleteExpiredEntityChanges(String cursor, int maxChanges) {
+        return entityChangesLogic.deleteExpiredChanges(cursor, maxChanges);
+    }
+
     public String getSectionForTeam(String courseId, String teamName) {
         Assumption.assertNotNull(courseId);
         Assumption.assertNotNull(teamName);
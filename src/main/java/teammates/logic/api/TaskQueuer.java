@@ -1,5 +1,6 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,8 +10,9 @@ import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
-import teammates.common.util.Logger;
+import teammates.common.util.SanitizationHelper;
 import teammates.common.util.TaskWrapper;
+import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.TaskQueuesLogic;
 
 /**
@@ -18,24 +20,23 @@ import teammates.logic.core.TaskQueuesLogic;
  */
 public class TaskQueuer {
 
-    private static final Logger log = Logger.getLogger();
+    /**
+     * The maximum encoded size of the emails packed into one task, which keeps the task within the task size limit.
+     */
+    private static final int MAX_EMAIL_BATCH_SIZE = 80 * 1024;
 
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
 
     protected void addTask(String queueName, String workerUrl, Map<String, String> paramMap) {
-        Map<String, String[]> multisetParamMap = new HashMap<>();
-        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
-        TaskWrapper task = new TaskWrapper(queueName, workerUrl, multisetParamMap);
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, toMultisetParamMap(paramMap));
         new TaskQueuesLogic().addTask(task);
     }
 
     protected void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap,
                                    long countdownTime) {
-        Map<String, String[]> multisetParamMap = new HashMap<>();
-        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
-        TaskWrapper task = new TaskWrapper(queueName, workerUrl, multisetParamMap);
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, toMultisetParamMap(paramMap));
         new TaskQueuesLogic().addDeferredTask(task, countdownTime);
     }
 
@@ -44,6 +45,10 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
+    protected void addTasks(List<TaskWrapper> tasks) {
+        new TaskQueuesLogic().addTasks(tasks);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -108,31 +113,23 @@ public class TaskQueuer {
     }
 
     /**
-     * Schedules an admin email to be sent.
+     * Schedules an admin email to be sent to each of the given receivers.
+     * The tasks only carry the email ID and the receiver; the subject and content are retrieved by the worker.
+     * The tasks are added in batches of up to {@value TaskQueuesLogic#MAX_TASKS_PER_BATCH}.
      *
-     * @param emailId the ID of admin email to be retrieved from the database (if needed)
-     * @param emailReceiver the email address of the email receiver
-     * @param emailSubject the subject of the email
-     * @param emailContent the content of the email
+     * @param emailId the ID of admin email to be retrieved from the database
+     * @param emailReceivers the email addresses of the email receivers
      */
-    public void scheduleAdminEmailForSending(String emailId, String emailReceiver, String emailSubject,
-                                             String emailContent) {
-        Map<String, String> paramMap = new HashMap<>();
-        paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, emailSubject);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, emailContent);
-
-        try {
-            addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().toLowerCase().contains("task size too large")) {
-                log.info("Email task size exceeds max limit. Switching to large email task mode.");
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_CONTENT);
-                paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
-                addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-            }
+    public void scheduleAdminEmailsForSending(String emailId, List<String> emailReceivers) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String emailReceiver : emailReceivers) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
+            paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
+            tasks.add(new TaskWrapper(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL,
+                                      toMultisetParamMap(paramMap)));
         }
+        addTasks(tasks);
     }
 
     /**
@@ -247,19 +244,52 @@ public class TaskQueuer {
      */
     public void scheduleFeedbackResponseAdjustmentForCourse(String courseId, String feedbackSessionName,
                                                             List<StudentEnrollDetails> enrollmentList) {
+        scheduleFeedbackResponseAdjustmentForCourse(courseId, feedbackSessionName, enrollmentList, null);
+    }
+
+    /**
+     * Schedules the remaining adjustments to be done to responses of a feedback session in the database,
+     * resuming after the response with ID {@code cursor}.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param enrollmentList the list of enrollment details
+     * @param cursor the ID of the last response already adjusted, or null to adjust all responses
+     */
+    public void scheduleFeedbackResponseAdjustmentForCourse(String courseId, String feedbackSessionName,
+                                                            List<StudentEnrollDetails> enrollmentList, String cursor) {
         Map<String, String> paramMap = new HashMap<>();
         paramMap.put(ParamsNames.COURSE_ID, courseId);
         paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
 
         String enrollmentDetails = JsonUtils.toJson(enrollmentList);
         paramMap.put(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
+        if (cursor != null) {
+            paramMap.put(ParamsNames.RESPONSE_ADJUSTMENT_CURSOR, cursor);
+        }
 
         addTask(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME,
                 TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules a run of the deletion of the expired entity changes.
+     *
+     * @param cursor the ID of the last change deleted by the previous run, or null to start from the beginning
+     */
+    public void scheduleEntityChangesCleanup(String cursor) {
+        Map<String, String> paramMap = new HashMap<>();
+        if (cursor != null) {
+            paramMap.put(ParamsNames.ENTITY_CHANGES_CLEANUP_CURSOR, cursor);
+        }
+
+        addTask(TaskQueue.ENTITY_CHANGES_CLEANUP_QUEUE_NAME, TaskQueue.ENTITY_CHANGES_CLEANUP_WORKER_URL, paramMap);
+    }
+
     /**
      * Schedules for the given list of emails to be sent.
+     * The emails are packed into tasks of up to {@value EmailSenderService#MAX_EMAILS_PER_BATCH} emails
+     * (fewer if the emails are large), each of which is sent as one batch.
      *
      * @param emails the list of emails to be sent
      */
@@ -268,46 +298,70 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
+        List<List<EmailWrapper>> emailBatches = packIntoBatches(emails);
+
+        // Equally spread out the email batches to be sent over 1 hour
         // Sets interval to a maximum of 5 seconds if the interval is too large
         int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        int batchIntervalMillis = Math.min(5000, oneHourInMillis / emailBatches.size());
 
-        int numberOfEmailsSent = 0;
-        for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < emailBatches.size(); i++) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.EMAIL_BATCH, JsonUtils.toJson(emailBatches.get(i)));
+            long batchDelayTimer = (long) i * batchIntervalMillis;
+            tasks.add(new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                                      toMultisetParamMap(paramMap), batchDelayTimer));
         }
+
+        // the tasks are named, so that retrying a failed batch does not add the emails already added a second time
+        addTasks(tasks);
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
-        try {
-            Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
+    /**
+     * Schedules for the given emails, which failed to be sent as part of a batch, to be sent again as one batch.
+     * Only the failed emails are carried by the task, so that the emails already sent are not sent twice.
+     *
+     * @param emails the list of emails which failed to be sent
+     * @param attempt the number of attempts made to send the emails so far
+     * @param retryDelayMillis the delay before the emails are sent again
+     */
+    public void scheduleEmailBatchForRetry(List<EmailWrapper> emails, int attempt, long retryDelayMillis) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_BATCH, JsonUtils.toJson(emails));
+        paramMap.put(ParamsNames.EMAIL_BATCH_ATTEMPT, Integer.toString(attempt));
+
+        addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL, paramMap, retryDelayMillis);
+    }
+
+    /**
+     * Packs the emails into batches of at most {@value EmailSenderService#MAX_EMAILS_PER_BATCH} emails
+     * whose encoded size stays within {@value #MAX_EMAIL_BATCH_SIZE} characters.
+     */
+    private List<List<EmailWrapper>> packIntoBatches(List<EmailWrapper> emails) {
+        List<List<EmailWrapper>> emailBatches = new ArrayList<>();
+        List<EmailWrapper> currentBatch = new ArrayList<>();
+        int currentBatchSize = 0;
+        for (EmailWrapper email : emails) {
+            int emailSize = SanitizationHelper.sanitizeForUri(JsonUtils.toJson(email)).length();
+            boolean isBatchFull = currentBatch.size() == EmailSenderService.MAX_EMAILS_PER_BATCH
+                    || currentBatchSize + emailSize > MAX_EMAIL_BATCH_SIZE;
+            if (!currentBatch.isEmpty() && isBatchFull) {
+                emailBatches.add(currentBatch);
+                currentBatch = new ArrayList<>();
+                currentBatchSize = 0;
             }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
-
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
-        } catch (Exception e) {
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+            currentBatch.add(email);
+            currentBatchSize += emailSize;
         }
+        emailBatches.add(currentBatch);
+        return emailBatches;
+    }
+
+    private static Map<String, String[]> toMultisetParamMap(Map<String, String> paramMap) {
+        Map<String, String[]> multisetParamMap = new HashMap<>();
+        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
+        return multisetParamMap;
     }
 
 }
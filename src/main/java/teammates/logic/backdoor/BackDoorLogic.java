@@ -38,9 +38,11 @@ import teammates.storage.api.AccountsDb;
 import teammates.storage.api.AdminEmailsDb;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.EntitiesDb;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.StudentsDb;
@@ -54,7 +56,9 @@ public class BackDoorLogic extends Logic {
     private static final StudentsDb studentsDb = new StudentsDb();
     private static final InstructorsDb instructorsDb = new InstructorsDb();
     private static final FeedbackSessionsDb fbDb = new FeedbackSessionsDb();
+    private static final FeedbackSessionRespondentsDb respondentsDb = new FeedbackSessionRespondentsDb();
     private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
+    private static final FeedbackQuestionStatisticsDb fqsDb = new FeedbackQuestionStatisticsDb();
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
     private static final FeedbackResponseCommentsDb fcDb = new FeedbackResponseCommentsDb();
     private static final AdminEmailsDb adminEmailsDb = new AdminEmailsDb();
@@ -67,7 +71,7 @@ public class BackDoorLogic extends Logic {
      * if the corresponding accounts are not found in the data bundle.
      * For question ID injection in responses and comments to work properly, all questions
      * referenced by responses and comments must be included in the data bundle.
-     * For session respondent lists to be properly populated, all instructors, questions and responses
+     * For session respondents to be properly recorded, all instructors, questions and responses
      * relevant to each session must be included in the data bundle.</p>
      *
      * @return {@link Const.StatusCodes#BACKDOOR_STATUS_SUCCESS} if successful.
@@ -91,7 +95,7 @@ public class BackDoorLogic extends Logic {
         // For ensuring only one account per Google ID is created
         Map<String, AccountAttributes> googleIdAccountMap = new HashMap<>();
 
-        // For updating the student and instructor respondent lists in sessions before they are persisted
+        // For recording the student and instructor respondents of sessions together with the sessions
         SetMultimap<String, InstructorAttributes> courseInstructorsMap = HashMultimap.create();
         SetMultimap<String, FeedbackQuestionAttributes> sessionQuestionsMap = HashMultimap.create();
         SetMultimap<String, FeedbackResponseAttributes> sessionResponsesMap = HashMultimap.create();
@@ -371,8 +375,10 @@ public class BackDoorLogic extends Logic {
             }
         }
 
-        session.setRespondingInstructorList(respondingInstructors);
-        session.setRespondingStudentList(respondingStudents);
+        respondentsDb.addRespondentsDeferred(session.getFeedbackSessionName(), session.getCourseId(),
+                                             respondingInstructors, true);
+        respondentsDb.addRespondentsDeferred(session.getFeedbackSessionName(), session.getCourseId(),
+                                             respondingStudents, false);
     }
 
     private void injectRealIds(
@@ -576,7 +582,9 @@ public class BackDoorLogic extends Logic {
             instructorsDb.deleteInstructorsForCourses(courseIds);
             studentsDb.deleteStudentsForCourses(courseIds);
             fbDb.deleteFeedbackSessionsForCourses(courseIds);
+            respondentsDb.deleteRespondentsForCourses(courseIds);
             fqDb.deleteFeedbackQuestionsForCourses(courseIds);
+            fqsDb.deleteStatisticsForCourses(courseIds);
             frDb.deleteFeedbackResponsesForCourses(courseIds);
             fcDb.deleteFeedbackResponseCommentsForCourses(courseIds);
         }
@@ -589,7 +597,8 @@ public class BackDoorLogic extends Logic {
     public void uploadAndUpdateStudentProfilePicture(String googleId,
             byte[] pictureData) throws EntityDoesNotExistException, IOException {
         String pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(googleId, pictureData);
-        updateStudentProfilePicture(googleId, pictureKey);
+        String pictureThumbnailKey = GoogleCloudStorageHelper.writeThumbnailToGcs(pictureKey, pictureData);
+        updateStudentProfilePicture(googleId, pictureKey, pictureThumbnailKey);
     }
 
     public boolean isGroupListFilePresentInGcs(String groupListKey) {
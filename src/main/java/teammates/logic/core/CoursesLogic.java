@@ -1,5 +1,8 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -8,6 +11,7 @@ import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
@@ -401,6 +405,15 @@ public final class CoursesLogic {
         return teams;
     }
 
+    /**
+     * Returns a snapshot of the students and instructors of the course, read once from the datastore.
+     * Pass the snapshot along instead of querying students, teams or sections of the same course repeatedly.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        return new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                                instructorsLogic.getInstructorsForCourse(courseId));
+    }
+
     /**
      * Returns the {@link CourseDetailsBundle} course details for a course using {@link CourseAttributes}.
      */
@@ -646,45 +659,79 @@ public final class CoursesLogic {
 
     /**
      * Returns a CSV for the details (name, email, status) of all students belonging to a given course.
+     *
+     * <p>Only the given course and its students are loaded, the students with a single query,
+     * regardless of how many other courses the instructor has.
+     *
+     * @see #writeCourseStudentListAsCsv(Writer, CourseAttributes)
      */
     public String getCourseStudentListAsCsv(String courseId, String googleId) throws EntityDoesNotExistException {
 
-        Map<String, CourseDetailsBundle> courses = getCourseSummariesForInstructor(googleId, false);
-        CourseDetailsBundle course = courses.get(courseId);
-        boolean hasSection = hasIndicatedSections(courseId);
-
-        StringBuilder export = new StringBuilder(100);
-        String courseInfo = "Course ID," + SanitizationHelper.sanitizeForCsv(courseId) + Const.EOL
-                      + "Course Name," + SanitizationHelper.sanitizeForCsv(course.course.getName()) + Const.EOL
-                      + Const.EOL + Const.EOL;
-        export.append(courseInfo);
-
-        String header = (hasSection ? "Section," : "") + "Team,Full Name,Last Name,Status,Email" + Const.EOL;
-        export.append(header);
-
-        for (SectionDetailsBundle section : course.sections) {
-            for (TeamDetailsBundle team : section.teams) {
-                for (StudentAttributes student : team.students) {
-                    String studentStatus = null;
-                    if (student.googleId == null || student.googleId.isEmpty()) {
-                        studentStatus = Const.STUDENT_COURSE_STATUS_YET_TO_JOIN;
-                    } else {
-                        studentStatus = Const.STUDENT_COURSE_STATUS_JOINED;
-                    }
-
-                    if (hasSection) {
-                        export.append(SanitizationHelper.sanitizeForCsv(section.name)).append(',');
-                    }
-
-                    export.append(SanitizationHelper.sanitizeForCsv(team.name) + ','
-                            + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(student.name)) + ','
-                            + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(student.lastName)) + ','
-                            + SanitizationHelper.sanitizeForCsv(studentStatus) + ','
-                            + SanitizationHelper.sanitizeForCsv(student.email) + Const.EOL);
-                }
+        instructorsLogic.verifyInstructorExists(googleId);
+
+        CourseAttributes course = coursesDb.getCourse(courseId);
+        if (course == null) {
+            throw new EntityDoesNotExistException("Course does not exist: " + courseId);
+        }
+        if (instructorsLogic.getInstructorForGoogleId(courseId, googleId) == null) {
+            throw new EntityDoesNotExistException("Instructor " + googleId + " does not exist in course: " + courseId);
+        }
+
+        StringWriter writer = new StringWriter();
+        try {
+            writeCourseStudentListAsCsv(writer, course);
+        } catch (IOException e) {
+            Assumption.fail("Writing to a StringWriter should not throw IOException");
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the details (name, email, status) of all students belonging to {@code course} in CSV format
+     * to {@code writer}.
+     *
+     * <p>The course is taken as already loaded so that its existence can be checked before
+     * anything is written.
+     */
+    public void writeCourseStudentListAsCsv(Writer writer, CourseAttributes course) throws IOException {
+
+        String courseId = course.getId();
+
+        // sorted by section, then team, as in the sections of the course summary
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
+        StudentAttributes.sortBySectionName(students);
+        boolean hasSection = false;
+        for (StudentAttributes student : students) {
+            if (!student.section.equals(Const.DEFAULT_SECTION)) {
+                hasSection = true;
+                break;
             }
         }
-        return export.toString();
+
+        writer.append("Course ID," + SanitizationHelper.sanitizeForCsv(courseId) + Const.EOL
+                      + "Course Name," + SanitizationHelper.sanitizeForCsv(course.getName()) + Const.EOL
+                      + Const.EOL + Const.EOL);
+
+        writer.append((hasSection ? "Section," : "") + "Team,Full Name,Last Name,Status,Email" + Const.EOL);
+
+        for (StudentAttributes student : students) {
+            String studentStatus = null;
+            if (student.googleId == null || student.googleId.isEmpty()) {
+                studentStatus = Const.STUDENT_COURSE_STATUS_YET_TO_JOIN;
+            } else {
+                studentStatus = Const.STUDENT_COURSE_STATUS_JOINED;
+            }
+
+            if (hasSection) {
+                writer.append(SanitizationHelper.sanitizeForCsv(student.section)).append(',');
+            }
+
+            writer.append(SanitizationHelper.sanitizeForCsv(student.team) + ','
+                    + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(student.name)) + ','
+                    + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(student.lastName)) + ','
+                    + SanitizationHelper.sanitizeForCsv(studentStatus) + ','
+                    + SanitizationHelper.sanitizeForCsv(student.email) + Const.EOL);
+        }
     }
 
     public boolean hasIndicatedSections(String courseId) throws EntityDoesNotExistException {
@@ -1,15 +1,52 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import teammates.common.exception.EmailSendingException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+import teammates.common.util.retry.MaximumRetriesExceededException;
+import teammates.common.util.retry.RetryManager;
+import teammates.common.util.retry.RetryableTask;
 
 /**
  * An email sender interface used by services for sending emails.
  */
 public abstract class EmailSenderService {
 
+    /**
+     * The maximum number of emails sent with the service in one batch.
+     */
+    public static final int MAX_EMAILS_PER_BATCH = 50;
+
     protected static final int SUCCESS_CODE = 200;
 
+    private static final Logger log = Logger.getLogger();
+
+    private static final int DEFAULT_MAX_RETRY_DELAY_IN_S = 4;
+
+    private final RetryManager retryManager;
+
+    protected EmailSenderService() {
+        this(DEFAULT_MAX_RETRY_DELAY_IN_S);
+    }
+
+    /**
+     * Creates a service which retries emails not accepted in batch mode for up to the given delay.
+     */
+    protected EmailSenderService(int maxRetryDelayInS) {
+        this.retryManager = new RetryManager(maxRetryDelayInS);
+    }
+
     /**
      * Parses the {@code wrapper} email object to specific implementations of email object
      * used by the service.
@@ -29,8 +66,133 @@ public abstract class EmailSenderService {
         }
     }
 
+    /**
+     * Sends the emails packaged as {@code wrappers} in batches of up to {@value #MAX_EMAILS_PER_BATCH}.
+     * The emails of a batch that are not accepted by the service are retried with exponential backoff.
+     *
+     * @return the emails which could not be sent, in the given order
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (int i = 0; i < wrappers.size(); i += MAX_EMAILS_PER_BATCH) {
+            List<EmailWrapper> batch = wrappers.subList(i, Math.min(i + MAX_EMAILS_PER_BATCH, wrappers.size()));
+            failedEmails.addAll(sendBatchWithRetry(batch));
+        }
+        return failedEmails;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<EmailWrapper> sendBatchWithRetry(final List<EmailWrapper> batch) {
+        try {
+            retryManager.runUntilSuccessful(new RetryableTask("Send emails") {
+
+                private List<EmailWrapper> emailsToSend = batch;
+
+                @Override
+                public void run() {
+                    emailsToSend = sendEmailsWithService(emailsToSend);
+                    finalData = emailsToSend;
+                }
+
+                @Override
+                public boolean isSuccessful() {
+                    return emailsToSend.isEmpty();
+                }
+
+            });
+            return new ArrayList<>();
+        } catch (MaximumRetriesExceededException e) {
+            return (List<EmailWrapper>) e.finalData;
+        }
+    }
+
+    /**
+     * Sends the given emails with the service.
+     * By default, the emails are sent one by one; services which can send many emails
+     * in one request override this, and map the result of the request back to each email.
+     *
+     * @return the emails which were not accepted by the service
+     */
+    protected List<EmailWrapper> sendEmailsWithService(List<EmailWrapper> wrappers) {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            try {
+                if (!sendEmailWithService(wrapper)) {
+                    failedEmails.add(wrapper);
+                }
+            } catch (Exception e) {
+                log.warning("Email failed to send: " + wrapper.getInfoForLogging() + "\n"
+                            + TeammatesException.toStringWithStackTrace(e));
+                failedEmails.add(wrapper);
+            }
+        }
+        return failedEmails;
+    }
+
+    /**
+     * Groups the emails into requests that a service can send in one call, i.e. emails with the same sender
+     * and reply-to address, each personalized with its own recipient, subject and content.
+     * A recipient appears at most once in a request, and an email with a BCC recipient is given a request of its own
+     * as the BCC recipient would otherwise be shared by the whole request.
+     *
+     * @return the requests, each with the emails in the given order
+     */
+    protected static List<List<EmailWrapper>> groupIntoBatchRequests(List<EmailWrapper> wrappers) {
+        List<List<EmailWrapper>> requests = new ArrayList<>();
+        Map<String, List<List<EmailWrapper>>> requestsBySender = new LinkedHashMap<>();
+        Map<List<EmailWrapper>, Set<String>> recipientsByRequest = new IdentityHashMap<>();
+        for (EmailWrapper wrapper : wrappers) {
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                List<EmailWrapper> request = new ArrayList<>();
+                request.add(wrapper);
+                requests.add(request);
+                continue;
+            }
+
+            String sender = wrapper.getSenderEmail() + "|" + wrapper.getSenderName() + "|" + wrapper.getReplyTo();
+            List<List<EmailWrapper>> requestsOfSender = requestsBySender.computeIfAbsent(sender, k -> new ArrayList<>());
+            List<EmailWrapper> request = null;
+            for (List<EmailWrapper> requestOfSender : requestsOfSender) {
+                if (!recipientsByRequest.get(requestOfSender).contains(wrapper.getRecipient())) {
+                    request = requestOfSender;
+                    break;
+                }
+            }
+            if (request == null) {
+                request = new ArrayList<>();
+                requestsOfSender.add(request);
+                recipientsByRequest.put(request, new HashSet<>());
+                requests.add(request);
+            }
+            request.add(wrapper);
+            recipientsByRequest.get(request).add(wrapper.getRecipient());
+        }
+        return requests;
+    }
+
+    /**
+     * Returns the {@code failedEmails} in the order they appear in {@code wrappers}.
+     */
+    protected static List<EmailWrapper> inGivenOrder(List<EmailWrapper> wrappers, Collection<EmailWrapper> failedEmails) {
+        Set<EmailWrapper> failedEmailsSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedEmailsSet.addAll(failedEmails);
+
+        List<EmailWrapper> orderedFailedEmails = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            if (failedEmailsSet.contains(wrapper)) {
+                orderedFailedEmails.add(wrapper);
+            }
+        }
+        return orderedFailedEmails;
+    }
+
+    /**
+     * Sends the email packaged as a {@code wrapper} with the service.
+     *
+     * @return whether the email was accepted by the service
+     */
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     // accounts for the many different Exceptions from different email services
-    protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
+    protected abstract boolean sendEmailWithService(EmailWrapper wrapper) throws Exception;
 
 }
@@ -0,0 +1,45 @@
+package teammates.logic.core;
+
+import java.util.Date;
+import java.util.List;
+
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.storage.api.EntityChangesDb;
+import teammates.storage.entity.EntityChange;
+
+/**
+ * Handles operations related to the journal of changes made to entities.
+ *
+ * @see EntityChange
+ * @see EntityChangesDb
+ */
+public final class EntityChangesLogic {
+
+    private static EntityChangesLogic instance = new EntityChangesLogic();
+
+    private static final EntityChangesDb entityChangesDb = new EntityChangesDb();
+
+    private EntityChangesLogic() {
+        // prevent initialization
+    }
+
+    public static EntityChangesLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Deletes up to {@code maxChanges} of the changes which are older than
+     * {@link Const.SystemParams#ENTITY_CHANGES_RETENTION_DAYS} days.
+     *
+     * @param cursor the ID of the last change deleted by the previous call, or null to start from the beginning
+     * @return the IDs of the changes deleted, in the order in which they were deleted.
+     *         If fewer than {@code maxChanges} IDs are returned, no more changes are to be deleted.
+     * @see EntityChangesDb#deleteChangesBefore(Date, String, int)
+     */
+    public List<String> deleteExpiredChanges(String cursor, int maxChanges) {
+        Date retentionStart = TimeHelper.getDateOffsetToCurrentTime(-Const.SystemParams.ENTITY_CHANGES_RETENTION_DAYS);
+        return entityChangesDb.deleteChangesBefore(retentionStart, cursor, maxChanges);
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -8,8 +9,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -78,7 +79,10 @@ public final class FeedbackQuestionsLogic {
             FeedbackQuestionAttributes fqa, int questionNumber) throws InvalidParametersException {
         fqa.questionNumber = questionNumber;
         fqa.removeIrrelevantVisibilityOptions();
-        return fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        FeedbackQuestionAttributes createdQuestion = fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        frLogic.startStatisticsForQuestion(createdQuestion);
+        fsLogic.clearExpectedRespondentTotal(fqa.feedbackSessionName, fqa.courseId);
+        return createdQuestion;
     }
 
     public FeedbackQuestionAttributes copyFeedbackQuestion(
@@ -315,10 +319,62 @@ public final class FeedbackQuestionsLogic {
         return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver);
     }
 
+    /**
+     * Gets the recipients of the question for the giver, looking up the giver and
+     * the possible recipients in {@code roster} instead of the datastore.
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver, CourseRoster roster)
+                    throws EntityDoesNotExistException {
+
+        InstructorAttributes instructorGiver = roster.getInstructorForEmail(giver);
+        StudentAttributes studentGiver = roster.getStudentForEmail(giver);
+
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster);
+    }
+
     public Map<String, String> getRecipientsForQuestion(
             FeedbackQuestionAttributes question, String giver,
             InstructorAttributes instructorGiver, StudentAttributes studentGiver)
                     throws EntityDoesNotExistException {
+        String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver,
+                                        getRosterForRecipients(question, giverTeam));
+    }
+
+    /**
+     * Returns the part of the course roster that the possible recipients of the question are taken from,
+     * which is empty for recipients that do not depend on the roster.
+     */
+    private CourseRoster getRosterForRecipients(FeedbackQuestionAttributes question, String giverTeam) {
+        List<StudentAttributes> students = new ArrayList<>();
+        List<InstructorAttributes> instructors = new ArrayList<>();
+
+        switch (question.recipientType) {
+        case STUDENTS:
+        case TEAMS:
+            return coursesLogic.getCourseRoster(question.courseId);
+        case INSTRUCTORS:
+            instructors = instructorsLogic.getInstructorsForCourse(question.courseId);
+            break;
+        case OWN_TEAM_MEMBERS:
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
+            break;
+        default:
+            break;
+        }
+        return new CourseRoster(students, instructors);
+    }
+
+    /**
+     * Gets the recipients of the question for the given giver, taking the possible
+     * recipients from {@code roster} instead of the datastore.
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster)
+                    throws EntityDoesNotExistException {
 
         Map<String, String> recipients = new HashMap<>();
 
@@ -335,7 +391,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
+            List<StudentAttributes> studentsInCourse = roster.getStudents();
             for (StudentAttributes student : studentsInCourse) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
@@ -344,7 +400,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
+            List<InstructorAttributes> instructorsInCourse = roster.getInstructors();
             for (InstructorAttributes instr : instructorsInCourse) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
@@ -353,12 +409,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
+            for (String teamName : roster.getTeamNames()) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(teamName)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(teamName, teamName);
                 }
             }
             break;
@@ -366,7 +421,7 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
+            List<StudentAttributes> students = roster.getTeamMembers(giverTeam);
             for (StudentAttributes student : students) {
                 if (!student.email.equals(giver)) {
                     recipients.put(student.email, student.name);
@@ -374,7 +429,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
+            List<StudentAttributes> teamMembers = roster.getTeamMembers(giverTeam);
             for (StudentAttributes student : teamMembers) {
                 // accepts self feedback too
                 recipients.put(student.email, student.name);
@@ -410,8 +465,6 @@ public final class FeedbackQuestionsLogic {
     public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email)
             throws EntityDoesNotExistException {
 
-        int numberOfResponsesGiven =
-                frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
         int numberOfResponsesNeeded =
                 question.numberOfEntitiesToGiveFeedbackTo;
 
@@ -419,6 +472,30 @@ public final class FeedbackQuestionsLogic {
             numberOfResponsesNeeded = getRecipientsForQuestion(question, email).size();
         }
 
+        return hasGivenResponses(question, email, numberOfResponsesNeeded);
+    }
+
+    /**
+     * Returns true if the user has given all the responses needed for the question,
+     * counting the possible recipients in {@code roster} instead of the datastore.
+     */
+    public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email,
+                                                 CourseRoster roster)
+            throws EntityDoesNotExistException {
+
+        int numberOfResponsesNeeded =
+                question.numberOfEntitiesToGiveFeedbackTo;
+
+        if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
+            numberOfResponsesNeeded = getRecipientsForQuestion(question, email, roster).size();
+        }
+
+        return hasGivenResponses(question, email, numberOfResponsesNeeded);
+    }
+
+    private boolean hasGivenResponses(FeedbackQuestionAttributes question, String email, int numberOfResponsesNeeded) {
+        int numberOfResponsesGiven =
+                frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
         return numberOfResponsesGiven >= numberOfResponsesNeeded;
     }
 
@@ -529,9 +606,17 @@ public final class FeedbackQuestionsLogic {
             frLogic.deleteFeedbackResponsesForQuestionAndCascade(oldQuestion.getId(), hasResponseRateUpdate);
         }
 
+        boolean isGiverTypeChanged = newAttributes.giverType != null && newAttributes.giverType != oldQuestion.giverType;
         oldQuestion.updateValues(newAttributes);
         newAttributes.removeIrrelevantVisibilityOptions();
         fqDb.updateFeedbackQuestion(newAttributes);
+        if (newAttributes.questionType.isStatisticsAggregated()) {
+            // the keys that answers are counted under in the statistics aggregate can depend on the question details
+            frLogic.scheduleStatisticsRecomputes(Collections.singletonList(oldQuestion.getId()));
+        }
+        if (isGiverTypeChanged) {
+            fsLogic.clearExpectedRespondentTotal(oldQuestion.feedbackSessionName, oldQuestion.courseId);
+        }
     }
 
     public void deleteFeedbackQuestionsForSession(String feedbackSessionName, String courseId)
@@ -624,6 +709,8 @@ public final class FeedbackQuestionsLogic {
         }
 
         fqDb.deleteEntity(questionToDelete);
+        frLogic.deleteStatisticsForQuestion(questionToDelete.getId());
+        fsLogic.clearExpectedRespondentTotal(feedbackSessionName, courseId);
 
         if (questionToDelete.questionNumber < questionsToShiftQnNumber.size()) {
             shiftQuestionNumbersDown(questionToDelete.questionNumber, questionsToShiftQnNumber);
@@ -645,13 +732,13 @@ public final class FeedbackQuestionsLogic {
      * Removes questions with no recipients.
      */
     public List<FeedbackQuestionAttributes> getQuestionsWithRecipients(
-            List<FeedbackQuestionAttributes> questions, String giver)
+            List<FeedbackQuestionAttributes> questions, String giver, CourseRoster roster)
             throws EntityDoesNotExistException {
         List<FeedbackQuestionAttributes> questionsWithRecipients = new ArrayList<>();
         for (FeedbackQuestionAttributes question : questions) {
             int numRecipients = question.numberOfEntitiesToGiveFeedbackTo;
             if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS) {
-                numRecipients = this.getRecipientsForQuestion(question, giver)
+                numRecipients = this.getRecipientsForQuestion(question, giver, roster)
                         .size();
             }
             if (numRecipients > 0) {
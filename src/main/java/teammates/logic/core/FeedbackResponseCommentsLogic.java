@@ -1,5 +1,6 @@
 package teammates.logic.core;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -86,6 +87,11 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForResponse(feedbackResponseId);
     }
 
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        return frcDb.getFeedbackResponseCommentsForResponses(feedbackResponseIds);
+    }
+
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentForSession(String courseId,
                                                                                         String feedbackSessionName) {
         return frcDb.getFeedbackResponseCommentsForSession(courseId, feedbackSessionName);
@@ -99,6 +105,21 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForSessionInSection(courseId, feedbackSessionName, section);
     }
 
+    /**
+     * Gets the comments on the responses to the question, or only those in {@code section} if it is not null.
+     * A comment is in a section if either its giver or its receiver is.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForQuestionInSection(
+            String feedbackQuestionId, String section) {
+        List<FeedbackResponseCommentAttributes> comments =
+                frcDb.getFeedbackResponseCommentsForQuestion(feedbackQuestionId);
+        if (section != null) {
+            comments.removeIf(comment -> !section.equals(comment.giverSection)
+                                         && !section.equals(comment.receiverSection));
+        }
+        return comments;
+    }
+
     public void updateFeedbackResponseCommentsForChangingResponseId(
             String oldResponseId, String newResponseId)
             throws InvalidParametersException, EntityDoesNotExistException {
@@ -130,6 +151,14 @@ public final class FeedbackResponseCommentsLogic {
         }
     }
 
+    /**
+     * Updates the giver and receiver sections of the comments of all the given responses
+     * to the sections of their response, using batched Datastore operations.
+     */
+    public void updateFeedbackResponseCommentsForResponses(List<FeedbackResponseAttributes> responses) {
+        frcDb.updateSectionsOfFeedbackResponseComments(responses);
+    }
+
     public FeedbackResponseCommentAttributes updateFeedbackResponseComment(
                                                      FeedbackResponseCommentAttributes feedbackResponseComment)
                                                      throws InvalidParametersException, EntityDoesNotExistException {
@@ -168,6 +197,10 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseCommentsForResponse(responseId);
     }
 
+    public void deleteFeedbackResponseCommentsForResponses(List<String> responseIds) {
+        frcDb.deleteFeedbackResponseCommentsForResponses(responseIds);
+    }
+
     public void deleteFeedbackResponseComment(FeedbackResponseCommentAttributes feedbackResponseComment) {
         frcDb.deleteEntity(feedbackResponseComment);
     }
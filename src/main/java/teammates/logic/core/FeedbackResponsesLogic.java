@@ -1,24 +1,34 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.Logger;
+import teammates.common.util.StringHelper;
+import teammates.common.util.TaskWrapper;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
 import teammates.storage.api.FeedbackResponsesDb;
 import teammates.storage.entity.FeedbackResponse;
 
@@ -32,9 +42,17 @@ public final class FeedbackResponsesLogic {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * The time in milliseconds that the recomputes of statistics aggregates are delayed by, which is also
+     * the period over which the changes of responses to a question are recomputed together.
+     */
+    private static final long STATISTICS_RECOMPUTE_DELAY_MILLIS = 60 * 1000L;
+
     private static FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
 
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+    private static final FeedbackQuestionStatisticsDb fqsDb = new FeedbackQuestionStatisticsDb();
+    private static final TaskQueuesLogic taskQueuesLogic = new TaskQueuesLogic();
 
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
@@ -53,6 +71,7 @@ public final class FeedbackResponsesLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
         try {
             frDb.createEntity(fra);
+            scheduleStatisticsRecomputesForResponses(Collections.singletonList(fra));
         } catch (EntityAlreadyExistsException eaee) {
             FeedbackResponse existingResponse = frDb.getFeedbackResponseEntityOptimized(fra);
             try {
@@ -66,6 +85,7 @@ public final class FeedbackResponsesLogic {
     public void createFeedbackResponses(List<FeedbackResponseAttributes> fra)
             throws InvalidParametersException {
         frDb.createEntities(fra);
+        scheduleStatisticsRecomputesForResponses(fra);
     }
 
     public FeedbackResponseAttributes getFeedbackResponse(
@@ -173,6 +193,11 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForQuestion(feedbackQuestionId, userEmail);
     }
 
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiversForQuestion(
+            String feedbackQuestionId, Collection<String> giverEmails) {
+        return frDb.getFeedbackResponsesFromGiversForQuestion(feedbackQuestionId, giverEmails);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForQuestionInSection(
             String feedbackQuestionId, String userEmail, String section) {
 
@@ -193,6 +218,16 @@ public final class FeedbackResponsesLogic {
         return !getFeedbackResponsesFromGiverForSessionWithinRange(userEmail, feedbackSessionName, courseId, 1).isEmpty();
     }
 
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        return frDb.getFeedbackResponsesFromGiverForSession(giverEmail, feedbackSessionName, courseId);
+    }
+
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        return frDb.getFeedbackResponsesForReceiverForSession(receiver, feedbackSessionName, courseId);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForCourse(
             String courseId, String userEmail) {
         return frDb.getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
@@ -437,12 +472,95 @@ public final class FeedbackResponsesLogic {
             } catch (EntityDoesNotExistException e) {
                 Assumption.fail();
             }
+            scheduleStatisticsRecomputesForResponses(Collections.singletonList(newResponse));
         } else {
             // Recreate response to prevent possible future id conflict.
             recreateResponse(newResponse, oldResponse);
         }
     }
 
+    /**
+     * Updates multiple existing feedback responses, e.g. all the changed responses of one submission,
+     * in the same way as {@link #updateFeedbackResponse(FeedbackResponseAttributes)} but with batched
+     * Datastore operations: all responses are fetched with one get and saved with one put, and the sections
+     * of their comments are updated in one batch. Responses whose giver or recipient changed are still
+     * recreated one by one.<br>
+     * A response that cannot be updated does not prevent the other responses from being updated; the error
+     * is thrown after all other responses are saved.
+     * @throws EntityDoesNotExistException  if any of the responses does not exist; no response is updated.
+     * @throws InvalidParametersException  if any of the responses is invalid. The message also contains
+     *                                     the errors of the responses which cannot be recreated, if any.
+     * @throws EntityAlreadyExistsException  if a response is recreated with a giver and recipient
+     *                                       for which a response already exists.
+     */
+    public void updateFeedbackResponses(List<FeedbackResponseAttributes> responsesToUpdate)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        if (responsesToUpdate.isEmpty()) {
+            return;
+        }
+
+        Set<String> responseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            Assumption.assertNotNull(response.getId());
+            responseIds.add(response.getId());
+        }
+
+        Map<String, FeedbackResponse> oldResponseEntities = frDb.getFeedbackResponseEntitiesForIds(responseIds);
+        if (!oldResponseEntities.keySet().containsAll(responseIds)) {
+            throw new EntityDoesNotExistException(
+                    "Trying to update a feedback response that does not exist.");
+        }
+
+        List<FeedbackResponseAttributes> responsesToSave = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesWithChangedSections = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToRecreate = new ArrayList<>();
+        List<String> invalidityInfo = new ArrayList<>();
+
+        for (FeedbackResponseAttributes updatedResponse : responsesToUpdate) {
+            FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(updatedResponse);
+            FeedbackResponseAttributes oldResponse =
+                    new FeedbackResponseAttributes(oldResponseEntities.get(updatedResponse.getId()));
+
+            copyFixedValuesFromOldToNew(newResponse, oldResponse);
+
+            if (!newResponse.isValid()) {
+                invalidityInfo.addAll(newResponse.getInvalidityInfo());
+            } else if (newResponse.recipient.equals(oldResponse.recipient)
+                    && newResponse.giver.equals(oldResponse.giver)) {
+                responsesToSave.add(newResponse);
+                if (!newResponse.giverSection.equals(oldResponse.giverSection)
+                        || !newResponse.recipientSection.equals(oldResponse.recipientSection)) {
+                    responsesWithChangedSections.add(newResponse);
+                }
+            } else {
+                responsesToRecreate.add(newResponse);
+            }
+        }
+
+        frDb.updateFeedbackResponsesOptimized(responsesToSave, oldResponseEntities);
+        scheduleStatisticsRecomputesForResponses(responsesToSave);
+        frcLogic.updateFeedbackResponseCommentsForResponses(responsesWithChangedSections);
+
+        List<String> recreateErrors = new ArrayList<>();
+        for (FeedbackResponseAttributes newResponse : responsesToRecreate) {
+            FeedbackResponseAttributes oldResponse =
+                    new FeedbackResponseAttributes(oldResponseEntities.get(newResponse.getId()));
+            try {
+                recreateResponse(newResponse, oldResponse);
+            } catch (EntityAlreadyExistsException e) {
+                recreateErrors.add(e.getMessage());
+            }
+        }
+
+        if (!invalidityInfo.isEmpty()) {
+            invalidityInfo.addAll(recreateErrors);
+            throw new InvalidParametersException(invalidityInfo);
+        }
+        if (!recreateErrors.isEmpty()) {
+            throw new EntityAlreadyExistsException(StringHelper.toString(recreateErrors));
+        }
+    }
+
     /**
      * Copies values that cannot be changed to defensively avoid invalid parameters.
      * @param newResponse  values are copied from oldResponse
@@ -480,6 +598,7 @@ public final class FeedbackResponsesLogic {
             FeedbackResponse createdResponseEntity =
                     frDb.createEntity(newResponse);
             frDb.deleteEntity(oldResponse);
+            scheduleStatisticsRecomputesForResponses(Collections.singletonList(newResponse));
             frcLogic.updateFeedbackResponseCommentsForChangingResponseId(
                     oldResponse.getId(), createdResponseEntity.getId());
         } catch (EntityAlreadyExistsException e) {
@@ -495,49 +614,49 @@ public final class FeedbackResponsesLogic {
     public void updateFeedbackResponsesForChangingTeam(
             String courseId, String userEmail, String oldTeam, String newTeam) {
 
-        deleteResponsesFromUserToTeam(courseId, userEmail);
-        deleteResponsesFromTeamToUser(courseId, userEmail);
+        // a response can be both from the user to the team and from the team to the user, e.g. a self-evaluation
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
+        addNewResponses(responsesToDelete, getResponsesFromUserToTeam(courseId, userEmail));
+        addNewResponses(responsesToDelete, getResponsesFromTeamToUser(courseId, userEmail));
 
         boolean isOldTeamEmpty = studentsLogic.getStudentsForTeam(oldTeam, courseId).isEmpty();
         if (isOldTeamEmpty) {
-            deleteTeamResponses(courseId, oldTeam);
+            addNewResponses(responsesToDelete, getFeedbackResponsesForReceiverForCourse(courseId, oldTeam));
         }
-    }
 
-    private void deleteTeamResponses(String courseId, String oldTeam) {
-        List<FeedbackResponseAttributes> responsesToOldTeam =
-                getFeedbackResponsesForReceiverForCourse(courseId, oldTeam);
-        for (FeedbackResponseAttributes response : responsesToOldTeam) {
-            frDb.deleteEntity(response);
-        }
+        deleteFeedbackResponses(responsesToDelete);
     }
 
-    private void deleteResponsesFromTeamToUser(String courseId, String userEmail) {
+    private List<FeedbackResponseAttributes> getResponsesFromTeamToUser(String courseId, String userEmail) {
         FeedbackQuestionAttributes question;
         List<FeedbackResponseAttributes> responsesToUser =
                 getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
 
+        List<FeedbackResponseAttributes> responsesFromTeamToUser = new ArrayList<>();
         for (FeedbackResponseAttributes response : responsesToUser) {
             question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (isRecipientTypeTeamMembers(question)) {
-                frDb.deleteEntity(response);
+                responsesFromTeamToUser.add(response);
             }
         }
+        return responsesFromTeamToUser;
     }
 
-    private void deleteResponsesFromUserToTeam(String courseId, String userEmail) {
+    private List<FeedbackResponseAttributes> getResponsesFromUserToTeam(String courseId, String userEmail) {
         FeedbackQuestionAttributes question;
 
         List<FeedbackResponseAttributes> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
 
+        List<FeedbackResponseAttributes> responsesFromUserToTeam = new ArrayList<>();
         for (FeedbackResponseAttributes response : responsesFromUser) {
             question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (question.giverType == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
-                frDb.deleteEntity(response);
+                responsesFromUserToTeam.add(response);
             }
         }
+        return responsesFromUserToTeam;
     }
 
     /**
@@ -595,7 +714,7 @@ public final class FeedbackResponsesLogic {
                 || shouldDeleteByChangeOfRecipient;
 
         if (shouldDeleteResponse) {
-            frDb.deleteEntity(response);
+            deleteFeedbackResponse(response);
             updateSessionResponseRateForDeletingStudentResponse(enrollment.email,
                     response.feedbackSessionName, enrollment.course);
         }
@@ -640,6 +759,82 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Adjusts {@code responses} for students who changed team or section, in the same way as
+     * {@link #updateFeedbackResponseForChangingTeam(StudentEnrollDetails, FeedbackResponseAttributes)} and
+     * {@link #updateFeedbackResponseForChangingSection(StudentEnrollDetails, FeedbackResponseAttributes)}
+     * but with batched Datastore operations: each question is fetched once, responses with changed sections
+     * are fetched with one get and saved with one put, and deleted responses are removed with their comments
+     * in one batch.
+     *
+     * @param teamChangesByEmail  enrollments of students who changed team, keyed by student email
+     * @param sectionChangesByEmail  enrollments of students who changed section, keyed by student email
+     */
+    public void updateFeedbackResponsesForChangingTeamsAndSections(List<FeedbackResponseAttributes> responses,
+            Map<String, StudentEnrollDetails> teamChangesByEmail, Map<String, StudentEnrollDetails> sectionChangesByEmail)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Map<String, FeedbackQuestionAttributes> questionsById = new HashMap<>();
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToUpdate = new ArrayList<>();
+
+        for (FeedbackResponseAttributes response : responses) {
+            StudentEnrollDetails giverTeamChange = teamChangesByEmail.get(response.giver);
+            StudentEnrollDetails recipientTeamChange = teamChangesByEmail.get(response.recipient);
+            StudentEnrollDetails giverSectionChange = sectionChangesByEmail.get(response.giver);
+            StudentEnrollDetails recipientSectionChange = sectionChangesByEmail.get(response.recipient);
+
+            if (giverTeamChange != null || recipientTeamChange != null) {
+                FeedbackQuestionAttributes question = questionsById.computeIfAbsent(
+                        response.feedbackQuestionId, fqLogic::getFeedbackQuestion);
+
+                boolean shouldDeleteByChangeOfGiver = giverTeamChange != null
+                        && (question.giverType == FeedbackParticipantType.TEAMS || isRecipientTypeTeamMembers(question));
+                boolean shouldDeleteByChangeOfRecipient = recipientTeamChange != null
+                        && isRecipientTypeTeamMembers(question);
+
+                if (shouldDeleteByChangeOfGiver || shouldDeleteByChangeOfRecipient) {
+                    responsesToDelete.add(response);
+                    continue;
+                }
+            }
+
+            if (giverSectionChange == null && recipientSectionChange == null) {
+                continue;
+            }
+            FeedbackResponseAttributes updatedResponse = new FeedbackResponseAttributes(response);
+            if (giverSectionChange != null) {
+                updatedResponse.giverSection = giverSectionChange.newSection;
+            }
+            if (recipientSectionChange != null) {
+                updatedResponse.recipientSection = recipientSectionChange.newSection;
+            }
+            responsesToUpdate.add(updatedResponse);
+        }
+
+        deleteFeedbackResponsesAndCascade(responsesToDelete);
+        Set<String> giversOfDeletedResponses = new HashSet<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            if (giversOfDeletedResponses.add(response.giver + "%" + response.feedbackSessionName)) {
+                updateSessionResponseRateForDeletingStudentResponse(response.giver,
+                        response.feedbackSessionName, response.courseId);
+            }
+        }
+
+        if (responsesToUpdate.isEmpty()) {
+            return;
+        }
+        Set<String> responseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            responseIds.add(response.getId());
+        }
+        Map<String, FeedbackResponse> responseEntities = frDb.getFeedbackResponseEntitiesForIds(responseIds);
+        if (!responseEntities.keySet().containsAll(responseIds)) {
+            throw new EntityDoesNotExistException("Trying to update a feedback response that does not exist.");
+        }
+        frDb.updateFeedbackResponsesOptimized(responsesToUpdate, responseEntities);
+        frcLogic.updateFeedbackResponseCommentsForResponses(responsesToUpdate);
+    }
+
     /**
      * Updates responses for a student when his email changes.
      */
@@ -679,7 +874,26 @@ public final class FeedbackResponsesLogic {
 
     public void deleteFeedbackResponseAndCascade(FeedbackResponseAttributes responseToDelete) {
         frcLogic.deleteFeedbackResponseCommentsForResponse(responseToDelete.getId());
-        frDb.deleteEntity(responseToDelete);
+        deleteFeedbackResponse(responseToDelete);
+    }
+
+    /**
+     * Deletes multiple feedback responses and their comments with batched Datastore operations.<br>
+     * Preconditions: <br>
+     * * Every element of {@code responsesToDelete} has a non-null id.
+     */
+    public void deleteFeedbackResponsesAndCascade(List<FeedbackResponseAttributes> responsesToDelete) {
+        if (responsesToDelete.isEmpty()) {
+            return;
+        }
+
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            responseIds.add(response.getId());
+        }
+
+        frcLogic.deleteFeedbackResponseCommentsForResponses(responseIds);
+        deleteFeedbackResponses(responsesToDelete);
     }
 
     public void deleteFeedbackResponsesForQuestionAndCascade(
@@ -689,8 +903,8 @@ public final class FeedbackResponsesLogic {
 
         Set<String> emails = new HashSet<>();
 
+        deleteFeedbackResponsesAndCascade(responsesForQuestion);
         for (FeedbackResponseAttributes response : responsesForQuestion) {
-            this.deleteFeedbackResponseAndCascade(response);
             emails.add(response.giver);
         }
 
@@ -734,17 +948,14 @@ public final class FeedbackResponsesLogic {
 
         List<FeedbackResponseAttributes> responses =
                 getFeedbackResponsesFromGiverForCourse(courseId, studentEmail);
-        responses
-                .addAll(
-                getFeedbackResponsesForReceiverForCourse(courseId, studentEmail));
+        // responses of the student to himself are both from and to the student
+        addNewResponses(responses, getFeedbackResponsesForReceiverForCourse(courseId, studentEmail));
         // Delete responses to team as well if student is last person in team.
         if (studentsLogic.getStudentsForTeam(studentTeam, courseId).size() <= 1) {
-            responses.addAll(getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
+            addNewResponses(responses, getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
         }
 
-        for (FeedbackResponseAttributes response : responses) {
-            this.deleteFeedbackResponseAndCascade(response);
-        }
+        deleteFeedbackResponsesAndCascade(responses);
     }
 
     /**
@@ -754,6 +965,137 @@ public final class FeedbackResponsesLogic {
      */
     public void deleteFeedbackResponsesForCourse(String courseId) {
         frDb.deleteFeedbackResponsesForCourse(courseId);
+        fqsDb.deleteStatisticsForCourses(Collections.singletonList(courseId));
+    }
+
+    /**
+     * Returns the stored statistics aggregates of all responses to the given questions, keyed by question ID.
+     * Questions whose statistics are not aggregated, or whose aggregate has never been computed, are left out.
+     * As the aggregates are recomputed in a task queue worker after responses change, an aggregate may
+     * not cover the latest responses of its question yet.
+     *
+     * @see FeedbackQuestionType#isStatisticsAggregated()
+     * @see FeedbackQuestionStatisticsAggregate#isOf
+     */
+    public Map<String, FeedbackQuestionStatisticsAggregate> getStatisticsForQuestions(
+            Collection<FeedbackQuestionAttributes> questions) {
+        List<String> questionIds = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            if (question.questionType.isStatisticsAggregated()) {
+                questionIds.add(question.getId());
+            }
+        }
+        return fqsDb.getStatistics(questionIds);
+    }
+
+    /**
+     * Starts the statistics aggregate of a question which does not have any response yet,
+     * if the statistics of the question are aggregated.
+     */
+    public void startStatisticsForQuestion(FeedbackQuestionAttributes question) {
+        if (question.questionType.isStatisticsAggregated()) {
+            fqsDb.putStatistics(question.getId(), question.feedbackSessionName, question.courseId,
+                                FeedbackQuestionStatisticsAggregate.of(question.getQuestionDetails(),
+                                        new ArrayList<FeedbackResponseAttributes>()));
+        }
+    }
+
+    /**
+     * Recomputes the statistics aggregate of the question from its responses, if the question still exists
+     * and its statistics are aggregated.
+     */
+    public void recomputeStatisticsForQuestion(String feedbackQuestionId) {
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+        if (question != null && question.questionType.isStatisticsAggregated()) {
+            recomputeStatisticsForQuestion(question);
+        }
+    }
+
+    /**
+     * Rebuilds the statistics aggregates of the questions in the session from their responses,
+     * e.g. for questions created before the aggregates were kept.
+     */
+    public void rebuildStatisticsForSession(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            if (question.questionType.isStatisticsAggregated()) {
+                recomputeStatisticsForQuestion(question);
+            }
+        }
+    }
+
+    private void recomputeStatisticsForQuestion(FeedbackQuestionAttributes question) {
+        FeedbackQuestionStatisticsAggregate aggregate = FeedbackQuestionStatisticsAggregate.of(
+                question.getQuestionDetails(), getFeedbackResponsesForQuestion(question.getId()));
+        fqsDb.putStatistics(question.getId(), question.feedbackSessionName, question.courseId, aggregate);
+    }
+
+    public void deleteStatisticsForQuestion(String feedbackQuestionId) {
+        fqsDb.deleteStatisticsForQuestion(feedbackQuestionId);
+    }
+
+    /**
+     * Schedules the statistics aggregates of the given questions to be recomputed from their responses.<br>
+     * The recompute of a question is scheduled at most once per {@value #STATISTICS_RECOMPUTE_DELAY_MILLIS} ms,
+     * and runs at least that long after it is scheduled, i.e. after all the changes of responses which
+     * scheduled it. Questions whose recompute is already scheduled are skipped.
+     */
+    public void scheduleStatisticsRecomputes(Collection<String> feedbackQuestionIds) {
+        if (feedbackQuestionIds.isEmpty()) {
+            return;
+        }
+
+        long period = System.currentTimeMillis() / STATISTICS_RECOMPUTE_DELAY_MILLIS;
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String feedbackQuestionId : new LinkedHashSet<>(feedbackQuestionIds)) {
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.FEEDBACK_QUESTION_ID, new String[] { feedbackQuestionId });
+            tasks.add(new TaskWrapper(TaskQueue.FEEDBACK_QUESTION_STATISTICS_QUEUE_NAME,
+                                      TaskQueue.FEEDBACK_QUESTION_STATISTICS_WORKER_URL, paramMap,
+                                      STATISTICS_RECOMPUTE_DELAY_MILLIS,
+                                      "statistics-" + feedbackQuestionId + "-" + period));
+        }
+        taskQueuesLogic.addTasks(tasks);
+    }
+
+    /**
+     * Schedules the statistics aggregates of the questions of the written responses to be recomputed.
+     * Responses to questions whose statistics are not aggregated are ignored.
+     */
+    private void scheduleStatisticsRecomputesForResponses(Collection<FeedbackResponseAttributes> responses) {
+        List<String> questionIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            if (isStatisticsAggregated(response)) {
+                questionIds.add(response.feedbackQuestionId);
+            }
+        }
+        scheduleStatisticsRecomputes(questionIds);
+    }
+
+    /**
+     * Deletes the response without cascading to its comments.
+     */
+    private void deleteFeedbackResponse(FeedbackResponseAttributes responseToDelete) {
+        frDb.deleteEntity(responseToDelete);
+        scheduleStatisticsRecomputesForResponses(Collections.singletonList(responseToDelete));
+    }
+
+    /**
+     * Deletes the responses without cascading to their comments.<br>
+     * Preconditions: <br>
+     * * Every element of {@code responsesToDelete} has a non-null id.
+     */
+    private void deleteFeedbackResponses(List<FeedbackResponseAttributes> responsesToDelete) {
+        if (responsesToDelete.isEmpty()) {
+            return;
+        }
+
+        frDb.deleteFeedbackResponses(responsesToDelete);
+        scheduleStatisticsRecomputesForResponses(responsesToDelete);
+    }
+
+    private static boolean isStatisticsAggregated(FeedbackResponseAttributes response) {
+        return response.feedbackQuestionType != null && response.feedbackQuestionType.isStatisticsAggregated();
     }
 
     /**
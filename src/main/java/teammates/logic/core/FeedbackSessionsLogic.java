@@ -1,11 +1,17 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -13,6 +19,7 @@ import java.util.Set;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
@@ -26,6 +33,7 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
@@ -38,6 +46,7 @@ import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.common.util.TimeHelper;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
 import teammates.storage.api.FeedbackSessionsDb;
 
 /**
@@ -86,6 +95,7 @@ public final class FeedbackSessionsLogic {
     private static FeedbackSessionsLogic instance = new FeedbackSessionsLogic();
 
     private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+    private static final FeedbackSessionRespondentsDb respondentsDb = new FeedbackSessionRespondentsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
@@ -135,8 +145,6 @@ public final class FeedbackSessionsLogic {
         copiedFeedbackSession.setFeedbackSessionName(newFeedbackSessionName);
         copiedFeedbackSession.setCourseId(newCourseId);
         copiedFeedbackSession.setCreatedTime(new Date());
-        copiedFeedbackSession.setRespondingInstructorList(new HashSet<String>());
-        copiedFeedbackSession.setRespondingStudentList(new HashSet<String>());
         fsDb.createEntity(copiedFeedbackSession);
 
         List<FeedbackQuestionAttributes> feedbackQuestions =
@@ -292,7 +300,8 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
 
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
         Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle = new HashMap<>();
         Map<String, Map<String, String>> recipientList = new HashMap<>();
 
@@ -304,7 +313,7 @@ public final class FeedbackSessionsLogic {
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
+            updateBundleAndRecipientListWithResponsesForInstructor(roster,
                     userEmail, fsa, instructor, bundle, recipientList,
                     question, instructorGiver, null);
         }
@@ -323,7 +332,8 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
 
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
         Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle = new HashMap<>();
         Map<String, Map<String, String>> recipientList = new HashMap<>();
 
@@ -331,7 +341,7 @@ public final class FeedbackSessionsLogic {
 
         InstructorAttributes instructorGiver = instructor;
 
-        updateBundleAndRecipientListWithResponsesForInstructor(courseId,
+        updateBundleAndRecipientListWithResponsesForInstructor(roster,
                 userEmail, fsa, instructor, bundle, recipientList,
                 question, instructorGiver, null);
 
@@ -339,7 +349,7 @@ public final class FeedbackSessionsLogic {
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
+            CourseRoster roster,
             String userEmail,
             FeedbackSessionAttributes fsa,
             InstructorAttributes instructor,
@@ -352,11 +362,11 @@ public final class FeedbackSessionsLogic {
                 frLogic.getFeedbackResponsesFromGiverForQuestion(
                         question.getId(), userEmail);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
+                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver, roster);
         // instructor can only see students in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
             recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
+                StudentAttributes student = roster.getStudentForEmail(studentEntry.getKey());
                 return !instructor.isAllowedForPrivilege(student.section,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -364,7 +374,7 @@ public final class FeedbackSessionsLogic {
         // instructor can only see teams in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
             recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
+                String teamSection = roster.getSectionForTeam(teamEntry.getKey());
                 return !instructor.isAllowedForPrivilege(teamSection,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -390,7 +400,8 @@ public final class FeedbackSessionsLogic {
         if (fsa == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
-        StudentAttributes student = studentsLogic.getStudentForEmail(courseId, userEmail);
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        StudentAttributes student = roster.getStudentForEmail(userEmail);
         if (student == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_STUDENT);
         }
@@ -412,7 +423,7 @@ public final class FeedbackSessionsLogic {
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
+            updateBundleAndRecipientListWithResponsesForStudent(roster, userEmail, student,
                     bundle, recipientList, question, hiddenInstructorEmails);
         }
 
@@ -430,7 +441,8 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
 
-        StudentAttributes student = studentsLogic.getStudentForEmail(courseId, userEmail);
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        StudentAttributes student = roster.getStudentForEmail(userEmail);
         if (student == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_STUDENT);
         }
@@ -446,13 +458,14 @@ public final class FeedbackSessionsLogic {
             hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
         }
 
-        updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
+        updateBundleAndRecipientListWithResponsesForStudent(roster, userEmail, student,
                 bundle, recipientList, question, hiddenInstructorEmails);
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
     }
 
     private void updateBundleAndRecipientListWithResponsesForStudent(
+            CourseRoster roster,
             String userEmail,
             StudentAttributes student,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
@@ -464,7 +477,7 @@ public final class FeedbackSessionsLogic {
                 frLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(
                         question, student);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, null, student);
+                fqLogic.getRecipientsForQuestion(question, userEmail, null, student, roster);
 
         removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
 
@@ -760,6 +773,124 @@ public final class FeedbackSessionsLogic {
                 courseId, userEmail, UserRole.INSTRUCTOR, roster, params);
     }
 
+    /**
+     * Gets results of a feedback session to show to an instructor in the records of a student,
+     * i.e. the responses given or received by the student.
+     *
+     * <p>The responses involving the student are visible as in {@link #getFeedbackSessionResultsForInstructor},
+     * but only those responses and their comments are loaded, and the roster of the results has only
+     * the students needed to display them, i.e. the team of the student and the other students named
+     * in the responses. The response status of the session is not included.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorInvolvingStudent(
+            String feedbackSessionName, String courseId, String instructorEmail, StudentAttributes student)
+            throws EntityDoesNotExistException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+        putQuestionsIntoMap(fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId), relevantQuestions);
+
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+        List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(student.team, courseId);
+        List<StudentAttributes> rosterStudents = new ArrayList<>(teamMembers);
+
+        boolean isPrivateSessionNotCreatedByThisUser = session.isPrivateSession() && !session.isCreator(instructorEmail);
+        if (isPrivateSessionNotCreatedByThisUser) {
+            // return empty result set
+            return new FeedbackSessionResultsBundle(session, relevantQuestions,
+                                                    new CourseRoster(rosterStudents, instructors));
+        }
+
+        // a response to oneself is found by both queries
+        Map<String, FeedbackResponseAttributes> responsesInvolvingStudent = new LinkedHashMap<>();
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesFromGiverForSession(student.email, feedbackSessionName, courseId)) {
+            responsesInvolvingStudent.put(response.getId(), response);
+        }
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesForReceiverForSession(student.email, feedbackSessionName, courseId)) {
+            responsesInvolvingStudent.putIfAbsent(response.getId(), response);
+        }
+
+        // the answers to contribution questions are calculated from the responses of the whole team
+        Set<String> contributionQuestionIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responsesInvolvingStudent.values()) {
+            FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(response.feedbackQuestionId);
+            if (relatedQuestion != null && relatedQuestion.questionType == FeedbackQuestionType.CONTRIB) {
+                contributionQuestionIds.add(relatedQuestion.getId());
+            }
+        }
+        Set<String> teamMemberEmails = new HashSet<>();
+        for (StudentAttributes teamMember : teamMembers) {
+            teamMemberEmails.add(teamMember.email);
+        }
+        for (String questionId : contributionQuestionIds) {
+            for (FeedbackResponseAttributes response
+                    : frLogic.getFeedbackResponsesFromGiversForQuestion(questionId, teamMemberEmails)) {
+                responsesInvolvingStudent.putIfAbsent(response.getId(), response);
+            }
+        }
+
+        InstructorAttributes instructor = getInstructor(courseId, instructorEmail, UserRole.INSTRUCTOR);
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesInvolvingStudent.values()) {
+            FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(response.feedbackQuestionId);
+            if (relatedQuestion != null && isResponseVisibleForUser(instructorEmail, UserRole.INSTRUCTOR, null,
+                    new HashSet<>(), response, relatedQuestion, instructor)) {
+                responses.add(response);
+            }
+        }
+
+        // besides the team of the student, only the other students appearing in the responses are needed
+        Set<String> participantsInRoster = new HashSet<>(teamMemberEmails);
+        participantsInRoster.add(Const.GENERAL_QUESTION);
+        for (InstructorAttributes courseInstructor : instructors) {
+            participantsInRoster.add(courseInstructor.email);
+        }
+        Set<String> otherParticipants = new HashSet<>();
+        for (FeedbackResponseAttributes response : responses) {
+            for (String participant : Arrays.asList(response.giver, response.recipient)) {
+                if (!participantsInRoster.contains(participant)) {
+                    otherParticipants.add(participant);
+                }
+            }
+        }
+        // participants that are not students, e.g. teams, are not found and need not be in the roster
+        rosterStudents.addAll(studentsLogic.getStudentsForEmails(courseId, otherParticipants));
+        CourseRoster roster = new CourseRoster(rosterStudents, instructors);
+
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(response.feedbackQuestionId);
+            relevantResponse.put(response.getId(), response);
+            addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
+            addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
+            addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
+            addVisibilityToTable(visibilityTable, relatedQuestion, response, instructorEmail, UserRole.INSTRUCTOR, roster);
+        }
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
+                frcLogic.getFeedbackResponseCommentsForResponses(relevantResponse.keySet()),
+                instructorEmail, UserRole.INSTRUCTOR, roster, relevantQuestions, null, new HashSet<>(),
+                relevantResponse);
+
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, instructor, feedbackSessionName, null);
+
+        return new FeedbackSessionResultsBundle(
+                session, responses, relevantQuestions, emailNameTable,
+                emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                visibilityTable, new FeedbackSessionResponseStatus(), roster, responseComments);
+    }
+
     /**
      * Gets results of a feedback session to show to a student.
      */
@@ -815,24 +946,21 @@ public final class FeedbackSessionsLogic {
         if (!results.isComplete) {
             throw new ExceedingRangeException(ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE);
         }
-        // sort responses by giver > recipient > qnNumber
-        results.responses.sort(results.compareByGiverRecipientQuestion);
 
-        StringBuilder exportBuilder = new StringBuilder(100);
+        return getFeedbackSessionResultsSummaryAsCsv(results, section, isMissingResponsesShown, isStatsShown);
+    }
 
-        exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
-                     .append(Const.EOL)
-                     .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
-                     .append(Const.EOL);
+    /**
+     * Generates the summary results in CSV format from an already loaded results bundle.
+     */
+    public String getFeedbackSessionResultsSummaryAsCsv(
+            FeedbackSessionResultsBundle results, String section,
+            boolean isMissingResponsesShown, boolean isStatsShown) {
 
-        if (section != null) {
-            exportBuilder.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(section)))
-                         .append(Const.EOL);
-        }
+        // sort responses by giver > recipient > qnNumber
+        results.responses.sort(results.compareByGiverRecipientQuestion);
 
-        exportBuilder.append(Const.EOL).append(Const.EOL);
+        StringBuilder exportBuilder = getCsvHeader(results.feedbackSession, section);
 
         Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
                 results.getQuestionResponseMap().entrySet();
@@ -845,6 +973,80 @@ public final class FeedbackSessionsLogic {
         return exportBuilder.toString();
     }
 
+    /**
+     * Writes the summary results of a feedback session in CSV format to {@code writer}.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryAsCsv}, the results are loaded and written
+     * one question at a time, so that only the responses of a single question are kept in memory.
+     * Hence, there is no limit on the number of responses that can be exported.
+     *
+     * <p>The session is taken as already loaded so that its existence can be checked before
+     * anything is written.
+     */
+    public void writeFeedbackSessionResultsSummaryAsCsv(
+            Writer writer, FeedbackSessionAttributes session, String userEmail,
+            boolean isMissingResponsesShown, boolean isStatsShown)
+            throws IOException {
+
+        String feedbackSessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        // the roster is shared by the results of all questions
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        boolean isPrivateSessionNotCreatedByThisUser = session.isPrivateSession() && !session.isCreator(userEmail);
+
+        // as are the instructor and the sections and teams the instructor may view
+        InstructorAttributes instructor = getInstructor(courseId, userEmail, UserRole.INSTRUCTOR);
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, instructor, feedbackSessionName, null);
+
+        writer.append(getCsvHeader(session, null));
+
+        for (FeedbackQuestionAttributes question : allQuestions) {
+            Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+            FeedbackSessionResultsBundle results;
+            if (isPrivateSessionNotCreatedByThisUser) {
+                relevantQuestions.put(question.getId(), question);
+                results = new FeedbackSessionResultsBundle(session, relevantQuestions, roster);
+            } else {
+                results = getFeedbackSessionResultsForQuestionId(courseId, userEmail, UserRole.INSTRUCTOR, roster,
+                        session, allQuestions, relevantQuestions, false, null, instructor, sectionTeamNameTable,
+                        question.getId());
+            }
+
+            Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                    results.getQuestionResponseMap().entrySet();
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+                writer.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                        results, entry, isMissingResponsesShown, isStatsShown, null));
+            }
+            writer.flush();
+        }
+    }
+
+    private StringBuilder getCsvHeader(FeedbackSessionAttributes session, String section) {
+        StringBuilder headerBuilder = new StringBuilder(100);
+
+        headerBuilder.append(String.format("Course,%s",
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
+                     .append(Const.EOL)
+                     .append(String.format("Session Name,%s",
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
+                     .append(Const.EOL);
+
+        if (section != null) {
+            headerBuilder.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(section)))
+                         .append(Const.EOL);
+        }
+
+        headerBuilder.append(Const.EOL).append(Const.EOL);
+        return headerBuilder;
+    }
+
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
             FeedbackSessionResultsBundle fsrBundle,
             Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
@@ -867,8 +1069,10 @@ public final class FeedbackSessionsLogic {
             exportBuilder.append(statistics).append(Const.EOL);
         }
 
-        List<String> possibleGiversWithoutResponses = fsrBundle.getPossibleGiversInSection(question, section);
-        List<String> possibleRecipientsForGiver = new ArrayList<>();
+        // hashed sets keep the insertion (i.e. display) order while allowing constant-time removal
+        Set<String> possibleGiversWithoutResponses =
+                new LinkedHashSet<>(fsrBundle.getPossibleGiversInSection(question, section));
+        Set<String> possibleRecipientsForGiver = new LinkedHashSet<>();
         String prevGiver = "";
 
         int maxNumOfResponseComments = getMaxNumberOfResponseComments(allResponses, fsrBundle.getResponseComments());
@@ -895,7 +1099,8 @@ public final class FeedbackSessionsLogic {
                                              ? fsrBundle.getFullNameFromRoster(response.giver)
                                              : response.giver;
 
-                possibleRecipientsForGiver = fsrBundle.getPossibleRecipients(question, giverIdentifier);
+                possibleRecipientsForGiver =
+                        new LinkedHashSet<>(fsrBundle.getPossibleRecipientsFromTable(question, giverIdentifier));
             }
 
             removeParticipantIdentifierFromList(question.recipientType, possibleRecipientsForGiver,
@@ -947,7 +1152,7 @@ public final class FeedbackSessionsLogic {
      */
     private void removeParticipantIdentifierFromList(
             FeedbackParticipantType participantIdentifierType,
-            List<String> participantIdentifierList, String participantIdentifier,
+            Set<String> participantIdentifierList, String participantIdentifier,
             FeedbackSessionResultsBundle bundle) {
         if (participantIdentifierType == FeedbackParticipantType.TEAMS) {
             participantIdentifierList.remove(bundle.getFullNameFromRoster(participantIdentifier));
@@ -968,8 +1173,8 @@ public final class FeedbackSessionsLogic {
             Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
             FeedbackQuestionAttributes question,
             FeedbackQuestionDetails questionDetails,
-            List<String> remainingPossibleGivers,
-            List<String> possibleRecipientsForGiver, String prevGiver) {
+            Set<String> remainingPossibleGivers,
+            Set<String> possibleRecipientsForGiver, String prevGiver) {
         StringBuilder exportBuilder = new StringBuilder();
 
         if (possibleRecipientsForGiver != null) {
@@ -983,7 +1188,7 @@ public final class FeedbackSessionsLogic {
 
         for (String possibleGiverWithNoResponses : remainingPossibleGivers) {
             List<String> possibleRecipientsForRemainingGiver =
-                    results.getPossibleRecipients(entry.getKey(), possibleGiverWithNoResponses);
+                    results.getPossibleRecipientsFromTable(entry.getKey(), possibleGiverWithNoResponses);
 
             exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
                     question, questionDetails, possibleRecipientsForRemainingGiver,
@@ -1001,28 +1206,38 @@ public final class FeedbackSessionsLogic {
             FeedbackSessionResultsBundle results,
             FeedbackQuestionAttributes question,
             FeedbackQuestionDetails questionDetails,
-            List<String> possibleRecipientsForGiver, String giver) {
+            Collection<String> possibleRecipientsForGiver, String giver) {
         StringBuilder exportBuilder = new StringBuilder();
+        if (possibleRecipientsForGiver.isEmpty() || !questionDetails.shouldShowNoResponseText(question)) {
+            return exportBuilder;
+        }
+
+        // the giver's columns are the same for every row
+        String giverColumns = SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver))
+                + "," + SanitizationHelper.sanitizeForCsv(
+                        StringHelper.removeExtraSpace(results.getFullNameFromRoster(giver)))
+                + "," + SanitizationHelper.sanitizeForCsv(
+                        StringHelper.removeExtraSpace(results.getLastNameFromRoster(giver)))
+                + "," + SanitizationHelper.sanitizeForCsv(
+                        StringHelper.removeExtraSpace(results.getDisplayableEmailFromRoster(giver)));
+
         for (String possibleRecipient : possibleRecipientsForGiver) {
-            String giverName = results.getFullNameFromRoster(giver);
-            String giverLastName = results.getLastNameFromRoster(giver);
-            String giverEmail = results.getDisplayableEmailFromRoster(giver);
+            String possibleRecipientTeam = results.getTeamNameFromRoster(possibleRecipient);
             String possibleRecipientName = results.getFullNameFromRoster(possibleRecipient);
             String possibleRecipientLastName = results.getLastNameFromRoster(possibleRecipient);
             String possibleRecipientEmail = results.getDisplayableEmailFromRoster(possibleRecipient);
-
-            if (questionDetails.shouldShowNoResponseText(question)) {
-                exportBuilder.append(SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverLastName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverEmail))
-                        + "," + SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(possibleRecipient))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientLastName))
-                        + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(possibleRecipientEmail))
-                        + "," + questionDetails.getNoResponseTextInCsv(giver, possibleRecipient, results, question)
-                        + Const.EOL);
-            }
+            String noResponseText = questionDetails.getNoResponseTextInCsv(giver, possibleRecipient, results, question);
+
+            exportBuilder.append(giverColumns)
+                    .append(',').append(SanitizationHelper.sanitizeForCsv(possibleRecipientTeam))
+                    .append(',').append(SanitizationHelper.sanitizeForCsv(
+                            StringHelper.removeExtraSpace(possibleRecipientName)))
+                    .append(',').append(SanitizationHelper.sanitizeForCsv(
+                            StringHelper.removeExtraSpace(possibleRecipientLastName)))
+                    .append(',').append(SanitizationHelper.sanitizeForCsv(
+                            StringHelper.removeExtraSpace(possibleRecipientEmail)))
+                    .append(',').append(noResponseText)
+                    .append(Const.EOL);
         }
         return exportBuilder;
     }
@@ -1048,6 +1263,14 @@ public final class FeedbackSessionsLogic {
         return sessionsToSendEmailsFor;
     }
 
+    /**
+     * Returns the sessions which have not closed yet or closed recently, i.e. whose response
+     * rate statistics may still change.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyReceivingResponses() {
+        return fsDb.getFeedbackSessionsPossiblyReceivingResponses();
+    }
+
     public List<FeedbackSessionAttributes> getFeedbackSessionsWhichNeedOpenEmailsToBeSent() {
         List<FeedbackSessionAttributes> sessions =
                 fsDb.getFeedbackSessionsPossiblyNeedingOpenEmail();
@@ -1085,7 +1308,7 @@ public final class FeedbackSessionsLogic {
     }
 
     public boolean isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes fsa, String userEmail) {
-        if (fsa.getRespondingStudentList().contains(userEmail)) {
+        if (isRespondent(fsa, userEmail, false)) {
             return true;
         }
 
@@ -1099,7 +1322,7 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
-        if (fsa.getRespondingInstructorList().contains(userEmail)) {
+        if (isRespondent(fsa, userEmail, true)) {
             return true;
         }
 
@@ -1156,29 +1379,125 @@ public final class FeedbackSessionsLogic {
 
     public void updateRespondentsForInstructor(String oldEmail, String newEmail, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateInstructorRespondent(oldEmail, newEmail, session);
-        }
+        respondentsDb.updateRespondentEmailForCourse(courseId, oldEmail, newEmail, true);
+        fsDb.updateLegacyRespondentEmailForCourse(courseId, oldEmail, newEmail, true);
     }
 
     public void updateRespondentsForStudent(String oldEmail, String newEmail, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateStudentRespondent(oldEmail, newEmail, session);
-        }
+        respondentsDb.updateRespondentEmailForCourse(courseId, oldEmail, newEmail, false);
+        fsDb.updateLegacyRespondentEmailForCourse(courseId, oldEmail, newEmail, false);
     }
 
     public void updateRespondentsForSession(String feedbackSessionName, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        clearInstructorRespondents(feedbackSessionName, courseId);
-        clearStudentRespondents(feedbackSessionName, courseId);
-
         FeedbackSessionAttributes fsa = getFeedbackSession(feedbackSessionName, courseId);
+        if (fsa == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
+        }
+        Set<String> respondingInstructorList = new HashSet<>();
+        Set<String> respondingStudentList = new HashSet<>();
+        collectRespondentsForSession(fsa, respondingInstructorList, respondingStudentList);
+
+        replaceRespondentsForSession(fsa, respondingInstructorList, respondingStudentList);
+    }
+
+    /**
+     * Returns the emails of the students who have responded to the session.
+     */
+    public Set<String> getRespondingStudents(FeedbackSessionAttributes fsa) {
+        return getRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId(), false);
+    }
+
+    /**
+     * Returns the emails of the instructors who have responded to the session.
+     */
+    public Set<String> getRespondingInstructors(FeedbackSessionAttributes fsa) {
+        return getRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId(), true);
+    }
+
+    /**
+     * Returns the number of students and instructors who have responded to the session.
+     */
+    public int getNumberOfRespondents(String feedbackSessionName, String courseId) {
+        FeedbackSessionAttributes fsa = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        if (fsa == null) {
+            return respondentsDb.getNumberOfRespondents(feedbackSessionName, courseId);
+        }
+        return getNumberOfRespondents(fsa);
+    }
+
+    /**
+     * Returns the number of students and instructors who have responded to the session {@code fsa}.
+     * The number counted by {@link FeedbackSessionRespondentsDb} is used, unless some respondents of the session
+     * are still stored in the session entity and the respondents have to be merged.
+     */
+    private int getNumberOfRespondents(FeedbackSessionAttributes fsa) {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+        if (!fsa.hasLegacyRespondents()) {
+            return respondentsDb.getNumberOfRespondents(feedbackSessionName, courseId);
+        }
+        return getRespondents(feedbackSessionName, courseId, true).size()
+                + getRespondents(feedbackSessionName, courseId, false).size();
+    }
+
+    /**
+     * Returns the respondents recorded by {@link FeedbackSessionRespondentsDb}, together with the ones
+     * still stored in the session entity if the respondents of the session have not been migrated yet.
+     *
+     * @see FeedbackSessionsDb#getLegacyRespondents(String, String, boolean)
+     */
+    private Set<String> getRespondents(String feedbackSessionName, String courseId, boolean isInstructor) {
+        Set<String> respondents = respondentsDb.getRespondents(feedbackSessionName, courseId, isInstructor);
+        respondents.addAll(fsDb.getLegacyRespondents(feedbackSessionName, courseId, isInstructor));
+        return respondents;
+    }
+
+    private boolean isRespondent(FeedbackSessionAttributes fsa, String email, boolean isInstructor) {
+        return respondentsDb.isRespondent(fsa.getFeedbackSessionName(), fsa.getCourseId(), email, isInstructor)
+                || fsDb.getLegacyRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId(), isInstructor)
+                        .contains(email);
+    }
+
+    /**
+     * Makes the respondents of the session the given ones. Only the respondents which differ are written,
+     * so that respondents recorded concurrently by submissions are not affected unless they have to change.
+     * The respondents still stored in the session entity are then removed, which completes their migration.
+     */
+    private void replaceRespondentsForSession(FeedbackSessionAttributes fsa,
+            Set<String> respondingInstructorList, Set<String> respondingStudentList) {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+        replaceRespondentsForSession(fsa, respondentsDb.getRespondents(feedbackSessionName, courseId, true),
+                                     respondingInstructorList, true);
+        replaceRespondentsForSession(fsa, respondentsDb.getRespondents(feedbackSessionName, courseId, false),
+                                     respondingStudentList, false);
+        fsDb.clearLegacyRespondents(feedbackSessionName, courseId);
+    }
+
+    private void replaceRespondentsForSession(FeedbackSessionAttributes fsa, Set<String> currentRespondents,
+            Set<String> newRespondents, boolean isInstructor) {
+        Set<String> respondentsToDelete = new HashSet<>(currentRespondents);
+        respondentsToDelete.removeAll(newRespondents);
+        Set<String> respondentsToAdd = new HashSet<>(newRespondents);
+        respondentsToAdd.removeAll(currentRespondents);
+
+        respondentsDb.deleteRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId(), respondentsToDelete,
+                                        isInstructor);
+        respondentsDb.addRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId(), respondentsToAdd, isInstructor);
+    }
+
+    /**
+     * Adds the givers of the responses in the session to {@code respondingInstructorList}
+     * or {@code respondingStudentList}, depending on whom the answered questions are for.
+     */
+    private void collectRespondentsForSession(FeedbackSessionAttributes fsa,
+            Set<String> respondingInstructorList, Set<String> respondingStudentList)
+            throws EntityDoesNotExistException {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
         List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
         List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
 
@@ -1198,8 +1517,6 @@ public final class FeedbackSessionsLogic {
             }
         }
 
-        Set<String> respondingStudentList = new HashSet<>();
-        Set<String> respondingInstructorList = new HashSet<>();
         List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
         for (FeedbackResponseAttributes response : responses) {
             List<String> instructorQuestions = instructorQuestionsMap.get(response.giver);
@@ -1209,9 +1526,6 @@ public final class FeedbackSessionsLogic {
                 respondingStudentList.add(response.giver);
             }
         }
-
-        addInstructorRespondents(new ArrayList<>(respondingInstructorList), feedbackSessionName, courseId);
-        addStudentRespondents(new ArrayList<>(respondingStudentList), feedbackSessionName, courseId);
     }
 
     public void deleteInstructorFromRespondentsList(InstructorAttributes instructor) {
@@ -1258,36 +1572,7 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
         }
 
-        fsDb.addInstructorRespondent(email, sessionToUpdate);
-    }
-
-    public void addInstructorRespondents(List<String> emails, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, emails);
-
-        FeedbackSessionAttributes sessionToUpdate = getFeedbackSession(feedbackSessionName, courseId);
-        if (sessionToUpdate == null) {
-            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
-        }
-
-        fsDb.addInstructorRespondents(emails, sessionToUpdate);
-    }
-
-    public void clearInstructorRespondents(String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-
-        FeedbackSessionAttributes sessionToUpdate = getFeedbackSession(feedbackSessionName, courseId);
-        if (sessionToUpdate == null) {
-            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
-        }
-
-        fsDb.clearInstructorRespondents(sessionToUpdate);
+        respondentsDb.addRespondents(feedbackSessionName, courseId, Arrays.asList(email), true);
     }
 
     public void addStudentRespondent(String email, String feedbackSessionName, String courseId)
@@ -1302,36 +1587,7 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
         }
 
-        fsDb.addStudentRespondent(email, sessionToUpdate);
-    }
-
-    public void addStudentRespondents(List<String> emails, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, emails);
-
-        FeedbackSessionAttributes sessionToUpdate = getFeedbackSession(feedbackSessionName, courseId);
-        if (sessionToUpdate == null) {
-            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
-        }
-
-        fsDb.addStudentRespondents(emails, sessionToUpdate);
-    }
-
-    public void clearStudentRespondents(String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-
-        FeedbackSessionAttributes sessionToUpdate = getFeedbackSession(feedbackSessionName, courseId);
-        if (sessionToUpdate == null) {
-            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
-        }
-
-        fsDb.clearStudentRespondents(sessionToUpdate);
+        respondentsDb.addRespondents(feedbackSessionName, courseId, Arrays.asList(email), false);
     }
 
     public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId)
@@ -1346,7 +1602,8 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
         }
 
-        fsDb.deleteInstructorRespondent(email, sessionToUpdate);
+        respondentsDb.deleteRespondent(feedbackSessionName, courseId, email, true);
+        fsDb.deleteLegacyRespondent(feedbackSessionName, courseId, email, true);
     }
 
     public void deleteStudentFromRespondentList(String email, String feedbackSessionName, String courseId)
@@ -1361,7 +1618,8 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
         }
 
-        fsDb.deleteStudentRespondent(email, sessionToUpdate);
+        respondentsDb.deleteRespondent(feedbackSessionName, courseId, email, false);
+        fsDb.deleteLegacyRespondent(feedbackSessionName, courseId, email, false);
     }
 
     /**
@@ -1462,6 +1720,7 @@ public final class FeedbackSessionsLogic {
      */
     public void deleteFeedbackSessionsForCourse(String courseId) {
         fsDb.deleteFeedbackSessionsForCourse(courseId);
+        respondentsDb.deleteRespondentsForCourses(Arrays.asList(courseId));
     }
 
     /**
@@ -1480,6 +1739,7 @@ public final class FeedbackSessionsLogic {
                 .builder(feedbackSessionName, courseId, "").build();
 
         fsDb.deleteEntity(sessionToDelete);
+        respondentsDb.deleteRespondentsForSession(feedbackSessionName, courseId);
 
     }
 
@@ -1494,25 +1754,8 @@ public final class FeedbackSessionsLogic {
 
         switch (fsa.getFeedbackSessionType()) {
         case STANDARD:
-            List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
-            List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
-            List<FeedbackQuestionAttributes> questions =
-                    fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
-            List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
-
-            if (!studentQns.isEmpty()) {
-                details.stats.expectedTotal += students.size();
-            }
-
-            for (InstructorAttributes instructor : instructors) {
-                List<FeedbackQuestionAttributes> instructorQns =
-                        fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email));
-                if (!instructorQns.isEmpty()) {
-                    details.stats.expectedTotal += 1;
-                }
-            }
-
-            details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
+            details.stats.expectedTotal = getExpectedRespondentTotal(fsa);
+            details.stats.submittedTotal += getNumberOfRespondents(fsa);
 
             break;
 
@@ -1521,15 +1764,16 @@ public final class FeedbackSessionsLogic {
                     fqLogic.getFeedbackQuestionsForInstructor(fsa.getFeedbackSessionName(),
                                                               fsa.getCourseId(),
                                                               fsa.getCreatorEmail());
+            CourseRoster roster = coursesLogic.getCourseRoster(fsa.getCourseId());
             List<FeedbackQuestionAttributes> validQuestions =
-                    fqLogic.getQuestionsWithRecipients(instructorQuestions, fsa.getCreatorEmail());
+                    fqLogic.getQuestionsWithRecipients(instructorQuestions, fsa.getCreatorEmail(), roster);
             if (validQuestions.isEmpty()) {
                 break;
             }
             details.stats.expectedTotal = 1;
             if (isFeedbackSessionFullyCompletedByInstructor(fsa.getFeedbackSessionName(),
                                                             fsa.getCourseId(),
-                                                            fsa.getCreatorEmail())) {
+                                                            fsa.getCreatorEmail(), roster)) {
                 details.stats.submittedTotal = 1;
             }
             break;
@@ -1541,6 +1785,100 @@ public final class FeedbackSessionsLogic {
         return details;
     }
 
+    /**
+     * Returns the number of students and instructors expected to respond to the standard session {@code fsa}.
+     * The number is stored on the session, and only computed if it is not known yet
+     * or was cleared because the questions or the course roster changed.
+     */
+    private int getExpectedRespondentTotal(FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        if (fsa.getExpectedRespondentTotal() != null) {
+            return fsa.getExpectedRespondentTotal();
+        }
+
+        // the version is read first so that the total is not stored if it is cleared while being computed;
+        // a total stored by a concurrent request in the meantime is kept
+        long version = fsDb.getExpectedRespondentTotalVersion(fsa);
+        return fsDb.storeExpectedRespondentTotalIfMissing(fsa, computeExpectedRespondentTotal(fsa), version);
+    }
+
+    private int computeExpectedRespondentTotal(FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
+
+        int expectedTotal = 0;
+        if (!studentQns.isEmpty()) {
+            expectedTotal += students.size();
+        }
+
+        for (InstructorAttributes instructor : instructors) {
+            List<FeedbackQuestionAttributes> instructorQns =
+                    fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email));
+            if (!instructorQns.isEmpty()) {
+                expectedTotal += 1;
+            }
+        }
+
+        return expectedTotal;
+    }
+
+    /**
+     * Marks the number of expected respondents of all sessions in the course as to be recomputed.
+     * This has to be called whenever students or instructors are added to or removed from the course.
+     */
+    public void clearExpectedRespondentTotalsForCourse(String courseId) {
+        fsDb.clearExpectedRespondentTotalsForCourse(courseId);
+    }
+
+    /**
+     * Marks the number of expected respondents of the session as to be recomputed.
+     * This has to be called whenever questions are added to or removed from the session,
+     * or the giver type of a question changes.
+     */
+    public void clearExpectedRespondentTotal(String feedbackSessionName, String courseId) {
+        fsDb.clearExpectedRespondentTotal(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Recomputes the respondents and the number of expected respondents of the session from its
+     * responses, questions and course roster, repairing any drift of the incrementally maintained values.
+     *
+     * @return true if any of the stored values had to be repaired
+     */
+    public boolean reconcileResponseRateStats(FeedbackSessionAttributes session)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        boolean isRepaired = false;
+
+        Set<String> respondingInstructorList = new HashSet<>();
+        Set<String> respondingStudentList = new HashSet<>();
+        collectRespondentsForSession(session, respondingInstructorList, respondingStudentList);
+        String feedbackSessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        if (!respondingInstructorList.equals(respondentsDb.getRespondents(feedbackSessionName, courseId, true))
+                || !respondingStudentList.equals(respondentsDb.getRespondents(feedbackSessionName, courseId, false))) {
+            // respondents still stored in the session entity are migrated too, which is not a repair
+            isRepaired = !respondingInstructorList.equals(getRespondingInstructors(session))
+                    || !respondingStudentList.equals(getRespondingStudents(session));
+            replaceRespondentsForSession(session, respondingInstructorList, respondingStudentList);
+        }
+
+        if (session.getFeedbackSessionType() == FeedbackSessionType.STANDARD) {
+            long version = fsDb.getExpectedRespondentTotalVersion(session);
+            int expectedTotal = computeExpectedRespondentTotal(session);
+            Integer storedTotal = session.getExpectedRespondentTotal();
+            // a missing value is only pending recomputation, not drift,
+            // and a value cleared during the recomputation is left to be recomputed
+            if ((storedTotal == null || storedTotal != expectedTotal)
+                    && fsDb.updateExpectedRespondentTotal(session, expectedTotal, version)) {
+                isRepaired = isRepaired || storedTotal != null;
+            }
+        }
+
+        return isRepaired;
+    }
+
     /* Get the feedback results for user in a section iterated by questions */
     private FeedbackSessionResultsBundle getFeedbackSessionResultsForUserInSectionByQuestions(
             String feedbackSessionName, String courseId, String userEmail,
@@ -1665,7 +2003,8 @@ public final class FeedbackSessionsLogic {
             sortByCreatedDate(responseCommentList);
         }
 
-        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, getInstructor(courseId, userEmail, role),
+                                   feedbackSessionName, section);
 
         return new FeedbackSessionResultsBundle(
                         session, responses, relevantQuestions, emailNameTable,
@@ -1702,8 +2041,12 @@ public final class FeedbackSessionsLogic {
         String questionId = params.get(PARAM_QUESTION_ID);
 
         if (questionId != null) {
-            return getFeedbackSessionResultsForQuestionId(feedbackSessionName, courseId, userEmail, role, roster, session,
-                    allQuestions, relevantQuestions, isIncludeResponseStatus, section, questionId);
+            InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+            Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+            addSectionTeamNamesToTable(sectionTeamNameTable, roster, instructor, feedbackSessionName, section);
+            return getFeedbackSessionResultsForQuestionId(courseId, userEmail, role, roster, session,
+                    allQuestions, relevantQuestions, isIncludeResponseStatus, section, instructor, sectionTeamNameTable,
+                    questionId);
         }
 
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
@@ -1752,25 +2095,87 @@ public final class FeedbackSessionsLogic {
             }
         }
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
-                feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                studentsEmailInTeam, relevantResponse);
+                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section),
+                userEmail, role, roster, relevantQuestions, student, studentsEmailInTeam, relevantResponse);
 
-        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, instructor, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, isComplete);
+        addQuestionStatistics(results, instructor, role, section);
+        return results;
+    }
+
+    /**
+     * Adds the stored statistics aggregates of the questions to the results of an instructor for the whole session,
+     * for questions whose responses are all visible to the instructor.
+     * Results for a section, of students, or of instructors who may not view some sections cover only some of
+     * the responses, so their statistics are always computed from their own responses.
+     *
+     * <p>A stored aggregate is only added if it was computed from exactly the responses in the results.
+     * One that lags behind the responses or the question details, e.g. because its recompute has not run yet
+     * or the request that changed a response died before scheduling it, is left out, so that the statistics
+     * are computed from the responses, and is scheduled to be recomputed.
+     */
+    private void addQuestionStatistics(FeedbackSessionResultsBundle results, InstructorAttributes instructor,
+                                       UserRole role, String section) {
+        if (!isInstructor(role) || section != null || !results.isComplete) {
+            return;
+        }
+
+        if (instructor != null) {
+            Set<String> sections = new HashSet<>(results.rosterSectionTeamNameTable.keySet());
+            sections.add(Const.DEFAULT_SECTION);
+            for (String sectionName : sections) {
+                if (!instructor.isAllowedForPrivilege(sectionName, results.feedbackSession.getFeedbackSessionName(),
+                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS)) {
+                    return;
+                }
+            }
+        }
+
+        List<FeedbackQuestionAttributes> questionsWithAllResponsesVisible = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : results.questions.values()) {
+            if (question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)) {
+                questionsWithAllResponsesVisible.add(question);
+            }
+        }
+        Map<String, FeedbackQuestionStatisticsAggregate> storedStatistics =
+                frLogic.getStatisticsForQuestions(questionsWithAllResponsesVisible);
+
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestion = new HashMap<>();
+        for (FeedbackResponseAttributes response : results.responses) {
+            responsesByQuestion.computeIfAbsent(response.feedbackQuestionId, id -> new ArrayList<>()).add(response);
+        }
+
+        List<String> questionIdsToRecompute = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : questionsWithAllResponsesVisible) {
+            if (!question.questionType.isStatisticsAggregated()) {
+                continue;
+            }
+            FeedbackQuestionStatisticsAggregate aggregate = storedStatistics.get(question.getId());
+            List<FeedbackResponseAttributes> responses =
+                    responsesByQuestion.getOrDefault(question.getId(), new ArrayList<>());
+            if (aggregate != null && aggregate.isOf(question.getQuestionDetails(), responses)) {
+                results.questionStatistics.put(question.getId(), aggregate);
+            } else {
+                questionIdsToRecompute.add(question.getId());
+            }
+        }
+        frLogic.scheduleStatisticsRecomputes(questionIdsToRecompute);
     }
 
+    /**
+     * Gets the comments among {@code allResponseComments} that are visible to the user, by the IDs of their responses.
+     */
     private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
-            String feedbackSessionName, String courseId, String userEmail, UserRole role, CourseRoster roster,
-            Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1832,16 +2237,16 @@ public final class FeedbackSessionsLogic {
         return null;
     }
 
-    private FeedbackSessionResultsBundle getFeedbackSessionResultsForQuestionId(String feedbackSessionName,
+    private FeedbackSessionResultsBundle getFeedbackSessionResultsForQuestionId(
                 String courseId, String userEmail, UserRole role, CourseRoster roster, FeedbackSessionAttributes session,
                 List<FeedbackQuestionAttributes> allQuestions, Map<String, FeedbackQuestionAttributes> relevantQuestions,
-                boolean isIncludeResponseStatus, String section, String questionId) {
+                boolean isIncludeResponseStatus, String section, InstructorAttributes instructor,
+                Map<String, Set<String>> sectionTeamNameTable, String questionId) {
 
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
         Map<String, String> emailNameTable = new HashMap<>();
         Map<String, String> emailLastNameTable = new HashMap<>();
         Map<String, String> emailTeamNameTable = new HashMap<>();
-        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
         Map<String, boolean[]> visibilityTable = new HashMap<>();
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
@@ -1852,7 +2257,7 @@ public final class FeedbackSessionsLogic {
                            ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
                            : null;
         } else {
-            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(questionId);
+            FeedbackQuestionAttributes question = getQuestion(allQuestions, questionId);
             if (question != null) {
                 relevantQuestions.put(question.getId(), question);
 
@@ -1872,7 +2277,6 @@ public final class FeedbackSessionsLogic {
                 if (hasResponses) {
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
                         boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
                                                                              question, instructor);
                         if (isVisibleResponse) {
@@ -1886,18 +2290,31 @@ public final class FeedbackSessionsLogic {
                         }
                     }
                     responseComments = getResponseComments(
-                            feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                            studentsEmailInTeam, relevantResponse);
+                            frcLogic.getFeedbackResponseCommentsForQuestionInSection(question.getId(), section),
+                            userEmail, role, roster, relevantQuestions, student, studentsEmailInTeam, relevantResponse);
                 }
             }
         }
-        addSectionTeamNamesToTable(
-                sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, true);
+        addQuestionStatistics(results, instructor, role, section);
+        return results;
+    }
+
+    /**
+     * Gets the question with the ID from {@code questions} of the session, or from the Datastore
+     * if it is not one of them.
+     */
+    private FeedbackQuestionAttributes getQuestion(List<FeedbackQuestionAttributes> questions, String questionId) {
+        for (FeedbackQuestionAttributes question : questions) {
+            if (question.getId().equals(questionId)) {
+                return question;
+            }
+        }
+        return fqLogic.getFeedbackQuestion(questionId);
     }
 
     private Map<String, FeedbackQuestionAttributes> getAllQuestions(
@@ -1953,9 +2370,8 @@ public final class FeedbackSessionsLogic {
     }
 
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
-                                    CourseRoster roster, String courseId, String userEmail, UserRole role,
+                                    CourseRoster roster, InstructorAttributes instructor,
                                     String feedbackSessionName, String sectionToView) {
-        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
         if (instructor != null) {
             for (StudentAttributes student : roster.getStudents()) {
                 boolean isVisibleResponse =
@@ -2169,8 +2585,9 @@ public final class FeedbackSessionsLogic {
                 responseStatus.emailTeamNameTable.put(student.email, student.team);
             }
         }
-        studentNoResponses.removeAll(fsa.getRespondingStudentList());
-        studentResponded.addAll(fsa.getRespondingStudentList());
+        Set<String> respondingStudents = getRespondingStudents(fsa);
+        studentNoResponses.removeAll(respondingStudents);
+        studentResponded.addAll(respondingStudents);
 
         for (InstructorAttributes instructor : instructors) {
             List<FeedbackQuestionAttributes> instructorQns = fqLogic
@@ -2181,7 +2598,7 @@ public final class FeedbackSessionsLogic {
                 responseStatus.emailNameTable.put(instructor.email, instructor.name);
             }
         }
-        instructorNoResponses.removeAll(fsa.getRespondingInstructorList());
+        instructorNoResponses.removeAll(getRespondingInstructors(fsa));
 
         responseStatus.noResponse.addAll(studentNoResponses);
         responseStatus.studentsWhoResponded.addAll(studentResponded);
@@ -2251,6 +2668,19 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName,
             String courseId, String userEmail)
             throws EntityDoesNotExistException {
+        return isFeedbackSessionFullyCompletedByStudent(feedbackSessionName, courseId, userEmail,
+                                                        coursesLogic.getCourseRoster(courseId));
+    }
+
+    /**
+     * Returns true if the student has answered all questions of the session, taking
+     * the possible recipients of the questions from {@code roster}.
+     * Pass the same roster when checking many students of the course.
+     */
+    public boolean isFeedbackSessionFullyCompletedByStudent(
+            String feedbackSessionName,
+            String courseId, String userEmail, CourseRoster roster)
+            throws EntityDoesNotExistException {
 
         if (!isFeedbackSessionExists(feedbackSessionName, courseId)) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_CHECK + courseId + "/" + feedbackSessionName);
@@ -2261,7 +2691,7 @@ public final class FeedbackSessionsLogic {
                         courseId);
 
         for (FeedbackQuestionAttributes question : allQuestions) {
-            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail)) {
+            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail, roster)) {
                 // If any question is not completely answered, session is not
                 // completed
                 return false;
@@ -2272,7 +2702,7 @@ public final class FeedbackSessionsLogic {
 
     private boolean isFeedbackSessionFullyCompletedByInstructor(
             String feedbackSessionName,
-            String courseId, String userEmail)
+            String courseId, String userEmail, CourseRoster roster)
             throws EntityDoesNotExistException {
 
         if (!isFeedbackSessionExists(feedbackSessionName, courseId)) {
@@ -2285,7 +2715,7 @@ public final class FeedbackSessionsLogic {
                         userEmail);
 
         for (FeedbackQuestionAttributes question : allQuestions) {
-            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail)) {
+            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail, roster)) {
                 // If any question is not completely answered, session is not
                 // completed
                 return false;
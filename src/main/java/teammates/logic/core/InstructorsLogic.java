@@ -91,7 +91,9 @@ public final class InstructorsLogic {
 
         log.info("going to create instructor :\n" + instructorToAdd.toString());
 
-        return instructorsDb.createInstructor(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createInstructor(instructorToAdd);
+        fsLogic.clearExpectedRespondentTotalsForCourse(instructorToAdd.courseId);
+        return createdInstructor;
     }
 
     public void setArchiveStatusOfInstructor(String googleId, String courseId, boolean archiveStatus)
@@ -219,6 +221,8 @@ public final class InstructorsLogic {
         InstructorAttributes currentInstructor = getInstructorForGoogleId(instructor.courseId, instructor.googleId);
         if (!currentInstructor.email.equals(instructor.email)) {
             fsLogic.updateRespondentsForInstructor(currentInstructor.email, instructor.email, instructor.courseId);
+            // whether the instructor is the creator of a session depends on the email
+            fsLogic.clearExpectedRespondentTotalsForCourse(instructor.courseId);
         }
     }
 
@@ -285,6 +289,7 @@ public final class InstructorsLogic {
     public void deleteInstructorCascade(String courseId, String email) {
         fsLogic.deleteInstructorFromRespondentsList(getInstructorForEmail(courseId, email));
         instructorsDb.deleteInstructor(courseId, email);
+        fsLogic.clearExpectedRespondentTotalsForCourse(courseId);
     }
 
     public void deleteInstructorsForGoogleIdAndCascade(String googleId) {
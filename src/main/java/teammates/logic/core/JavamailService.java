@@ -46,9 +46,10 @@ public class JavamailService extends EmailSenderService {
     }
 
     @Override
-    protected void sendEmailWithService(EmailWrapper wrapper) throws AddressException, MessagingException, IOException {
+    protected boolean sendEmailWithService(EmailWrapper wrapper) throws AddressException, MessagingException, IOException {
         MimeMessage email = parseToEmail(wrapper);
         Transport.send(email);
+        return true;
     }
 
 }
@@ -1,13 +1,21 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.ws.rs.core.MediaType;
 
+import org.json.JSONObject;
+
 import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
 import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.UniformInterfaceException;
 import com.sun.jersey.api.client.WebResource;
 import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -20,6 +28,9 @@ import teammates.common.util.Logger;
  */
 public class MailgunService extends EmailSenderService {
 
+    private static final String SUBJECT_VARIABLE = "subject";
+    private static final String HTML_CONTENT_VARIABLE = "html";
+
     private static final Logger log = Logger.getLogger();
 
     /**
@@ -29,10 +40,7 @@ public class MailgunService extends EmailSenderService {
     public FormDataMultiPart parseToEmail(EmailWrapper wrapper) {
         FormDataMultiPart formData = new FormDataMultiPart();
 
-        String sender = wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
-                        ? wrapper.getSenderEmail()
-                        : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
-        formData.field("from", sender);
+        formData.field("from", getSender(wrapper));
 
         formData.field("to", wrapper.getRecipient());
 
@@ -47,19 +55,80 @@ public class MailgunService extends EmailSenderService {
         return formData;
     }
 
+    /**
+     * Parses the {@code wrappers} emails, which share the same sender and reply-to address and have distinct recipients
+     * (see {@link #groupIntoBatchRequests(List)}), to one Mailgun batch message sent to each recipient separately.
+     * The recipient variables personalize the subject and content of each recipient's email.
+     */
+    public FormDataMultiPart parseToBatchEmail(List<EmailWrapper> wrappers) {
+        FormDataMultiPart formData = new FormDataMultiPart();
+
+        EmailWrapper firstWrapper = wrappers.get(0);
+        formData.field("from", getSender(firstWrapper));
+
+        JSONObject recipientVariables = new JSONObject();
+        for (EmailWrapper wrapper : wrappers) {
+            formData.field("to", wrapper.getRecipient());
+            recipientVariables.put(wrapper.getRecipient(), new JSONObject()
+                    .put(SUBJECT_VARIABLE, wrapper.getSubject())
+                    .put(HTML_CONTENT_VARIABLE, wrapper.getContent()));
+        }
+        formData.field("recipient-variables", recipientVariables.toString());
+
+        formData.field("h:Reply-To", firstWrapper.getReplyTo());
+        formData.field("subject", "%recipient." + SUBJECT_VARIABLE + "%");
+        formData.field("html", "%recipient." + HTML_CONTENT_VARIABLE + "%");
+
+        return formData;
+    }
+
+    @Override
+    protected boolean sendEmailWithService(EmailWrapper wrapper) {
+        return sendEmailWithResource(createMessagesResource(), parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc} The emails with the same sender are sent in one request, which is accepted or rejected as a whole.
+     */
     @Override
-    protected void sendEmailWithService(EmailWrapper wrapper) {
-        FormDataMultiPart email = parseToEmail(wrapper);
+    protected List<EmailWrapper> sendEmailsWithService(List<EmailWrapper> wrappers) {
+        WebResource webResource = createMessagesResource();
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (List<EmailWrapper> request : groupIntoBatchRequests(wrappers)) {
+            FormDataMultiPart email = request.size() == 1 ? parseToEmail(request.get(0)) : parseToBatchEmail(request);
+            try {
+                if (!sendEmailWithResource(webResource, email)) {
+                    failedEmails.addAll(request);
+                }
+            } catch (ClientHandlerException | UniformInterfaceException e) {
+                log.warning("Batch of " + request.size() + " emails failed to send: "
+                            + TeammatesException.toStringWithStackTrace(e));
+                failedEmails.addAll(request);
+            }
+        }
+        return inGivenOrder(wrappers, failedEmails);
+    }
+
+    private static String getSender(EmailWrapper wrapper) {
+        return wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
+               ? wrapper.getSenderEmail()
+               : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
+    }
+
+    private WebResource createMessagesResource() {
         Client client = Client.create();
         client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
-        WebResource webResource =
-                client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+        return client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+    }
 
+    private boolean sendEmailWithResource(WebResource webResource, FormDataMultiPart email) {
         ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
                                              .post(ClientResponse.class, email);
         if (response.getStatus() != SUCCESS_CODE) {
             log.severe("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
+            return false;
         }
+        return true;
     }
 
 }
@@ -1,16 +1,22 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
 
+import com.mailjet.client.ClientOptions;
 import com.mailjet.client.MailjetClient;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.MailjetResponse;
 import com.mailjet.client.errors.MailjetException;
 import com.mailjet.client.errors.MailjetSocketTimeoutException;
 import com.mailjet.client.resource.Email;
+import com.mailjet.client.resource.Emailv31;
 
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -25,6 +31,9 @@ import teammates.common.util.Logger;
  */
 public class MailjetService extends EmailSenderService {
 
+    private static final String SEND_API_VERSION = "v3.1";
+    private static final String MESSAGE_SUCCESS_STATUS = "success";
+
     private static final Logger log = Logger.getLogger();
 
     /**
@@ -50,14 +59,87 @@ public class MailjetService extends EmailSenderService {
         return request;
     }
 
+    /**
+     * Parses the {@code wrappers} emails to one request of the Mailjet Send API v3.1,
+     * which carries each email as a separate message.
+     */
+    public MailjetRequest parseToBatchEmail(List<EmailWrapper> wrappers) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            JSONObject from = new JSONObject().put("Email", wrapper.getSenderEmail());
+            if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
+                from.put("Name", wrapper.getSenderName());
+            }
+
+            JSONObject message = new JSONObject()
+                    .put(Emailv31.Message.FROM, from)
+                    .put(Emailv31.Message.TO, new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient())))
+                    .put(Emailv31.Message.REPLYTO, new JSONObject().put("Email", wrapper.getReplyTo()))
+                    .put(Emailv31.Message.SUBJECT, wrapper.getSubject())
+                    .put(Emailv31.Message.HTMLPART, wrapper.getContent())
+                    .put(Emailv31.Message.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                message.put(Emailv31.Message.BCC, new JSONArray().put(new JSONObject().put("Email", wrapper.getBcc())));
+            }
+            messages.put(message);
+        }
+        return new MailjetRequest(Emailv31.resource).property(Emailv31.MESSAGES, messages);
+    }
+
     @Override
-    protected void sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
-        MailjetRequest email = parseToEmail(wrapper);
+    protected boolean sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
         MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
-        MailjetResponse response = mailjet.post(email);
+        MailjetResponse response = mailjet.post(parseToEmail(wrapper));
         if (response.getStatus() != SUCCESS_CODE) {
             log.severe("Email failed to send: " + response.getData().toString());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} All emails of the batch are sent in one request of the Send API v3.1,
+     * whose response gives the status of each email.
+     */
+    @Override
+    protected List<EmailWrapper> sendEmailsWithService(List<EmailWrapper> wrappers) {
+        MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY,
+                                                  new ClientOptions(SEND_API_VERSION));
+        try {
+            MailjetResponse response = mailjet.post(parseToBatchEmail(wrappers));
+            return getFailedEmails(wrappers, response);
+        } catch (MailjetException | MailjetSocketTimeoutException e) {
+            log.warning("Batch of " + wrappers.size() + " emails failed to send: "
+                        + TeammatesException.toStringWithStackTrace(e));
+            return new ArrayList<>(wrappers);
+        }
+    }
+
+    /**
+     * Maps the status of each message in the Send API v3.1 {@code response} back to the email it was sent for.
+     * The messages of the response are in the order of the request.
+     */
+    private static List<EmailWrapper> getFailedEmails(List<EmailWrapper> wrappers, MailjetResponse response) {
+        // responses without the "Data" array of the earlier API are given as the only element of the data
+        JSONArray messageResults = response.getData().getJSONObject(0).optJSONArray(Emailv31.MESSAGES);
+        if (messageResults == null || messageResults.length() != wrappers.size()) {
+            if (response.getStatus() == SUCCESS_CODE) {
+                return new ArrayList<>();
+            }
+            log.severe("Batch of " + wrappers.size() + " emails failed to send: " + response.getData().toString());
+            return new ArrayList<>(wrappers);
+        }
+
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (int i = 0; i < wrappers.size(); i++) {
+            JSONObject messageResult = messageResults.getJSONObject(i);
+            if (!MESSAGE_SUCCESS_STATUS.equals(messageResult.optString("Status"))) {
+                log.severe("Email failed to send: " + wrappers.get(i).getInfoForLogging() + "\n"
+                           + messageResult.toString());
+                failedEmails.add(wrappers.get(i));
+            }
         }
+        return failedEmails;
     }
 
 }
@@ -43,8 +43,9 @@ public final class ProfilesLogic {
         profilesDb.deletePicture(key);
     }
 
-    public void updateStudentProfilePicture(String googleId, String newPictureKey) throws EntityDoesNotExistException {
-        profilesDb.updateStudentProfilePicture(googleId, newPictureKey);
+    public void updateStudentProfilePicture(String googleId, String newPictureKey, String newPictureThumbnailKey)
+            throws EntityDoesNotExistException {
+        profilesDb.updateStudentProfilePicture(googleId, newPictureKey, newPictureThumbnailKey);
     }
 
     /**
@@ -1,5 +1,8 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jsoup.Jsoup;
 
 import com.sendgrid.SendGrid;
@@ -7,6 +10,7 @@ import com.sendgrid.SendGrid.Email;
 import com.sendgrid.SendGrid.Response;
 import com.sendgrid.SendGridException;
 
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -19,6 +23,10 @@ import teammates.common.util.Logger;
  */
 public class SendgridService extends EmailSenderService {
 
+    private static final String SUBJECT_TAG = "-teammatesSubject-";
+    private static final String HTML_CONTENT_TAG = "-teammatesHtmlContent-";
+    private static final String TEXT_CONTENT_TAG = "-teammatesTextContent-";
+
     private static final Logger log = Logger.getLogger();
 
     /**
@@ -42,14 +50,75 @@ public class SendgridService extends EmailSenderService {
         return email;
     }
 
+    /**
+     * Parses the {@code wrappers} emails, which share the same sender and reply-to address
+     * (see {@link #groupIntoBatchRequests(List)}), to one SendGrid email sent to each recipient separately.
+     * The recipients are given in the X-SMTPAPI header, whose substitutions personalize the subject and content
+     * of each recipient's email.
+     */
+    public Email parseToBatchEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper firstWrapper = wrappers.get(0);
+        Email email = new Email();
+        email.setFrom(firstWrapper.getSenderEmail());
+        if (firstWrapper.getSenderName() != null && !firstWrapper.getSenderName().isEmpty()) {
+            email.setFromName(firstWrapper.getSenderName());
+        }
+        email.setReplyTo(firstWrapper.getReplyTo());
+
+        String[] subjects = new String[wrappers.size()];
+        String[] htmlContents = new String[wrappers.size()];
+        String[] textContents = new String[wrappers.size()];
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            email.addSmtpApiTo(wrapper.getRecipient());
+            subjects[i] = wrapper.getSubject();
+            htmlContents[i] = wrapper.getContent();
+            textContents[i] = Jsoup.parse(wrapper.getContent()).text();
+        }
+
+        email.setSubject(SUBJECT_TAG);
+        email.setHtml(HTML_CONTENT_TAG);
+        email.setText(TEXT_CONTENT_TAG);
+        email.addSubstitution(SUBJECT_TAG, subjects);
+        email.addSubstitution(HTML_CONTENT_TAG, htmlContents);
+        email.addSubstitution(TEXT_CONTENT_TAG, textContents);
+        return email;
+    }
+
+    @Override
+    protected boolean sendEmailWithService(EmailWrapper wrapper) throws SendGridException {
+        return sendEmailWithClient(new SendGrid(Config.SENDGRID_APIKEY), parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc} The emails with the same sender are sent in one request, which is accepted or rejected as a whole.
+     */
     @Override
-    protected void sendEmailWithService(EmailWrapper wrapper) throws SendGridException {
-        Email email = parseToEmail(wrapper);
+    protected List<EmailWrapper> sendEmailsWithService(List<EmailWrapper> wrappers) {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (List<EmailWrapper> request : groupIntoBatchRequests(wrappers)) {
+            Email email = request.size() == 1 ? parseToEmail(request.get(0)) : parseToBatchEmail(request);
+            try {
+                if (!sendEmailWithClient(sendgrid, email)) {
+                    failedEmails.addAll(request);
+                }
+            } catch (SendGridException e) {
+                log.warning("Batch of " + request.size() + " emails failed to send: "
+                            + TeammatesException.toStringWithStackTrace(e));
+                failedEmails.addAll(request);
+            }
+        }
+        return inGivenOrder(wrappers, failedEmails);
+    }
+
+    private boolean sendEmailWithClient(SendGrid sendgrid, Email email) throws SendGridException {
         Response response = sendgrid.send(email);
         if (response.getCode() != SUCCESS_CODE) {
             log.severe("Email failed to send: " + response.getMessage());
+            return false;
         }
+        return true;
     }
 
 }
@@ -1,7 +1,12 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.StudentAttributesFactory;
@@ -72,6 +77,7 @@ public final class StudentsLogic {
                     "Course does not exist [" + studentData.course + "]");
         }
 
+        fsLogic.clearExpectedRespondentTotalsForCourse(studentData.course);
     }
 
     /**
@@ -106,6 +112,10 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForTeam(teamName, courseId);
     }
 
+    public List<StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        return studentsDb.getStudentsForEmails(courseId, emails);
+    }
+
     public List<StudentAttributes> getStudentsForSection(String sectionName, String courseId) {
         return studentsDb.getStudentsForSection(sectionName, courseId);
     }
@@ -285,7 +295,7 @@ public final class StudentsLogic {
     }
 
     private CourseEnrollmentResult enrollStudents(String enrollLines, String courseId, boolean hasDocument)
-            throws EntityDoesNotExistException, EnrollException, InvalidParametersException, EntityAlreadyExistsException {
+            throws EntityDoesNotExistException, EnrollException, InvalidParametersException {
 
         if (!coursesLogic.isCoursePresent(courseId)) {
             throw new EntityDoesNotExistException("Course does not exist :"
@@ -297,28 +307,47 @@ public final class StudentsLogic {
         }
 
         List<StudentAttributes> studentList = createStudents(enrollLines, courseId);
-        ArrayList<StudentAttributes> returnList = new ArrayList<>();
-        ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
-
         verifyIsWithinSizeLimitPerEnrollment(studentList);
-        validateSectionsAndTeams(studentList, courseId);
 
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
+        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        validateSectionsAndTeams(studentList, studentsInCourse);
+
+        Map<String, StudentAttributes> studentsInCourseByEmail = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            studentsInCourseByEmail.put(student.email, student);
+        }
+
+        List<StudentAttributes> studentsToCreate = new ArrayList<>();
+        List<StudentAttributes> studentsToUpdate = new ArrayList<>();
+        ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
         for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
+            StudentAttributes originalStudent = studentsInCourseByEmail.get(student.email);
+            StudentEnrollDetails enrollmentDetails = getEnrollmentDetails(student, originalStudent);
 
-            enrollmentDetails = enrollStudent(student, hasDocument);
+            if (enrollmentDetails.updateStatus == StudentUpdateStatus.MODIFIED) {
+                // prepare the updated student using the KeepOriginal policy of the update cascade
+                student.updateWithExistingRecord(originalStudent);
+                if (!student.isValid()) {
+                    throw new InvalidParametersException(student.getInvalidityInfo());
+                }
+                studentsToUpdate.add(student);
+            } else if (enrollmentDetails.updateStatus == StudentUpdateStatus.NEW) {
+                studentsToCreate.add(student);
+            }
             student.updateStatus = enrollmentDetails.updateStatus;
-
             enrollmentList.add(enrollmentDetails);
-            returnList.add(student);
+        }
+
+        if (!studentsToCreate.isEmpty() || !studentsToUpdate.isEmpty()) {
+            studentsDb.createAndUpdateStudents(studentsToCreate, studentsToUpdate, hasDocument);
+            fsLogic.clearExpectedRespondentTotalsForCourse(courseId);
         }
 
         // add to return list students not included in the enroll list.
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        ArrayList<StudentAttributes> returnList = new ArrayList<>(studentList);
+        Set<String> enrolledEmails = getLowerCaseEmails(studentList);
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, returnList)) {
+            if (!enrolledEmails.contains(student.email.toLowerCase())) {
                 student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
                 returnList.add(student);
             }
@@ -337,8 +366,13 @@ public final class StudentsLogic {
      * Validates sections for any limit violations and teams for any team name violations.
      */
     public void validateSectionsAndTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
+        validateSectionsAndTeams(studentList, getStudentsForCourse(courseId));
+    }
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+    private void validateSectionsAndTeams(List<StudentAttributes> studentList, List<StudentAttributes> studentsInCourse)
+            throws EnrollException {
+
+        List<StudentAttributes> mergedList = getMergedList(studentList, studentsInCourse);
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -357,7 +391,7 @@ public final class StudentsLogic {
      */
     public void validateTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+        List<StudentAttributes> mergedList = getMergedList(studentList, getStudentsForCourse(courseId));
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -371,17 +405,14 @@ public final class StudentsLogic {
 
     }
 
-    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
+    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList,
+            List<StudentAttributes> studentsInCourse) {
 
-        List<StudentAttributes> mergedList = new ArrayList<>();
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
-
-        for (StudentAttributes student : studentList) {
-            mergedList.add(student);
-        }
+        List<StudentAttributes> mergedList = new ArrayList<>(studentList);
+        Set<String> mergedEmails = getLowerCaseEmails(studentList);
 
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
+            if (mergedEmails.add(student.email.toLowerCase())) {
                 mergedList.add(student);
             }
         }
@@ -476,6 +507,7 @@ public final class StudentsLogic {
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
         fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
         studentsDb.deleteStudent(courseId, studentEmail, hasDocument);
+        fsLogic.clearExpectedRespondentTotalsForCourse(courseId);
     }
 
     public void deleteStudentsForGoogleId(String googleId) {
@@ -484,6 +516,9 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleId(googleId);
+        for (StudentAttributes student : students) {
+            fsLogic.clearExpectedRespondentTotalsForCourse(student.course);
+        }
     }
 
     public void deleteStudentsForGoogleIdWithoutDocument(String googleId) {
@@ -492,6 +527,9 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleIdWithoutDocument(googleId);
+        for (StudentAttributes student : students) {
+            fsLogic.clearExpectedRespondentTotalsForCourse(student.course);
+        }
     }
 
     public void deleteStudentsForGoogleIdAndCascade(String googleId) {
@@ -530,6 +568,34 @@ public final class StudentsLogic {
         }
     }
 
+    /**
+     * Adjusts multiple feedback responses for the changes in {@code enrollmentList} in the same way as
+     * {@link #adjustFeedbackResponseForEnrollments(List, FeedbackResponseAttributes)}, but matches the responses
+     * against an index of the emails of students who changed team or section, and adjusts all affected
+     * responses with batched Datastore operations.
+     */
+    public void adjustFeedbackResponsesForEnrollments(List<StudentEnrollDetails> enrollmentList,
+            List<FeedbackResponseAttributes> responses) throws InvalidParametersException, EntityDoesNotExistException {
+        Map<String, StudentEnrollDetails> teamChangesByEmail = new HashMap<>();
+        Map<String, StudentEnrollDetails> sectionChangesByEmail = new HashMap<>();
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus != StudentUpdateStatus.MODIFIED) {
+                continue;
+            }
+            if (isTeamChanged(enrollment.oldTeam, enrollment.newTeam)) {
+                teamChangesByEmail.put(enrollment.email, enrollment);
+            }
+            if (isSectionChanged(enrollment.oldSection, enrollment.newSection)) {
+                sectionChangesByEmail.put(enrollment.email, enrollment);
+            }
+        }
+
+        if (teamChangesByEmail.isEmpty() && sectionChangesByEmail.isEmpty()) {
+            return;
+        }
+        frLogic.updateFeedbackResponsesForChangingTeamsAndSections(responses, teamChangesByEmail, sectionChangesByEmail);
+    }
+
     public void putDocument(StudentAttributes student) {
         studentsDb.putDocument(student);
     }
@@ -541,34 +607,30 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
-
+    /**
+     * Returns the enrollment details of {@code student} compared against its existing record
+     * {@code originalStudent}, which is null if the student is not in the course yet.
+     */
+    private StudentEnrollDetails getEnrollmentDetails(StudentAttributes student, StudentAttributes originalStudent) {
         StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
-        enrollmentDetails.course = validStudentAttributes.course;
-        enrollmentDetails.email = validStudentAttributes.email;
-        enrollmentDetails.newTeam = validStudentAttributes.team;
-        enrollmentDetails.newSection = validStudentAttributes.section;
+        enrollmentDetails.course = student.course;
+        enrollmentDetails.email = student.email;
+        enrollmentDetails.newTeam = student.team;
+        enrollmentDetails.newSection = student.section;
 
-        boolean isModifyingExistingStudent = originalStudentAttributes != null;
-        if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
+        if (student.isEnrollInfoSameAs(originalStudent)) {
             enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
-        } else if (isModifyingExistingStudent) {
-            updateStudentCascadeWithSubmissionAdjustmentScheduled(originalStudentAttributes.email,
-                                                                  validStudentAttributes, true);
+        } else if (originalStudent == null) {
+            enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
+        } else {
             enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
 
-            if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
-                enrollmentDetails.oldTeam = originalStudentAttributes.team;
+            if (!originalStudent.team.equals(student.team)) {
+                enrollmentDetails.oldTeam = originalStudent.team;
             }
-            if (!originalStudentAttributes.section.equals(validStudentAttributes.section)) {
-                enrollmentDetails.oldSection = originalStudentAttributes.section;
+            if (!originalStudent.section.equals(student.section)) {
+                enrollmentDetails.oldSection = originalStudent.section;
             }
-        } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
-            enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
         }
 
         return enrollmentDetails;
@@ -586,6 +648,7 @@ public final class StudentsLogic {
         List<String> invalidityInfo = new ArrayList<>();
         String[] linesArray = lines.split(Const.EOL);
         List<StudentAttributes> studentList = new ArrayList<>();
+        Map<String, Integer> studentIndexByEmail = new HashMap<>();
 
         StudentAttributesFactory saf = new StudentAttributesFactory(linesArray[0]);
 
@@ -602,8 +665,8 @@ public final class StudentsLogic {
                     invalidityInfo.add(invalidStudentInfo(sanitizedLine, student));
                 }
 
-                int duplicateEmailIndex = getDuplicateEmailIndex(student.email, studentList);
-                if (duplicateEmailIndex != -1) {
+                Integer duplicateEmailIndex = studentIndexByEmail.putIfAbsent(student.email, studentList.size());
+                if (duplicateEmailIndex != null) {
                     invalidityInfo.add(duplicateEmailInfo(sanitizedLine, linesArray[duplicateEmailIndex + 1]));
                 }
 
@@ -630,19 +693,6 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, info);
     }
 
-    /**
-     * Returns the index of the first occurrence of the duplicate {@code email} in
-     * {@code studentList}, or -1 if {@code email} is not a duplicate in {@code studentList}.
-     */
-    private int getDuplicateEmailIndex(String email, List<StudentAttributes> studentList) {
-        for (int index = 0; index < studentList.size(); index++) {
-            if (studentList.get(index).email.equals(email)) {
-                return index;
-            }
-        }
-        return -1;
-    }
-
     /**
      * Returns a {@code String} containing the duplicate email information in {@code duplicateEmailInfo} and
      * the corresponding sanitized invalid {@code userInput}.
@@ -662,14 +712,12 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, errorMessage);
     }
 
-    private boolean isInEnrollList(StudentAttributes student,
-            List<StudentAttributes> studentInfoList) {
-        for (StudentAttributes studentInfo : studentInfoList) {
-            if (studentInfo.email.equalsIgnoreCase(student.email)) {
-                return true;
-            }
+    private Set<String> getLowerCaseEmails(List<StudentAttributes> students) {
+        Set<String> emails = new HashSet<>();
+        for (StudentAttributes student : students) {
+            emails.add(student.email.toLowerCase());
         }
-        return false;
+        return emails;
     }
 
     private boolean isTeamChanged(String originalTeam, String newTeam) {
@@ -1,11 +1,17 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import com.google.appengine.api.taskqueue.Queue;
 import com.google.appengine.api.taskqueue.QueueFactory;
+import com.google.appengine.api.taskqueue.TaskAlreadyExistsException;
 import com.google.appengine.api.taskqueue.TaskOptions;
 
+import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -13,6 +19,13 @@ import teammates.common.util.TaskWrapper;
  */
 public class TaskQueuesLogic {
 
+    /**
+     * The maximum number of tasks that can be added to a queue in one call.
+     */
+    public static final int MAX_TASKS_PER_BATCH = 100;
+
+    private static final Logger log = Logger.getLogger();
+
     /**
      * Adds the given task to the specified queue.
      *
@@ -30,6 +43,62 @@ public class TaskQueuesLogic {
      */
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         Queue requiredQueue = QueueFactory.getQueue(task.getQueueName());
+        requiredQueue.add(makeTaskOptions(task, countdownTime));
+    }
+
+    /**
+     * Adds the given tasks to their specified queues, each to be run after its own countdown time.
+     * The tasks are grouped by queue and added with one call per {@value #MAX_TASKS_PER_BATCH} tasks.
+     *
+     * <p>Each task without a name is given a unique name, so that a task is added at most once. A named task
+     * whose name was already used is skipped, without keeping the other tasks from being added.
+     * As a call can fail after adding some of the tasks, the tasks of a failed call are added again one by one,
+     * skipping those which turn out to have been added already. A task which still cannot be added is logged and dropped,
+     * so that it does not keep the other tasks from being added.
+     *
+     * @param tasks the task objects containing the details of tasks to be added
+     */
+    public void addTasks(List<TaskWrapper> tasks) {
+        Map<String, List<TaskOptions>> tasksByQueue = new LinkedHashMap<>();
+        for (TaskWrapper task : tasks) {
+            tasksByQueue.computeIfAbsent(task.getQueueName(), queueName -> new ArrayList<>())
+                    .add(makeTaskOptions(task, task.getCountdownTime())
+                            .taskName(task.getTaskName() == null ? UUID.randomUUID().toString() : task.getTaskName()));
+        }
+
+        for (Map.Entry<String, List<TaskOptions>> queueTasks : tasksByQueue.entrySet()) {
+            Queue requiredQueue = QueueFactory.getQueue(queueTasks.getKey());
+            List<TaskOptions> tasksToBeAdded = queueTasks.getValue();
+            for (int i = 0; i < tasksToBeAdded.size(); i += MAX_TASKS_PER_BATCH) {
+                List<TaskOptions> batch =
+                        tasksToBeAdded.subList(i, Math.min(i + MAX_TASKS_PER_BATCH, tasksToBeAdded.size()));
+                try {
+                    requiredQueue.add(batch);
+                } catch (TaskAlreadyExistsException e) {
+                    // the other tasks of the batch are added all the same
+                } catch (Exception e) {
+                    log.warning("Error when adding a batch of " + batch.size() + " tasks to queue "
+                                + queueTasks.getKey() + ", adding them one by one: " + e.getMessage());
+                    addTasksNotYetAdded(requiredQueue, batch);
+                }
+            }
+        }
+    }
+
+    private void addTasksNotYetAdded(Queue queue, List<TaskOptions> tasks) {
+        for (TaskOptions task : tasks) {
+            try {
+                queue.add(task);
+            } catch (TaskAlreadyExistsException e) {
+                // the task was added by the failed batch call
+            } catch (Exception e) {
+                log.severe("Error when adding task " + task.getTaskName() + " to queue " + queue.getQueueName()
+                           + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private TaskOptions makeTaskOptions(TaskWrapper task, long countdownTime) {
         TaskOptions taskToBeAdded = TaskOptions.Builder.withUrl(task.getWorkerUrl());
         if (countdownTime > 0) {
             taskToBeAdded.countdownMillis(countdownTime);
@@ -43,8 +112,7 @@ public class TaskQueuesLogic {
                 taskToBeAdded = taskToBeAdded.param(name, value);
             }
         }
-
-        requiredQueue.add(taskToBeAdded);
+        return taskToBeAdded;
     }
 
 }
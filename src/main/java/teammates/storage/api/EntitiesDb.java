@@ -4,6 +4,8 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -24,12 +26,19 @@ import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.Logger;
 import teammates.storage.entity.BaseEntity;
+import teammates.storage.entity.EntityChange;
 import teammates.storage.search.SearchDocument;
 import teammates.storage.search.SearchManager;
 import teammates.storage.search.SearchQuery;
 
 /**
  * Base class for all classes performing CRUD operations against the Datastore.
+ *
+ * <p>Every write is recorded in the journal of entity changes (see {@link EntityChangesDb}), together with
+ * the write: the changes of saved entities are put in the same batch as the entities, and deletions and
+ * new entities with auto-generated IDs (whose keys are only known once they are put) are written with their
+ * changes in transactions of a few entities each.
+ *
  * @param <E> Specific entity class
  * @param <A> Specific attributes class
  */
@@ -52,6 +61,17 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * The maximum number of entities written with their changes in one transaction. A transaction spans
+     * at most 25 entity groups, and every entity and every change may be in a group of its own.
+     */
+    private static final int MAX_ENTITIES_PER_TRANSACTION = 12;
+
+    /**
+     * Maximum number of values in one "in" filter, as each value is run as a separate Datastore subquery.
+     */
+    protected static final int MAX_VALUES_PER_IN_FILTER = 30;
+
     /**
      * Preconditions:
      * <br> * {@code entityToAdd} is not null and has valid data.
@@ -64,6 +84,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesToAdd);
 
         List<A> entitiesToUpdate = new ArrayList<>();
+        List<A> entitiesToCreate = new ArrayList<>();
         List<E> entities = new ArrayList<>();
 
         for (A entityToAdd : entitiesToAdd) {
@@ -78,10 +99,11 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             } else {
                 E entity = entityToAdd.toEntity();
                 entities.add(entity);
+                entitiesToCreate.add(entityToAdd);
             }
         }
 
-        saveEntities(entities, entitiesToAdd);
+        saveEntities(entities, entitiesToCreate);
 
         return entitiesToUpdate;
     }
@@ -174,35 +196,85 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         saveEntity(entityToSave, makeAttributes(entityToSave));
     }
 
-    protected void saveEntity(E entityToSave, A entityToSaveAttributesForLogging) {
-        ofy().save().entity(entityToSave).now();
-        log.info(entityToSaveAttributesForLogging.getBackupIdentifier());
+    /**
+     * Saves the entity and records the change in the journal of entity changes.
+     *
+     * @param entityToSaveAttributes the attributes of the entity to save
+     */
+    protected void saveEntity(E entityToSave, A entityToSaveAttributes) {
+        saveEntities(Collections.singletonList(entityToSave), Collections.singletonList(entityToSaveAttributes));
     }
 
     protected void saveEntities(Collection<E> entitiesToSave) {
         saveEntities(entitiesToSave, makeAttributes(entitiesToSave));
     }
 
-    protected void saveEntities(Collection<E> entitiesToSave, Collection<A> entitiesToSaveAttributesForLogging) {
-        for (A attributes : entitiesToSaveAttributesForLogging) {
-            log.info(attributes.getBackupIdentifier());
+    /**
+     * Saves the entities and records the changes in the journal of entity changes.
+     *
+     * @param entitiesToSaveAttributes the attributes of the entities to save, in the same order as the entities
+     */
+    protected void saveEntities(Collection<E> entitiesToSave, Collection<A> entitiesToSaveAttributes) {
+        List<EntityChange> changes = makeChanges(entitiesToSave, entitiesToSaveAttributes, false);
+        List<Object> keyedEntitiesAndChanges = new ArrayList<>();
+        List<E> entitiesWithoutKeys = new ArrayList<>();
+        List<A> entitiesWithoutKeysAttributes = new ArrayList<>();
+        Iterator<E> entitiesIterator = entitiesToSave.iterator();
+        Iterator<A> attributesIterator = entitiesToSaveAttributes.iterator();
+        for (EntityChange change : changes) {
+            E entity = entitiesIterator.next();
+            A attributes = attributesIterator.next();
+            if (change.getEntityKey() == null) {
+                entitiesWithoutKeys.add(entity);
+                entitiesWithoutKeysAttributes.add(attributes);
+            } else {
+                keyedEntitiesAndChanges.add(entity);
+                keyedEntitiesAndChanges.add(change);
+            }
+        }
+
+        if (!keyedEntitiesAndChanges.isEmpty()) {
+            ofy().save().entities(keyedEntitiesAndChanges).now();
+        }
+        // keys of new entities with auto-generated IDs are only known once the entities are put,
+        // so their changes are made in the transaction the entities are put in
+        for (int i = 0; i < entitiesWithoutKeys.size(); i += MAX_ENTITIES_PER_TRANSACTION) {
+            int end = Math.min(i + MAX_ENTITIES_PER_TRANSACTION, entitiesWithoutKeys.size());
+            List<E> entities = entitiesWithoutKeys.subList(i, end);
+            List<A> entitiesAttributes = entitiesWithoutKeysAttributes.subList(i, end);
+            ofy().transact(() -> {
+                ofy().save().entities(entities).now();
+                ofy().save().entities(makeChanges(entities, entitiesAttributes, false)).now();
+                return null;
+            });
         }
-        ofy().save().entities(entitiesToSave).now();
+        RequestCache.clear();
     }
 
     protected void saveEntitiesDeferred(Collection<E> entitiesToSave) {
         saveEntitiesDeferred(entitiesToSave, makeAttributes(entitiesToSave));
     }
 
-    protected void saveEntitiesDeferred(Collection<E> entitiesToSave, Collection<A> entitiesToSaveAttributesForLogging) {
-        for (A attributes : entitiesToSaveAttributesForLogging) {
-            log.info(attributes.getBackupIdentifier());
-        }
+    /**
+     * Queues the saving of the entities and the recording of the changes in the journal of entity changes.
+     * No actual writes are done until {@link #flush()} is called.
+     *
+     * <p>The changes are queued with the entities, so they are written in the same batch.
+     * The change of a new entity with an auto-generated ID is recorded without the key of the entity,
+     * as the ID is only generated when the entity is written.
+     *
+     * @param entitiesToSaveAttributes the attributes of the entities to save, in the same order as the entities
+     */
+    protected void saveEntitiesDeferred(Collection<E> entitiesToSave, Collection<A> entitiesToSaveAttributes) {
         ofy().defer().save().entities(entitiesToSave);
+        ofy().defer().save().entities(makeChanges(entitiesToSave, entitiesToSaveAttributes, false));
+        RequestCache.clear();
     }
 
     public static void flush() {
         ofy().flush();
+        // queries cached between queueing and flushing may have been answered from the datastore before the writes
+        RequestCache.clear();
     }
 
     // TODO: use this method for subclasses.
@@ -213,48 +285,126 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public void deleteEntity(A entityToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToDelete);
 
-        ofy().delete().keys(getEntityQueryKeys(entityToDelete)).now();
-        log.info(entityToDelete.getBackupIdentifier());
+        List<Key<E>> keysToDelete = getEntityQueryKeys(entityToDelete).list();
+        List<EntityChange> changes = new ArrayList<>();
+        for (Key<E> keyToDelete : keysToDelete) {
+            changes.add(EntityChangesDb.makeChange(keyToDelete.getKind(), keyToDelete, entityToDelete, true));
+        }
+        deleteWithChanges(keysToDelete, changes);
     }
 
     public void deleteEntities(Collection<A> entitiesToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesToDelete);
 
         List<Key<E>> keysToDelete = new ArrayList<>();
+        List<EntityChange> changes = new ArrayList<>();
         for (A entityToDelete : entitiesToDelete) {
             Key<E> keyToDelete = getEntityQueryKeys(entityToDelete).first().now();
             if (keyToDelete == null) {
                 continue;
             }
             keysToDelete.add(keyToDelete);
-            log.info(entityToDelete.getBackupIdentifier());
+            changes.add(EntityChangesDb.makeChange(keyToDelete.getKind(), keyToDelete, entityToDelete, true));
         }
 
-        ofy().delete().keys(keysToDelete).now();
+        deleteWithChanges(keysToDelete, changes);
     }
 
     protected void deleteEntityDirect(E entityToDelete) {
         deleteEntityDirect(entityToDelete, makeAttributes(entityToDelete));
     }
 
-    protected void deleteEntityDirect(E entityToDelete, A entityToDeleteAttributesForLogging) {
-        ofy().delete().entity(entityToDelete).now();
-        log.info(entityToDeleteAttributesForLogging.getBackupIdentifier());
+    /**
+     * Deletes the entity and records the change in the journal of entity changes.
+     *
+     * @param entityToDeleteAttributes the attributes of the entity to delete
+     */
+    protected void deleteEntityDirect(E entityToDelete, A entityToDeleteAttributes) {
+        deleteEntitiesDirect(Collections.singletonList(entityToDelete),
+                             Collections.singletonList(entityToDeleteAttributes));
     }
 
     protected void deleteEntitiesDirect(Collection<E> entitiesToDelete) {
         deleteEntitiesDirect(entitiesToDelete, makeAttributes(entitiesToDelete));
     }
 
-    protected void deleteEntitiesDirect(Collection<E> entitiesToDelete, Collection<A> entitiesToDeleteAttributesForLogging) {
-        for (A attributes : entitiesToDeleteAttributesForLogging) {
-            log.info(attributes.getBackupIdentifier());
+    /**
+     * Deletes the entities and records the changes in the journal of entity changes.
+     *
+     * @param entitiesToDeleteAttributes the attributes of the entities to delete, in the same order as the entities
+     */
+    protected void deleteEntitiesDirect(Collection<E> entitiesToDelete, Collection<A> entitiesToDeleteAttributes) {
+        List<Key<E>> keysToDelete = new ArrayList<>();
+        for (E entityToDelete : entitiesToDelete) {
+            keysToDelete.add(Key.create(entityToDelete));
+        }
+        deleteWithChanges(keysToDelete, makeChanges(entitiesToDelete, entitiesToDeleteAttributes, true));
+    }
+
+    /**
+     * Deletes the entities with the given keys and records the deletions in the journal of entity changes.
+     * Meant for deletions which do not load the deleted entities, e.g. deleting all entities of a course.
+     *
+     * @param courseId the course the entities belong to, or null if not known
+     */
+    protected void deleteEntitiesByKeys(List<Key<E>> keysToDelete, String courseId) {
+        deleteWithChanges(keysToDelete, EntityChangesDb.makeChanges(keysToDelete, courseId, true));
+    }
+
+    /**
+     * Deletes the entities with the given keys, which belong to the courses with the given IDs,
+     * and records the deletions in the journal of entity changes.
+     */
+    protected void deleteEntitiesByKeysForCourses(List<Key<E>> keysToDelete, List<String> courseIds) {
+        deleteEntitiesByKeys(keysToDelete, courseIds.size() == 1 ? courseIds.get(0) : null);
+    }
+
+    /**
+     * Deletes the entities and saves their changes in transactions, so that a deletion is recorded if and only if
+     * it is done.
+     *
+     * @param changes the changes of the deletions, in the same order as the keys
+     */
+    private static void deleteWithChanges(List<? extends Key<?>> keysToDelete, List<EntityChange> changes) {
+        Assumption.assertEquals(keysToDelete.size(), changes.size());
+
+        for (int i = 0; i < keysToDelete.size(); i += MAX_ENTITIES_PER_TRANSACTION) {
+            int end = Math.min(i + MAX_ENTITIES_PER_TRANSACTION, keysToDelete.size());
+            List<? extends Key<?>> keys = keysToDelete.subList(i, end);
+            List<EntityChange> deletions = changes.subList(i, end);
+            ofy().transact(() -> {
+                ofy().delete().keys(keys).now();
+                ofy().save().entities(deletions).now();
+                return null;
+            });
+        }
+        RequestCache.clear();
+    }
+
+    private List<EntityChange> makeChanges(Collection<E> entities, Collection<A> entitiesAttributes,
+                                           boolean isDeleted) {
+        Assumption.assertEquals(entities.size(), entitiesAttributes.size());
+
+        List<EntityChange> changes = new ArrayList<>();
+        Iterator<A> attributesIterator = entitiesAttributes.iterator();
+        for (E entity : entities) {
+            changes.add(EntityChangesDb.makeChange(Key.getKind(entity.getClass()), makeKeyOrNull(entity),
+                                                   attributesIterator.next(), isDeleted));
+        }
+        return changes;
+    }
+
+    private Key<E> makeKeyOrNull(E entity) {
+        try {
+            return Key.create(entity);
+        } catch (IllegalArgumentException e) {
+            // the entity has an auto-generated ID which is not generated yet
+            return null;
         }
-        ofy().delete().entities(entitiesToDelete).now();
     }
 
     public void deletePicture(BlobKey key) {
-        GoogleCloudStorageHelper.deleteFile(key);
+        GoogleCloudStorageHelper.deleteImage(key);
     }
 
     protected abstract LoadType<E> load();
@@ -303,6 +453,19 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return attributes;
     }
 
+    /**
+     * Splits {@code values} into batches of at most {@value #MAX_VALUES_PER_IN_FILTER} values,
+     * one for each "in" filter.
+     */
+    protected static List<List<String>> splitForInFilter(Collection<String> values) {
+        List<String> valueList = new ArrayList<>(values);
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < valueList.size(); i += MAX_VALUES_PER_IN_FILTER) {
+            batches.add(valueList.subList(i, Math.min(i + MAX_VALUES_PER_IN_FILTER, valueList.size())));
+        }
+        return batches;
+    }
+
     protected Key<E> makeKeyOrNullFromWebSafeString(String webSafeString) {
         if (webSafeString == null) {
             return null;
@@ -355,4 +518,15 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
     }
 
+    protected void deleteDocuments(String indexName, List<String> documentIds) {
+        if (documentIds.isEmpty()) {
+            return;
+        }
+        try {
+            SearchManager.deleteDocuments(indexName, documentIds);
+        } catch (Exception e) {
+            log.info("Unable to batch delete documents in the index: " + indexName + " with document ids " + documentIds);
+        }
+    }
+
 }
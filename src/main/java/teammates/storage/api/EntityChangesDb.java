@@ -0,0 +1,128 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.attributes.EntityAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.EntityChange;
+
+/**
+ * Handles operations related to the journal of changes made to entities.
+ *
+ * <p>{@link EntitiesDb} records a change for every entity it saves or deletes,
+ * so that a backup can fetch only the entities changed since the previous backup.
+ * Changes are only kept for {@link Const.SystemParams#ENTITY_CHANGES_RETENTION_DAYS} days.
+ *
+ * <p>The changes are looked up by key ranges of every shard, as none of their properties is indexed.
+ *
+ * @see EntityChange
+ */
+public class EntityChangesDb {
+
+    /** The maximum number of changes deleted in one batch. */
+    private static final int DELETION_BATCH_SIZE = 500;
+
+    /**
+     * Returns the changes recorded at or after {@code start} and before {@code end}, oldest first.
+     */
+    public List<EntityChange> getChangesBetween(Date start, Date end) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, start);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, end);
+
+        List<EntityChange> changes = new ArrayList<>();
+        for (int shard = 0; shard < EntityChange.NUMBER_OF_SHARDS; shard++) {
+            changes.addAll(ofy().load().type(EntityChange.class)
+                    .filterKey(">=", makeKey(EntityChange.makeChangeId(shard, start.getTime())))
+                    .filterKey("<", makeKey(EntityChange.makeChangeId(shard, end.getTime())))
+                    .list());
+        }
+        changes.sort(Comparator.comparing(EntityChange::getTimestamp).thenComparing(EntityChange::getId));
+        return changes;
+    }
+
+    /**
+     * Deletes up to {@code maxChanges} of the changes recorded before {@code end},
+     * going through the shards in the order of the IDs of the changes.
+     *
+     * @param cursor the ID of the last change deleted by the previous call, or null to start from the first shard
+     * @return the IDs of the changes deleted, in the order of the IDs.
+     *         If fewer than {@code maxChanges} IDs are returned, no more changes are to be deleted.
+     */
+    public List<String> deleteChangesBefore(Date end, String cursor, int maxChanges) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, end);
+
+        List<String> deletedChangeIds = new ArrayList<>();
+        int firstShard = cursor == null ? 0 : EntityChange.getShard(cursor);
+        for (int shard = firstShard; shard < EntityChange.NUMBER_OF_SHARDS; shard++) {
+            if (deletedChangeIds.size() == maxChanges) {
+                break;
+            }
+            Query<EntityChange> query = ofy().load().type(EntityChange.class);
+            query = shard == firstShard && cursor != null
+                    ? query.filterKey(">", makeKey(cursor))
+                    : query.filterKey(">=", makeKey(EntityChange.makeChangeId(shard, 0)));
+            List<Key<EntityChange>> keysToDelete = query
+                    .filterKey("<", makeKey(EntityChange.makeChangeId(shard, end.getTime())))
+                    .limit(maxChanges - deletedChangeIds.size())
+                    .keys().list();
+            for (int i = 0; i < keysToDelete.size(); i += DELETION_BATCH_SIZE) {
+                ofy().delete().keys(keysToDelete.subList(i, Math.min(i + DELETION_BATCH_SIZE, keysToDelete.size())))
+                        .now();
+            }
+            for (Key<EntityChange> key : keysToDelete) {
+                deletedChangeIds.add(key.getName());
+            }
+        }
+        return deletedChangeIds;
+    }
+
+    /**
+     * Returns the change records of the entities with the given keys, which are saved or deleted.
+     *
+     * @param courseId the course the entities belong to, or null if not known
+     */
+    static List<EntityChange> makeChanges(Collection<? extends Key<?>> keys, String courseId, boolean isDeleted) {
+        List<EntityChange> changes = new ArrayList<>();
+        for (Key<?> key : keys) {
+            changes.add(new EntityChange(key.getKind(), key.toWebSafeString(), courseId, isDeleted));
+        }
+        return changes;
+    }
+
+    /**
+     * Returns a change record for the entity represented by {@code attributes}.
+     *
+     * @param key the key of the entity, or null if not known yet
+     */
+    static EntityChange makeChange(String entityKind, Key<?> key, EntityAttributes<?> attributes, boolean isDeleted) {
+        return new EntityChange(entityKind, key == null ? null : key.toWebSafeString(),
+                                getCourseId(attributes), isDeleted);
+    }
+
+    /**
+     * Returns the ID of the course the entity belongs to, as given by its backup identifier,
+     * or null if the entity does not belong to a course.
+     */
+    private static String getCourseId(EntityAttributes<?> attributes) {
+        String backupIdentifier = attributes.getBackupIdentifier();
+        if (backupIdentifier == null || !backupIdentifier.startsWith(Const.SystemParams.COURSE_BACKUP_LOG_MSG)) {
+            return null;
+        }
+        return backupIdentifier.substring(Const.SystemParams.COURSE_BACKUP_LOG_MSG.length());
+    }
+
+    private static Key<EntityChange> makeKey(String changeId) {
+        return Key.create(EntityChange.class, changeId);
+    }
+
+}
@@ -0,0 +1,92 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.appengine.api.datastore.Text;
+import com.google.gson.reflect.TypeToken;
+import com.googlecode.objectify.Key;
+
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackQuestionStatistics;
+
+/**
+ * Handles operations related to the stored statistics aggregates of feedback questions.
+ *
+ * <p>An aggregate is replaced as a whole whenever it is recomputed from the responses of its question,
+ * and is not changed by the writes of the responses themselves.
+ *
+ * @see FeedbackQuestionStatistics
+ */
+public class FeedbackQuestionStatisticsDb {
+
+    private static final Type ANSWER_COUNTS_TYPE = new TypeToken<Map<String, Integer>>(){}.getType();
+
+    /**
+     * Replaces the aggregate of the question with {@code aggregate}.
+     */
+    public void putStatistics(String feedbackQuestionId, String feedbackSessionName, String courseId,
+                              FeedbackQuestionStatisticsAggregate aggregate) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, aggregate);
+
+        Text answerCounts = new Text(JsonUtils.toJson(aggregate.getAnswerCounts(), ANSWER_COUNTS_TYPE));
+        ofy().save().entity(new FeedbackQuestionStatistics(feedbackQuestionId, feedbackSessionName, courseId,
+                aggregate.getNumberOfResponses(), answerCounts, aggregate.getResponsesFingerprint())).now();
+    }
+
+    /**
+     * Returns the aggregates of the given questions, keyed by question ID.
+     * Questions whose aggregate has never been put are left out.
+     */
+    public Map<String, FeedbackQuestionStatisticsAggregate> getStatistics(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        Map<String, FeedbackQuestionStatisticsAggregate> aggregates = new HashMap<>();
+        if (feedbackQuestionIds.isEmpty()) {
+            return aggregates;
+        }
+
+        List<Key<FeedbackQuestionStatistics>> keys = new ArrayList<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            keys.add(makeKey(feedbackQuestionId));
+        }
+        for (FeedbackQuestionStatistics entity : ofy().load().keys(keys).values()) {
+            aggregates.put(entity.getFeedbackQuestionId(), makeAggregate(entity));
+        }
+        return aggregates;
+    }
+
+    public void deleteStatisticsForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        ofy().delete().key(makeKey(feedbackQuestionId)).now();
+    }
+
+    public void deleteStatisticsForCourses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        ofy().delete().keys(ofy().load().type(FeedbackQuestionStatistics.class)
+                .filter("courseId in", courseIds).keys().list()).now();
+    }
+
+    private static FeedbackQuestionStatisticsAggregate makeAggregate(FeedbackQuestionStatistics entity) {
+        Map<String, Integer> answerCounts = JsonUtils.fromJson(entity.getAnswerCounts().getValue(), ANSWER_COUNTS_TYPE);
+        return new FeedbackQuestionStatisticsAggregate(entity.getNumberOfResponses(), answerCounts,
+                                                       entity.getResponsesFingerprint());
+    }
+
+    private static Key<FeedbackQuestionStatistics> makeKey(String feedbackQuestionId) {
+        return Key.create(FeedbackQuestionStatistics.class, feedbackQuestionId);
+    }
+
+}
@@ -2,9 +2,12 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -67,6 +70,29 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
                 "Trying to get non-existent Question: " + feedbackQuestionId);
     }
 
+    /**
+     * Gets the feedback questions with the given ids with a single batched get.
+     * @return the questions keyed by id; ids of questions that do not exist are left out.
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestionsForIds(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        List<Key<FeedbackQuestion>> keys = new ArrayList<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            Key<FeedbackQuestion> key = makeKeyOrNullFromWebSafeString(feedbackQuestionId);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (FeedbackQuestion question : ofy().load().keys(keys).values()) {
+            FeedbackQuestionAttributes questionAttributes = makeAttributes(question);
+            questions.put(questionAttributes.getId(), questionAttributes);
+        }
+        return questions;
+    }
+
     public FeedbackQuestionAttributes createFeedbackQuestionWithoutExistenceCheck(
             FeedbackQuestionAttributes entityToAdd) throws InvalidParametersException {
         return makeAttributes(createEntityWithoutExistenceCheck(entityToAdd));
@@ -193,7 +219,8 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
     public void deleteFeedbackQuestionsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+        List<Key<FeedbackQuestion>> keysToDelete = load().filter("courseId in", courseIds).keys().list();
+        deleteEntitiesByKeysForCourses(keysToDelete, courseIds);
     }
 
     // Gets a question entity if its Key (feedbackQuestionId) is known.
@@ -220,10 +247,11 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForSession(
             String feedbackSessionName, String courseId) {
-        return load()
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .list();
+        return RequestCache.get(FeedbackQuestion.class.getSimpleName(), feedbackSessionName + "%" + courseId,
+                () -> load()
+                        .filter("feedbackSessionName =", feedbackSessionName)
+                        .filter("courseId =", courseId)
+                        .list());
     }
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForCourse(String courseId) {
@@ -232,13 +260,16 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
                 .list();
     }
 
+    // Filters the questions of the session in memory, so that the question list cached for the request is reused
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForGiverType(
             String feedbackSessionName, String courseId, FeedbackParticipantType giverType) {
-        return load()
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .filter("giverType =", giverType)
-                .list();
+        List<FeedbackQuestion> questionsForGiverType = new ArrayList<>();
+        for (FeedbackQuestion question : getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId)) {
+            if (question.getGiverType() == giverType) {
+                questionsForGiverType.add(question);
+            }
+        }
+        return questionsForGiverType;
     }
 
     @Override
@@ -18,6 +18,7 @@ import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -29,7 +30,6 @@ import teammates.common.util.Logger;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
 import teammates.storage.search.FeedbackResponseCommentSearchQuery;
-import teammates.storage.search.SearchDocument;
 
 /**
  * Handles CRUD operations for feedback response comments.
@@ -93,6 +93,34 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, String.valueOf(commentId));
     }
 
+    /**
+     * Removes search documents for the comments with given ids with a single batched call.
+     *
+     * @param commentIds IDs of comments
+     */
+    public void deleteDocumentsByCommentIds(Collection<Long> commentIds) {
+        List<String> documentIds = new ArrayList<>();
+        for (Long commentId : commentIds) {
+            documentIds.add(commentId.toString());
+        }
+        deleteDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, documentIds);
+    }
+
+    /**
+     * Gets the feedback response comments with the given ids with a single batched get.
+     * @return the comments keyed by id; ids of comments that do not exist are left out.
+     */
+    public Map<Long, FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForIds(
+            Collection<Long> feedbackResponseCommentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseCommentIds);
+
+        Map<Long, FeedbackResponseCommentAttributes> comments = new HashMap<>();
+        for (Map.Entry<Long, FeedbackResponseComment> entry : load().ids(feedbackResponseCommentIds).entrySet()) {
+            comments.put(entry.getKey(), makeAttributes(entry.getValue()));
+        }
+        return comments;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -158,13 +186,55 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(getFeedbackResponseCommentEntitiesForResponse(feedbackResponseId));
     }
 
+    /**
+     * Gets the comments on all the given responses, with one query per
+     * {@value #MAX_VALUES_PER_IN_FILTER} responses.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        List<FeedbackResponseComment> comments = new ArrayList<>();
+        for (List<String> batch : splitForInFilter(feedbackResponseIds)) {
+            comments.addAll(load().filter("feedbackResponseId in", batch).list());
+        }
+        return makeAttributes(comments);
+    }
+
+    /**
+     * Gets the comments on the responses to the question.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return makeAttributes(load().filter("feedbackQuestionId =", feedbackQuestionId).list());
+    }
+
     /*
      * Remove response comments for the response Id
      */
     public void deleteFeedbackResponseCommentsForResponse(String responseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseId);
 
-        ofy().delete().keys(getFeedbackResponseCommentsForResponseQuery(responseId).keys()).now();
+        List<Key<FeedbackResponseComment>> keysToDelete =
+                getFeedbackResponseCommentsForResponseQuery(responseId).keys().list();
+        deleteEntitiesByKeys(keysToDelete, null);
+    }
+
+    /**
+     * Removes the comments of all the given responses, found with batched queries.
+     */
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        List<Key<FeedbackResponseComment>> keysToDelete = new ArrayList<>();
+        for (List<String> batch : splitForInFilter(responseIds)) {
+            keysToDelete.addAll(load().filter("feedbackResponseId in", batch).keys().list());
+        }
+
+        if (!keysToDelete.isEmpty()) {
+            deleteEntitiesByKeys(keysToDelete, null);
+        }
     }
 
     /*
@@ -173,7 +243,9 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
     public void deleteFeedbackResponseCommentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(getFeedbackResponseCommentsForCoursesQuery(courseIds).keys()).now();
+        List<Key<FeedbackResponseComment>> keysToDelete =
+                getFeedbackResponseCommentsForCoursesQuery(courseIds).keys().list();
+        deleteEntitiesByKeysForCourses(keysToDelete, courseIds);
     }
 
     public void deleteFeedbackResponseCommentsForCourse(String courseId) {
@@ -255,6 +327,37 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(frc);
     }
 
+    /**
+     * Sets the giver and receiver sections of the comments of all the given responses to the sections of
+     * their response, saving the changed comments with a single batched put.
+     */
+    public void updateSectionsOfFeedbackResponseComments(Collection<FeedbackResponseAttributes> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        Map<String, FeedbackResponseAttributes> responsesById = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsesById.put(response.getId(), response);
+        }
+
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (List<String> batch : splitForInFilter(responsesById.keySet())) {
+            for (FeedbackResponseComment comment : load().filter("feedbackResponseId in", batch).list()) {
+                FeedbackResponseAttributes response = responsesById.get(comment.getFeedbackResponseId());
+                if (response.giverSection.equals(comment.getGiverSection())
+                        && response.recipientSection.equals(comment.getReceiverSection())) {
+                    continue;
+                }
+                comment.setGiverSection(response.giverSection);
+                comment.setReceiverSection(response.recipientSection);
+                commentsToSave.add(comment);
+            }
+        }
+
+        if (!commentsToSave.isEmpty()) {
+            saveEntities(commentsToSave);
+        }
+    }
+
     /*
      * Update giver email (normally an instructor email) with the new one
      */
@@ -309,14 +412,12 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
     }
 
     /*
-     * Batch creates or updates search documents for the given comments
+     * Batch creates or updates search documents for the given comments,
+     * reading the data shared by comments of the same course only once
      */
     public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
-        List<SearchDocument> frcSearchDocuments = new ArrayList<>();
-        for (FeedbackResponseCommentAttributes comment : comments) {
-            frcSearchDocuments.add(new FeedbackResponseCommentSearchDocument(comment));
-        }
-        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frcSearchDocuments);
+        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                FeedbackResponseCommentSearchDocument.fromComments(comments));
     }
 
     /**
@@ -350,7 +451,8 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      * @param id ID of comment
      */
     public void deleteCommentById(Long id) {
-        ofy().delete().keys(getEntityQueryKeys(id)).now();
+        List<Key<FeedbackResponseComment>> keysToDelete = getEntityQueryKeys(id).list();
+        deleteEntitiesByKeys(keysToDelete, null);
     }
 
     private FeedbackResponseComment getFeedbackResponseCommentEntity(String courseId, Date createdAt, String giverEmail) {
@@ -6,8 +6,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -110,6 +112,28 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getEntity(response);
     }
 
+    /**
+     * Gets the feedback responses with the given ids with a single batched get.
+     * @return the responses keyed by id; ids of responses that do not exist are left out.
+     */
+    public Map<String, FeedbackResponse> getFeedbackResponseEntitiesForIds(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        return load().ids(feedbackResponseIds);
+    }
+
+    /**
+     * Gets the feedback responses with the given ids with a single batched get.
+     * @return the responses keyed by id; ids of responses that do not exist are left out.
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponsesForIds(Collection<String> feedbackResponseIds) {
+        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+        for (Map.Entry<String, FeedbackResponse> entry : getFeedbackResponseEntitiesForIds(feedbackResponseIds).entrySet()) {
+            responses.put(entry.getKey(), makeAttributes(entry.getValue()));
+        }
+        return responses;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -304,6 +328,25 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForQuestion(feedbackQuestionId, giverEmail));
     }
 
+    /**
+     * Gets the responses to the question from any of the given givers, with one query per
+     * {@value #MAX_VALUES_PER_IN_FILTER} givers.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiversForQuestion(
+            String feedbackQuestionId, Collection<String> giverEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmails);
+
+        List<FeedbackResponse> responses = new ArrayList<>();
+        for (List<String> batch : splitForInFilter(giverEmails)) {
+            responses.addAll(load()
+                    .filter("feedbackQuestionId =", feedbackQuestionId)
+                    .filter("giverEmail in", batch)
+                    .list());
+        }
+        return makeAttributes(responses);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -334,6 +377,34 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 giverEmail, feedbackSessionName, courseId, range));
     }
 
+    /**
+     *  Preconditions: <br>
+     * * All parameters are non-null.
+     *  @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(getFeedbackResponseEntitiesFromGiverForSession(giverEmail, feedbackSessionName, courseId));
+    }
+
+    /**
+     *  Preconditions: <br>
+     * * All parameters are non-null.
+     *  @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, receiver);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(getFeedbackResponseEntitiesForReceiverForSession(receiver, feedbackSessionName, courseId));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -418,10 +489,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         }
 
         fr.keepUpdateTimestamp = keepUpdateTimestamp;
-        fr.setAnswer(newAttributes.responseMetaData);
-        fr.setRecipientEmail(newAttributes.recipient);
-        fr.setGiverSection(newAttributes.giverSection);
-        fr.setRecipientSection(newAttributes.recipientSection);
+        copyUpdatableFields(newAttributes, fr);
 
         saveEntity(fr, newAttributes);
     }
@@ -431,6 +499,63 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         updateFeedbackResponseOptimized(newAttributes, fr, false);
     }
 
+    /**
+     * Updates multiple feedback responses with a single batched put, in the same way as
+     * {@link #updateFeedbackResponseOptimized(FeedbackResponseAttributes, FeedbackResponse)}.
+     * No response is updated if any of them is invalid.<br>
+     * Preconditions: <br>
+     * * The id of every element of {@code newAttributes} is a key of {@code existingResponses}.
+     * @param existingResponses  the responses to update retrieved from the database, keyed by id
+     */
+    public void updateFeedbackResponsesOptimized(List<FeedbackResponseAttributes> newAttributes,
+            Map<String, FeedbackResponse> existingResponses) throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newAttributes);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, existingResponses);
+
+        List<FeedbackResponse> responsesToSave = new ArrayList<>();
+        for (FeedbackResponseAttributes attributes : newAttributes) {
+            if (!attributes.isValid()) {
+                throw new InvalidParametersException(attributes.getInvalidityInfo());
+            }
+
+            FeedbackResponse fr = existingResponses.get(attributes.getId());
+            Assumption.assertNotNull(fr);
+
+            fr.keepUpdateTimestamp = false;
+            copyUpdatableFields(attributes, fr);
+            responsesToSave.add(fr);
+        }
+
+        if (!responsesToSave.isEmpty()) {
+            saveEntities(responsesToSave, newAttributes);
+        }
+    }
+
+    private void copyUpdatableFields(FeedbackResponseAttributes newAttributes, FeedbackResponse fr) {
+        fr.setAnswer(newAttributes.responseMetaData);
+        fr.setRecipientEmail(newAttributes.recipient);
+        fr.setGiverSection(newAttributes.giverSection);
+        fr.setRecipientSection(newAttributes.recipientSection);
+    }
+
+    /**
+     * Deletes multiple feedback responses, identified by their ids, with a single batched delete.
+     * This is a non-cascade delete. Fails silently for responses that do not exist.<br>
+     * Preconditions: <br>
+     * * Every element of {@code responsesToDelete} has a non-null id.
+     */
+    public void deleteFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToDelete) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToDelete);
+
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, response.getId());
+            keysToDelete.add(Key.create(FeedbackResponse.class, response.getId()));
+        }
+
+        deleteEntitiesByKeys(keysToDelete, null);
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -440,7 +565,8 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
     public void deleteFeedbackResponsesForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(getFeedbackResponsesForCoursesQuery(courseIds).keys()).now();
+        List<Key<FeedbackResponse>> keysToDelete = getFeedbackResponsesForCoursesQuery(courseIds).keys().list();
+        deleteEntitiesByKeysForCourses(keysToDelete, courseIds);
     }
 
     private Query<FeedbackResponse> getFeedbackResponsesForCoursesQuery(List<String> courseIds) {
@@ -488,27 +614,22 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 String feedbackQuestionId, String section) {
         List<FeedbackResponse> feedbackResponses = new ArrayList<>();
 
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", section)
-                .list());
-
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", "None")
-                .list());
-
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", "None")
-                .filter("receiverSection =", section)
-                .list());
+        // responses between the section and another section are returned by the query, but do not belong here
+        for (FeedbackResponse response : getFeedbackResponseEntitiesInvolvingSection(section,
+                query -> query.filter("feedbackQuestionId =", feedbackQuestionId))) {
+            if (isInSectionOrNone(response.getGiverSection(), section)
+                    && isInSectionOrNone(response.getRecipientSection(), section)) {
+                feedbackResponses.add(response);
+            }
+        }
 
         return feedbackResponses;
     }
 
+    private static boolean isInSectionOrNone(String responseSection, String section) {
+        return section.equals(responseSection) || Const.DEFAULT_SECTION.equals(responseSection);
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
         return getFeedbackResponseEntitiesForQuestionWithinRange(feedbackQuestionId, -1);
     }
@@ -532,21 +653,9 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesForSessionInSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSection(
@@ -559,21 +668,12 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getFeedbackResponseEntitiesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesInvolvingSection(section,
+                query -> query.filter("feedbackSessionName =", feedbackSessionName)
+                              .filter("courseId =", courseId)
+                              .limit(range + 1));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
@@ -602,31 +702,11 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
             String feedbackQuestionId, String receiver, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesInvolvingSection(section,
+                query -> query.filter("feedbackQuestionId =", feedbackQuestionId)
+                              .filter("receiver =", receiver));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
@@ -637,31 +717,32 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
             String feedbackQuestionId, String giverEmail, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
+        return getFeedbackResponseEntitiesInvolvingSection(section,
+                query -> query.filter("feedbackQuestionId =", feedbackQuestionId)
+                              .filter("giverEmail =", giverEmail));
+    }
 
-        List<FeedbackResponse> secondQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("receiverSection =", section)
-                .list();
+    /**
+     * Returns the responses whose giver or recipient is in {@code section}, among those matched by the
+     * {@code filters} applied to the query.
+     *
+     * <p>Responses saved before {@code sectionsInvolved} was introduced do not have it, so the responses are
+     * also queried by {@code giverSection} and by {@code receiverSection}, and the results are merged.
+     * TODO Remove the legacy queries after DataMigrationForSectionsInvolvedInFeedbackResponse has been run
+     */
+    private List<FeedbackResponse> getFeedbackResponseEntitiesInvolvingSection(
+            String section, UnaryOperator<Query<FeedbackResponse>> filters) {
+        Map<String, FeedbackResponse> feedbackResponses = new LinkedHashMap<>();
 
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
+        for (String sectionFilter : Arrays.asList("sectionsInvolved =", "giverSection =", "receiverSection =")) {
+            for (FeedbackResponse response : filters.apply(load().filter(sectionFilter, section)).list()) {
+                feedbackResponses.putIfAbsent(response.getId(), response);
+            }
         }
 
-        return feedbackResponses.values();
+        return new ArrayList<>(feedbackResponses.values());
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSessionWithinRange(
@@ -673,6 +754,24 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        return load()
+                .filter("giverEmail =", giverEmail)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .list();
+    }
+
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        return load()
+                .filter("receiver =", receiver)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .list();
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
             String courseId, String receiver) {
         return load()
@@ -0,0 +1,190 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.FeedbackSessionRespondent;
+
+/**
+ * Handles operations related to the students and instructors who have responded to feedback sessions.
+ *
+ * <p>A respondent is recorded by saving or deleting a {@link FeedbackSessionRespondent} marker with a key
+ * derived from the session and the respondent. The writes are blind and outside transactions: they neither read
+ * nor modify the session entity or any other entity, and the marker of each respondent is an entity group of its
+ * own, so that any number of respondents can submit to a session at the same time without contention.
+ *
+ * <p>The markers of a session are read with queries, which are eventually consistent, so a marker that was
+ * just written may not be included for a short while. Whether a given student or instructor has responded
+ * is looked up by key, which is always consistent. Nothing is counted or stored when a respondent is recorded:
+ * the number of respondents of a session is counted with a keys-only query when it is read.
+ *
+ * <p>The markers are not written through {@link EntitiesDb}, so they are not recorded in the journal of entity
+ * changes and are not part of backups. They are derived from the responses of the session:
+ * {@code UploadBackupData} rebuilds them from the uploaded responses with
+ * {@link teammates.logic.core.FeedbackSessionsLogic#reconcileResponseRateStats}.
+ *
+ * @see FeedbackSessionRespondent
+ */
+public class FeedbackSessionRespondentsDb {
+
+    /**
+     * Records that the given students or instructors have responded to the session.
+     * Recording a respondent again has no effect.
+     */
+    public void addRespondents(String feedbackSessionName, String courseId, Collection<String> emails,
+                               boolean isInstructor) {
+        List<FeedbackSessionRespondent> respondents = makeRespondents(feedbackSessionName, courseId, emails, isInstructor);
+        if (respondents.isEmpty()) {
+            return;
+        }
+        ofy().save().entities(respondents).now();
+    }
+
+    /**
+     * Queues the recording of the respondents, to be written together with other deferred writes.
+     *
+     * @see EntitiesDb#flush()
+     */
+    public void addRespondentsDeferred(String feedbackSessionName, String courseId, Collection<String> emails,
+                                       boolean isInstructor) {
+        List<FeedbackSessionRespondent> respondents = makeRespondents(feedbackSessionName, courseId, emails, isInstructor);
+        if (respondents.isEmpty()) {
+            return;
+        }
+        ofy().defer().save().entities(respondents);
+    }
+
+    /**
+     * Removes the student or instructor from the respondents of the session. Fails silently if it is not one.
+     */
+    public void deleteRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        ofy().delete().key(makeKey(feedbackSessionName, courseId, email, isInstructor)).now();
+    }
+
+    /**
+     * Removes the given students or instructors from the respondents of the session.
+     */
+    public void deleteRespondents(String feedbackSessionName, String courseId, Collection<String> emails,
+                                  boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        List<Key<FeedbackSessionRespondent>> keysToDelete = new ArrayList<>();
+        for (String email : emails) {
+            keysToDelete.add(makeKey(feedbackSessionName, courseId, email, isInstructor));
+        }
+        if (keysToDelete.isEmpty()) {
+            return;
+        }
+        ofy().delete().keys(keysToDelete).now();
+    }
+
+    /**
+     * Replaces the email of a student or an instructor in the respondents of all sessions in the course.
+     */
+    public void updateRespondentEmailForCourse(String courseId, String oldEmail, String newEmail, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
+
+        List<FeedbackSessionRespondent> oldRespondents = load()
+                .filter("courseId =", courseId)
+                .filter("email =", oldEmail)
+                .filter("isInstructor =", isInstructor)
+                .list();
+        if (oldRespondents.isEmpty()) {
+            return;
+        }
+
+        List<FeedbackSessionRespondent> newRespondents = new ArrayList<>();
+        for (FeedbackSessionRespondent oldRespondent : oldRespondents) {
+            newRespondents.add(new FeedbackSessionRespondent(oldRespondent.getFeedbackSessionName(), courseId,
+                                                             newEmail, isInstructor));
+        }
+        ofy().save().entities(newRespondents).now();
+        ofy().delete().entities(oldRespondents).now();
+    }
+
+    /**
+     * Returns true if the student or instructor has responded to the session.
+     */
+    public boolean isRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        return ofy().load().key(makeKey(feedbackSessionName, courseId, email, isInstructor)).now() != null;
+    }
+
+    /**
+     * Returns the emails of the students, or of the instructors, who have responded to the session.
+     */
+    public Set<String> getRespondents(String feedbackSessionName, String courseId, boolean isInstructor) {
+        Set<String> emails = new HashSet<>();
+        for (FeedbackSessionRespondent respondent : loadForSession(feedbackSessionName, courseId).list()) {
+            if (respondent.isInstructor() == isInstructor) {
+                emails.add(respondent.getEmail());
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * Returns the number of students and instructors who have responded to the session,
+     * counted with a keys-only query over its markers.
+     */
+    public int getNumberOfRespondents(String feedbackSessionName, String courseId) {
+        return loadForSession(feedbackSessionName, courseId).keys().list().size();
+    }
+
+    public void deleteRespondentsForSession(String feedbackSessionName, String courseId) {
+        ofy().delete().keys(loadForSession(feedbackSessionName, courseId).keys().list()).now();
+    }
+
+    public void deleteRespondentsForCourses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        ofy().delete().keys(load().filter("courseId in", courseIds).keys().list()).now();
+    }
+
+    private Query<FeedbackSessionRespondent> loadForSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId);
+    }
+
+    private Query<FeedbackSessionRespondent> load() {
+        return ofy().load().type(FeedbackSessionRespondent.class);
+    }
+
+    private static List<FeedbackSessionRespondent> makeRespondents(String feedbackSessionName, String courseId,
+                                                                   Collection<String> emails, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        List<FeedbackSessionRespondent> respondents = new ArrayList<>();
+        for (String email : emails) {
+            respondents.add(new FeedbackSessionRespondent(feedbackSessionName, courseId, email, isInstructor));
+        }
+        return respondents;
+    }
+
+    private static Key<FeedbackSessionRespondent> makeKey(String feedbackSessionName, String courseId, String email,
+                                                          boolean isInstructor) {
+        return Key.create(FeedbackSessionRespondent.class,
+                FeedbackSessionRespondent.generateId(feedbackSessionName, courseId, email, isInstructor));
+    }
+
+}
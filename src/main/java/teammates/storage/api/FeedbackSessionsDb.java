@@ -7,9 +7,14 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
@@ -108,6 +113,27 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
     }
 
+    /**
+     * Gets the given feedback sessions, identified by their session name and course ID, with a single batched get.
+     * @return the existing sessions keyed by {@link FeedbackSessionAttributes#getIdentificationString()};
+     *         sessions that do not exist are left out.
+     */
+    public Map<String, FeedbackSessionAttributes> getFeedbackSessions(Collection<FeedbackSessionAttributes> sessions) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, sessions);
+
+        Set<String> sessionIds = new HashSet<>();
+        for (FeedbackSessionAttributes session : sessions) {
+            sessionIds.add(session.getFeedbackSessionName() + "%" + session.getCourseId());
+        }
+
+        Map<String, FeedbackSessionAttributes> existingSessions = new HashMap<>();
+        for (FeedbackSession session : load().ids(sessionIds).values()) {
+            FeedbackSessionAttributes sessionAttributes = makeAttributes(session);
+            existingSessions.put(sessionAttributes.getIdentificationString(), sessionAttributes);
+        }
+        return existingSessions;
+    }
+
     /**
      * Returns empty list if none found.
      * @deprecated Not scalable. Created for data migration purposes.
@@ -156,6 +182,13 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         return makeAttributes(getFeedbackSessionEntitiesPossiblyNeedingPublishedEmail());
     }
 
+    /**
+     * Returns An empty list if no sessions are found that have not closed or closed recently.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyReceivingResponses() {
+        return makeAttributes(getFeedbackSessionEntitiesPossiblyReceivingResponses());
+    }
+
     /**
      * Updates the feedback session identified by {@code newAttributes.feedbackSesionName}
      * and {@code newAttributes.courseId}.
@@ -188,6 +221,10 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         fs.setResultsVisibleFromTime(newAttributes.getResultsVisibleFromTime());
         fs.setTimeZone(newAttributes.getTimeZone());
         fs.setGracePeriod(newAttributes.getGracePeriod());
+        if (fs.getFeedbackSessionType() != newAttributes.getFeedbackSessionType()) {
+            // who is expected to respond depends on the session type
+            fs.clearExpectedRespondentTotal();
+        }
         fs.setFeedbackSessionType(newAttributes.getFeedbackSessionType());
         fs.setSentOpenEmail(newAttributes.isSentOpenEmail());
         fs.setSentClosingEmail(newAttributes.isSentClosingEmail());
@@ -200,193 +237,233 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         saveEntity(fs, newAttributes);
     }
 
-    public void addInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<String> emails = new ArrayList<>();
-        emails.add(email);
-        addInstructorRespondents(emails, feedbackSession);
-    }
-
-    public void addInstructorRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+    /**
+     * Returns the version of the number of students and instructors expected to respond to the feedback session,
+     * which has to be read before the number is computed and passed along when the number is stored.<br>
+     * Preconditions: <br>
+     * * {@code feedbackSession} is non-null and corresponds to an existing feedback session.
+     */
+    public long getExpectedRespondentTotalVersion(FeedbackSessionAttributes feedbackSession)
+            throws EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
         FeedbackSession fs = getEntity(feedbackSession);
         if (fs == null) {
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
         }
-
-        fs.getRespondingInstructorList().addAll(emails);
-
-        saveEntity(fs, feedbackSession);
+        return fs.getExpectedRespondentTotalVersion();
     }
 
-    public void updateInstructorRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
+    /**
+     * Stores the number of students and instructors expected to respond to the feedback session
+     * if no number is stored on the session, e.g. when the number was computed while the session was viewed.
+     * The number is checked and written in a transaction, so a number stored by a concurrent request is kept,
+     * and the number is not stored if it was cleared after {@code version} was read,
+     * as the number may then have been computed from the questions or the course roster before the change.<br>
+     * Preconditions: <br>
+     * * {@code feedbackSession} is non-null and corresponds to an existing feedback session.
+     * @param version the version read by {@link #getExpectedRespondentTotalVersion} before the number was computed
+     * @return the number stored on the session, or {@code expectedRespondentTotal} if it was not stored
+     */
+    public int storeExpectedRespondentTotalIfMissing(FeedbackSessionAttributes feedbackSession,
+                                                     int expectedRespondentTotal, long version)
+            throws EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
+        FeedbackSession storedSession = ofy().transact(() -> {
+            FeedbackSession fs = getEntity(feedbackSession);
+            if (fs != null && fs.getExpectedRespondentTotal() == null
+                    && fs.getExpectedRespondentTotalVersion() == version) {
+                fs.setExpectedRespondentTotal(expectedRespondentTotal);
+                saveEntity(fs);
+            }
+            return fs;
+        });
+        if (storedSession == null) {
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
         }
 
-        if (fs.getRespondingInstructorList().contains(oldEmail)) {
-            fs.getRespondingInstructorList().remove(oldEmail);
-            fs.getRespondingInstructorList().add(newEmail);
+        Integer storedTotal = storedSession.getExpectedRespondentTotal();
+        if (storedTotal == null) {
+            return expectedRespondentTotal;
         }
-
-        saveEntity(fs, feedbackSession);
+        feedbackSession.setExpectedRespondentTotal(storedTotal);
+        return storedTotal;
     }
 
-    public void clearInstructorRespondents(FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+    /**
+     * Replaces the number of students and instructors expected to respond to the feedback session,
+     * e.g. with a number recomputed to repair the stored one, in a transaction.
+     * The number is not stored if it was cleared after {@code version} was read.<br>
+     * Preconditions: <br>
+     * * {@code feedbackSession} is non-null and corresponds to an existing feedback session.
+     * @param version the version read by {@link #getExpectedRespondentTotalVersion} before the number was computed
+     * @return true if the number was stored
+     */
+    public boolean updateExpectedRespondentTotal(FeedbackSessionAttributes feedbackSession,
+                                                 int expectedRespondentTotal, long version)
+            throws EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
+        FeedbackSession storedSession = ofy().transact(() -> {
+            FeedbackSession fs = getEntity(feedbackSession);
+            if (fs != null && fs.getExpectedRespondentTotalVersion() == version) {
+                fs.setExpectedRespondentTotal(expectedRespondentTotal);
+                saveEntity(fs);
+            }
+            return fs;
+        });
+        if (storedSession == null) {
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
         }
 
-        fs.getRespondingInstructorList().clear();
-
-        saveEntity(fs, feedbackSession);
+        boolean isUpdated = storedSession.getExpectedRespondentTotalVersion() == version;
+        if (isUpdated) {
+            feedbackSession.setExpectedRespondentTotal(expectedRespondentTotal);
+        }
+        return isUpdated;
     }
 
-    public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        List<String> emails = new ArrayList<>();
-        emails.add(email);
-        addStudentRespondents(emails, feedbackSession);
-    }
+    /**
+     * Marks the number of expected respondents of the feedback session as to be recomputed, in a transaction.
+     * The session is written even if it has no known number, as a number being computed concurrently
+     * from the questions or the course roster before the change must not be stored.
+     * Fails silently if the session does not exist.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void clearExpectedRespondentTotal(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+        ofy().transact(() -> {
+            FeedbackSession fs = getFeedbackSessionEntity(feedbackSessionName, courseId);
+            if (fs != null) {
+                fs.clearExpectedRespondentTotal();
+                saveEntity(fs);
+            }
+            return null;
+        });
+    }
 
-        feedbackSession.sanitizeForSaving();
+    /**
+     * Marks the number of expected respondents of all feedback sessions in the course as to be recomputed.
+     * All the sessions are written, for the same reason as in {@link #clearExpectedRespondentTotal}.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void clearExpectedRespondentTotalsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+        List<FeedbackSession> sessionsToUpdate = getFeedbackSessionEntitiesForCourse(courseId);
+        for (FeedbackSession fs : sessionsToUpdate) {
+            fs.clearExpectedRespondentTotal();
         }
 
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+        if (!sessionsToUpdate.isEmpty()) {
+            saveEntities(sessionsToUpdate);
         }
-
-        fs.getRespondingInstructorList().remove(email);
-
-        saveEntity(fs, feedbackSession);
     }
 
-    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+    /**
+     * Returns the students, or the instructors, who responded to the feedback session before respondents were
+     * recorded by {@link FeedbackSessionRespondentsDb}, and who are still stored in the session entity.
+     * Returns an empty set if the session does not exist or its respondents have been migrated.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Set<String> getLegacyRespondents(String feedbackSessionName, String courseId, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        FeedbackSession fs = getEntity(feedbackSession);
+        FeedbackSession fs = getFeedbackSessionEntity(feedbackSessionName, courseId);
         if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+            return new HashSet<>();
         }
-
-        fs.getRespondingStudentList().addAll(emails);
-
-        saveEntity(fs, feedbackSession);
+        return new HashSet<>(getLegacyRespondents(fs, isInstructor));
     }
 
-    public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
+    /**
+     * Replaces the email of a student or an instructor in the legacy respondents of all feedback sessions
+     * in the course. Only the sessions which have the email as a legacy respondent are written.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see #getLegacyRespondents(String, String, boolean)
+     */
+    public void updateLegacyRespondentEmailForCourse(String courseId, String oldEmail, String newEmail,
+                                                     boolean isInstructor) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
 
-        if (fs.getRespondingStudentList().contains(oldEmail)) {
-            fs.getRespondingStudentList().remove(oldEmail);
-            fs.getRespondingStudentList().add(newEmail);
+        for (FeedbackSession fs : getFeedbackSessionEntitiesForCourse(courseId)) {
+            if (getLegacyRespondents(fs, isInstructor).contains(oldEmail)) {
+                replaceLegacyRespondent(fs.getFeedbackSessionName(), courseId, oldEmail, newEmail, isInstructor);
+            }
         }
-
-        saveEntity(fs, feedbackSession);
     }
 
-    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+    /**
+     * Removes the student or instructor from the legacy respondents of the feedback session, in a transaction.
+     * The session is only written if the email is a legacy respondent of it.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see #getLegacyRespondents(String, String, boolean)
+     */
+    public void deleteLegacyRespondent(String feedbackSessionName, String courseId, String email,
+                                       boolean isInstructor) {
+        if (getLegacyRespondents(feedbackSessionName, courseId, isInstructor).contains(email)) {
+            replaceLegacyRespondent(feedbackSessionName, courseId, email, null, isInstructor);
         }
-
-        fs.getRespondingStudentList().clear();
-
-        saveEntity(fs, feedbackSession);
     }
 
-    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
+    /**
+     * Removes all the legacy respondents of the feedback session, in a transaction,
+     * e.g. after they have been recorded by {@link FeedbackSessionRespondentsDb}.
+     * The session is only written if it has legacy respondents.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see #getLegacyRespondents(String, String, boolean)
+     */
+    public void clearLegacyRespondents(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+        ofy().transact(() -> {
+            FeedbackSession fs = getFeedbackSessionEntity(feedbackSessionName, courseId);
+            if (fs != null
+                    && !(fs.getRespondingInstructorList().isEmpty() && fs.getRespondingStudentList().isEmpty())) {
+                fs.getRespondingInstructorList().clear();
+                fs.getRespondingStudentList().clear();
+                saveEntity(fs);
+            }
+            return null;
+        });
+    }
 
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
+    /**
+     * Replaces {@code oldEmail} with {@code newEmail} in the legacy respondents of the feedback session
+     * in a transaction, or removes it if {@code newEmail} is null.
+     */
+    private void replaceLegacyRespondent(String feedbackSessionName, String courseId, String oldEmail,
+                                         String newEmail, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
 
-        fs.getRespondingStudentList().remove(email);
+        ofy().transact(() -> {
+            FeedbackSession fs = getFeedbackSessionEntity(feedbackSessionName, courseId);
+            if (fs != null && getLegacyRespondents(fs, isInstructor).remove(oldEmail)) {
+                if (newEmail != null) {
+                    getLegacyRespondents(fs, isInstructor).add(newEmail);
+                }
+                saveEntity(fs);
+            }
+            return null;
+        });
+    }
 
-        saveEntity(fs, feedbackSession);
+    private static Set<String> getLegacyRespondents(FeedbackSession fs, boolean isInstructor) {
+        return isInstructor ? fs.getRespondingInstructorList() : fs.getRespondingStudentList();
     }
 
     public void deleteFeedbackSessionsForCourse(String courseId) {
@@ -398,7 +475,8 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
     public void deleteFeedbackSessionsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+        List<Key<FeedbackSession>> keysToDelete = load().filter("courseId in", courseIds).keys().list();
+        deleteEntitiesByKeysForCourses(keysToDelete, courseIds);
     }
 
     private List<FeedbackSession> getAllFeedbackSessionEntities() {
@@ -440,11 +518,15 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 .list();
     }
 
-    private FeedbackSession getFeedbackSessionEntity(String feedbackSessionName, String courseId) {
+    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyReceivingResponses() {
         return load()
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .first().now();
+                .filter("endTime >", TimeHelper.getDateOffsetToCurrentTime(-2))
+                .list();
+    }
+
+    // Loads by key rather than by query, so that the session is served from the Objectify session cache or memcache
+    private FeedbackSession getFeedbackSessionEntity(String feedbackSessionName, String courseId) {
+        return load().id(feedbackSessionName + "%" + courseId).now();
     }
 
     @Override
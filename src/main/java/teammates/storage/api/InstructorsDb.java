@@ -326,10 +326,13 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     }
 
     private void deleteInstructors(List<Instructor> instructors) {
+        List<InstructorAttributes> instructorsAttributes = new ArrayList<>();
         for (Instructor instructor : instructors) {
-            deleteDocument(makeAttributes(instructor));
+            InstructorAttributes instructorAttributes = makeAttributes(instructor);
+            instructorsAttributes.add(instructorAttributes);
+            deleteDocument(instructorAttributes);
         }
-        ofy().delete().entities(instructors).now();
+        deleteEntitiesDirect(instructors, instructorsAttributes);
     }
 
     private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
@@ -9,10 +9,13 @@ import teammates.storage.entity.Account;
 import teammates.storage.entity.AdminEmail;
 import teammates.storage.entity.Course;
 import teammates.storage.entity.CourseStudent;
+import teammates.storage.entity.EntityChange;
 import teammates.storage.entity.FeedbackQuestion;
+import teammates.storage.entity.FeedbackQuestionStatistics;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
 
@@ -29,10 +32,13 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(AdminEmail.class);
         ObjectifyService.register(Course.class);
         ObjectifyService.register(CourseStudent.class);
+        ObjectifyService.register(EntityChange.class);
         ObjectifyService.register(FeedbackQuestion.class);
+        ObjectifyService.register(FeedbackQuestionStatistics.class);
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionRespondent.class);
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
     }
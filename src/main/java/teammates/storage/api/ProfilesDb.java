@@ -18,7 +18,6 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
-import teammates.common.util.Logger;
 import teammates.common.util.ThreadHelper;
 import teammates.storage.entity.Account;
 import teammates.storage.entity.StudentProfile;
@@ -31,8 +30,6 @@ import teammates.storage.entity.StudentProfile;
  */
 public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttributes> {
 
-    private static final Logger log = Logger.getLogger();
-
     /**
      * Gets the datatransfer (*Attributes) version of the profile
      * corresponding to the googleId given. Returns null if the
@@ -91,46 +88,63 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
                 && !newSpa.pictureKey.equals(profileToUpdate.getPictureKey().getKeyString());
         if (hasNewNonEmptyPictureKey) {
             profileToUpdate.setPictureKey(new BlobKey(newSpa.pictureKey));
+            profileToUpdate.setPictureThumbnailKey(new BlobKey(newSpa.pictureThumbnailKey));
         }
 
         saveEntity(profileToUpdate);
     }
 
     /**
-     * Updates the pictureKey of the profile with given GoogleId.
+     * Updates the pictureKey of the profile with given GoogleId to a picture without a thumbnail.
+     *
+     * @see #updateStudentProfilePicture(String, String, String)
+     */
+    public void updateStudentProfilePicture(String googleId, String newPictureKey) throws EntityDoesNotExistException {
+        updateStudentProfilePicture(googleId, newPictureKey, "");
+    }
+
+    /**
+     * Updates the pictureKey of the profile with given GoogleId, together with the key of the thumbnail
+     * of the picture, which is empty if the picture has no thumbnail.
      * Deletes existing picture if key is different and updates
      * modifiedDate
      */
-    public void updateStudentProfilePicture(String googleId, String newPictureKey) throws EntityDoesNotExistException {
+    public void updateStudentProfilePicture(String googleId, String newPictureKey, String newPictureThumbnailKey)
+            throws EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newPictureKey);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newPictureThumbnailKey);
         Assumption.assertNotEmpty("GoogleId is empty", googleId);
         Assumption.assertNotEmpty("PictureKey is empty", newPictureKey);
 
         StudentProfile profileToUpdate = getCurrentProfileFromDb(googleId);
 
+        BlobKey oldPictureKey = profileToUpdate.getPictureKey();
         boolean hasNewNonEmptyPictureKey = !newPictureKey.isEmpty()
-                && !newPictureKey.equals(profileToUpdate.getPictureKey().getKeyString());
+                && !newPictureKey.equals(oldPictureKey.getKeyString());
         if (hasNewNonEmptyPictureKey) {
             profileToUpdate.setPictureKey(new BlobKey(newPictureKey));
+            profileToUpdate.setPictureThumbnailKey(new BlobKey(newPictureThumbnailKey));
             profileToUpdate.setModifiedDate(new Date());
         }
 
         saveEntity(profileToUpdate);
+
+        if (hasNewNonEmptyPictureKey && !oldPictureKey.getKeyString().isEmpty()) {
+            // pictures are written to new files, so the old file is no longer used
+            deletePicture(oldPictureKey);
+        }
     }
 
     @Override
     public void deleteEntity(StudentProfileAttributes entityToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToDelete);
 
-        Key<StudentProfile> keyToDelete = getEntityQueryKeys(entityToDelete).first().now();
-        if (keyToDelete == null) {
-            ofy().delete().keys(getEntityQueryKeysForLegacyData(entityToDelete)).now();
-        } else {
-            ofy().delete().key(keyToDelete).now();
+        List<Key<StudentProfile>> keysToDelete = getEntityQueryKeys(entityToDelete).list();
+        if (keysToDelete.isEmpty()) {
+            keysToDelete = getEntityQueryKeysForLegacyData(entityToDelete).list();
         }
-
-        log.info(entityToDelete.getBackupIdentifier());
+        deleteEntitiesByKeys(keysToDelete, null);
     }
 
     @Override
@@ -147,10 +161,9 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
                 continue;
             }
             keysToDelete.add(keyToDelete);
-            log.info(entityToDelete.getBackupIdentifier());
         }
 
-        ofy().delete().keys(keysToDelete).now();
+        deleteEntitiesByKeys(keysToDelete, null);
     }
 
     /**
@@ -164,6 +177,7 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
         if (!sp.getPictureKey().equals(new BlobKey(""))) {
             deletePicture(sp.getPictureKey());
             sp.setPictureKey(new BlobKey(""));
+            sp.setPictureThumbnailKey(new BlobKey(""));
             sp.setModifiedDate(new Date());
         }
 
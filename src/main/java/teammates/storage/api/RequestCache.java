@@ -0,0 +1,126 @@
+package teammates.storage.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.cache.MemcacheStats;
+
+/**
+ * Caches the results of Datastore queries for the duration of a single request.
+ *
+ * <p>Entities loaded by key are already cached in two levels by Objectify: per request by the session cache, and
+ * across requests in memcache for the entity classes annotated with {@code @Cache}. Query results are not kept
+ * in memcache, as queries which are not ancestor queries are only eventually consistent and a stale result
+ * could then outlive the request that read it.
+ *
+ * <p>The cache is only active between {@link #begin()} and {@link #end()} on the same thread (see
+ * {@link RequestCacheFilter}); outside of it, every lookup goes to the Datastore. All cached results are
+ * discarded whenever entities are saved or deleted through {@link EntitiesDb}; subclasses that write through
+ * Objectify directly have to call {@link #clear()} themselves if results of their kind are cached.
+ */
+public final class RequestCache {
+
+    private static final ThreadLocal<Map<String, Object>> CACHED_RESULTS = new ThreadLocal<>();
+
+    private static final Map<String, AtomicLong> HITS = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> MISSES = new ConcurrentHashMap<>();
+
+    private RequestCache() {
+        // utility class
+    }
+
+    /**
+     * Starts caching query results on the current thread.
+     */
+    public static void begin() {
+        CACHED_RESULTS.set(new HashMap<>());
+    }
+
+    /**
+     * Stops caching query results on the current thread and discards the cached results.
+     */
+    public static void end() {
+        CACHED_RESULTS.remove();
+    }
+
+    /**
+     * Returns the cached result of the query identified by {@code kind} and {@code queryKey},
+     * running the query with {@code loader} if the result is not cached yet.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T get(String kind, String queryKey, Supplier<T> loader) {
+        Map<String, Object> cachedResults = CACHED_RESULTS.get();
+        if (cachedResults == null) {
+            return loader.get();
+        }
+
+        String cacheKey = kind + "|" + queryKey;
+        if (cachedResults.containsKey(cacheKey)) {
+            getCounter(HITS, kind).incrementAndGet();
+            return (T) cachedResults.get(cacheKey);
+        }
+
+        getCounter(MISSES, kind).incrementAndGet();
+        T result = loader.get();
+        cachedResults.put(cacheKey, result);
+        return result;
+    }
+
+    /**
+     * Discards all query results cached on the current thread.
+     * This has to be called whenever an entity is created, updated or deleted.
+     */
+    static void clear() {
+        Map<String, Object> cachedResults = CACHED_RESULTS.get();
+        if (cachedResults != null) {
+            cachedResults.clear();
+        }
+    }
+
+    /**
+     * Returns the number of query results of {@code kind} served from the cache since the instance started.
+     */
+    public static long getHitCount(String kind) {
+        return getCounter(HITS, kind).get();
+    }
+
+    /**
+     * Returns the number of queries of {@code kind} that were sent to the Datastore while the cache was active.
+     */
+    public static long getMissCount(String kind) {
+        return getCounter(MISSES, kind).get();
+    }
+
+    /**
+     * Returns the hit and miss counters of the memcache tier for entities loaded by key, per kind.
+     */
+    public static Map<String, MemcacheStats.Stat> getMemcacheStats() {
+        return ObjectifyService.factory().getMemcacheStats().getStats();
+    }
+
+    /**
+     * Returns a one-line summary of the counters of both cache tiers, for logging.
+     */
+    public static String getStatsSummary() {
+        StringBuilder summary = new StringBuilder("Query cache hits/misses:");
+        for (Map.Entry<String, AtomicLong> miss : MISSES.entrySet()) {
+            summary.append(' ').append(miss.getKey()).append('=')
+                    .append(getHitCount(miss.getKey())).append('/').append(miss.getValue().get());
+        }
+        summary.append("; entity memcache hits/misses:");
+        for (Map.Entry<String, MemcacheStats.Stat> stat : getMemcacheStats().entrySet()) {
+            summary.append(' ').append(stat.getKey()).append('=')
+                    .append(stat.getValue().getHits()).append('/').append(stat.getValue().getMisses());
+        }
+        return summary.toString();
+    }
+
+    private static AtomicLong getCounter(Map<String, AtomicLong> counters, String kind) {
+        return counters.computeIfAbsent(kind, k -> new AtomicLong());
+    }
+
+}
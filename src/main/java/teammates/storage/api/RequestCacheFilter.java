@@ -0,0 +1,43 @@
+package teammates.storage.api;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import teammates.common.util.Logger;
+
+/**
+ * Setup in web.xml to confine the {@link RequestCache} to a single request.
+ */
+public class RequestCacheFilter implements Filter {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        // nothing to initialize
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        RequestCache.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestCache.end();
+            log.fine(RequestCache.getStatsSummary());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // nothing to clean up
+    }
+
+}
@@ -10,6 +10,7 @@ import java.util.Map;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
+import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
@@ -139,6 +140,58 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Creates {@code studentsToCreate} and updates the details of {@code studentsToUpdate} with one batched write,
+     * then creates or updates the search documents of all of them with one batched call if {@code hasDocument}
+     * is true. <br>
+     * Note that there is no check for existence - existing students in {@code studentsToCreate} will be overwritten.
+     * <br> Preconditions: <br>
+     * * All parameters are non-null. <br>
+     * * Students in {@code studentsToUpdate} are valid and keep their original emails.
+     *
+     * @return the students as created or updated.
+     */
+    public List<StudentAttributes> createAndUpdateStudents(Collection<StudentAttributes> studentsToCreate,
+            Collection<StudentAttributes> studentsToUpdate, boolean hasDocument)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentsToCreate);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentsToUpdate);
+
+        Map<String, StudentAttributes> studentsToUpdateById = new LinkedHashMap<>();
+        for (StudentAttributes student : studentsToUpdate) {
+            studentsToUpdateById.put(student.toEntity().getUniqueId(), student);
+        }
+        Map<String, CourseStudent> courseStudentsToUpdate = load().ids(studentsToUpdateById.keySet());
+
+        List<CourseStudent> updatedCourseStudents = new ArrayList<>();
+        for (Map.Entry<String, StudentAttributes> studentToUpdate : studentsToUpdateById.entrySet()) {
+            StudentAttributes student = studentToUpdate.getValue();
+            CourseStudent courseStudent = courseStudentsToUpdate.get(studentToUpdate.getKey());
+            if (courseStudent == null) {
+                throw new EntityDoesNotExistException(
+                        ERROR_UPDATE_NON_EXISTENT_STUDENT + student.course + "/" + student.email);
+            }
+            courseStudent.setName(student.name);
+            courseStudent.setLastName(StringHelper.splitName(student.name)[1]);
+            courseStudent.setComments(student.comments);
+            courseStudent.setGoogleId(student.googleId);
+            courseStudent.setTeamName(student.team);
+            courseStudent.setSectionName(student.section);
+            updatedCourseStudents.add(courseStudent);
+        }
+
+        List<CourseStudent> writtenCourseStudents = createEntitiesDeferred(studentsToCreate);
+        saveEntitiesDeferred(updatedCourseStudents);
+        flush();
+
+        writtenCourseStudents.addAll(updatedCourseStudents);
+        List<StudentAttributes> writtenStudents = makeAttributes(writtenCourseStudents);
+        if (hasDocument && !writtenStudents.isEmpty()) {
+            putDocuments(writtenStudents);
+        }
+        return writtenStudents;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -229,6 +282,24 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributes(getCourseStudentEntitiesForTeam(teamName, courseId));
     }
 
+    /**
+     * Gets the students of the course with any of the given emails, with one query per
+     * {@value #MAX_VALUES_PER_IN_FILTER} emails. Emails of no student in the course are ignored.
+     */
+    public List<StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        List<CourseStudent> students = new ArrayList<>();
+        for (List<String> batch : splitForInFilter(emails)) {
+            students.addAll(load()
+                    .filter("courseId =", courseId)
+                    .filter("email in", batch)
+                    .list());
+        }
+        return makeAttributes(students);
+    }
+
     /**
      * Preconditions: <br>
      * All parameters are non-null.
@@ -437,7 +508,8 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
                 deleteEntityDirect(courseStudentToDelete, courseStudentToDeleteAttributes);
             }
         } else {
-            ofy().delete().keys(getCourseStudentForEmailQuery(courseId, email).keys()).now();
+            List<Key<CourseStudent>> keysToDelete = getCourseStudentForEmailQuery(courseId, email).keys().list();
+            deleteEntitiesByKeys(keysToDelete, courseId);
         }
     }
 
@@ -462,7 +534,8 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (hasDocument) {
             deleteStudentsCascadeDocuments(getCourseStudentEntitiesForGoogleId(googleId));
         } else {
-            ofy().delete().keys(getCourseStudentsForGoogleIdQuery(googleId).keys());
+            List<Key<CourseStudent>> keysToDelete = getCourseStudentsForGoogleIdQuery(googleId).keys().list();
+            deleteEntitiesByKeys(keysToDelete, null);
         }
     }
 
@@ -487,14 +560,16 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (hasDocument) {
             deleteStudentsCascadeDocuments(getCourseStudentEntitiesForCourse(courseId));
         } else {
-            ofy().delete().keys(getCourseStudentsForCourseQuery(courseId).keys());
+            List<Key<CourseStudent>> keysToDelete = getCourseStudentsForCourseQuery(courseId).keys().list();
+            deleteEntitiesByKeys(keysToDelete, courseId);
         }
     }
 
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys());
+        List<Key<CourseStudent>> keysToDelete = getCourseStudentsForCoursesQuery(courseIds).keys().list();
+        deleteEntitiesByKeysForCourses(keysToDelete, courseIds);
     }
 
     /**
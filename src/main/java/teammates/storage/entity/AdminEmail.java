@@ -6,16 +6,22 @@ import java.util.List;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Index;
 import com.googlecode.objectify.annotation.Unindex;
 
+import teammates.common.util.Const;
+
 /**
  * Represents emails composed by Admin.
+ *
+ * <p>Cached in memcache as the send worker of every receiver of an admin email loads it by its ID.
  */
 @Entity
 @Index
+@Cache(expirationSeconds = Const.SystemParams.ENTITY_CACHE_EXPIRATION_SECONDS)
 public class AdminEmail extends BaseEntity {
 
     @Id
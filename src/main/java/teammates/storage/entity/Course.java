@@ -2,6 +2,7 @@ package teammates.storage.entity;
 
 import java.util.Date;
 
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Index;
@@ -13,6 +14,7 @@ import teammates.common.util.Const;
  */
 @Entity
 @Index
+@Cache(expirationSeconds = Const.SystemParams.ENTITY_CACHE_EXPIRATION_SECONDS)
 public class Course extends BaseEntity {
 
     @Id
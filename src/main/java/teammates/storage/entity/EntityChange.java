@@ -0,0 +1,98 @@
+package teammates.storage.entity;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents a record in the journal of changes made to the other entities, which is used to
+ * back up only the entities that changed since the previous backup.
+ *
+ * <p>No property is indexed, as the changes are only looked up by key. The key starts with one of
+ * {@value #NUMBER_OF_SHARDS} shard prefixes followed by the time of the change, so that the changes of a time
+ * range are a key range in every shard while concurrent writes are spread over the shards instead of
+ * all going to the end of a single key range.
+ */
+@Entity
+@Unindex
+public class EntityChange extends BaseEntity {
+
+    /** The number of shards the keys of the changes are spread over. */
+    public static final int NUMBER_OF_SHARDS = 16;
+
+    @Id
+    private String changeId;
+
+    private String entityKind;
+
+    /**
+     * The web-safe key of the changed entity, or null if the key was not known when the change was recorded,
+     * e.g. for an entity with an auto-generated ID whose creation was deferred.
+     */
+    private String entityKey;
+
+    /** The ID of the course the changed entity belongs to, or null if it does not belong to a course. */
+    private String courseId;
+
+    private boolean isDeleted;
+
+    private Date timestamp;
+
+    @SuppressWarnings("unused")
+    private EntityChange() {
+        // required by Objectify
+    }
+
+    public EntityChange(String entityKind, String entityKey, String courseId, boolean isDeleted) {
+        this.entityKind = entityKind;
+        this.entityKey = entityKey;
+        this.courseId = courseId;
+        this.isDeleted = isDeleted;
+        this.timestamp = new Date();
+        this.changeId = makeChangeId(ThreadLocalRandom.current().nextInt(NUMBER_OF_SHARDS), timestamp.getTime())
+                        + UUID.randomUUID().toString();
+    }
+
+    /**
+     * Returns the prefix of the IDs of the changes in the shard recorded at {@code timeInMillis}.
+     * The prefixes of a shard sort in the order of their time, and before the prefixes of the next shard.
+     */
+    public static String makeChangeId(int shard, long timeInMillis) {
+        return String.format("%02d-%013d-", shard, timeInMillis);
+    }
+
+    /**
+     * Returns the shard of the change with the given ID.
+     */
+    public static int getShard(String changeId) {
+        return Integer.parseInt(changeId.substring(0, changeId.indexOf('-')));
+    }
+
+    public String getId() {
+        return changeId;
+    }
+
+    public String getEntityKind() {
+        return entityKind;
+    }
+
+    public String getEntityKey() {
+        return entityKey;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public boolean isDeleted() {
+        return isDeleted;
+    }
+
+    public Date getTimestamp() {
+        return timestamp;
+    }
+}
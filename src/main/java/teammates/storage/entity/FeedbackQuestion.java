@@ -6,6 +6,7 @@ import java.util.List;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Ignore;
@@ -21,6 +22,7 @@ import teammates.common.util.Const;
  */
 @Entity
 @Index
+@Cache(expirationSeconds = Const.SystemParams.ENTITY_CACHE_EXPIRATION_SECONDS)
 public class FeedbackQuestion extends BaseEntity {
 
     // TODO: where applicable, we should specify fields as @Unindex to prevent GAE from building unnecessary indexes.
@@ -0,0 +1,96 @@
+package teammates.storage.entity;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Cache;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.Const;
+
+/**
+ * Represents the statistics aggregate of a feedback question, i.e. the number of responses to the question
+ * and the number of times each answer key occurs in them, as computed from the responses when it was last put.
+ *
+ * <p>The aggregate is recomputed from the responses by a task queue worker after responses of the question change,
+ * so it may lag behind the responses for a while. The fingerprint of the responses it was computed from tells
+ * whether it still stands for the current responses.
+ *
+ * @see teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate
+ */
+@Entity
+@Index
+@Cache(expirationSeconds = Const.SystemParams.ENTITY_CACHE_EXPIRATION_SECONDS)
+public class FeedbackQuestionStatistics extends BaseEntity {
+
+    /**
+     * ID of the aggregate, which is the ID of its question.
+     */
+    @Id
+    private String feedbackQuestionId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private int numberOfResponses;
+
+    /** The counts of the answer keys as a JSON object. */
+    private Text answerCounts;
+
+    @Unindex
+    private long responsesFingerprint;
+
+    @SuppressWarnings("unused")
+    private FeedbackQuestionStatistics() {
+        // required by Objectify
+    }
+
+    public FeedbackQuestionStatistics(String feedbackQuestionId, String feedbackSessionName, String courseId,
+                                      int numberOfResponses, Text answerCounts, long responsesFingerprint) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.numberOfResponses = numberOfResponses;
+        this.answerCounts = answerCounts;
+        this.responsesFingerprint = responsesFingerprint;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getNumberOfResponses() {
+        return numberOfResponses;
+    }
+
+    public void setNumberOfResponses(int numberOfResponses) {
+        this.numberOfResponses = numberOfResponses;
+    }
+
+    public Text getAnswerCounts() {
+        return answerCounts;
+    }
+
+    public void setAnswerCounts(Text answerCounts) {
+        this.answerCounts = answerCounts;
+    }
+
+    public long getResponsesFingerprint() {
+        return responsesFingerprint;
+    }
+
+    public void setResponsesFingerprint(long responsesFingerprint) {
+        this.responsesFingerprint = responsesFingerprint;
+    }
+}
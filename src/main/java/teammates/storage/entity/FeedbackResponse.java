@@ -1,6 +1,8 @@
 package teammates.storage.entity;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.annotation.Entity;
@@ -49,6 +51,12 @@ public class FeedbackResponse extends BaseEntity {
 
     private String receiverSection;
 
+    /**
+     * The distinct sections among {@code giverSection} and {@code receiverSection}.
+     * Denormalized so that responses involving a section can be found with a single query.
+     */
+    private List<String> sectionsInvolved;
+
     private Text answer; //TODO: rename to responseMetaData, will require database conversion
 
     private Date createdAt;
@@ -75,6 +83,8 @@ public class FeedbackResponse extends BaseEntity {
 
         this.feedbackResponseId = feedbackQuestionId + "%" + giverEmail + "%" + receiver;
 
+        updateSectionsInvolved();
+
         this.setCreatedAt(new Date());
     }
 
@@ -128,6 +138,7 @@ public class FeedbackResponse extends BaseEntity {
 
     public void setGiverSection(String giverSection) {
         this.giverSection = giverSection;
+        updateSectionsInvolved();
     }
 
     public String getRecipientEmail() {
@@ -144,6 +155,11 @@ public class FeedbackResponse extends BaseEntity {
 
     public void setRecipientSection(String recipientSection) {
         this.receiverSection = recipientSection;
+        updateSectionsInvolved();
+    }
+
+    public List<String> getSectionsInvolved() {
+        return sectionsInvolved;
     }
 
     public Text getResponseMetaData() {
@@ -177,4 +193,20 @@ public class FeedbackResponse extends BaseEntity {
     public void updateLastUpdateTimestamp() {
         this.setLastUpdate(new Date());
     }
+
+    /**
+     * Recomputes {@code sectionsInvolved} from the giver and recipient sections.
+     * Also run on every save so that entities written before the field existed are backfilled when they are updated.
+     */
+    @OnSave
+    public void updateSectionsInvolved() {
+        List<String> sections = new ArrayList<>();
+        if (giverSection != null) {
+            sections.add(giverSection);
+        }
+        if (receiverSection != null && !receiverSection.equals(giverSection)) {
+            sections.add(receiverSection);
+        }
+        this.sectionsInvolved = sections;
+    }
 }
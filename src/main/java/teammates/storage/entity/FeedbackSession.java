@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Index;
@@ -18,6 +19,7 @@ import teammates.common.util.Const;
  */
 @Entity
 @Index
+@Cache(expirationSeconds = Const.SystemParams.ENTITY_CACHE_EXPIRATION_SECONDS)
 public class FeedbackSession extends BaseEntity {
 
     // Format is feedbackSessionName%courseId
@@ -33,12 +35,33 @@ public class FeedbackSession extends BaseEntity {
 
     private String creatorEmail; //TODO: should this be googleId?
 
+    /** This is legacy data: respondents are now recorded as {@link FeedbackSessionRespondent} markers. <br>
+     * The value is the instructors who responded before the markers were introduced,
+     * until DataMigrationForResponseRate has recorded them as markers and cleared the value. <br>
+     * TODO Remove this field after the migration
+     */
     @Unindex
     private Set<String> respondingInstructorList = new HashSet<>();
 
+    /** This is legacy data, the students counterpart of {@link #respondingInstructorList}. <br>
+     * TODO Remove this field after the migration
+     */
     @Unindex
     private Set<String> respondingStudentList = new HashSet<>();
 
+    /** Number of students and instructors expected to respond, used for the response rate. <br>
+     * The value is null if it has to be recomputed, e.g. after the questions or the course roster changed.
+     */
+    @Unindex
+    private Integer expectedRespondentTotal;
+
+    /** Incremented whenever {@link #expectedRespondentTotal} is cleared, so that a number computed
+     * before the clear can be told apart from one computed after it and is not stored. <br>
+     * The value is 0 for sessions whose number has never been cleared.
+     */
+    @Unindex
+    private long expectedRespondentTotalVersion;
+
     @Unindex
     private Text instructions;
 
@@ -100,19 +123,6 @@ public class FeedbackSession extends BaseEntity {
             FeedbackSessionType feedbackSessionType, boolean sentOpenEmail,
             boolean sentClosingEmail, boolean sentClosedEmail, boolean sentPublishedEmail,
             boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled) {
-        this(feedbackSessionName, courseId, creatorEmail, instructions, createdTime, startTime, endTime,
-             sessionVisibleFromTime, resultsVisibleFromTime, timeZone, gracePeriod, feedbackSessionType,
-             sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail, isOpeningEmailEnabled,
-             isClosingEmailEnabled, isPublishedEmailEnabled, new HashSet<String>(), new HashSet<String>());
-    }
-
-    public FeedbackSession(String feedbackSessionName, String courseId,
-            String creatorEmail, Text instructions, Date createdTime, Date startTime, Date endTime,
-            Date sessionVisibleFromTime, Date resultsVisibleFromTime, double timeZone, int gracePeriod,
-            FeedbackSessionType feedbackSessionType, boolean sentOpenEmail, boolean sentClosingEmail,
-            boolean sentClosedEmail, boolean sentPublishedEmail,
-            boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled,
-            Set<String> instructorList, Set<String> studentList) {
         this.feedbackSessionName = feedbackSessionName;
         this.courseId = courseId;
         this.creatorEmail = creatorEmail;
@@ -134,8 +144,6 @@ public class FeedbackSession extends BaseEntity {
         this.isClosingEmailEnabled = isClosingEmailEnabled;
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
         this.feedbackSessionId = this.feedbackSessionName + "%" + this.courseId;
-        this.respondingInstructorList = instructorList == null ? new HashSet<String>() : instructorList;
-        this.respondingStudentList = studentList == null ? new HashSet<String>() : studentList;
     }
 
     public String getFeedbackSessionName() {
@@ -324,20 +332,38 @@ public class FeedbackSession extends BaseEntity {
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
     }
 
-    public Set<String> getRespondingInstructorList() {
-        return this.respondingInstructorList;
+    public Integer getExpectedRespondentTotal() {
+        return this.expectedRespondentTotal;
     }
 
-    public void setRespondingInstructorList(Set<String> instructorList) {
-        this.respondingInstructorList = instructorList;
+    public void setExpectedRespondentTotal(Integer expectedRespondentTotal) {
+        this.expectedRespondentTotal = expectedRespondentTotal;
     }
 
-    public Set<String> getRespondingStudentList() {
-        return this.respondingStudentList;
+    public long getExpectedRespondentTotalVersion() {
+        return expectedRespondentTotalVersion;
+    }
+
+    /**
+     * Clears the number of expected respondents and increments its version.
+     */
+    public void clearExpectedRespondentTotal() {
+        this.expectedRespondentTotal = null;
+        this.expectedRespondentTotalVersion++;
     }
 
-    public void setRespondingStudentList(Set<String> studentList) {
-        this.respondingStudentList = studentList;
+    public Set<String> getRespondingInstructorList() {
+        if (respondingInstructorList == null) {
+            respondingInstructorList = new HashSet<>();
+        }
+        return respondingInstructorList;
+    }
+
+    public Set<String> getRespondingStudentList() {
+        if (respondingStudentList == null) {
+            respondingStudentList = new HashSet<>();
+        }
+        return respondingStudentList;
     }
 
     @Override
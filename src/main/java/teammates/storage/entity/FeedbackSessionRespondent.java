@@ -0,0 +1,78 @@
+package teammates.storage.entity;
+
+import com.googlecode.objectify.annotation.Cache;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+
+import teammates.common.util.Const;
+
+/**
+ * Represents a marker that a student or an instructor has responded to a feedback session.
+ *
+ * <p>Each respondent has an entity of its own, in an entity group of its own, so that submissions of many
+ * respondents to the same session can be recorded at the same time without contending on the session entity
+ * or on any other entity group.
+ */
+@Entity
+@Index
+@Cache(expirationSeconds = Const.SystemParams.ENTITY_CACHE_EXPIRATION_SECONDS)
+public class FeedbackSessionRespondent extends BaseEntity {
+
+    /**
+     * ID of the marker.
+     *
+     * @see #generateId(String, String, String, boolean)
+     */
+    @Id
+    private String id;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    private String email;
+
+    private boolean isInstructor;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionRespondent() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.email = email;
+        this.isInstructor = isInstructor;
+        this.id = generateId(feedbackSessionName, courseId, email, isInstructor);
+    }
+
+    /**
+     * Returns the ID of the marker, which has the format
+     * {@code feedbackSessionName%courseId%email%role} where role is either {@code instructor} or {@code student}.
+     */
+    public static String generateId(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        return feedbackSessionName + "%" + courseId + "%" + email + "%" + (isInstructor ? "instructor" : "student");
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+}
@@ -41,6 +41,9 @@ public class StudentProfile extends BaseEntity {
 
     private BlobKey pictureKey;
 
+    /* empty if the picture has no thumbnail; null for profiles saved before thumbnails were recorded */
+    private BlobKey pictureThumbnailKey;
+
     @Index
     private Date modifiedDate;
 
@@ -68,9 +71,14 @@ public class StudentProfile extends BaseEntity {
      *            The student's gender. Allows "other"
      * @param moreInfo
      *            Miscellaneous information, including external profile
+     * @param pictureKey
+     *            The key of the profile picture
+     * @param pictureThumbnailKey
+     *            The key of the thumbnail of the profile picture, empty if it has none
      */
     public StudentProfile(String googleId, String shortName, String email, String institute,
-                          String nationality, String gender, Text moreInfo, BlobKey pictureKey) {
+                          String nationality, String gender, Text moreInfo, BlobKey pictureKey,
+                          BlobKey pictureThumbnailKey) {
         this.setGoogleId(googleId);
         this.setShortName(shortName);
         this.setEmail(email);
@@ -80,6 +88,7 @@ public class StudentProfile extends BaseEntity {
         this.setMoreInfo(moreInfo);
         this.setModifiedDate(new Date());
         this.setPictureKey(pictureKey);
+        this.setPictureThumbnailKey(pictureThumbnailKey);
     }
 
     public StudentProfile(String googleId) {
@@ -91,6 +100,7 @@ public class StudentProfile extends BaseEntity {
         this.setGender("other");
         this.setMoreInfo(new Text(""));
         this.setPictureKey(new BlobKey(""));
+        this.setPictureThumbnailKey(new BlobKey(""));
         this.setModifiedDate(new Date());
     }
 
@@ -162,6 +172,14 @@ public class StudentProfile extends BaseEntity {
         this.pictureKey = pictureKey;
     }
 
+    public BlobKey getPictureThumbnailKey() {
+        return this.pictureThumbnailKey;
+    }
+
+    public void setPictureThumbnailKey(BlobKey pictureThumbnailKey) {
+        this.pictureThumbnailKey = pictureThumbnailKey;
+    }
+
     public Date getModifiedDate() {
         return this.modifiedDate;
     }
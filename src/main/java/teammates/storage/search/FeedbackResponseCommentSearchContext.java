@@ -0,0 +1,140 @@
+package teammates.storage.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Holds the entities of one course that are read when building {@link FeedbackResponseCommentSearchDocument}s.
+ *
+ * <p>A context made by {@link #preload(String, List)} reads everything the documents of the given comments need
+ * with a few batched reads, so that indexing many comments of a course does not repeat the same reads per comment.
+ * A context made by {@link #lazy(String)} reads and caches entities only when they are first asked for,
+ * which is cheaper when only a single comment is indexed.
+ */
+final class FeedbackResponseCommentSearchContext {
+
+    private final String courseId;
+    private final boolean isPreloaded;
+
+    private CourseAttributes course;
+    private boolean isCourseLoaded;
+    private final Map<String, FeedbackSessionAttributes> sessions = new HashMap<>();
+    private final Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+    private final Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+    private final Map<String, InstructorAttributes> instructorsByEmail = new HashMap<>();
+    private final Map<String, StudentAttributes> studentsByEmail = new HashMap<>();
+    private final Map<String, List<StudentAttributes>> studentsByTeam = new HashMap<>();
+
+    private FeedbackResponseCommentSearchContext(String courseId, boolean isPreloaded) {
+        this.courseId = courseId;
+        this.isPreloaded = isPreloaded;
+    }
+
+    /**
+     * Creates a context which reads entities of the course only when they are first needed.
+     */
+    static FeedbackResponseCommentSearchContext lazy(String courseId) {
+        return new FeedbackResponseCommentSearchContext(courseId, false);
+    }
+
+    /**
+     * Creates a context with all entities needed for the documents of {@code comments} already read.
+     * All comments must belong to the course {@code courseId}.
+     */
+    static FeedbackResponseCommentSearchContext preload(String courseId,
+                                                        List<FeedbackResponseCommentAttributes> comments) {
+        FeedbackResponseCommentSearchContext context = new FeedbackResponseCommentSearchContext(courseId, true);
+
+        context.course = SearchDocument.coursesDb.getCourse(courseId);
+        context.isCourseLoaded = true;
+
+        for (FeedbackSessionAttributes session : SearchDocument.fsDb.getFeedbackSessionsForCourse(courseId)) {
+            context.sessions.put(session.getFeedbackSessionName(), session);
+        }
+
+        Set<String> questionIds = new HashSet<>();
+        Set<String> responseIds = new HashSet<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            questionIds.add(comment.feedbackQuestionId);
+            responseIds.add(comment.feedbackResponseId);
+        }
+        context.questions.putAll(SearchDocument.fqDb.getFeedbackQuestionsForIds(questionIds));
+        context.responses.putAll(SearchDocument.frDb.getFeedbackResponsesForIds(responseIds));
+
+        for (InstructorAttributes instructor : SearchDocument.instructorsDb.getInstructorsForCourse(courseId)) {
+            context.instructorsByEmail.put(instructor.email, instructor);
+        }
+        for (StudentAttributes student : SearchDocument.studentsDb.getStudentsForCourse(courseId)) {
+            context.studentsByEmail.put(student.email, student);
+            context.studentsByTeam.computeIfAbsent(student.team, team -> new ArrayList<>()).add(student);
+        }
+        return context;
+    }
+
+    CourseAttributes getCourse() {
+        if (!isCourseLoaded) {
+            course = SearchDocument.coursesDb.getCourse(courseId);
+            isCourseLoaded = true;
+        }
+        return course;
+    }
+
+    FeedbackSessionAttributes getSession(String feedbackSessionName) {
+        if (!isPreloaded && !sessions.containsKey(feedbackSessionName)) {
+            sessions.put(feedbackSessionName, SearchDocument.fsDb.getFeedbackSession(courseId, feedbackSessionName));
+        }
+        return sessions.get(feedbackSessionName);
+    }
+
+    FeedbackQuestionAttributes getQuestion(String feedbackQuestionId) {
+        if (!isPreloaded && !questions.containsKey(feedbackQuestionId)) {
+            questions.put(feedbackQuestionId, SearchDocument.fqDb.getFeedbackQuestion(feedbackQuestionId));
+        }
+        return questions.get(feedbackQuestionId);
+    }
+
+    FeedbackResponseAttributes getResponse(String feedbackResponseId) {
+        if (!isPreloaded && !responses.containsKey(feedbackResponseId)) {
+            responses.put(feedbackResponseId, SearchDocument.frDb.getFeedbackResponse(feedbackResponseId));
+        }
+        return responses.get(feedbackResponseId);
+    }
+
+    InstructorAttributes getInstructor(String email) {
+        if (!isPreloaded && !instructorsByEmail.containsKey(email)) {
+            instructorsByEmail.put(email, SearchDocument.instructorsDb.getInstructorForEmail(courseId, email));
+        }
+        return instructorsByEmail.get(email);
+    }
+
+    StudentAttributes getStudent(String email) {
+        if (!isPreloaded && !studentsByEmail.containsKey(email)) {
+            studentsByEmail.put(email, SearchDocument.studentsDb.getStudentForEmail(courseId, email));
+        }
+        return studentsByEmail.get(email);
+    }
+
+    /**
+     * Returns the students in the team, or an empty list if there is no such team.
+     */
+    List<StudentAttributes> getStudentsForTeam(String teamName) {
+        if (!isPreloaded && !studentsByTeam.containsKey(teamName)) {
+            studentsByTeam.put(teamName, SearchDocument.studentsDb.getStudentsForTeam(teamName, courseId));
+        }
+        return studentsByTeam.getOrDefault(teamName, Collections.emptyList());
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,8 +42,38 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private List<InstructorAttributes> relatedInstructors;
     private List<StudentAttributes> relatedStudents;
 
+    private FeedbackResponseCommentSearchContext context;
+
     public FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment) {
+        this(comment, comment == null ? null : FeedbackResponseCommentSearchContext.lazy(comment.courseId));
+    }
+
+    private FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment,
+                                                  FeedbackResponseCommentSearchContext context) {
         this.comment = comment;
+        this.context = context;
+    }
+
+    /**
+     * Creates the search documents for many comments at once.
+     * The entities needed by the documents are read once per course with batched reads
+     * when the documents are built, instead of separately for every comment.
+     */
+    public static List<SearchDocument> fromComments(List<FeedbackResponseCommentAttributes> comments) {
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByCourse = new HashMap<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            commentsByCourse.computeIfAbsent(comment.courseId, courseId -> new ArrayList<>()).add(comment);
+        }
+
+        List<SearchDocument> documents = new ArrayList<>();
+        for (Map.Entry<String, List<FeedbackResponseCommentAttributes>> courseComments : commentsByCourse.entrySet()) {
+            FeedbackResponseCommentSearchContext context =
+                    FeedbackResponseCommentSearchContext.preload(courseComments.getKey(), courseComments.getValue());
+            for (FeedbackResponseCommentAttributes comment : courseComments.getValue()) {
+                documents.add(new FeedbackResponseCommentSearchDocument(comment, context));
+            }
+        }
+        return documents;
     }
 
     @Override
@@ -51,11 +82,11 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             return;
         }
 
-        relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
-        relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
-        relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
-        course = coursesDb.getCourse(comment.courseId);
-        giverAsInstructor = instructorsDb.getInstructorForEmail(comment.courseId, comment.giverEmail);
+        relatedSession = context.getSession(comment.feedbackSessionName);
+        relatedQuestion = context.getQuestion(comment.feedbackQuestionId);
+        relatedResponse = context.getResponse(comment.feedbackResponseId);
+        course = context.getCourse();
+        giverAsInstructor = context.getInstructor(comment.giverEmail);
         relatedInstructors = new ArrayList<>();
         relatedStudents = new ArrayList<>();
 
@@ -63,7 +94,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> addedEmailSet = new HashSet<>();
         if (relatedQuestion.giverType == FeedbackParticipantType.INSTRUCTORS
                 || relatedQuestion.giverType == FeedbackParticipantType.SELF) {
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.giver);
+            InstructorAttributes ins = context.getInstructor(relatedResponse.giver);
             if (ins == null || addedEmailSet.contains(ins.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -74,7 +105,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS) {
             responseGiverName = relatedResponse.giver;
         } else {
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.giver);
+            StudentAttributes stu = context.getStudent(relatedResponse.giver);
             if (stu == null || addedEmailSet.contains(stu.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -86,7 +117,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         switch (relatedQuestion.recipientType) {
         case INSTRUCTORS:
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.recipient);
+            InstructorAttributes ins = context.getInstructor(relatedResponse.recipient);
             if (ins != null && !addedEmailSet.contains(ins.email)) {
                 relatedInstructors.add(ins);
                 addedEmailSet.add(ins.email);
@@ -103,7 +134,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             responseRecipientName = relatedResponse.recipient;
             break;
         default:
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.recipient);
+            StudentAttributes stu = context.getStudent(relatedResponse.recipient);
 
             if (stu != null && !addedEmailSet.contains(stu.email)) {
                 relatedStudents.add(stu);
@@ -111,7 +142,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 responseRecipientName = stu.name + " (" + stu.team + ")";
             }
 
-            List<StudentAttributes> team = studentsDb.getStudentsForTeam(relatedResponse.recipient, comment.courseId);
+            List<StudentAttributes> team = context.getStudentsForTeam(relatedResponse.recipient);
             if (team != null) {
                 responseRecipientName = relatedResponse.recipient; // it's actually a team name here
                 for (StudentAttributes studentInTeam : team) {
@@ -252,16 +283,51 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         Set<String> isAdded = new HashSet<>();
 
+        // parse all search hits first so that the existence of their entities can be checked in batches
         List<ScoredDocument> filteredResults = filterOutCourseId(results, instructors);
+        List<FeedbackResponseCommentAttributes> parsedComments = new ArrayList<>();
+        List<FeedbackResponseAttributes> parsedResponses = new ArrayList<>();
+        List<FeedbackQuestionAttributes> parsedQuestions = new ArrayList<>();
+        List<FeedbackSessionAttributes> parsedSessions = new ArrayList<>();
         for (ScoredDocument doc : filteredResults) {
-            // get FeedbackResponseComment from results
-            FeedbackResponseCommentAttributes comment = JsonUtils.fromJson(
+            parsedComments.add(JsonUtils.fromJson(
                     doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_RESPONSE_COMMENT_ATTRIBUTE).getText(),
-                    FeedbackResponseCommentAttributes.class);
-            if (frcDb.getFeedbackResponseComment(comment.getId()) == null) {
-                frcDb.deleteDocument(comment);
+                    FeedbackResponseCommentAttributes.class));
+            parsedResponses.add(JsonUtils.fromJson(
+                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_RESPONSE_ATTRIBUTE).getText(),
+                    FeedbackResponseAttributes.class));
+            parsedQuestions.add(JsonUtils.fromJson(
+                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_QUESTION_ATTRIBUTE).getText(),
+                    FeedbackQuestionAttributes.class));
+            parsedSessions.add(JsonUtils.fromJson(
+                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_SESSION_ATTRIBUTE).getText(),
+                    FeedbackSessionAttributes.class));
+        }
+
+        Set<Long> existingCommentIds = getExistingCommentIds(parsedComments);
+        Set<String> existingResponseIds = getExistingResponseIds(parsedResponses);
+        Set<String> existingQuestionIds = getExistingQuestionIds(parsedQuestions);
+        Set<String> existingSessionIds = fsDb.getFeedbackSessions(parsedSessions).keySet();
+
+        List<Long> staleCommentIds = new ArrayList<>();
+        Map<String, Map<String, InstructorAttributes>> instructorsByEmailByCourse = new HashMap<>();
+        for (int i = 0; i < filteredResults.size(); i++) {
+            ScoredDocument doc = filteredResults.get(i);
+            FeedbackResponseCommentAttributes comment = parsedComments.get(i);
+            FeedbackResponseAttributes response = parsedResponses.get(i);
+            FeedbackQuestionAttributes question = parsedQuestions.get(i);
+            FeedbackSessionAttributes session = parsedSessions.get(i);
+
+            boolean isStale = !existingCommentIds.contains(comment.getId())
+                    || !existingResponseIds.contains(response.getId())
+                    || !existingQuestionIds.contains(question.getId())
+                    || !existingSessionIds.contains(session.getIdentificationString());
+            if (isStale) {
+                staleCommentIds.add(comment.getId());
                 continue;
             }
+
+            // get FeedbackResponseComment from results
             List<FeedbackResponseCommentAttributes> commentList = bundle.comments.get(comment.feedbackResponseId);
             if (commentList == null) {
                 commentList = new ArrayList<>();
@@ -270,13 +336,6 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             commentList.add(comment);
 
             // get related response from results
-            FeedbackResponseAttributes response = JsonUtils.fromJson(
-                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_RESPONSE_ATTRIBUTE).getText(),
-                    FeedbackResponseAttributes.class);
-            if (frDb.getFeedbackResponse(response.getId()) == null) {
-                frcDb.deleteDocument(comment);
-                continue;
-            }
             List<FeedbackResponseAttributes> responseList = bundle.responses.get(response.feedbackQuestionId);
             if (responseList == null) {
                 responseList = new ArrayList<>();
@@ -288,13 +347,6 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             }
 
             // get related question from results
-            FeedbackQuestionAttributes question = JsonUtils.fromJson(
-                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_QUESTION_ATTRIBUTE).getText(),
-                    FeedbackQuestionAttributes.class);
-            if (fqDb.getFeedbackQuestion(question.getId()) == null) {
-                frcDb.deleteDocument(comment);
-                continue;
-            }
             List<FeedbackQuestionAttributes> questionList = bundle.questions.get(question.feedbackSessionName);
             if (questionList == null) {
                 questionList = new ArrayList<>();
@@ -306,13 +358,6 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             }
 
             // get related session from results
-            FeedbackSessionAttributes session = JsonUtils.fromJson(
-                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_SESSION_ATTRIBUTE).getText(),
-                    FeedbackSessionAttributes.class);
-            if (fsDb.getFeedbackSession(session.getCourseId(), session.getSessionName()) == null) {
-                frcDb.deleteDocument(comment);
-                continue;
-            }
             if (!isAdded.contains(session.getFeedbackSessionName())) {
                 isAdded.add(session.getFeedbackSessionName());
                 bundle.sessions.put(session.getSessionName(), session);
@@ -337,13 +382,16 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             boolean isLastEditorEmailInMap = !comment.lastEditorEmail.isEmpty()
                     && bundle.instructorEmailNameTable.containsKey(comment.lastEditorEmail);
             if (!isLastEditorEmailInMap) {
-                InstructorAttributes instructor =
-                        instructorsDb.getInstructorForEmail(response.courseId, comment.lastEditorEmail);
+                InstructorAttributes instructor = instructorsByEmailByCourse
+                        .computeIfAbsent(response.courseId, FeedbackResponseCommentSearchDocument::getInstructorsByEmail)
+                        .get(comment.lastEditorEmail);
                 String commentLastEditorName = instructor.displayedName + " " + instructor.name;
                 bundle.instructorEmailNameTable.put(comment.lastEditorEmail, commentLastEditorName);
             }
             bundle.numberOfResults++;
         }
+        frcDb.deleteDocumentsByCommentIds(staleCommentIds);
+
         for (List<FeedbackQuestionAttributes> questions : bundle.questions.values()) {
             questions.sort(null);
         }
@@ -362,6 +410,38 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         return bundle;
     }
 
+    private static Set<Long> getExistingCommentIds(List<FeedbackResponseCommentAttributes> comments) {
+        Set<Long> commentIds = new HashSet<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            commentIds.add(comment.getId());
+        }
+        return frcDb.getFeedbackResponseCommentsForIds(commentIds).keySet();
+    }
+
+    private static Set<String> getExistingResponseIds(List<FeedbackResponseAttributes> responses) {
+        Set<String> responseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responseIds.add(response.getId());
+        }
+        return frDb.getFeedbackResponseEntitiesForIds(responseIds).keySet();
+    }
+
+    private static Set<String> getExistingQuestionIds(List<FeedbackQuestionAttributes> questions) {
+        Set<String> questionIds = new HashSet<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            questionIds.add(question.getId());
+        }
+        return fqDb.getFeedbackQuestionsForIds(questionIds).keySet();
+    }
+
+    private static Map<String, InstructorAttributes> getInstructorsByEmail(String courseId) {
+        Map<String, InstructorAttributes> instructorsByEmail = new HashMap<>();
+        for (InstructorAttributes instructor : instructorsDb.getInstructorsForCourse(courseId)) {
+            instructorsByEmail.put(instructor.email, instructor);
+        }
+        return instructorsByEmail;
+    }
+
     private static String getFilteredCommentGiverName(FeedbackResponseCommentSearchResultBundle bundle,
                                                       Set<String> instructorCourseIdList,
                                                       FeedbackResponseAttributes response,
@@ -39,6 +39,9 @@ public final class SearchManager {
 
     private static final RetryManager RM = new RetryManager(8);
 
+    /** The maximum number of documents the Search API accepts in one batched call. */
+    private static final int MAX_DOCUMENTS_PER_BATCH = 200;
+
     private SearchManager() {
         // utility class
     }
@@ -112,17 +115,22 @@ public final class SearchManager {
 
     /**
      * Batch creates or updates the search documents for the given documents and index.
+     * The documents are put in chunks of at most {@value #MAX_DOCUMENTS_PER_BATCH}; a failed chunk does not
+     * stop the remaining chunks from being put.
      */
     public static void putDocuments(String indexName, List<Document> documents) {
-        try {
-            putDocumentsWithRetry(indexName, documents);
-        } catch (PutException e) {
-            log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, documents, indexName)
-                    + TeammatesException.toStringWithStackTrace(e));
-        } catch (MaximumRetriesExceededException e) {
-            Object failedDocuments = e.finalData;
-            log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
-                    + TeammatesException.toStringWithStackTrace(e));
+        for (int i = 0; i < documents.size(); i += MAX_DOCUMENTS_PER_BATCH) {
+            List<Document> batch = documents.subList(i, Math.min(i + MAX_DOCUMENTS_PER_BATCH, documents.size()));
+            try {
+                putDocumentsWithRetry(indexName, batch);
+            } catch (PutException e) {
+                log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, batch, indexName)
+                        + TeammatesException.toStringWithStackTrace(e));
+            } catch (MaximumRetriesExceededException e) {
+                Object failedDocuments = e.finalData;
+                log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
+                        + TeammatesException.toStringWithStackTrace(e));
+            }
         }
     }
 
@@ -213,6 +221,16 @@ public final class SearchManager {
         getIndex(indexName).deleteAsync(documentId);
     }
 
+    /**
+     * Batch deletes documents by documentIds.
+     */
+    public static void deleteDocuments(String indexName, List<String> documentIds) {
+        Index index = getIndex(indexName);
+        for (int i = 0; i < documentIds.size(); i += MAX_DOCUMENTS_PER_BATCH) {
+            index.deleteAsync(documentIds.subList(i, Math.min(i + MAX_DOCUMENTS_PER_BATCH, documentIds.size())));
+        }
+    }
+
     private static Index getIndex(String indexName) {
         Map<String, Index> indicesTable = getIndicesTable();
         Index index = indicesTable.get(indexName);
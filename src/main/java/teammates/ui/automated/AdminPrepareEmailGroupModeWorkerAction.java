@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.util.List;
 
 import com.google.appengine.api.blobstore.BlobKey;
-import com.google.apphosting.api.ApiProxy;
 
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.exception.TeammatesException;
@@ -21,6 +20,11 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Number of receivers whose email tasks are added between checks of the request deadline.
+     */
+    private static final int RECEIVERS_PER_BATCH = 500;
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -63,11 +67,6 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
         }
     }
 
-    private boolean isNearDeadline() {
-        long timeLeftInMillis = ApiProxy.getCurrentEnvironment().getRemainingMillis();
-        return timeLeftInMillis / 1000 < 100;
-    }
-
     private void addAdminEmailToTaskQueue(String emailId, String groupReceiverListFileKey,
             List<List<String>> processedReceiverEmails,
             int indexOfEmailListToResume, int indexOfEmailToResume) {
@@ -82,17 +81,18 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
 
         for (int i = indexOfEmailListToResume; i < processedReceiverEmails.size(); i++) {
             List<String> currentEmailList = processedReceiverEmails.get(i);
-            for (int j = indexOfEmailToResume; j < currentEmailList.size(); j++) {
-                String receiverEmail = currentEmailList.get(j);
-                taskQueuer.scheduleAdminEmailForSending(emailId, receiverEmail, adminEmail.getSubject(),
-                                                        adminEmail.getContentValue());
+            int indexOfFirstEmail = i == indexOfEmailListToResume ? indexOfEmailToResume : 0;
+            for (int j = indexOfFirstEmail; j < currentEmailList.size(); j += RECEIVERS_PER_BATCH) {
+                int indexAfterBatch = Math.min(j + RECEIVERS_PER_BATCH, currentEmailList.size());
+                taskQueuer.scheduleAdminEmailsForSending(emailId, currentEmailList.subList(j, indexAfterBatch));
+                indexOfLastEmail = indexAfterBatch - 1;
                 if (isNearDeadline()) {
-                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, i, j);
+                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey,
+                                                                        i, indexAfterBatch);
                     log.info("Adding group mail tasks for mail with id " + emailId
-                             + " have been paused with list index: " + i + " and email index: " + j);
+                             + " have been paused with list index: " + i + " and email index: " + indexAfterBatch);
                     return;
                 }
-                indexOfLastEmail = j;
             }
             indexOfLastEmailList = i;
         }
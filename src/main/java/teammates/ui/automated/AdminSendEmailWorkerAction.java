@@ -33,11 +33,12 @@ public class AdminSendEmailWorkerAction extends AutomatedAction {
         String emailContent = getRequestParamValue(ParamsNames.ADMIN_EMAIL_CONTENT);
         String emailSubject = getRequestParamValue(ParamsNames.ADMIN_EMAIL_SUBJECT);
 
+        // tasks only carry the email ID; subject and content are only given by tasks queued before that change
         if (emailContent == null || emailSubject == null) {
             String emailId = getRequestParamValue(ParamsNames.ADMIN_EMAIL_ID);
             Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_ID, emailId);
 
-            log.info("Sending large email. Going to retrieve email content and subject from datastore.");
+            // the admin email entity is cached, so this does not hit the Datastore for every receiver
             AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
             Assumption.assertNotNull(adminEmail);
 
@@ -3,6 +3,8 @@ package teammates.ui.automated;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import com.google.apphosting.api.ApiProxy;
+
 import teammates.common.util.Assumption;
 import teammates.common.util.HttpRequestHelper;
 import teammates.logic.api.EmailSender;
@@ -87,6 +89,15 @@ public abstract class AutomatedAction {
         response.setStatus(100);
     }
 
+    /**
+     * Returns true if less than 100 seconds are left before the request deadline,
+     * after which the remaining work should be continued in a new task.
+     */
+    protected boolean isNearDeadline() {
+        long timeLeftInMillis = ApiProxy.getCurrentEnvironment().getRemainingMillis();
+        return timeLeftInMillis / 1000 < 100;
+    }
+
     protected abstract String getActionDescription();
 
     protected abstract String getActionMessage();
@@ -25,11 +25,16 @@ public class AutomatedActionFactory {
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
+        map(ActionURIs.AUTOMATED_FEEDBACK_RESPONSE_RATE_RECONCILIATION,
+                FeedbackSessionResponseRateReconciliationAction.class);
+        map(ActionURIs.AUTOMATED_ENTITY_CHANGES_CLEANUP, EntityChangesCleanupAction.class);
 
         // Task queue workers
         map(TaskQueue.ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL, AdminPrepareEmailAddressModeWorkerAction.class);
         map(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, AdminPrepareEmailGroupModeWorkerAction.class);
         map(TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, AdminSendEmailWorkerAction.class);
+        map(TaskQueue.ENTITY_CHANGES_CLEANUP_WORKER_URL, EntityChangesCleanupWorkerAction.class);
+        map(TaskQueue.FEEDBACK_QUESTION_STATISTICS_WORKER_URL, FeedbackQuestionStatisticsWorkerAction.class);
         map(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, FeedbackResponseAdjustmentWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_REMIND_EMAIL_WORKER_URL, FeedbackSessionRemindEmailWorkerAction.class);
@@ -0,0 +1,24 @@
+package teammates.ui.automated;
+
+/**
+ * Cron job: schedules the deletion of the entries of the journal of entity changes
+ * which are older than its retention period.
+ */
+public class EntityChangesCleanupAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "clean up entity changes";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Scheduling the deletion of expired entries of the journal of entity changes.";
+    }
+
+    @Override
+    public void execute() {
+        taskQueuer.scheduleEntityChangesCleanup(null);
+    }
+
+}
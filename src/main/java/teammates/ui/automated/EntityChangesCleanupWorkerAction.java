@@ -0,0 +1,42 @@
+package teammates.ui.automated;
+
+import java.util.List;
+
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes a bounded number of the expired entries of the journal of entity changes,
+ * and schedules the deletion of the remaining ones to resume after the last deleted entry.
+ */
+public class EntityChangesCleanupWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final int MAX_CHANGES_PER_RUN = 5000;
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String cursor = getRequestParamValue(ParamsNames.ENTITY_CHANGES_CLEANUP_CURSOR);
+
+        List<String> deletedChangeIds = logic.deleteExpiredEntityChanges(cursor, MAX_CHANGES_PER_RUN);
+        log.info("Deleted " + deletedChangeIds.size() + " expired entity changes");
+
+        if (deletedChangeIds.size() == MAX_CHANGES_PER_RUN) {
+            String lastDeletedChangeId = deletedChangeIds.get(deletedChangeIds.size() - 1);
+            taskQueuer.scheduleEntityChangesCleanup(lastDeletedChangeId);
+            log.info("Deleting expired entity changes has been paused after change " + lastDeletedChangeId);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package teammates.ui.automated;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: recomputes the statistics aggregate of a feedback question from its responses
+ * after the responses changed.
+ */
+public class FeedbackQuestionStatisticsWorkerAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String feedbackQuestionId = getRequestParamValue(ParamsNames.FEEDBACK_QUESTION_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.FEEDBACK_QUESTION_ID, feedbackQuestionId);
+
+        logic.recomputeFeedbackQuestionStatistics(feedbackQuestionId);
+    }
+
+}
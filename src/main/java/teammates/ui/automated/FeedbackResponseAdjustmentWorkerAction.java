@@ -1,5 +1,6 @@
 package teammates.ui.automated;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +24,8 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int BATCH_SIZE = 100;
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -56,14 +59,26 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
             return;
         }
 
+        String cursor = getRequestParamValue(ParamsNames.RESPONSE_ADJUSTMENT_CURSOR);
+
+        // responses are adjusted in the order of their IDs so that the adjustment can be resumed after the cursor
         List<FeedbackResponseAttributes> allResponses =
                 logic.getFeedbackResponsesForSession(feedbackSession.getFeedbackSessionName(),
                                                      feedbackSession.getCourseId());
+        allResponses.sort(Comparator.comparing(FeedbackResponseAttributes::getId));
         List<StudentEnrollDetails> enrollmentList =
                 JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
-        for (FeedbackResponseAttributes response : allResponses) {
+
+        int startIndex = 0;
+        while (cursor != null && startIndex < allResponses.size()
+                && allResponses.get(startIndex).getId().compareTo(cursor) <= 0) {
+            startIndex++;
+        }
+
+        for (int i = startIndex; i < allResponses.size(); i += BATCH_SIZE) {
+            List<FeedbackResponseAttributes> batch = allResponses.subList(i, Math.min(i + BATCH_SIZE, allResponses.size()));
             try {
-                logic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
+                logic.adjustFeedbackResponsesForEnrollments(enrollmentList, batch);
             } catch (Exception e) {
                 String url = HttpRequestHelper.getRequestedUrl(request);
                 Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
@@ -73,6 +88,16 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
                 setForRetry();
                 return;
             }
+
+            boolean hasRemainingResponses = i + BATCH_SIZE < allResponses.size();
+            if (hasRemainingResponses && isNearDeadline()) {
+                String lastAdjustedResponseId = batch.get(batch.size() - 1).getId();
+                taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(courseId, sessionName, enrollmentList,
+                                                                       lastAdjustedResponseId);
+                log.info("Adjusting submissions for feedback session :" + sessionName + " in course : " + courseId
+                         + " has been paused after response " + lastAdjustedResponseId);
+                return;
+            }
         }
     }
 
@@ -0,0 +1,42 @@
+package teammates.ui.automated;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Logger;
+
+/**
+ * Cron job: recomputes the incrementally maintained response rate statistics of feedback sessions
+ * which may still receive responses, and repairs any drift.
+ */
+public class FeedbackSessionResponseRateReconciliationAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return "reconcile response rates";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Reconciling response rate statistics of feedback sessions.";
+    }
+
+    @Override
+    public void execute() {
+        List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsPossiblyReceivingResponses();
+
+        for (FeedbackSessionAttributes session : sessions) {
+            try {
+                if (logic.reconcileResponseRateStats(session)) {
+                    log.warning("Repaired response rate statistics of session " + session.getIdentificationString());
+                }
+            } catch (Exception e) {
+                log.severe("Unexpected error: " + TeammatesException.toStringWithStackTrace(e));
+            }
+        }
+    }
+
+}
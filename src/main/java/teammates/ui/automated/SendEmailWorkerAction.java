@@ -1,16 +1,31 @@
 package teammates.ui.automated;
 
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 
 /**
- * Task queue worker action: sends queued email.
+ * Task queue worker action: sends queued email, or a queued batch of emails.
  */
 public class SendEmailWorkerAction extends AutomatedAction {
 
+    /**
+     * The maximum number of attempts to send the emails of a batch, mirroring the retry limit of the send email queue.
+     */
+    private static final int MAX_EMAIL_BATCH_ATTEMPTS = 5;
+
+    /**
+     * The delay before the failed emails of a batch are sent again, multiplied by the number of attempts so far.
+     */
+    private static final long EMAIL_BATCH_RETRY_DELAY_MILLIS = 30 * 1000L;
+
     private static final Logger log = Logger.getLogger();
 
     @Override
@@ -25,6 +40,12 @@ public class SendEmailWorkerAction extends AutomatedAction {
 
     @Override
     public void execute() {
+        String emailBatch = getRequestParamValue(ParamsNames.EMAIL_BATCH);
+        if (emailBatch != null) {
+            sendEmailBatch(emailBatch);
+            return;
+        }
+
         String emailSubject = getRequestParamValue(ParamsNames.EMAIL_SUBJECT);
         Assumption.assertPostParamNotNull(ParamsNames.EMAIL_SUBJECT, emailSubject);
 
@@ -60,4 +81,37 @@ public class SendEmailWorkerAction extends AutomatedAction {
         }
     }
 
+    private void sendEmailBatch(String emailBatch) {
+        List<EmailWrapper> emails = JsonUtils.fromJson(emailBatch, new TypeToken<List<EmailWrapper>>(){}.getType());
+        List<EmailWrapper> failedEmails = emailSender.sendEmails(emails);
+        if (failedEmails.isEmpty()) {
+            return;
+        }
+
+        String attemptParam = getRequestParamValue(ParamsNames.EMAIL_BATCH_ATTEMPT);
+        int attempt = attemptParam == null ? 1 : Integer.parseInt(attemptParam);
+        if (attempt >= MAX_EMAIL_BATCH_ATTEMPTS) {
+            for (EmailWrapper email : failedEmails) {
+                log.severe("Error while sending email via servlet, giving up after " + attempt + " attempts: "
+                           + email.getInfoForLogging());
+            }
+            return;
+        }
+
+        for (EmailWrapper email : failedEmails) {
+            log.warning("Error while sending email via servlet, scheduling it to be sent again: "
+                        + email.getInfoForLogging());
+        }
+        try {
+            // retrying this task would re-send the emails that were sent successfully, thus only the failed ones are queued
+            taskQueuer.scheduleEmailBatchForRetry(failedEmails, attempt + 1,
+                                                  attempt * EMAIL_BATCH_RETRY_DELAY_MILLIS);
+        } catch (Exception e) {
+            // re-sending some emails twice is preferred over losing the failed ones
+            log.severe("Error while scheduling failed emails to be sent again: "
+                       + TeammatesException.toStringWithStackTrace(e));
+            setForRetry();
+        }
+    }
+
 }
@@ -645,6 +645,18 @@ public abstract class Action {
                                       fileContent);
     }
 
+    /**
+     * Generates a {@link FileDownloadResult} whose content is streamed by {@code fileContentWriter}.
+     */
+    public FileDownloadResult createFileDownloadResult(
+            String fileName, FileDownloadResult.FileContentWriter fileContentWriter) {
+        return new FileDownloadResult("filedownload",
+                                      account,
+                                      statusToUser,
+                                      fileName,
+                                      fileContentWriter);
+    }
+
     protected ActionResult createPleaseJoinCourseResponse(String courseId) {
         String errorMessage = "You are not registered in the course " + SanitizationHelper.sanitizeForHtml(courseId);
         statusToUser.add(new StatusMessage(errorMessage, StatusMessageColor.DANGER));
@@ -660,6 +672,18 @@ public abstract class Action {
                                statusToUser);
     }
 
+    /**
+     * Creates an image result for the picture with the given blob key.
+     * @param isBlobKeyInUrl whether the requested URL contains the blob key, see {@link ImageResult#isBlobKeyInUrl}
+     */
+    protected ActionResult createImageResult(String blobKey, boolean isBlobKeyInUrl) {
+        return new ImageResult("imagedisplay",
+                               blobKey,
+                               isBlobKeyInUrl,
+                               account,
+                               statusToUser);
+    }
+
     /**
      * Status messages to be shown to the user and the admin will be set based
      * on the error message in the exception {@code e}.<br>
@@ -276,20 +276,21 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
     }
 
     private void deleteResponses(List<FeedbackResponseAttributes> responsesToDelete) {
-        for (FeedbackResponseAttributes response : responsesToDelete) {
-            logic.deleteFeedbackResponse(response);
-        }
+        logic.deleteFeedbackResponses(responsesToDelete);
     }
 
     private void updateResponses(List<FeedbackResponseAttributes> responsesToUpdate)
             throws EntityDoesNotExistException {
-        for (FeedbackResponseAttributes response : responsesToUpdate) {
-            try {
-                logic.updateFeedbackResponse(response);
-                hasValidResponse = true;
-            } catch (EntityAlreadyExistsException | InvalidParametersException e) {
-                setStatusForException(e);
-            }
+        if (responsesToUpdate.isEmpty()) {
+            return;
+        }
+
+        try {
+            logic.updateFeedbackResponses(responsesToUpdate);
+            hasValidResponse = true;
+        } catch (EntityAlreadyExistsException | InvalidParametersException e) {
+            // the responses which can be updated are already updated, and are found by isUserRespondentOfSession
+            setStatusForException(e);
         }
     }
 
@@ -373,9 +374,8 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
     protected abstract void checkAdditionalConstraints();
 
     /**
-     * Note that when overriding this method, this should not use {@code respondingStudentList}
-     * or {@code respondingInstructorList} of {@code FeedbackSessionAttributes}, because this method
-     * is used to update {@code respondingStudentList} and {@code respondingInstructorList}.
+     * Note that when overriding this method, this should not use the recorded respondents of the session,
+     * because this method is used to update the recorded respondents.
      *
      * @return true if user has responses in the feedback session
      */
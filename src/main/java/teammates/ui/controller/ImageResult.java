@@ -7,8 +7,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import com.google.appengine.api.blobstore.BlobKey;
-import com.google.appengine.api.blobstore.BlobstoreService;
-import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.util.Const;
@@ -19,10 +17,22 @@ public class ImageResult extends ActionResult {
     /** The Google Cloud Storage blob key for the image. */
     public String blobKey;
 
+    /**
+     * True if the requested URL contains the blob key, i.e. the URL always leads to the same image
+     * and browsers can cache the image without checking back.
+     */
+    public boolean isBlobKeyInUrl;
+
     public ImageResult(String destination, String blobKey, AccountAttributes account,
             List<StatusMessage> status) {
+        this(destination, blobKey, true, account, status);
+    }
+
+    public ImageResult(String destination, String blobKey, boolean isBlobKeyInUrl,
+            AccountAttributes account, List<StatusMessage> status) {
         super(destination, account, status);
         this.blobKey = blobKey;
+        this.isBlobKeyInUrl = isBlobKeyInUrl;
     }
 
     @Override
@@ -31,9 +41,10 @@ public class ImageResult extends ActionResult {
         if (blobKey.isEmpty()) {
             resp.sendRedirect(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
         } else {
-            resp.setContentType("image/png");
-            BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
-            blobstoreService.serve(new BlobKey(blobKey), resp);
+            String cacheControl = isBlobKeyInUrl
+                                ? ImageServingHelper.CACHE_CONTROL_PRIVATE_IMMUTABLE
+                                : ImageServingHelper.CACHE_CONTROL_PRIVATE_REVALIDATE;
+            ImageServingHelper.serveImage(new BlobKey(blobKey), cacheControl, req, resp);
         }
     }
 
@@ -0,0 +1,82 @@
+package teammates.ui.controller;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
+
+import teammates.common.util.GoogleCloudStorageHelper;
+
+/**
+ * Serves images stored in Google Cloud Storage with HTTP caching headers.
+ *
+ * <p>An image stored under a blob key never changes (see {@link GoogleCloudStorageHelper#writeImageDataToGcs}),
+ * so the blob key is used as the entity tag of the image. A thumbnail has a blob key of its own,
+ * so it is tagged separately from its image. A browser which already has the image
+ * is answered with 304 (Not Modified) without reading the image from Google Cloud Storage.
+ */
+final class ImageServingHelper {
+
+    private static final long ONE_YEAR_IN_SECONDS = 365L * 24 * 60 * 60;
+
+    /**
+     * Caching for URLs which contain the blob key of a private image; the image behind such a URL never changes.
+     */
+    static final String CACHE_CONTROL_PRIVATE_IMMUTABLE = "private, max-age=" + ONE_YEAR_IN_SECONDS + ", immutable";
+
+    /**
+     * Caching for URLs which contain the blob key of a public image; the image behind such a URL never changes.
+     */
+    static final String CACHE_CONTROL_PUBLIC_IMMUTABLE = "public, max-age=" + ONE_YEAR_IN_SECONDS + ", immutable";
+
+    /**
+     * Caching for URLs which may lead to another image later, e.g. the picture of a given student.
+     * Browsers keep the image but check with the server whether it is still current before using it.
+     */
+    static final String CACHE_CONTROL_PRIVATE_REVALIDATE = "private, no-cache";
+
+    private ImageServingHelper() {
+        // utility class
+    }
+
+    /**
+     * Serves the image with the specified {@link BlobKey}, or answers with 304 (Not Modified)
+     * if the request shows that the browser already has it.
+     *
+     * @param cacheControl the {@code Cache-Control} header to send with the image
+     */
+    static void serveImage(BlobKey imageKey, String cacheControl, HttpServletRequest req, HttpServletResponse resp)
+            throws IOException {
+        String entityTag = "\"" + imageKey.getKeyString() + "\"";
+        resp.setHeader("Cache-Control", cacheControl);
+        resp.setHeader("ETag", entityTag);
+
+        if (isEntityTagMatched(req.getHeader("If-None-Match"), entityTag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        resp.setContentType("image/png");
+        BlobstoreServiceFactory.getBlobstoreService().serve(imageKey, resp);
+    }
+
+    private static boolean isEntityTagMatched(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmedTag = tag.trim();
+            if (trimmedTag.startsWith("W/")) {
+                trimmedTag = trimmedTag.substring(2);
+            }
+            if ("*".equals(trimmedTag) || trimmedTag.equals(entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.Comparator;
 import java.util.List;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -98,12 +99,16 @@ public class InstructorCourseEnrollSaveAction extends Action {
         CourseEnrollmentResult enrollResult = logic.enrollStudents(studentsInfo, courseId);
         List<StudentAttributes> students = enrollResult.studentList;
 
-        // Adjust submissions for all feedback responses within the course
-        List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            // Schedule adjustment of submissions for feedback session in course
-            taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
-                    courseId, session.getFeedbackSessionName(), enrollResult.enrollmentList);
+        // Adjust submissions for all feedback responses within the course,
+        // which is only needed for students who changed team or section
+        List<StudentEnrollDetails> enrollmentsToAdjust = getEnrollmentsWithTeamOrSectionChanged(enrollResult);
+        if (!enrollmentsToAdjust.isEmpty()) {
+            List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
+            for (FeedbackSessionAttributes session : feedbackSessions) {
+                // Schedule adjustment of submissions for feedback session in course
+                taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
+                        courseId, session.getFeedbackSessionName(), enrollmentsToAdjust);
+            }
         }
 
         Collections.sort(students, new Comparator<StudentAttributes>() {
@@ -116,6 +121,17 @@ public class InstructorCourseEnrollSaveAction extends Action {
         return separateStudents(students);
     }
 
+    private List<StudentEnrollDetails> getEnrollmentsWithTeamOrSectionChanged(CourseEnrollmentResult enrollResult) {
+        List<StudentEnrollDetails> enrollments = new ArrayList<>();
+        for (StudentEnrollDetails enrollment : enrollResult.enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED
+                    && (enrollment.oldTeam != null || enrollment.oldSection != null)) {
+                enrollments.add(enrollment);
+            }
+        }
+        return enrollments;
+    }
+
     /**
      * Separate the StudentData objects in the list into different categories based
      * on their updateStatus. Each category is put into a separate list.<br>
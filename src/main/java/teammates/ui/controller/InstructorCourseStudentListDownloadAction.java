@@ -1,5 +1,6 @@
 package teammates.ui.controller;
 
+import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
@@ -11,16 +12,18 @@ public class InstructorCourseStudentListDownloadAction extends Action {
         String courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
         Assumption.assertPostParamNotNull(Const.ParamsNames.COURSE_ID, courseId);
 
-        gateKeeper.verifyAccessible(
-                logic.getInstructorForGoogleId(courseId, account.googleId),
-                logic.getCourse(courseId));
+        CourseAttributes course = logic.getCourse(courseId);
+        if (course == null) {
+            throw new EntityDoesNotExistException("Course with ID " + courseId + " does not exist!");
+        }
+
+        gateKeeper.verifyAccessible(logic.getInstructorForGoogleId(courseId, account.googleId), course);
 
-        String fileContent = logic.getCourseStudentListAsCsv(courseId, account.googleId);
         String fileName = courseId + "_studentList";
 
         statusToAdmin = "Students data for Course " + courseId + " was downloaded";
 
-        return createFileDownloadResult(fileName, fileContent);
+        return createFileDownloadResult(fileName, writer -> logic.writeCourseStudentListAsCsv(writer, course));
     }
 
 }
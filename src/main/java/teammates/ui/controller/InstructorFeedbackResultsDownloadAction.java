@@ -6,8 +6,6 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
-import teammates.common.util.StatusMessage;
-import teammates.common.util.StatusMessageColor;
 
 public class InstructorFeedbackResultsDownloadAction extends Action {
 
@@ -27,20 +25,35 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
 
         InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, account.googleId);
         FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            throw new EntityDoesNotExistException("Feedback session " + feedbackSessionName
+                                                  + " does not exist in " + courseId + ".");
+        }
         boolean isCreatorOnly = true;
 
         gateKeeper.verifyAccessible(instructor, session, !isCreatorOnly);
 
+        boolean isAllSections = section == null || "All".equals(section);
+
+        if (isAllSections && questionId == null) {
+            // whole-session results are streamed question by question as they can be arbitrarily large
+            statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName
+                          + " in Course " + courseId + " was downloaded";
+            return createFileDownloadResult(courseId + "_" + feedbackSessionName, writer ->
+                    logic.writeFeedbackSessionResultSummaryAsCsv(
+                            writer, session, instructor.email, isMissingResponsesShown, isStatsShown));
+        }
+
+        String questionName = "";
+        if (questionNumber != null) {
+            questionName = "_question" + questionNumber;
+        }
+
         String fileContent;
         String fileName;
 
         try {
-            String questionName = "";
-            if (questionNumber != null) {
-                questionName = "_question" + questionNumber;
-            }
-
-            if (section == null || "All".equals(section)) {
+            if (isAllSections) {
                 fileContent = logic.getFeedbackSessionResultSummaryAsCsv(
                         courseId, feedbackSessionName, instructor.email,
                         isMissingResponsesShown, isStatsShown, questionId);
@@ -57,18 +70,9 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
                               + " in Course " + courseId + " within " + section + " was downloaded";
             }
         } catch (ExceedingRangeException e) {
-            // not tested as the test file is not large enough to reach this catch block
-            statusToUser.add(new StatusMessage("This session has more responses than that can be downloaded in one go. "
-                        + "Please download responses for "
-                        + (questionNumber == null ? "one question at a time instead. "
-                        + "To download responses for a specific question, click on the corresponding question number."
-                                                 : "section instead."),
-                                                 StatusMessageColor.DANGER));
-            isError = true;
-            RedirectResult result = createRedirectResult(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE);
-            result.addResponseParam(Const.ParamsNames.COURSE_ID, courseId);
-            result.addResponseParam(Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
-            return result;
+            // only whole-session results are loaded within a range, and those are streamed above
+            Assumption.fail("Results of a question or a section should not be limited by range.");
+            return null;
         }
 
         return createFileDownloadResult(fileName, fileContent);
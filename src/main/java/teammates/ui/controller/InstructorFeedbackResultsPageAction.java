@@ -110,6 +110,7 @@ public class InstructorFeedbackResultsPageAction extends Action {
             throw new EntityDoesNotExistException("Feedback session " + feedbackSessionName
                                                   + " does not exist in " + courseId + ".");
         }
+        data.setNumberOfRespondents(logic.getNumberOfRespondents(feedbackSessionName, courseId));
 
         // Warning for section wise viewing in case of many responses.
         boolean isShowSectionWarningForQuestionView = data.isLargeNumberOfRespondents()
@@ -54,8 +54,8 @@ public class InstructorStudentRecordsAjaxPageAction extends Action {
         for (SessionAttributes session : sessions) {
             if (session instanceof FeedbackSessionAttributes) {
                 if (!targetSessionName.isEmpty() && targetSessionName.equals(session.getSessionName())) {
-                    FeedbackSessionResultsBundle result = logic.getFeedbackSessionResultsForInstructor(
-                                                    session.getSessionName(), courseId, instructor.email);
+                    FeedbackSessionResultsBundle result = logic.getFeedbackSessionResultsForInstructorInvolvingStudent(
+                                                    session.getSessionName(), courseId, instructor.email, student);
                     results.add(result);
                 }
             } else {
@@ -8,8 +8,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import com.google.appengine.api.blobstore.BlobKey;
-import com.google.appengine.api.blobstore.BlobstoreService;
-import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 
 import teammates.common.datatransfer.UserType;
 import teammates.common.exception.TeammatesException;
@@ -51,9 +49,9 @@ public class PublicImageServlet extends HttpServlet {
                 log.info(new LogMessageGenerator().generateBasicActivityLogMessage(url, params, message, userType));
                 resp.sendError(1, "No image found");
             } else {
-                resp.setContentType("image/png");
-                BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
-                blobstoreService.serve(new BlobKey(blobKey), resp);
+                // uploaded images are never replaced under the same key
+                ImageServingHelper.serveImage(new BlobKey(blobKey), ImageServingHelper.CACHE_CONTROL_PUBLIC_IMMUTABLE,
+                                              req, resp);
                 // TODO : restrict image request to those "public" files only
 
                 String message = "Public image request with URL: <br>"
@@ -41,7 +41,7 @@ public class StudentProfilePictureAction extends Action {
     private ActionResult handleRequestWithBlobKey() {
         String blobKey = getBlobKeyFromRequest();
         log.info("blob-key given: " + blobKey);
-        return createImageResult(blobKey);
+        return createImageResult(blobKey, true);
     }
 
     private ActionResult handleRequestWithEmailAndCourse()
@@ -61,7 +61,8 @@ public class StudentProfilePictureAction extends Action {
         StudentAttributes student = getStudentForGivenParameters(courseId, email);
         gateKeeper.verifyAccessibleForCurrentUserAsInstructorOrTeamMember(account, courseId, student.section, email);
 
-        return createImageResult(getPictureKeyForStudent(student));
+        // such requests come from rosters and results pages, which show the picture in a small size
+        return createImageResult(getPictureOrThumbnailKeyForStudent(student), false);
     }
 
     private StudentAttributes getStudentForGivenParameters(String courseId, String email)
@@ -93,14 +94,15 @@ public class StudentProfilePictureAction extends Action {
         return email;
     }
 
-    private String getPictureKeyForStudent(StudentAttributes student) {
+    private String getPictureOrThumbnailKeyForStudent(StudentAttributes student) {
         // picture request is only relevant for registered student
         if (!student.googleId.isEmpty()) {
             StudentProfileAttributes profile = logic.getStudentProfile(student.googleId);
 
             // TODO: remove the null check once all legacy data has been ported
             if (profile != null) {
-                return profile.pictureKey;
+                // pictures which have no thumbnail are served in full size
+                return profile.pictureThumbnailKey.isEmpty() ? profile.pictureKey : profile.pictureThumbnailKey;
             }
         }
         return "";
@@ -41,8 +41,11 @@ public class StudentProfilePictureUploadAction extends Action {
             BlobInfo blobInfo = extractProfilePictureKey();
             if (!isError) {
                 blobKey = blobInfo.getBlobKey();
-                pictureKey = renameFileToGoogleId(blobInfo);
-                logic.updateStudentProfilePicture(account.googleId, pictureKey);
+                byte[] imageData = readPicture(blobInfo);
+                deletePicture(blobKey);
+                pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, imageData);
+                String pictureThumbnailKey = GoogleCloudStorageHelper.writeThumbnailToGcs(pictureKey, imageData);
+                logic.updateStudentProfilePicture(account.googleId, pictureKey, pictureThumbnailKey);
                 statusToUser.add(new StatusMessage(Const.StatusMessages.STUDENT_PROFILE_PICTURE_SAVED,
                                                    StatusMessageColor.SUCCESS));
                 r.addResponseParam(Const.ParamsNames.STUDENT_PROFILE_PHOTOEDIT, "true");
@@ -64,17 +67,14 @@ public class StudentProfilePictureUploadAction extends Action {
         return r;
     }
 
-    private String renameFileToGoogleId(BlobInfo blobInfo) throws IOException {
+    private byte[] readPicture(BlobInfo blobInfo) throws IOException {
         Assumption.assertNotNull(blobInfo);
 
-        BlobKey blobKey = blobInfo.getBlobKey();
-        InputStream blobStream = new BlobstoreInputStream(blobKey);
+        InputStream blobStream = new BlobstoreInputStream(blobInfo.getBlobKey());
         byte[] imageData = new byte[(int) blobInfo.getSize()];
         blobStream.read(imageData);
         blobStream.close();
-
-        deletePicture(blobKey);
-        return GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, imageData);
+        return imageData;
     }
 
     private BlobInfo extractProfilePictureKey() {
@@ -57,6 +57,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
 
     // isLargeNumberOfRespondents is an attribute used for testing the ui, for ViewType.Question
     private boolean isLargeNumberOfRespondents;
+    private int numberOfRespondents;
 
     private FeedbackSessionResultsBundle bundle;
     private InstructorAttributes instructor;
@@ -1771,10 +1772,12 @@ public class InstructorFeedbackResultsPageData extends PageData {
     }
 
     public boolean isLargeNumberOfRespondents() {
-        int numRespondents = bundle.feedbackSession.getRespondingInstructorList().size()
-                           + bundle.feedbackSession.getRespondingStudentList().size();
         return isLargeNumberOfRespondents
-            || numRespondents > RESPONDENTS_LIMIT_FOR_AUTOLOADING;
+            || numberOfRespondents > RESPONDENTS_LIMIT_FOR_AUTOLOADING;
+    }
+
+    public void setNumberOfRespondents(int numberOfRespondents) {
+        this.numberOfRespondents = numberOfRespondents;
     }
 
     // Only used for testing the ui
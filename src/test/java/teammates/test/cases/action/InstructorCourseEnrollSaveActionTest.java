@@ -5,13 +5,17 @@ import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.datatransfer.StudentAttributesFactory;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.core.CoursesLogic;
@@ -81,6 +85,13 @@ public class InstructorCourseEnrollSaveActionTest extends BaseActionTest {
         for (TaskWrapper task : tasksAdded) {
             Map<String, String[]> paramMap = task.getParamMap();
             assertEquals(courseId, paramMap.get(ParamsNames.COURSE_ID)[0]);
+
+            // only the student who changed team and section needs adjustment of responses
+            List<StudentEnrollDetails> enrollmentsToAdjust = JsonUtils.fromJson(
+                    paramMap.get(ParamsNames.ENROLLMENT_DETAILS)[0],
+                    new TypeToken<List<StudentEnrollDetails>>(){}.getType());
+            assertEquals(1, enrollmentsToAdjust.size());
+            assertEquals("student1InCourse1@gmail.tmt", enrollmentsToAdjust.get(0).email);
         }
 
         InstructorCourseEnrollResultPageData pageData = (InstructorCourseEnrollResultPageData) pageResult.data;
@@ -5,6 +5,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityNotFoundException;
 import teammates.common.util.Const;
 import teammates.logic.core.StudentsLogic;
 import teammates.ui.controller.FileDownloadResult;
@@ -132,6 +133,19 @@ public class InstructorCourseStudentListDownloadActionTest extends BaseActionTes
         assertEquals(StringUtils.join(expected, Const.EOL), fileContent);
         assertEquals("", r.getStatusMessage());
 
+        ______TS("Failure case: non-existent course");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, "non-existent-course"
+        };
+
+        try {
+            a = getAction(submissionParams);
+            a.executeAndPostProcess();
+            signalFailureToDetectException("Did not detect that the course does not exist.");
+        } catch (EntityNotFoundException e) {
+            assertEquals("Course with ID non-existent-course does not exist!", e.getMessage());
+        }
     }
 
     @Override
@@ -5,6 +5,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.NullPostParameterException;
 import teammates.common.util.Const;
 import teammates.logic.core.FeedbackQuestionsLogic;
@@ -129,6 +130,22 @@ public class InstructorFeedbackResultsDownloadActionTest extends BaseActionTest
                     Const.ParamsNames.FEEDBACK_SESSION_NAME), e.getMessage());
         }
 
+        ______TS("Failure case: non-existent feedback session");
+
+        String[] paramsWithNonExistentSession = {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, "non-existent session"
+        };
+
+        try {
+            action = getAction(paramsWithNonExistentSession);
+            action.executeAndPostProcess();
+            signalFailureToDetectException("Did not detect that the session does not exist.");
+        } catch (EntityNotFoundException e) {
+            assertEquals("Feedback session non-existent session does not exist in " + session.getCourseId() + ".",
+                         e.getMessage());
+        }
+
         ______TS("Typical case: results with missing responses shown");
         action = getAction(paramsWithMissingResponsesShown);
         result = getFileDownloadResult(action);
@@ -1,8 +1,17 @@
 package teammates.test.cases.action;
 
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.meterware.servletunit.InvocationContext;
+
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -12,6 +21,7 @@ import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.ProfilesLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.ui.controller.ImageResult;
 import teammates.ui.controller.StudentProfilePictureAction;
@@ -65,12 +75,12 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
      * directly, where the parameters are simply the blobKey of the picture
      * itself.
      */
-    public void testActionWithBlobKey() {
+    public void testActionWithBlobKey() throws Exception {
         testActionWithBlobKeySuccess();
         testActionWithBlobKeySuccessMasquerade();
     }
 
-    private void testActionWithBlobKeySuccess() {
+    private void testActionWithBlobKeySuccess() throws IOException {
         ______TS("Typical case: using blobkey");
         gaeSimulation.loginAsStudent(account.googleId);
 
@@ -83,7 +93,31 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         assertFalse(result.isError);
         assertEquals("", result.getStatusMessage());
         assertEquals(account.studentProfile.pictureKey, result.blobKey);
+        assertTrue(result.isBlobKeyInUrl);
         verifyLogMessageForActionWithBlobKey(false, action.getLogMessage());
+
+        ______TS("Typical case: sending the picture to a browser with a stale entity tag");
+
+        String entityTag = "\"" + result.blobKey + "\"";
+        RecordingResponse resp = sendImageResult(result, "\"stale\"");
+
+        assertEquals(HttpServletResponse.SC_OK, resp.status);
+        assertEquals(entityTag, resp.headers.get("ETag"));
+        // the picture itself is written by App Engine for the blob key in this header
+        assertEquals(result.blobKey, resp.headers.get("X-AppEngine-BlobKey"));
+
+        ______TS("Typical case: sending the picture to a browser which already has it");
+
+        resp = sendImageResult(result, entityTag);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, resp.status);
+        assertEquals(entityTag, resp.headers.get("ETag"));
+        assertNull(resp.headers.get("X-AppEngine-BlobKey"));
+
+        resp = sendImageResult(result, "\"stale\", W/" + entityTag);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, resp.status);
+        assertNull(resp.headers.get("X-AppEngine-BlobKey"));
     }
 
     private void testActionWithBlobKeySuccessMasquerade() {
@@ -115,7 +149,7 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         testActionWithEmailAndCourseForUnregStudent();
     }
 
-    private void testActionWithEmailAndCourseSuccessTypical(AccountAttributes instructor) {
+    private void testActionWithEmailAndCourseSuccessTypical(AccountAttributes instructor) throws Exception {
 
         ______TS("Typical case: using email and course");
 
@@ -130,7 +164,20 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         assertFalse(result.isError);
         assertEquals("", result.getStatusMessage());
         assertEquals("asdf34&hfn3!@", result.blobKey);
+        assertFalse(result.isBlobKeyInUrl);
         verifyLogMessageForActionWithEmailAndCourse(instructor, false, action.getLogMessage());
+
+        ______TS("Typical case: using email and course, picture with a thumbnail");
+
+        ProfilesLogic.inst().updateStudentProfilePicture(account.googleId, "pictureKey", "thumbnailKey");
+
+        action = getAction(submissionParams);
+        result = getImageResult(action);
+
+        assertEquals("thumbnailKey", result.blobKey);
+        assertFalse(result.isBlobKeyInUrl);
+
+        ProfilesLogic.inst().updateStudentProfilePicture(account.googleId, "asdf34&hfn3!@", "");
     }
 
     private void testActionWithEmailAndCourseNoStudent() {
@@ -340,4 +387,36 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         testActionWithEmailAndCourseUnauthorisedInstructorOrStudentMasquerade();
     }
 
+    private RecordingResponse sendImageResult(ImageResult result, String ifNoneMatch) throws IOException {
+        InvocationContext ic = gaeSimulation.createInvocationContext(getActionUri(), "If-None-Match", ifNoneMatch);
+        RecordingResponse resp = new RecordingResponse(ic.getResponse());
+        result.send(ic.getRequest(), resp);
+        return resp;
+    }
+
+    /**
+     * Records the status and headers set on the response.
+     */
+    private static class RecordingResponse extends HttpServletResponseWrapper {
+
+        int status = HttpServletResponse.SC_OK;
+        Map<String, String> headers = new HashMap<>();
+
+        RecordingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setStatus(int status) {
+            this.status = status;
+            super.setStatus(status);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            headers.put(name, value);
+            super.setHeader(name, value);
+        }
+    }
+
 }
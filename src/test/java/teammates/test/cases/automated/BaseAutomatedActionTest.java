@@ -1,12 +1,19 @@
 package teammates.test.cases.automated;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.ui.automated.AutomatedAction;
 
@@ -46,6 +53,26 @@ public abstract class BaseAutomatedActionTest extends BaseComponentTestCase {
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Returns the emails carried by the batched send-email tasks added by the action.
+     */
+    protected List<EmailWrapper> getEmailsScheduled(AutomatedAction action) {
+        List<EmailWrapper> emailsScheduled = new ArrayList<>();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (!Const.TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName())) {
+                continue;
+            }
+            String emailBatch = task.getParamMap().get(ParamsNames.EMAIL_BATCH)[0];
+            List<EmailWrapper> emails = JsonUtils.fromJson(emailBatch, new TypeToken<List<EmailWrapper>>(){}.getType());
+            emailsScheduled.addAll(emails);
+        }
+        return emailsScheduled;
+    }
+
+    protected void verifyNumberOfEmailsScheduled(AutomatedAction action, int emailCount) {
+        assertEquals(emailCount, getEmailsScheduled(action).size());
+    }
+
     protected void verifyNoEmailsSent(AutomatedAction action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
@@ -0,0 +1,74 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.ui.automated.FeedbackQuestionStatisticsWorkerAction;
+
+/**
+ * SUT: {@link FeedbackQuestionStatisticsWorkerAction}.
+ */
+public class FeedbackQuestionStatisticsWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_QUESTION_STATISTICS_WORKER_URL;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        dataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(dataBundle);
+    }
+
+    @Test
+    public void allTests() {
+        FeedbackQuestionAttributes question = dataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        question = fqLogic.getFeedbackQuestion(question.feedbackSessionName, question.courseId,
+                                               question.questionNumber);
+
+        ______TS("aggregate which does not cover the responses is recomputed");
+
+        frLogic.startStatisticsForQuestion(question);
+        assertFalse(getStatistics(question).isOf(question.getQuestionDetails(),
+                                                 frLogic.getFeedbackResponsesForQuestion(question.getId())));
+
+        FeedbackQuestionStatisticsWorkerAction action = getAction(ParamsNames.FEEDBACK_QUESTION_ID, question.getId());
+        action.execute();
+
+        assertEquals(FeedbackQuestionStatisticsAggregate.of(question.getQuestionDetails(),
+                                                            frLogic.getFeedbackResponsesForQuestion(question.getId())),
+                     getStatistics(question));
+        verifyNoTasksAdded(action);
+
+        ______TS("question deleted after the recompute was scheduled: no aggregate is stored");
+
+        fqLogic.deleteFeedbackQuestionCascade(question.getId());
+
+        action = getAction(ParamsNames.FEEDBACK_QUESTION_ID, question.getId());
+        action.execute();
+
+        assertNull(getStatistics(question));
+        verifyNoTasksAdded(action);
+    }
+
+    private static FeedbackQuestionStatisticsAggregate getStatistics(FeedbackQuestionAttributes question) {
+        return frLogic.getStatisticsForQuestions(Arrays.asList(question)).get(question.getId());
+    }
+
+    @Override
+    protected FeedbackQuestionStatisticsWorkerAction getAction(String... params) {
+        return (FeedbackQuestionStatisticsWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -75,6 +75,53 @@ public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedAct
         List<FeedbackResponseAttributes> newResponsesForSession =
                 getAllResponsesForStudentForSession(student, session.getFeedbackSessionName());
         assertTrue(newResponsesForSession.isEmpty());
+        verifyNoTasksAdded(action);
+
+        ______TS("resuming after the last response does not adjust any response");
+
+        StudentAttributes otherStudent = dataBundle.students.get("student2InCourse1");
+        List<FeedbackResponseAttributes> oldResponsesForOtherStudent =
+                getAllResponsesForStudentForSession(otherStudent, session.getFeedbackSessionName());
+        assertFalse(oldResponsesForOtherStudent.isEmpty());
+
+        enrollList.clear();
+        enrollList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, otherStudent.course, otherStudent.email,
+                                                otherStudent.team, newTeam, otherStudent.section, newSection));
+        otherStudent.team = newTeam;
+        otherStudent.section = newSection;
+        studentsLogic.updateStudentCascadeWithSubmissionAdjustmentScheduled(otherStudent.email, otherStudent, false);
+
+        String lastResponseId = "";
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), session.getCourseId())) {
+            if (response.getId().compareTo(lastResponseId) > 0) {
+                lastResponseId = response.getId();
+            }
+        }
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, otherStudent.course,
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList),
+                ParamsNames.RESPONSE_ADJUSTMENT_CURSOR, lastResponseId
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        assertEquals(oldResponsesForOtherStudent.size(),
+                getAllResponsesForStudentForSession(otherStudent, session.getFeedbackSessionName()).size());
+        verifyNoTasksAdded(action);
+
+        ______TS("resuming before the first response adjusts all responses");
+
+        submissionParams[submissionParams.length - 1] = "";
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        assertTrue(getAllResponsesForStudentForSession(otherStudent, session.getFeedbackSessionName()).isEmpty());
+        verifyNoTasksAdded(action);
 
     }
 
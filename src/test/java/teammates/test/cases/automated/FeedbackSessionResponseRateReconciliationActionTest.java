@@ -0,0 +1,69 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.storage.api.FeedbackSessionsDb;
+import teammates.ui.automated.FeedbackSessionResponseRateReconciliationAction;
+
+/**
+ * SUT: {@link FeedbackSessionResponseRateReconciliationAction}.
+ */
+public class FeedbackSessionResponseRateReconciliationActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_FEEDBACK_RESPONSE_RATE_RECONCILIATION;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        ______TS("values not computed yet are filled in");
+
+        assertNull(fsLogic.getFeedbackSession(sessionName, courseId).getExpectedRespondentTotal());
+
+        FeedbackSessionResponseRateReconciliationAction action = getAction();
+        action.execute();
+
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        Integer expectedRespondentTotal = session.getExpectedRespondentTotal();
+        assertNotNull(expectedRespondentTotal);
+        int respondentTotal = fsLogic.getNumberOfRespondents(sessionName, courseId);
+
+        verifyNoTasksAdded(action);
+
+        ______TS("drifted values are repaired");
+
+        fsDb.updateExpectedRespondentTotal(session, expectedRespondentTotal + 10,
+                                           fsDb.getExpectedRespondentTotalVersion(session));
+        fsLogic.addStudentRespondent("non.existent@course1.tmt", sessionName, courseId);
+
+        action = getAction();
+        action.execute();
+
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        assertEquals(expectedRespondentTotal, session.getExpectedRespondentTotal());
+        assertFalse(fsLogic.getRespondingStudents(session).contains("non.existent@course1.tmt"));
+        assertEquals(respondentTotal, fsLogic.getNumberOfRespondents(sessionName, courseId));
+
+        verifyNoTasksAdded(action);
+
+    }
+
+    @Override
+    protected FeedbackSessionResponseRateReconciliationAction getAction(String... params) {
+        return (FeedbackSessionResponseRateReconciliationAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri());
+    }
+
+}
@@ -0,0 +1,101 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.test.driver.MockEmailSender;
+import teammates.ui.automated.SendEmailWorkerAction;
+
+/**
+ * SUT: {@link SendEmailWorkerAction}.
+ */
+public class SendEmailWorkerActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_WORKER_URL;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void testExecute_emailBatch() {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setSenderEmail("sender@email.com");
+            email.setReplyTo("replyto@email.com");
+            email.setRecipient("recipient" + i + "@email.com");
+            email.setSubject("Test subject " + i);
+            email.setContent("<p>This is test content " + i + "</p>");
+            emails.add(email);
+        }
+
+        ______TS("all emails sent: no task is added");
+
+        SendEmailWorkerAction action = getAction(ParamsNames.EMAIL_BATCH, JsonUtils.toJson(emails));
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 5);
+        verifyNoTasksAdded(action);
+
+        ______TS("some emails failed: only the failed emails are scheduled to be sent again");
+
+        action = getAction(ParamsNames.EMAIL_BATCH, JsonUtils.toJson(emails));
+        MockEmailSender emailSender = (MockEmailSender) action.getEmailSender();
+        emailSender.rejectEmailsTo("recipient1@email.com");
+        emailSender.rejectEmailsTo("recipient3@email.com");
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 3);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+
+        List<EmailWrapper> emailsScheduled = getEmailsScheduled(action);
+        assertEquals(2, emailsScheduled.size());
+        assertEquals("recipient1@email.com", emailsScheduled.get(0).getRecipient());
+        assertEquals("recipient3@email.com", emailsScheduled.get(1).getRecipient());
+        assertEquals(emails.get(1).getSubject(), emailsScheduled.get(0).getSubject());
+        assertEquals(emails.get(1).getContent(), emailsScheduled.get(0).getContent());
+
+        TaskWrapper task = action.getTaskQueuer().getTasksAdded().get(0);
+        assertEquals("2", task.getParamMap().get(ParamsNames.EMAIL_BATCH_ATTEMPT)[0]);
+
+        ______TS("failed emails sent again: the attempt count is carried over");
+
+        action = getAction(ParamsNames.EMAIL_BATCH, JsonUtils.toJson(emailsScheduled),
+                           ParamsNames.EMAIL_BATCH_ATTEMPT, "2");
+        ((MockEmailSender) action.getEmailSender()).rejectEmailsTo("recipient3@email.com");
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        assertEquals("recipient3@email.com", getEmailsScheduled(action).get(0).getRecipient());
+        task = action.getTaskQueuer().getTasksAdded().get(0);
+        assertEquals("3", task.getParamMap().get(ParamsNames.EMAIL_BATCH_ATTEMPT)[0]);
+
+        ______TS("emails failed on the last attempt: no task is added");
+
+        action = getAction(ParamsNames.EMAIL_BATCH, JsonUtils.toJson(emailsScheduled),
+                           ParamsNames.EMAIL_BATCH_ATTEMPT, "5");
+        ((MockEmailSender) action.getEmailSender()).rejectEmailsTo("recipient3@email.com");
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        verifyNoTasksAdded(action);
+    }
+
+    @Override
+    protected SendEmailWorkerAction getAction(String... params) {
+        return (SendEmailWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
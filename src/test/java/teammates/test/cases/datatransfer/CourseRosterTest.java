@@ -8,6 +8,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -75,6 +76,38 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(roster.getInstructorForEmail("ins2@email.com").email, "ins2@email.com");
         assertEquals(roster.getInstructorForEmail("ins2@email.com").name, "Jean");
 
+        ______TS("students indexed by team and section");
+
+        assertEquals(2, roster.getTeamNames().size());
+        assertTrue(roster.getTeamNames().contains("team 1"));
+        assertTrue(roster.getTeamNames().contains("team 2"));
+
+        assertEquals(2, roster.getTeamMembers("team 1").size());
+        assertEquals("s3@gmail.com", roster.getTeamMembers("team 2").get(0).email);
+        assertTrue(roster.getTeamMembers("non-existent team").isEmpty());
+
+        assertEquals(3, roster.getStudentsInSection(Const.DEFAULT_SECTION).size());
+        assertTrue(roster.getStudentsInSection("non-existent section").isEmpty());
+
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("team 1"));
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("non-existent team"));
+
+        ______TS("indexes cannot be modified");
+
+        try {
+            roster.getTeamMembers("team 1").clear();
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            assertEquals(2, roster.getTeamMembers("team 1").size());
+        }
+
+        try {
+            roster.getTeamNames().clear();
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            assertEquals(2, roster.getTeamNames().size());
+        }
+
     }
 
     private List<StudentAttributes> createStudentList(String... studentData) {
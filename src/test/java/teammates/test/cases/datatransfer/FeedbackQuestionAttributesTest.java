@@ -13,6 +13,7 @@ import com.google.appengine.api.datastore.Text;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.util.Const;
@@ -192,6 +193,22 @@ public class FeedbackQuestionAttributesTest extends BaseTestCase {
 
         fq = typicalBundle.feedbackQuestions.get("qn2InSession1InCourse1");
         assertEquals(fq.getQuestionDetails().getQuestionText(), "Rate 1 other student's product");
+
+        ______TS("Parsed details are reused while the metadata is unchanged");
+
+        FeedbackQuestionDetails parsedDetails = fq.getQuestionDetails();
+        assertSame(parsedDetails, fq.getQuestionDetails());
+
+        ______TS("Parsed details are discarded when the metadata is replaced");
+
+        fq.questionMetaData = new Text("Replaced question text");
+        assertEquals("Replaced question text", fq.getQuestionDetails().getQuestionText());
+        assertNotSame(parsedDetails, fq.getQuestionDetails());
+
+        parsedDetails = fq.getQuestionDetails();
+        fq.setQuestionDetails(new FeedbackTextQuestionDetails("Question text set through details"));
+        assertEquals("Question text set through details", fq.getQuestionDetails().getQuestionText());
+        assertNotSame(parsedDetails, fq.getQuestionDetails());
     }
 
     @Test
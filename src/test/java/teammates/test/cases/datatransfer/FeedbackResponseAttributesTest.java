@@ -4,7 +4,12 @@ import java.util.Date;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.Text;
+
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
@@ -44,4 +49,33 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(defaultTimeStamp, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testGetResponseDetails() {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes("session", "course", "questionId",
+                FeedbackQuestionType.TEXT, "giver@example.com", Const.DEFAULT_SECTION,
+                "recipient@example.com", Const.DEFAULT_SECTION, new Text("Original answer"));
+
+        ______TS("Parsed details are reused while the metadata is unchanged");
+
+        FeedbackResponseDetails parsedDetails = fra.getResponseDetails();
+        assertEquals("Original answer", parsedDetails.getAnswerString());
+        assertSame(parsedDetails, fra.getResponseDetails());
+
+        ______TS("Parsed details are discarded when the metadata is replaced");
+
+        fra.setResponseDetails(new FeedbackTextResponseDetails("Updated answer"));
+        assertEquals("Updated answer", fra.getResponseDetails().getAnswerString());
+        assertNotSame(parsedDetails, fra.getResponseDetails());
+
+        parsedDetails = fra.getResponseDetails();
+        fra.responseMetaData = new Text("Answer set directly");
+        assertEquals("Answer set directly", fra.getResponseDetails().getAnswerString());
+        assertNotSame(parsedDetails, fra.getResponseDetails());
+
+        ______TS("Missing response");
+
+        fra.responseMetaData = null;
+        assertNull(fra.getResponseDetails());
+    }
+
 }
@@ -53,8 +53,6 @@ public class FeedbackSessionAttributesTest extends BaseTestCase {
         assertTrue(fsa.isClosingEmailEnabled());
         assertTrue(fsa.isPublishedEmailEnabled());
         assertEquals(new Text(""), fsa.getInstructions());
-        assertNotNull(fsa.getRespondingInstructorList());
-        assertNotNull(fsa.getRespondingStudentList());
     }
 
     @Test
@@ -92,8 +90,6 @@ public class FeedbackSessionAttributesTest extends BaseTestCase {
         assertEquals(original.isSentClosingEmail(), copy.isSentClosingEmail());
         assertEquals(original.isSentOpenEmail(), copy.isSentOpenEmail());
         assertEquals(original.isSentPublishedEmail(), copy.isSentPublishedEmail());
-        assertEquals(original.getRespondingInstructorList(), copy.getRespondingInstructorList());
-        assertEquals(original.getRespondingStudentList(), copy.getRespondingStudentList());
     }
 
     @Test
@@ -35,6 +35,7 @@ public class StudentProfileAttributesTest extends BaseAttributesTest {
         profile.gender = "female";
         profile.moreInfo = "moreInfo can have a lot more than this...";
         profile.pictureKey = "profile Pic Key";
+        profile.pictureThumbnailKey = "profile Pic Thumbnail Key";
     }
 
     @Test
@@ -61,13 +62,14 @@ public class StudentProfileAttributesTest extends BaseAttributesTest {
         assertEquals("", profileAttributes.nationality);
         assertEquals("", profileAttributes.moreInfo);
         assertEquals("", profileAttributes.pictureKey);
+        assertEquals("", profileAttributes.pictureThumbnailKey);
     }
 
     @Test
     public void testValueOf() {
         StudentProfile studentProfile = new StudentProfile("id", "Joe", "joe@gmail.com",
                 "Teammates Institute", "American", "male",
-                new Text("hello"), new BlobKey("key"));
+                new Text("hello"), new BlobKey("key"), new BlobKey("thumbnailKey"));
         StudentProfileAttributes profileAttributes = StudentProfileAttributes.valueOf(studentProfile);
 
         assertEquals(studentProfile.getGoogleId(), profileAttributes.googleId);
@@ -78,6 +80,11 @@ public class StudentProfileAttributesTest extends BaseAttributesTest {
         assertEquals(studentProfile.getGender(), profileAttributes.gender);
         assertEquals(studentProfile.getMoreInfo().getValue(), profileAttributes.moreInfo);
         assertEquals(studentProfile.getPictureKey().getKeyString(), profileAttributes.pictureKey);
+        assertEquals(studentProfile.getPictureThumbnailKey().getKeyString(), profileAttributes.pictureThumbnailKey);
+
+        // profiles saved before thumbnails were recorded have no thumbnail key
+        studentProfile.setPictureThumbnailKey(null);
+        assertEquals("", StudentProfileAttributes.valueOf(studentProfile).pictureThumbnailKey);
 
     }
 
@@ -105,6 +112,7 @@ public class StudentProfileAttributesTest extends BaseAttributesTest {
                      + "\n  \"nationality\": \"Lebanese\",\n  \"gender\": \"female\","
                      + "\n  \"moreInfo\": \"moreInfo can have a lot more than this...\","
                      + "\n  \"pictureKey\": \"profile Pic Key\","
+                     + "\n  \"pictureThumbnailKey\": \"profile Pic Thumbnail Key\","
                      + "\n  \"modifiedDate\": \"2015-05-21 8:34 AM +0000\"\n}",
                      spa.getJsonString());
     }
@@ -200,7 +208,8 @@ public class StudentProfileAttributesTest extends BaseAttributesTest {
             StudentProfileAttributes profile) {
         return new StudentProfile(profile.googleId, profile.shortName, profile.email,
                                   profile.institute, profile.nationality, profile.gender,
-                                  new Text(profile.moreInfo), new BlobKey(profile.pictureKey));
+                                  new Text(profile.moreInfo), new BlobKey(profile.pictureKey),
+                                  new BlobKey(profile.pictureThumbnailKey));
     }
 
     private List<String> generatedExpectedErrorMessages(StudentProfileAttributes profile) throws Exception {
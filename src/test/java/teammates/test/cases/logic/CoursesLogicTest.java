@@ -3,12 +3,17 @@ package teammates.test.cases.logic;
 import static teammates.common.util.Const.EOL;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
+import com.google.apphosting.api.ApiProxy;
+import com.google.apphosting.api.ApiProxy.LogRecord;
+
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
@@ -677,6 +682,42 @@ public class CoursesLogicTest extends BaseLogicTest {
 
         assertEquals(StringUtils.join(expectedCsvString, EOL), csvString);
 
+        ______TS("Typical case: datastore reads do not depend on the number of other courses of the instructor");
+
+        String csvInstructorId = instructor1OfCourse1.googleId;
+        String csvCourseId = instructor1OfCourse1.courseId;
+
+        // loads the entities used into the caches, so that both counts below start from the same state
+        coursesLogic.getCourseStudentListAsCsv(csvCourseId, csvInstructorId);
+        int readsWithFewCourses = countDatastoreReads(() ->
+                coursesLogic.getCourseStudentListAsCsv(csvCourseId, csvInstructorId));
+
+        List<String> extraCourseIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String extraCourseId = "CLT.extra.course" + i;
+            coursesLogic.createCourseAndInstructor(csvInstructorId, extraCourseId, "Extra Course " + i, "UTC");
+            extraCourseIds.add(extraCourseId);
+        }
+        int readsWithManyCourses = countDatastoreReads(() ->
+                coursesLogic.getCourseStudentListAsCsv(csvCourseId, csvInstructorId));
+
+        assertTrue(readsWithFewCourses > 0);
+        assertEquals(readsWithFewCourses, readsWithManyCourses);
+
+        for (String extraCourseId : extraCourseIds) {
+            coursesLogic.deleteCourseCascade(extraCourseId);
+        }
+
+        ______TS("Failure case: instructor not in the course");
+
+        try {
+            coursesLogic.getCourseStudentListAsCsv(courseId, csvInstructorId);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains("does not exist in course",
+                                         e.getMessage());
+        }
+
         ______TS("Failure case: non existent instructor");
 
         try {
@@ -707,6 +748,78 @@ public class CoursesLogicTest extends BaseLogicTest {
         }
     }
 
+    /**
+     * Returns the number of reads made to the datastore while running {@code task}.
+     */
+    private static int countDatastoreReads(DatastoreTask task) throws Exception {
+        @SuppressWarnings("unchecked")
+        ApiProxy.Delegate<ApiProxy.Environment> delegate = ApiProxy.getDelegate();
+        DatastoreReadCounter counter = new DatastoreReadCounter(delegate);
+        ApiProxy.setDelegate(counter);
+        try {
+            task.run();
+        } finally {
+            ApiProxy.setDelegate(delegate);
+        }
+        return counter.numberOfReads;
+    }
+
+    private interface DatastoreTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * Counts the datastore calls which read entities, i.e. gets and queries, and passes all calls on.
+     */
+    private static final class DatastoreReadCounter implements ApiProxy.Delegate<ApiProxy.Environment> {
+
+        private static final String DATASTORE_PACKAGE = "datastore_v3";
+        private static final List<String> READ_METHODS = Arrays.asList("Get", "RunQuery", "Next");
+
+        private final ApiProxy.Delegate<ApiProxy.Environment> delegate;
+        private int numberOfReads;
+
+        DatastoreReadCounter(ApiProxy.Delegate<ApiProxy.Environment> delegate) {
+            this.delegate = delegate;
+        }
+
+        private synchronized void count(String packageName, String methodName) {
+            if (DATASTORE_PACKAGE.equals(packageName) && READ_METHODS.contains(methodName)) {
+                numberOfReads++;
+            }
+        }
+
+        @Override
+        public byte[] makeSyncCall(ApiProxy.Environment environment, String packageName, String methodName,
+                                   byte[] request) {
+            count(packageName, methodName);
+            return delegate.makeSyncCall(environment, packageName, methodName, request);
+        }
+
+        @Override
+        public Future<byte[]> makeAsyncCall(ApiProxy.Environment environment, String packageName, String methodName,
+                                            byte[] request, ApiProxy.ApiConfig apiConfig) {
+            count(packageName, methodName);
+            return delegate.makeAsyncCall(environment, packageName, methodName, request, apiConfig);
+        }
+
+        @Override
+        public void log(ApiProxy.Environment environment, LogRecord record) {
+            delegate.log(environment, record);
+        }
+
+        @Override
+        public void flushLogs(ApiProxy.Environment environment) {
+            delegate.flushLogs(environment);
+        }
+
+        @Override
+        public List<Thread> getRequestThreads(ApiProxy.Environment environment) {
+            return delegate.getRequestThreads(environment);
+        }
+
+    }
+
     private void testHasIndicatedSections() throws Exception {
 
         ______TS("Typical case: course with sections");
@@ -1,5 +1,8 @@
 package teammates.test.cases.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -10,20 +13,24 @@ import org.testng.annotations.Test;
 
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
+import com.mailjet.client.resource.Emailv31;
 import com.sendgrid.SendGrid;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
 import teammates.logic.core.SendgridService;
+import teammates.test.driver.FakeEmailSenderService;
 
 /**
  * SUT: {@link JavamailService},
  *      {@link SendgridService},
  *      {@link MailgunService},
- *      {@link MailjetService}.
+ *      {@link MailjetService},
+ *      {@link EmailSenderService#sendEmails(List)}.
  */
 public class EmailSenderTest extends BaseLogicTest {
 
@@ -111,4 +118,143 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    private List<EmailWrapper> getTypicalBatchOfEmailWrappers() {
+        List<EmailWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper wrapper = getTypicalEmailWrapper();
+            wrapper.setBcc(null);
+            wrapper.setRecipient("recipient" + i + "@email.com");
+            wrapper.setSubject("Test subject " + i);
+            wrapper.setContent("<p>This is test content " + i + "</p>");
+            wrappers.add(wrapper);
+        }
+        return wrappers;
+    }
+
+    @Test
+    public void testGroupIntoBatchRequests() {
+        List<EmailWrapper> wrappers = getTypicalBatchOfEmailWrappers();
+        wrappers.get(2).setRecipient(wrappers.get(0).getRecipient());
+
+        EmailWrapper emailWithBcc = getTypicalEmailWrapper();
+        wrappers.add(emailWithBcc);
+
+        EmailWrapper emailWithOtherReplyTo = getTypicalBatchOfEmailWrappers().get(1);
+        emailWithOtherReplyTo.setReplyTo("other.replyto@email.com");
+        wrappers.add(emailWithOtherReplyTo);
+
+        List<List<EmailWrapper>> requests = FakeEmailSenderService.getBatchRequests(wrappers);
+
+        // the same recipient is not sent to twice in a request, and emails with BCC are sent on their own
+        assertEquals(4, requests.size());
+        assertEquals(2, requests.get(0).size());
+        assertSame(wrappers.get(0), requests.get(0).get(0));
+        assertSame(wrappers.get(1), requests.get(0).get(1));
+        assertSame(wrappers.get(2), requests.get(1).get(0));
+        assertSame(emailWithBcc, requests.get(2).get(0));
+        assertSame(emailWithOtherReplyTo, requests.get(3).get(0));
+    }
+
+    @Test
+    public void testConvertToSendgridBatch() {
+        List<EmailWrapper> wrappers = getTypicalBatchOfEmailWrappers();
+        SendGrid.Email email = new SendgridService().parseToBatchEmail(wrappers);
+
+        assertEquals(wrappers.get(0).getSenderEmail(), email.getFrom());
+        assertEquals(wrappers.get(0).getSenderName(), email.getFromName());
+        assertEquals(wrappers.get(0).getReplyTo(), email.getReplyTo());
+
+        JSONObject header = new JSONObject(email.getSMTPAPI().jsonString());
+        JSONArray recipients = header.getJSONArray("to");
+        JSONArray subjects = header.getJSONObject("sub").getJSONArray(email.getSubject());
+        JSONArray contents = header.getJSONObject("sub").getJSONArray(email.getHtml());
+        assertEquals(wrappers.size(), recipients.length());
+        for (int i = 0; i < wrappers.size(); i++) {
+            assertEquals(wrappers.get(i).getRecipient(), recipients.getString(i));
+            assertEquals(wrappers.get(i).getSubject(), subjects.getString(i));
+            assertEquals(wrappers.get(i).getContent(), contents.getString(i));
+        }
+    }
+
+    @Test
+    public void testConvertToMailgunBatch() {
+        List<EmailWrapper> wrappers = getTypicalBatchOfEmailWrappers();
+        FormDataMultiPart formData = new MailgunService().parseToBatchEmail(wrappers);
+
+        assertEquals(wrappers.get(0).getSenderName() + " <" + wrappers.get(0).getSenderEmail() + ">",
+                     formData.getField("from").getValue());
+        assertEquals(wrappers.get(0).getReplyTo(), formData.getField("h:Reply-To").getValue());
+        assertEquals(wrappers.size(), formData.getFields("to").size());
+
+        JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            assertEquals(wrapper.getRecipient(), formData.getFields("to").get(i).getValue());
+            JSONObject variables = recipientVariables.getJSONObject(wrapper.getRecipient());
+            assertEquals(wrapper.getSubject(), variables.getString("subject"));
+            assertEquals(wrapper.getContent(), variables.getString("html"));
+        }
+        assertEquals("%recipient.subject%", formData.getField("subject").getValue());
+        assertEquals("%recipient.html%", formData.getField("html").getValue());
+    }
+
+    @Test
+    public void testConvertToMailjetBatch() {
+        List<EmailWrapper> wrappers = getTypicalBatchOfEmailWrappers();
+        wrappers.get(1).setBcc("bcc@email.com");
+        MailjetRequest request = new MailjetService().parseToBatchEmail(wrappers);
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray(Emailv31.MESSAGES);
+
+        assertEquals(wrappers.size(), messages.length());
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            JSONObject message = messages.getJSONObject(i);
+            assertEquals(wrapper.getSenderEmail(), message.getJSONObject(Emailv31.Message.FROM).get("Email"));
+            assertEquals(wrapper.getSenderName(), message.getJSONObject(Emailv31.Message.FROM).get("Name"));
+            assertEquals(wrapper.getRecipient(),
+                         message.getJSONArray(Emailv31.Message.TO).getJSONObject(0).get("Email"));
+            assertEquals(wrapper.getReplyTo(), message.getJSONObject(Emailv31.Message.REPLYTO).get("Email"));
+            assertEquals(wrapper.getSubject(), message.get(Emailv31.Message.SUBJECT));
+            assertEquals(wrapper.getContent(), message.get(Emailv31.Message.HTMLPART));
+        }
+        assertFalse(messages.getJSONObject(0).has(Emailv31.Message.BCC));
+        assertEquals("bcc@email.com",
+                     messages.getJSONObject(1).getJSONArray(Emailv31.Message.BCC).getJSONObject(0).get("Email"));
+    }
+
+    @Test
+    public void testSendEmailsInBatches() {
+        FakeEmailSenderService service = new FakeEmailSenderService();
+
+        ______TS("all emails accepted: one call per batch");
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < EmailSenderService.MAX_EMAILS_PER_BATCH + 10; i++) {
+            EmailWrapper wrapper = getTypicalEmailWrapper();
+            wrapper.setRecipient("recipient" + i + "@email.com");
+            emails.add(wrapper);
+        }
+
+        assertTrue(service.sendEmails(emails).isEmpty());
+        assertEquals(emails, service.getEmailsSent());
+        assertEquals(2, service.getNumberOfBatchesSent());
+
+        ______TS("rejected emails: only the rejected emails are retried and those never accepted are returned");
+
+        service = new FakeEmailSenderService();
+        service.rejectEmailsTo("recipient3@email.com", 1);
+        service.rejectEmailsTo("recipient55@email.com", 5);
+
+        List<EmailWrapper> failedEmails = service.sendEmails(emails);
+
+        assertEquals(1, failedEmails.size());
+        assertSame(emails.get(55), failedEmails.get(0));
+        assertEquals(emails.size() - 1, service.getEmailsSent().size());
+        assertTrue(service.getEmailsSent().contains(emails.get(3)));
+        assertFalse(service.getEmailsSent().contains(emails.get(55)));
+
+        // each batch is sent once, then its rejected emails are retried once
+        assertEquals(4, service.getNumberOfBatchesSent());
+    }
+
 }
@@ -1,7 +1,12 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -11,13 +16,14 @@ import com.google.appengine.api.datastore.Text;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
-import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
@@ -29,6 +35,7 @@ import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.StudentsDb;
 import teammates.test.driver.AssertHelper;
@@ -42,9 +49,13 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static FeedbackQuestionStatisticsDb fqsDb = new FeedbackQuestionStatisticsDb();
     private static DataBundle specialCharBundle = loadDataBundle("/SpecialCharacterTest.json");
     private static DataBundle questionTypeBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
 
+    private static final long STATISTICS_TEST_SEED = 2024L;
+    private static final int NUMBER_OF_STATISTICS_TEST_CHANGES = 60;
+
     @BeforeClass
     public void classSetup() {
         // extra test data used on top of typical data bundle
@@ -64,6 +75,9 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         testDeleteFeedbackResponsesForStudent();
         testSpecialCharactersInTeamName();
         testDeleteFeedbackResponsesForCourse();
+        testUpdateFeedbackResponses();
+        testDeleteFeedbackResponsesAndCascade();
+        testStatisticsForQuestions();
     }
 
     private void testSpecialCharactersInTeamName() {
@@ -355,9 +369,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     }
 
     private int getResponseRate(String sessionName, String courseId) {
-        FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSession(sessionName, courseId);
-        return sessionFromDataStore.getRespondingInstructorList().size()
-                + sessionFromDataStore.getRespondingStudentList().size();
+        return fsLogic.getNumberOfRespondents(sessionName, courseId);
     }
 
     private void restoreStudentFeedbackResponseToDatastore(FeedbackResponseAttributes response)
@@ -657,6 +669,309 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     }
 
+    private void testUpdateFeedbackResponses() throws Exception {
+        // earlier tests modify and delete responses of the typical course
+        removeAndRestoreTypicalDataBundle();
+
+        ______TS("failure: no such response, nothing is updated");
+
+        FeedbackResponseAttributes existingResponse = getResponseFromDatastore("response1ForQ1S1C1");
+        existingResponse.responseMetaData = new Text("Not saved");
+        FeedbackResponseAttributes nonExistentResponse = getResponseFromDatastore("response2ForQ1S1C1");
+        nonExistentResponse.setId("invalidId");
+
+        try {
+            frLogic.updateFeedbackResponses(Arrays.asList(existingResponse, nonExistentResponse));
+            signalFailureToDetectException("Should have detected that a response does not exist");
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains("Trying to update a feedback response that does not exist.", e.getMessage());
+        }
+        assertEquals("Student 1 self feedback.",
+                getResponseFromDatastore("response1ForQ1S1C1").responseMetaData.getValue());
+
+        ______TS("success: answers, sections and recipients updated together");
+
+        FeedbackResponseAttributes responseWithNewSection = getResponseFromDatastore("response1ForQ1S1C1");
+        responseWithNewSection.responseMetaData = new Text("Updated self feedback");
+        responseWithNewSection.recipientSection = "Section 2";
+        FeedbackResponseAttributes responseWithNewAnswer = getResponseFromDatastore("response2ForQ1S1C1");
+        responseWithNewAnswer.responseMetaData = new Text("Updated feedback");
+        responseWithNewAnswer.feedbackSessionName = "copy over";
+        FeedbackResponseAttributes responseWithNewRecipient = getResponseFromDatastore("response3ForQ2S1C1");
+        String oldRecipient = responseWithNewRecipient.recipient;
+        responseWithNewRecipient.recipient = "student5InCourse1@gmail.tmt";
+
+        frLogic.updateFeedbackResponses(
+                Arrays.asList(responseWithNewSection, responseWithNewAnswer, responseWithNewRecipient));
+
+        FeedbackResponseAttributes updatedResponse = getResponseFromDatastore("response1ForQ1S1C1");
+        assertEquals("Updated self feedback", updatedResponse.responseMetaData.getValue());
+        assertEquals("Section 2", updatedResponse.recipientSection);
+        List<FeedbackResponseCommentAttributes> comments =
+                frcLogic.getFeedbackResponseCommentForResponse(updatedResponse.getId());
+        assertFalse(comments.isEmpty());
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            assertEquals("Section 1", comment.giverSection);
+            assertEquals("Section 2", comment.receiverSection);
+        }
+
+        updatedResponse = getResponseFromDatastore("response2ForQ1S1C1");
+        assertEquals("Updated feedback", updatedResponse.responseMetaData.getValue());
+        assertEquals("First feedback session", updatedResponse.feedbackSessionName);
+
+        assertNotNull(frLogic.getFeedbackResponse(responseWithNewRecipient.feedbackQuestionId,
+                responseWithNewRecipient.giver, "student5InCourse1@gmail.tmt"));
+        assertNull(frLogic.getFeedbackResponse(responseWithNewRecipient.feedbackQuestionId,
+                responseWithNewRecipient.giver, oldRecipient));
+
+        ______TS("partial failure: the responses which can be updated are updated");
+
+        FeedbackResponseAttributes responseToConflict = getResponseFromDatastore("response2ForQ2S1C1");
+        FeedbackResponseAttributes conflictingResponse = new FeedbackResponseAttributes(responseToConflict);
+        conflictingResponse.setId(null);
+        conflictingResponse.recipient = "student3InCourse1@gmail.tmt";
+        frLogic.createFeedbackResponse(conflictingResponse);
+        responseToConflict.recipient = "student3InCourse1@gmail.tmt";
+        responseToConflict.responseMetaData = new Text("Not saved");
+        responseWithNewAnswer = getResponseFromDatastore("response2ForQ1S1C1");
+        responseWithNewAnswer.responseMetaData = new Text("Saved despite the other failure");
+
+        try {
+            frLogic.updateFeedbackResponses(Arrays.asList(responseToConflict, responseWithNewAnswer));
+            signalFailureToDetectException("Should have detected that the recreated response already exists");
+        } catch (EntityAlreadyExistsException e) {
+            AssertHelper.assertContains("Trying to create a Feedback Response that exists", e.getMessage());
+        }
+        assertEquals("Saved despite the other failure",
+                getResponseFromDatastore("response2ForQ1S1C1").responseMetaData.getValue());
+        FeedbackResponseAttributes unchangedResponse = getResponseFromDatastore("response2ForQ2S1C1");
+        assertEquals(responseToConflict.getId(), unchangedResponse.getId());
+        assertFalse("Not saved".equals(unchangedResponse.responseMetaData.getValue()));
+        assertFalse("Not saved".equals(frLogic.getFeedbackResponse(conflictingResponse.feedbackQuestionId,
+                conflictingResponse.giver, conflictingResponse.recipient).responseMetaData.getValue()));
+
+        // Cannot have invalid params as all possible invalid params
+        // are copied over from the existing responses.
+    }
+
+    private void testDeleteFeedbackResponsesAndCascade() {
+
+        ______TS("standard delete of multiple responses");
+
+        FeedbackResponseAttributes responseWithComment = getResponseFromDatastore("response1ForQ2S1C1");
+        FeedbackResponseAttributes otherResponse = getResponseFromDatastore("response1ForQ1S1C1");
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(responseWithComment.getId()).isEmpty());
+
+        frLogic.deleteFeedbackResponsesAndCascade(Arrays.asList(responseWithComment, otherResponse));
+
+        assertNull(frLogic.getFeedbackResponse(responseWithComment.getId()));
+        assertNull(frLogic.getFeedbackResponse(otherResponse.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentForResponse(responseWithComment.getId()).isEmpty());
+
+        ______TS("no responses to delete");
+
+        frLogic.deleteFeedbackResponsesAndCascade(new ArrayList<FeedbackResponseAttributes>());
+    }
+
+    private void testStatisticsForQuestions() throws Exception {
+        String courseId = "FSQTT.idOfTypicalCourse1";
+
+        ______TS("questions created outside the logic have no aggregates until they are rebuilt");
+
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        questions.addAll(fqLogic.getFeedbackQuestionsForSession("MCQ Session", courseId));
+        questions.addAll(fqLogic.getFeedbackQuestionsForSession("RUBRIC Session", courseId));
+        questions.addAll(fqLogic.getFeedbackQuestionsForSession("CONSTSUM Session", courseId));
+        questions.addAll(fqLogic.getFeedbackQuestionsForSession("NUMSCALE Session", courseId));
+        assertTrue(frLogic.getStatisticsForQuestions(questions).isEmpty());
+
+        frLogic.rebuildStatisticsForSession("MCQ Session", courseId);
+        frLogic.rebuildStatisticsForSession("RUBRIC Session", courseId);
+        frLogic.rebuildStatisticsForSession("CONSTSUM Session", courseId);
+        frLogic.rebuildStatisticsForSession("NUMSCALE Session", courseId);
+        verifyStatisticsForQuestions(questions);
+
+        ______TS("questions whose statistics are not aggregated have no aggregates");
+
+        frLogic.rebuildStatisticsForSession("MSQ Session", courseId);
+        assertTrue(frLogic.getStatisticsForQuestions(
+                fqLogic.getFeedbackQuestionsForSession("MSQ Session", courseId)).isEmpty());
+
+        ______TS("aggregates follow random creations, updates and deletions of responses once recomputed");
+
+        // the answers in the test data, to be given again in changed responses
+        Map<String, List<Text>> answersByQuestion = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            List<Text> answers = new ArrayList<>();
+            for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesForQuestion(question.getId())) {
+                answers.add(response.responseMetaData);
+            }
+            answersByQuestion.put(question.getId(), answers);
+        }
+
+        Random random = new Random(STATISTICS_TEST_SEED);
+        List<FeedbackResponseAttributes> deletedResponses = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_STATISTICS_TEST_CHANGES; i++) {
+            List<FeedbackResponseAttributes> responses = new ArrayList<>();
+            for (FeedbackQuestionAttributes question : questions) {
+                responses.addAll(frLogic.getFeedbackResponsesForQuestion(question.getId()));
+            }
+            FeedbackResponseAttributes response = responses.isEmpty()
+                                                ? null
+                                                : responses.get(random.nextInt(responses.size()));
+
+            switch (random.nextInt(7)) {
+            case 0:
+                // new answer
+                if (response != null) {
+                    response.responseMetaData = getRandomAnswer(random, answersByQuestion, response);
+                    frLogic.updateFeedbackResponse(response);
+                }
+                break;
+            case 1:
+                // new recipient, which recreates the response
+                if (response != null) {
+                    response.recipient = "statistics.recipient." + i + "@gmail.tmt";
+                    response.responseMetaData = getRandomAnswer(random, answersByQuestion, response);
+                    frLogic.updateFeedbackResponse(response);
+                }
+                break;
+            case 2:
+                // new answers in one submission
+                List<FeedbackResponseAttributes> responsesToUpdate = getRandomResponses(random, responses);
+                for (FeedbackResponseAttributes responseToUpdate : responsesToUpdate) {
+                    responseToUpdate.responseMetaData = getRandomAnswer(random, answersByQuestion, responseToUpdate);
+                }
+                frLogic.updateFeedbackResponses(responsesToUpdate);
+                break;
+            case 3:
+                // new answer submitted as a new response
+                if (response != null) {
+                    response.setId(null);
+                    response.responseMetaData = getRandomAnswer(random, answersByQuestion, response);
+                    frLogic.createFeedbackResponse(response);
+                }
+                break;
+            case 4:
+                if (response != null) {
+                    frLogic.deleteFeedbackResponseAndCascade(response);
+                    deletedResponses.add(response);
+                }
+                break;
+            case 5:
+                List<FeedbackResponseAttributes> responsesToDelete = getRandomResponses(random, responses);
+                frLogic.deleteFeedbackResponsesAndCascade(responsesToDelete);
+                deletedResponses.addAll(responsesToDelete);
+                break;
+            default:
+                List<FeedbackResponseAttributes> responsesToCreate = getRandomResponses(random, deletedResponses);
+                deletedResponses.removeAll(responsesToCreate);
+                for (FeedbackResponseAttributes responseToCreate : responsesToCreate) {
+                    responseToCreate.setId(null);
+                }
+                if (responsesToCreate.size() == 1) {
+                    frLogic.createFeedbackResponse(responsesToCreate.get(0));
+                } else {
+                    frLogic.createFeedbackResponses(responsesToCreate);
+                }
+                break;
+            }
+
+            // an aggregate which has not been recomputed since the change is only taken for one of the responses
+            // if it equals the one of the responses
+            Map<String, FeedbackQuestionStatisticsAggregate> statistics = frLogic.getStatisticsForQuestions(questions);
+            for (FeedbackQuestionAttributes question : questions) {
+                List<FeedbackResponseAttributes> responsesToQuestion =
+                        frLogic.getFeedbackResponsesForQuestion(question.getId());
+                assertEquals(FeedbackQuestionStatisticsAggregate.of(question.getQuestionDetails(), responsesToQuestion)
+                                     .equals(statistics.get(question.getId())),
+                             statistics.get(question.getId()).isOf(question.getQuestionDetails(), responsesToQuestion));
+            }
+
+            // the recomputes scheduled by the change, as run by the task queue worker
+            for (FeedbackQuestionAttributes question : questions) {
+                frLogic.recomputeStatisticsForQuestion(question.getId());
+            }
+            verifyStatisticsForQuestions(questions);
+        }
+
+        ______TS("aggregates which lag behind the responses do not match them until they are recomputed");
+
+        FeedbackQuestionAttributes questionWithStaleAggregate = questions.get(1);
+        List<FeedbackResponseAttributes> responsesToQuestion =
+                frLogic.getFeedbackResponsesForQuestion(questionWithStaleAggregate.getId());
+        assertFalse(responsesToQuestion.isEmpty());
+        frLogic.startStatisticsForQuestion(questionWithStaleAggregate);
+        assertFalse(frLogic.getStatisticsForQuestions(questions).get(questionWithStaleAggregate.getId())
+                .isOf(questionWithStaleAggregate.getQuestionDetails(), responsesToQuestion));
+
+        frLogic.recomputeStatisticsForQuestion(questionWithStaleAggregate.getId());
+        assertTrue(frLogic.getStatisticsForQuestions(questions).get(questionWithStaleAggregate.getId())
+                .isOf(questionWithStaleAggregate.getQuestionDetails(), responsesToQuestion));
+        verifyStatisticsForQuestions(questions);
+
+        ______TS("results use a stored aggregate only if it was computed from exactly their responses");
+
+        FeedbackQuestionAttributes mcqQuestion = fqLogic.getFeedbackQuestionsForSession("MCQ Session", courseId).get(0);
+        List<FeedbackResponseAttributes> mcqResponses = frLogic.getFeedbackResponsesForQuestion(mcqQuestion.getId());
+        FeedbackSessionResultsBundle results = fsLogic.getFeedbackSessionResultsForInstructor(
+                mcqQuestion.feedbackSessionName, courseId, "instructor1@course1.tmt");
+        assertEquals(FeedbackQuestionStatisticsAggregate.of(mcqQuestion.getQuestionDetails(), mcqResponses),
+                     results.getQuestionStatistics(mcqQuestion.getId()));
+
+        // an aggregate counting as many responses but other answers, as left by a lost or concurrent change
+        FeedbackQuestionStatisticsAggregate currentAggregate = results.getQuestionStatistics(mcqQuestion.getId());
+        fqsDb.putStatistics(mcqQuestion.getId(), mcqQuestion.feedbackSessionName, courseId,
+                            new FeedbackQuestionStatisticsAggregate(currentAggregate.getNumberOfResponses(),
+                                    Collections.singletonMap("stale", 1),
+                                    currentAggregate.getResponsesFingerprint() + 1));
+
+        results = fsLogic.getFeedbackSessionResultsForInstructor(
+                mcqQuestion.feedbackSessionName, courseId, "instructor1@course1.tmt");
+        assertNull(results.getQuestionStatistics(mcqQuestion.getId()));
+
+        frLogic.recomputeStatisticsForQuestion(mcqQuestion.getId());
+        verifyStatisticsForQuestions(questions);
+
+        ______TS("aggregates are deleted with their questions");
+
+        FeedbackQuestionAttributes questionToDelete = questions.get(0);
+        fqLogic.deleteFeedbackQuestionCascade(questionToDelete.getId());
+        assertFalse(frLogic.getStatisticsForQuestions(questions).containsKey(questionToDelete.getId()));
+
+        // a recompute scheduled for a deleted question does not bring its aggregate back
+        frLogic.recomputeStatisticsForQuestion(questionToDelete.getId());
+        assertFalse(frLogic.getStatisticsForQuestions(questions).containsKey(questionToDelete.getId()));
+
+        // restore the question and responses for other tests
+        removeAndRestoreDataBundle(questionTypeBundle);
+    }
+
+    private void verifyStatisticsForQuestions(List<FeedbackQuestionAttributes> questions) {
+        Map<String, FeedbackQuestionStatisticsAggregate> statistics = frLogic.getStatisticsForQuestions(questions);
+        for (FeedbackQuestionAttributes question : questions) {
+            assertEquals(FeedbackQuestionStatisticsAggregate.of(question.getQuestionDetails(),
+                                                                frLogic.getFeedbackResponsesForQuestion(question.getId())),
+                         statistics.get(question.getId()));
+        }
+    }
+
+    private static Text getRandomAnswer(Random random, Map<String, List<Text>> answersByQuestion,
+                                        FeedbackResponseAttributes response) {
+        List<Text> answers = answersByQuestion.get(response.feedbackQuestionId);
+        return answers.get(random.nextInt(answers.size()));
+    }
+
+    /**
+     * Returns up to three distinct responses chosen at random from {@code responses}.
+     */
+    private static List<FeedbackResponseAttributes> getRandomResponses(Random random,
+                                                                       List<FeedbackResponseAttributes> responses) {
+        List<FeedbackResponseAttributes> shuffledResponses = new ArrayList<>(responses);
+        Collections.shuffle(shuffledResponses, random);
+        return new ArrayList<>(shuffledResponses.subList(0, Math.min(3, shuffledResponses.size())));
+    }
+
     private FeedbackQuestionAttributes getQuestionFromDatastore(DataBundle dataBundle, String jsonId) {
         FeedbackQuestionAttributes questionToGet = dataBundle.feedbackQuestions.get(jsonId);
         questionToGet = fqLogic.getFeedbackQuestion(questionToGet.feedbackSessionName,
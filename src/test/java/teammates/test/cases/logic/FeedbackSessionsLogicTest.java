@@ -1,6 +1,10 @@
 package teammates.test.cases.logic;
 
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -20,12 +24,16 @@ import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.FeedbackSessionStats;
 import teammates.common.datatransfer.FeedbackSessionType;
+import teammates.common.datatransfer.TeamEvalResult;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -37,6 +45,10 @@ import teammates.common.util.TimeHelper;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
+import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.entity.FeedbackSession;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
 
@@ -63,10 +75,13 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionsWhichNeedOpenMailsToBeSent();
         testGetFeedbackSessionWhichNeedPublishedEmailsToBeSent();
         testGetFeedbackSessionDetailsForInstructor();
+        testExpectedRespondentTotalMaintenance();
         testGetFeedbackSessionQuestionsForStudent();
         testGetFeedbackSessionQuestionsForInstructor();
         testGetFeedbackSessionResultsForUser();
+        testGetFeedbackSessionResultsForInstructorInvolvingStudent();
         testGetFeedbackSessionResultsSummaryAsCsv();
+        testContributionQuestionTeamResultsComputedOncePerBundle();
         testIsFeedbackSessionViewableToStudents();
 
         testCreateAndDeleteFeedbackSession();
@@ -337,8 +352,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
             assertEquals(question1.questionType, question2.questionType);
             assertEquals(question1.numberOfEntitiesToGiveFeedbackTo, question2.numberOfEntitiesToGiveFeedbackTo);
         }
-        assertEquals(0, copiedSession.getRespondingInstructorList().size());
-        assertEquals(0, copiedSession.getRespondingStudentList().size());
+        assertEquals(0, fsLogic.getNumberOfRespondents(copiedSession.getFeedbackSessionName(),
+                                                       copiedSession.getCourseId()));
 
         ______TS("Failure case: duplicate session");
 
@@ -514,6 +529,87 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
     }
 
+    private void testExpectedRespondentTotalMaintenance() throws Exception {
+
+        DataBundle newDataBundle = loadDataBundle("/FeedbackSessionDetailsTest.json");
+        FeedbackSessionAttributes session = newDataBundle.feedbackSessions.get("standard.session");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        ______TS("number of expected respondents is stored when first computed");
+
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        // 2 instructors, 6 students = 8
+        assertEquals(8, fsLogic.getFeedbackSessionDetails(session).stats.expectedTotal);
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        assertEquals(8, session.getExpectedRespondentTotal().intValue());
+        assertEquals(8, fsLogic.getFeedbackSessionDetails(session).stats.expectedTotal);
+
+        ______TS("adding a student clears the stored number");
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(courseId, "New Student", "FSDTest.new.student@course1.tmt")
+                .withTeam("FSDTest new team")
+                .build();
+        StudentsLogic.inst().createStudentCascade(newStudent);
+
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        assertNull(session.getExpectedRespondentTotal());
+        assertEquals(9, fsLogic.getFeedbackSessionDetails(session).stats.expectedTotal);
+
+        ______TS("removing a student clears the stored number");
+
+        StudentsLogic.inst().deleteStudentCascade(courseId, newStudent.email);
+
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        assertNull(session.getExpectedRespondentTotal());
+        assertEquals(8, fsLogic.getFeedbackSessionDetails(session).stats.expectedTotal);
+
+        ______TS("reconciliation leaves correct values untouched");
+
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        int submittedTotal = fsLogic.getFeedbackSessionDetails(session).stats.submittedTotal;
+        assertFalse(fsLogic.reconcileResponseRateStats(session));
+
+        ______TS("reconciliation repairs drifted values");
+
+        FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+        fsDb.updateExpectedRespondentTotal(session, 100, fsDb.getExpectedRespondentTotalVersion(session));
+        fsLogic.addStudentRespondent("FSDTest.non.existent@course1.tmt", sessionName, courseId);
+
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        assertEquals(100, fsLogic.getFeedbackSessionDetails(session).stats.expectedTotal);
+        assertEquals(submittedTotal + 1, fsLogic.getFeedbackSessionDetails(session).stats.submittedTotal);
+
+        assertTrue(fsLogic.reconcileResponseRateStats(session));
+
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        assertEquals(8, fsLogic.getFeedbackSessionDetails(session).stats.expectedTotal);
+        assertEquals(submittedTotal, fsLogic.getFeedbackSessionDetails(session).stats.submittedTotal);
+
+        ______TS("respondents stored in the session entity are counted until they are migrated");
+
+        String respondentEmail = fsLogic.getRespondingStudents(session).iterator().next();
+        new FeedbackSessionRespondentsDb().deleteRespondent(sessionName, courseId, respondentEmail, false);
+        FeedbackSession sessionEntity = ofy().load().type(FeedbackSession.class).id(sessionName + "%" + courseId).now();
+        sessionEntity.getRespondingStudentList().add(respondentEmail);
+        ofy().save().entity(sessionEntity).now();
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+
+        assertTrue(session.hasLegacyRespondents());
+        assertTrue(fsLogic.isFeedbackSessionCompletedByStudent(session, respondentEmail));
+        assertEquals(submittedTotal, fsLogic.getFeedbackSessionDetails(session).stats.submittedTotal);
+
+        // migrating the respondents is not a repair
+        assertFalse(fsLogic.reconcileResponseRateStats(session));
+
+        assertTrue(new FeedbackSessionsDb().getLegacyRespondents(sessionName, courseId, false).isEmpty());
+        assertTrue(new FeedbackSessionRespondentsDb().isRespondent(sessionName, courseId, respondentEmail, false));
+        session = fsLogic.getFeedbackSession(sessionName, courseId);
+        assertFalse(session.hasLegacyRespondents());
+        assertEquals(submittedTotal, fsLogic.getFeedbackSessionDetails(session).stats.submittedTotal);
+    }
+
     private void testGetFeedbackSessionsForCourse() throws Exception {
 
         List<FeedbackSessionAttributes> actualSessions = null;
@@ -1122,6 +1218,95 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         //TODO: check for cases where a person is both a student and an instructor
     }
 
+    private void testGetFeedbackSessionResultsForInstructorInvolvingStudent() throws Exception {
+
+        ______TS("same records of students as filtering the results of the whole session");
+
+        int numberOfRecordsCompared = 0;
+        for (String dataBundleName : Arrays.asList("/FeedbackSessionResultsTest.json",
+                                                   "/FeedbackSessionQuestionTypeTest.json")) {
+            DataBundle recordsBundle = loadDataBundle(dataBundleName);
+            removeAndRestoreDataBundle(recordsBundle);
+
+            for (FeedbackSessionAttributes session : recordsBundle.feedbackSessions.values()) {
+                String sessionName = session.getFeedbackSessionName();
+                String courseId = session.getCourseId();
+                List<StudentAttributes> students = StudentsLogic.inst().getStudentsForCourse(courseId);
+
+                for (InstructorAttributes instructor : recordsBundle.instructors.values()) {
+                    if (!instructor.courseId.equals(courseId)) {
+                        continue;
+                    }
+                    FeedbackSessionResultsBundle sessionResults =
+                            fsLogic.getFeedbackSessionResultsForInstructor(sessionName, courseId, instructor.email);
+
+                    for (StudentAttributes student : students) {
+                        FeedbackSessionResultsBundle studentResults =
+                                fsLogic.getFeedbackSessionResultsForInstructorInvolvingStudent(
+                                        sessionName, courseId, instructor.email, student);
+
+                        Map<String, List<String>> expectedRecords = getRecordsOfStudent(sessionResults, student);
+                        assertEquals(expectedRecords, getRecordsOfStudent(studentResults, student));
+                        numberOfRecordsCompared += expectedRecords.size();
+                    }
+                }
+            }
+        }
+        assertTrue(numberOfRecordsCompared > 0);
+
+        ______TS("failure: non-existent session");
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        try {
+            fsLogic.getFeedbackSessionResultsForInstructorInvolvingStudent(
+                    "non-existent session", student.course, "instructor1@course1.tmt", student);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains("non-existent feedback session", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the responses received and given by the student as shown in the records of the student,
+     * keyed by the other person of the responses.
+     */
+    private static Map<String, List<String>> getRecordsOfStudent(FeedbackSessionResultsBundle results,
+                                                                 StudentAttributes student) {
+        String studentName = results.appendTeamNameToName(student.name, student.team);
+        Map<String, List<String>> records = new HashMap<>();
+        addRecords(records, "from ", results.getResponsesSortedByRecipient().get(studentName), results);
+        addRecords(records, "to ", results.getResponsesSortedByGiver().get(studentName), results);
+        return records;
+    }
+
+    private static void addRecords(Map<String, List<String>> records, String prefix,
+                                   Map<String, List<FeedbackResponseAttributes>> responsesByPerson,
+                                   FeedbackSessionResultsBundle results) {
+        if (responsesByPerson == null) {
+            return;
+        }
+        responsesByPerson.forEach((person, responses) -> {
+            List<String> shownResponses = new ArrayList<>();
+            for (FeedbackResponseAttributes response : responses) {
+                StringBuilder shownResponse = new StringBuilder(100)
+                        .append(response.getId()).append(": ")
+                        .append(results.getNameForEmail(response.giver)).append(" -> ")
+                        .append(results.getNameForEmail(response.recipient)).append(": ")
+                        .append(results.getResponseAnswerHtml(response,
+                                                              results.questions.get(response.feedbackQuestionId)));
+                List<FeedbackResponseCommentAttributes> comments = results.responseComments.get(response.getId());
+                if (comments != null) {
+                    for (FeedbackResponseCommentAttributes comment : comments) {
+                        shownResponse.append("; comment ").append(comment.getId()).append(" by ")
+                                     .append(comment.giverEmail);
+                    }
+                }
+                shownResponses.add(shownResponse.toString());
+            }
+            records.put(prefix + person, shownResponses);
+        });
+    }
+
     private void testGetFeedbackSessionResultsSummaryAsCsv() throws Exception {
 
         ______TS("typical case: get all results");
@@ -1891,6 +2076,22 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
         assertFalse(export.contains("Summary Statistics"));
 
+        ______TS("streamed export is identical to in-memory export");
+
+        for (FeedbackSessionAttributes typedSession : newDataBundle.feedbackSessions.values()) {
+            for (boolean isMissingResponsesShown : new boolean[] {true, false}) {
+                String expectedExport = fsLogic.getFeedbackSessionResultsSummaryAsCsv(
+                        typedSession.getFeedbackSessionName(), typedSession.getCourseId(), instructor.email,
+                        null, isMissingResponsesShown, true);
+
+                StringWriter writer = new StringWriter();
+                fsLogic.writeFeedbackSessionResultsSummaryAsCsv(
+                        writer, typedSession, instructor.email, isMissingResponsesShown, true);
+
+                assertEquals(expectedExport, writer.toString());
+            }
+        }
+
         ______TS("Non-existent Course/Session");
 
         try {
@@ -1902,6 +2103,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                          + "no course" + "/" + "non.existent",
                          e.getMessage());
         }
+
     }
 
     private String getStudentAnonEmail(DataBundle dataBundle, String studentKey) {
@@ -1914,6 +2116,59 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                         dataBundle.students.get(studentKey).name);
     }
 
+    private void testContributionQuestionTeamResultsComputedOncePerBundle() throws Exception {
+        DataBundle questionTypeBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(questionTypeBundle);
+        FeedbackSessionAttributes session = questionTypeBundle.feedbackSessions.get("contribSession");
+        InstructorAttributes instructor = questionTypeBundle.instructors.get("instructor1OfCourse1");
+
+        FeedbackSessionResultsBundle results = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        FeedbackQuestionAttributes question =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 1);
+        FeedbackContributionQuestionDetails questionDetails =
+                (FeedbackContributionQuestionDetails) question.getQuestionDetails();
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (FeedbackResponseAttributes response : results.responses) {
+            if (response.feedbackQuestionId.equals(question.getId())) {
+                responses.add(response);
+            }
+        }
+        assertFalse(responses.isEmpty());
+
+        ______TS("team results are computed by the first view of the question");
+
+        assertTrue(results.contributionQuestionTeamEvalResults.isEmpty());
+
+        questionDetails.getQuestionResultStatisticsHtml(responses, question, instructor.email, results, "question");
+
+        Map<String, TeamEvalResult> teamResults = results.contributionQuestionTeamEvalResults.get(question.getId());
+        assertFalse(teamResults.isEmpty());
+        Map<String, TeamEvalResult> constructedTeamResults = new HashMap<>(teamResults);
+
+        ______TS("other views of the question reuse the team results");
+
+        questionDetails.getQuestionResultStatisticsCsv(responses, question, results);
+        questionDetails.getQuestionResultStatisticsHtml(
+                responses, question, responses.get(0).giver, results, "student");
+        FeedbackContributionResponseDetails.getContribQnStudentResultSummary(question, results);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackContributionResponseDetails responseDetails =
+                    (FeedbackContributionResponseDetails) response.getResponseDetails();
+            responseDetails.getAnswerHtml(response, question, results);
+            responseDetails.getAnswerCsv(response, question, results);
+        }
+
+        // no team results are constructed again, as all views get the same instances
+        assertEquals(1, results.contributionQuestionTeamEvalResults.size());
+        assertSame(teamResults, results.contributionQuestionTeamEvalResults.get(question.getId()));
+        assertEquals(constructedTeamResults.keySet(), teamResults.keySet());
+        constructedTeamResults.forEach((team, teamResult) -> assertSame(teamResult, teamResults.get(team)));
+        FeedbackContributionResponseDetails responseDetails =
+                (FeedbackContributionResponseDetails) responses.get(0).getResponseDetails();
+        assertSame(teamResults, responseDetails.getContribQnTeamEvalResult(question, results));
+    }
+
     private void testIsFeedbackSessionViewableToStudents() {
         ______TS("Session with questions for students to answer");
         FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
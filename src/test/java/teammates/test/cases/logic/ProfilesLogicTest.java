@@ -63,7 +63,9 @@ public class ProfilesLogicTest extends BaseLogicTest {
         ______TS("update picture");
 
         expectedSpa.pictureKey = writeFileToGcs(expectedSpa.googleId, "src/test/resources/images/profile_pic.png");
-        profilesLogic.updateStudentProfilePicture(expectedSpa.googleId, expectedSpa.pictureKey);
+        expectedSpa.pictureThumbnailKey = "thumbnailKey";
+        profilesLogic.updateStudentProfilePicture(expectedSpa.googleId, expectedSpa.pictureKey,
+                                                  expectedSpa.pictureThumbnailKey);
         actualSpa = profilesLogic.getStudentProfile(accountWithStudentProfile.googleId);
         expectedSpa.modifiedDate = actualSpa.modifiedDate;
         assertEquals(expectedSpa.toString(), actualSpa.toString());
@@ -76,6 +78,7 @@ public class ProfilesLogicTest extends BaseLogicTest {
         actualSpa = profilesLogic.getStudentProfile(accountWithStudentProfile.googleId);
         expectedSpa.modifiedDate = actualSpa.modifiedDate;
         expectedSpa.pictureKey = "";
+        expectedSpa.pictureThumbnailKey = "";
         assertEquals(expectedSpa.toString(), actualSpa.toString());
 
         // remove the account that was created
@@ -430,6 +430,42 @@ public class StudentsLogicTest extends BaseLogicTest {
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
         assertNull(responseAfter);
 
+        ______TS("adjust feedback responses in batch: change of section only");
+
+        FeedbackResponseAttributes teamResponseInBundle = dataBundle.feedbackResponses.get("response1ForQ1S2C1");
+        StudentAttributes student4InCourse1 = dataBundle.students.get("student4InCourse1");
+        feedbackQuestionInDb = fqLogic.getFeedbackQuestion(teamResponseInBundle.feedbackSessionName,
+                teamResponseInBundle.courseId, Integer.parseInt(teamResponseInBundle.feedbackQuestionId));
+        responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                teamResponseInBundle.giver, teamResponseInBundle.recipient);
+
+        enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
+                                                    student4InCourse1.email, null, student4InCourse1.team,
+                                                    student4InCourse1.section, student4InCourse1.section + "tmp"));
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        responses.add(responseBefore);
+
+        studentsLogic.adjustFeedbackResponsesForEnrollments(enrollmentList, responses);
+
+        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                teamResponseInBundle.giver, teamResponseInBundle.recipient);
+        assertEquals(responseBefore.getId(), responseAfter.getId());
+        assertEquals(student4InCourse1.section + "tmp", responseAfter.giverSection);
+        assertEquals(responseBefore.recipientSection, responseAfter.recipientSection);
+
+        ______TS("adjust feedback responses in batch: delete team responses after change of team");
+
+        enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
+                                                    student4InCourse1.email, student4InCourse1.team,
+                                                    student4InCourse1.team + "tmp", null, student4InCourse1.section));
+
+        studentsLogic.adjustFeedbackResponsesForEnrollments(enrollmentList, responses);
+
+        assertNull(frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                teamResponseInBundle.giver, teamResponseInBundle.recipient));
+
     }
 
     private void testEnrollLinesChecking() throws Exception {
@@ -775,6 +811,38 @@ public class StudentsLogicTest extends BaseLogicTest {
             AssertHelper.assertContains("Same email address as the student in line \"" + lineT9 + "\"", e.getMessage());
         }
 
+        ______TS("many students enrolled and moved in one batch");
+
+        coursesLogic.createCourseAndInstructor("tes.instructor", "tes.bulk.course", "TES Bulk Course", "UTC");
+
+        int numberOfStudents = 90;
+        StringBuilder bulkLines = new StringBuilder(headerLine);
+        for (int i = 0; i < numberOfStudents; i++) {
+            bulkLines.append(Const.EOL).append("bulk team ").append(i % 30).append("|bulk student ").append(i)
+                     .append("|bulk").append(i).append("@g|c");
+        }
+        enrollResults = studentsLogic.enrollStudentsWithoutDocument(bulkLines.toString(), "tes.bulk.course");
+        assertEquals(numberOfStudents, enrollResults.enrollmentList.size());
+        for (StudentEnrollDetails enrollment : enrollResults.enrollmentList) {
+            assertEquals(StudentUpdateStatus.NEW, enrollment.updateStatus);
+        }
+        assertEquals(numberOfStudents, studentsLogic.getStudentsForCourse("tes.bulk.course").size());
+
+        // the first student moves to another team, the second one only changes name, the rest are left out
+        lines = headerLine + Const.EOL + "bulk team 29|bulk student 0|bulk0@g|c"
+                + Const.EOL + "bulk team 1|bulk student one|bulk1@g|c";
+        enrollResults = studentsLogic.enrollStudentsWithoutDocument(lines, "tes.bulk.course");
+        assertEquals(numberOfStudents, enrollResults.studentList.size());
+        assertEquals(StudentUpdateStatus.MODIFIED, enrollResults.enrollmentList.get(0).updateStatus);
+        assertEquals("bulk team 0", enrollResults.enrollmentList.get(0).oldTeam);
+        assertEquals(StudentUpdateStatus.MODIFIED, enrollResults.enrollmentList.get(1).updateStatus);
+        assertNull(enrollResults.enrollmentList.get(1).oldTeam);
+        assertEquals(StudentUpdateStatus.NOT_IN_ENROLL_LIST, enrollResults.studentList.get(2).updateStatus);
+        assertEquals("bulk team 29", studentsLogic.getStudentForEmail("tes.bulk.course", "bulk0@g").team);
+        assertEquals("bulk student one", studentsLogic.getStudentForEmail("tes.bulk.course", "bulk1@g").name);
+
+        coursesLogic.deleteCourseCascade("tes.bulk.course");
+
         ______TS("invalid course id");
 
         String enrollLines = headerLine + Const.EOL;
@@ -1131,9 +1199,10 @@ public class StudentsLogicTest extends BaseLogicTest {
     }
 
     private static StudentEnrollDetails enrollStudent(StudentAttributes student) throws Exception {
-        return (StudentEnrollDetails) invokeMethod(StudentsLogic.class, "enrollStudent",
-                                                   new Class<?>[] { StudentAttributes.class, Boolean.class },
-                                                   StudentsLogic.inst(), new Object[] { student, false });
+        String enrollLines = "section|team|name|email|comment" + Const.EOL
+                + student.section + "|" + student.team + "|" + student.name + "|" + student.email + "|"
+                + student.comments;
+        return studentsLogic.enrollStudentsWithoutDocument(enrollLines, student.course).enrollmentList.get(0);
     }
 
     @AfterClass
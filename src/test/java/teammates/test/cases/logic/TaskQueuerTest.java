@@ -0,0 +1,57 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.taskqueue.dev.LocalTaskQueue;
+import com.google.appengine.api.taskqueue.dev.QueueStateInfo.TaskStateInfo;
+import com.google.appengine.tools.development.testing.LocalTaskQueueTestConfig;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.api.TaskQueuer;
+import teammates.logic.core.TaskQueuesLogic;
+
+/**
+ * SUT: {@link TaskQueuer}.
+ */
+public class TaskQueuerTest extends BaseLogicTest {
+
+    private static final TaskQueuer taskQueuer = new TaskQueuer();
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void testScheduleAdminEmailsForSending() {
+        LocalTaskQueue localTaskQueue = LocalTaskQueueTestConfig.getLocalTaskQueue();
+        localTaskQueue.flushQueue(Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME);
+
+        ______TS("more receivers than fit in one batch: one task per receiver, carrying only the email ID");
+
+        int numberOfReceivers = 2 * TaskQueuesLogic.MAX_TASKS_PER_BATCH + 1;
+        List<String> receivers = new ArrayList<>();
+        for (int i = 0; i < numberOfReceivers; i++) {
+            receivers.add("receiver" + i + "@gmail.tmt");
+        }
+
+        taskQueuer.scheduleAdminEmailsForSending("adminEmailId", receivers);
+
+        List<TaskStateInfo> tasks = localTaskQueue.getQueueStateInfo()
+                .get(Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME).getTaskInfo();
+        assertEquals(numberOfReceivers, tasks.size());
+        for (TaskStateInfo task : tasks) {
+            String body = task.getBody();
+            assertTrue(body.contains(ParamsNames.ADMIN_EMAIL_ID + "=adminEmailId"));
+            assertTrue(body.contains(ParamsNames.ADMIN_EMAIL_RECEIVER + "="));
+            assertFalse(body.contains(ParamsNames.ADMIN_EMAIL_CONTENT + "="));
+        }
+
+        localTaskQueue.flushQueue(Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME);
+    }
+
+}
@@ -0,0 +1,88 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.taskqueue.dev.LocalTaskQueue;
+import com.google.appengine.tools.development.testing.LocalTaskQueueTestConfig;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.StringHelper;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.TaskQueuesLogic;
+
+/**
+ * SUT: {@link TaskQueuesLogic}.
+ */
+public class TaskQueuesLogicTest extends BaseLogicTest {
+
+    private static final TaskQueuesLogic taskQueuesLogic = new TaskQueuesLogic();
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void testAddTasks() {
+        LocalTaskQueue localTaskQueue = LocalTaskQueueTestConfig.getLocalTaskQueue();
+        localTaskQueue.flushQueue(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME);
+        localTaskQueue.flushQueue(Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME);
+
+        ______TS("more tasks than fit in one batch, for more than one queue");
+
+        int numberOfTasks = 2 * TaskQueuesLogic.MAX_TASKS_PER_BATCH + 50;
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            tasks.add(makeTask(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, Const.TaskQueue.SEND_EMAIL_WORKER_URL,
+                               "receiver" + i + "@gmail.tmt"));
+        }
+        tasks.add(makeTask(Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, Const.TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL,
+                           "admin.receiver@gmail.tmt"));
+
+        taskQueuesLogic.addTasks(tasks);
+
+        assertEquals(numberOfTasks, getNumberOfTasks(localTaskQueue, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME));
+        assertEquals(1, getNumberOfTasks(localTaskQueue, Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME));
+
+        ______TS("a task too large for the queue: the other tasks of its batch are added one by one");
+
+        localTaskQueue.flushQueue(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME);
+
+        numberOfTasks = TaskQueuesLogic.MAX_TASKS_PER_BATCH + 50;
+        tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            tasks.add(makeTask(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, Const.TaskQueue.SEND_EMAIL_WORKER_URL,
+                               "receiver" + i + "@gmail.tmt"));
+        }
+        Map<String, String[]> tooLargeParamMap = new HashMap<>();
+        tooLargeParamMap.put(ParamsNames.EMAIL_CONTENT,
+                             new String[] { StringHelper.generateStringOfLength(200 * 1024, 'a') });
+        tasks.add(TaskQueuesLogic.MAX_TASKS_PER_BATCH + 10,
+                  new TaskWrapper(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, Const.TaskQueue.SEND_EMAIL_WORKER_URL,
+                                  tooLargeParamMap));
+
+        taskQueuesLogic.addTasks(tasks);
+
+        assertEquals(numberOfTasks, getNumberOfTasks(localTaskQueue, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME));
+
+        localTaskQueue.flushQueue(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME);
+        localTaskQueue.flushQueue(Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME);
+    }
+
+    private TaskWrapper makeTask(String queueName, String workerUrl, String receiver) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_RECEIVER, new String[] { receiver });
+        return new TaskWrapper(queueName, workerUrl, paramMap);
+    }
+
+    private int getNumberOfTasks(LocalTaskQueue localTaskQueue, String queueName) {
+        return localTaskQueue.getQueueStateInfo().get(queueName).getCountTasks();
+    }
+
+}
@@ -2,13 +2,20 @@ package teammates.test.cases.search;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.search.Document;
+
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.search.FeedbackResponseCommentSearchDocument;
+import teammates.storage.search.SearchDocument;
 
 /**
  * SUT: {@link FeedbackResponseCommentsDb},
@@ -30,6 +37,24 @@ public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
 
         ArrayList<InstructorAttributes> instructors = new ArrayList<InstructorAttributes>();
 
+        ______TS("success: documents built in a batch are the same as documents built one by one");
+
+        List<FeedbackResponseCommentAttributes> comments = new ArrayList<>();
+        comments.addAll(commentsDb.getFeedbackResponseCommentsForCourse(frc1I1Q1S1C1.courseId));
+        comments.addAll(commentsDb.getFeedbackResponseCommentsForCourse(frc1I3Q1S1C2.courseId));
+        Map<String, String> expectedDocuments = new HashMap<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            Document document = new FeedbackResponseCommentSearchDocument(comment).build();
+            expectedDocuments.put(document.getId(), document.toString());
+        }
+
+        List<SearchDocument> batchDocuments = FeedbackResponseCommentSearchDocument.fromComments(comments);
+        assertEquals(comments.size(), batchDocuments.size());
+        for (SearchDocument batchDocument : batchDocuments) {
+            Document document = batchDocument.build();
+            assertEquals(expectedDocuments.get(document.getId()), document.toString());
+        }
+
         ______TS("success: search for comments; no results found as instructor doesn't have privileges");
 
         instructors.add(dataBundle.instructors.get("helperOfCourse1"));
@@ -0,0 +1,163 @@
+package teammates.test.cases.storage;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.storage.api.CoursesDb;
+import teammates.storage.api.EntityChangesDb;
+import teammates.storage.api.FeedbackQuestionsDb;
+import teammates.storage.entity.Course;
+import teammates.storage.entity.EntityChange;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link EntityChangesDb}, and the recording of changes by the subclasses of
+ * {@link teammates.storage.api.EntitiesDb}.
+ */
+public class EntityChangesDbTest extends BaseComponentTestCase {
+
+    private EntityChangesDb entityChangesDb = new EntityChangesDb();
+    private CoursesDb coursesDb = new CoursesDb();
+    private FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
+
+    @Test
+    public void testRecordingOfChanges() throws Exception {
+        String courseId = "ECDbT.course";
+        String courseKey = Key.create(Course.class, courseId).toWebSafeString();
+        Date start = new Date();
+
+        ______TS("creation and update are recorded with the key and course of the entity");
+
+        CourseAttributes course = new CourseAttributes(courseId, "Entity Changes", "UTC");
+        coursesDb.createEntity(course);
+        coursesDb.updateCourse(new CourseAttributes(courseId, "Entity Changes Updated", "UTC"));
+
+        List<EntityChange> changes = getChangesOfEntity(getChangesSince(start), courseKey);
+        assertEquals(2, changes.size());
+        for (EntityChange change : changes) {
+            assertEquals("Course", change.getEntityKind());
+            assertEquals(courseId, change.getCourseId());
+            assertFalse(change.isDeleted());
+        }
+        assertFalse(changes.get(1).getTimestamp().before(changes.get(0).getTimestamp()));
+
+        ______TS("changes outside the time range are not returned");
+
+        assertTrue(getChangesOfEntity(entityChangesDb.getChangesBetween(new Date(0), start), courseKey).isEmpty());
+
+        ______TS("new entity with an auto-generated ID is recorded with its generated key");
+
+        FeedbackQuestionAttributes question = getNewFeedbackQuestion(courseId);
+        FeedbackQuestionAttributes createdQuestion = fqDb.createFeedbackQuestionWithoutExistenceCheck(question);
+        // the ID of a question is the web-safe key of its entity
+        String questionKey = createdQuestion.getId();
+
+        changes = getChangesOfEntity(getChangesSince(start), questionKey);
+        assertEquals(1, changes.size());
+        assertEquals(courseId, changes.get(0).getCourseId());
+        assertFalse(changes.get(0).isDeleted());
+
+        ______TS("new entities written in several transactions are all recorded");
+
+        Date beforeBatchCreation = new Date();
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        for (int questionNumber = 2; questionNumber <= 14; questionNumber++) {
+            FeedbackQuestionAttributes batchQuestion = getNewFeedbackQuestion(courseId);
+            batchQuestion.questionNumber = questionNumber;
+            questions.add(batchQuestion);
+        }
+        fqDb.createEntities(questions);
+
+        assertEquals(13, getChangesOfKind(getChangesSince(beforeBatchCreation), "FeedbackQuestion", false).size());
+
+        ______TS("deletion of all the entities of a course is recorded for every deleted entity");
+
+        Date beforeDeletion = new Date();
+        fqDb.deleteFeedbackQuestionsForCourse(courseId);
+
+        changes = getChangesOfEntity(getChangesSince(beforeDeletion), questionKey);
+        assertEquals(1, changes.size());
+        assertEquals(courseId, changes.get(0).getCourseId());
+        assertTrue(changes.get(0).isDeleted());
+        assertEquals(14, getChangesOfKind(getChangesSince(beforeDeletion), "FeedbackQuestion", true).size());
+
+        ______TS("deletion of a single entity is recorded");
+
+        coursesDb.deleteCourse(courseId);
+
+        changes = getChangesOfEntity(getChangesSince(beforeDeletion), courseKey);
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).isDeleted());
+
+        ______TS("changes recorded before the given time are deleted in bounded runs resumed after the cursor");
+
+        List<String> deletedChangeIds = entityChangesDb.deleteChangesBefore(beforeDeletion, null, 1);
+        assertEquals(1, deletedChangeIds.size());
+        String cursor = deletedChangeIds.get(0);
+
+        deletedChangeIds = entityChangesDb.deleteChangesBefore(beforeDeletion, cursor, Integer.MAX_VALUE);
+        assertTrue(deletedChangeIds.size() >= 2);
+        for (String deletedChangeId : deletedChangeIds) {
+            assertTrue(deletedChangeId.compareTo(cursor) > 0);
+            cursor = deletedChangeId;
+        }
+
+        assertTrue(entityChangesDb.deleteChangesBefore(beforeDeletion, null, Integer.MAX_VALUE).isEmpty());
+        assertTrue(entityChangesDb.getChangesBetween(new Date(0), beforeDeletion).isEmpty());
+        assertEquals(1, getChangesOfEntity(getChangesSince(beforeDeletion), courseKey).size());
+        assertEquals(1, getChangesOfEntity(getChangesSince(beforeDeletion), questionKey).size());
+    }
+
+    private static FeedbackQuestionAttributes getNewFeedbackQuestion(String courseId) {
+        FeedbackQuestionAttributes fqa = new FeedbackQuestionAttributes();
+        fqa.courseId = courseId;
+        fqa.creatorEmail = "instructor@email.com";
+        fqa.feedbackSessionName = "testFeedbackSession";
+        fqa.giverType = FeedbackParticipantType.INSTRUCTORS;
+        fqa.recipientType = FeedbackParticipantType.SELF;
+        fqa.numberOfEntitiesToGiveFeedbackTo = 1;
+        fqa.questionNumber = 1;
+        fqa.questionType = FeedbackQuestionType.TEXT;
+        fqa.setQuestionDetails(new FeedbackTextQuestionDetails("Question text."));
+        fqa.showGiverNameTo = new ArrayList<>();
+        fqa.showRecipientNameTo = new ArrayList<>();
+        fqa.showResponsesTo = new ArrayList<>();
+        return fqa;
+    }
+
+    private List<EntityChange> getChangesSince(Date start) {
+        return entityChangesDb.getChangesBetween(start, new Date(System.currentTimeMillis() + 1000));
+    }
+
+    private static List<EntityChange> getChangesOfKind(List<EntityChange> changes, String entityKind,
+                                                       boolean isDeleted) {
+        List<EntityChange> changesOfKind = new ArrayList<>();
+        for (EntityChange change : changes) {
+            if (entityKind.equals(change.getEntityKind()) && change.isDeleted() == isDeleted) {
+                changesOfKind.add(change);
+            }
+        }
+        return changesOfKind;
+    }
+
+    private static List<EntityChange> getChangesOfEntity(List<EntityChange> changes, String entityKey) {
+        List<EntityChange> changesOfEntity = new ArrayList<>();
+        for (EntityChange change : changes) {
+            if (entityKey.equals(change.getEntityKey())) {
+                changesOfEntity.add(change);
+            }
+        }
+        return changesOfEntity;
+    }
+
+}
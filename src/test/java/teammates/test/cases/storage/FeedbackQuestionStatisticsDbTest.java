@@ -0,0 +1,65 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackQuestionStatisticsAggregate;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link FeedbackQuestionStatisticsDb}.
+ */
+public class FeedbackQuestionStatisticsDbTest extends BaseComponentTestCase {
+
+    private FeedbackQuestionStatisticsDb statisticsDb = new FeedbackQuestionStatisticsDb();
+
+    @Test
+    public void testStatistics() {
+        String sessionName = "First Session";
+        String courseId = "FQSDbT.course";
+        String otherCourseId = "FQSDbT.other.course";
+
+        ______TS("aggregates are only returned once they are put");
+
+        assertTrue(statisticsDb.getStatistics(Arrays.asList("question1", "question2")).isEmpty());
+
+        statisticsDb.putStatistics("question1", sessionName, courseId, makeAggregate(2, "A", 2, 12345L));
+        statisticsDb.putStatistics("question2", sessionName, otherCourseId, new FeedbackQuestionStatisticsAggregate());
+
+        Map<String, FeedbackQuestionStatisticsAggregate> statistics =
+                statisticsDb.getStatistics(Arrays.asList("question1", "question2", "question3"));
+        assertEquals(2, statistics.size());
+        assertEquals(makeAggregate(2, "A", 2, 12345L), statistics.get("question1"));
+        assertEquals(new FeedbackQuestionStatisticsAggregate(), statistics.get("question2"));
+
+        ______TS("put aggregates replace the previous ones");
+
+        statisticsDb.putStatistics("question1", sessionName, courseId, makeAggregate(1, "C", 1, -1L));
+
+        assertEquals(makeAggregate(1, "C", 1, -1L),
+                     statisticsDb.getStatistics(Arrays.asList("question1")).get("question1"));
+
+        ______TS("aggregates are deleted per question and per course");
+
+        statisticsDb.deleteStatisticsForQuestion("question1");
+
+        assertFalse(statisticsDb.getStatistics(Arrays.asList("question1")).containsKey("question1"));
+        assertTrue(statisticsDb.getStatistics(Arrays.asList("question2")).containsKey("question2"));
+
+        statisticsDb.deleteStatisticsForCourses(Arrays.asList(otherCourseId));
+
+        assertTrue(statisticsDb.getStatistics(Arrays.asList("question2")).isEmpty());
+    }
+
+    private static FeedbackQuestionStatisticsAggregate makeAggregate(int numberOfResponses, String answer, int count,
+                                                                     long responsesFingerprint) {
+        Map<String, Integer> answerCounts = new HashMap<>();
+        answerCounts.put(answer, count);
+        return new FeedbackQuestionStatisticsAggregate(numberOfResponses, answerCounts, responsesFingerprint);
+    }
+
+}
@@ -15,6 +15,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.storage.api.FeedbackQuestionsDb;
+import teammates.storage.api.RequestCache;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -282,6 +283,62 @@ public class FeedbackQuestionsDbTest extends BaseComponentTestCase {
         deleteFeedbackQuestions(numOfQuestions[0] + numOfQuestions[1] + numOfQuestions[2] + numOfQuestions[3]);
     }
 
+    @Test
+    public void testGetFeedbackQuestionsWithRequestCache() throws Exception {
+        String feedbackSessionName = "Request cache session";
+        String kind = "FeedbackQuestion";
+        FeedbackQuestionAttributes fqa = getNewFeedbackQuestionAttributes();
+        String courseId = fqa.courseId;
+        for (int i = 1; i <= 2; i++) {
+            fqa = getNewFeedbackQuestionAttributes();
+            fqa.feedbackSessionName = feedbackSessionName;
+            fqa.questionNumber = i;
+            fqDb.createEntity(fqa);
+        }
+
+        long initialHitCount = RequestCache.getHitCount(kind);
+        long initialMissCount = RequestCache.getMissCount(kind);
+
+        RequestCache.begin();
+        try {
+            ______TS("repeated reads in a request are served from the cache");
+
+            assertEquals(2, fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId).size());
+            assertEquals(2, fqDb.getFeedbackQuestionsForGiverType(
+                    feedbackSessionName, courseId, FeedbackParticipantType.INSTRUCTORS).size());
+            assertTrue(fqDb.getFeedbackQuestionsForGiverType(
+                    feedbackSessionName, courseId, FeedbackParticipantType.STUDENTS).isEmpty());
+
+            assertEquals(initialMissCount + 1, RequestCache.getMissCount(kind));
+            assertEquals(initialHitCount + 2, RequestCache.getHitCount(kind));
+
+            ______TS("writes discard the cached results");
+
+            fqa = getNewFeedbackQuestionAttributes();
+            fqa.feedbackSessionName = feedbackSessionName;
+            fqa.questionNumber = 3;
+            fqDb.createEntity(fqa);
+            assertEquals(3, fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId).size());
+
+            fqDb.deleteEntity(fqa);
+            assertEquals(2, fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId).size());
+
+            assertEquals(initialMissCount + 3, RequestCache.getMissCount(kind));
+        } finally {
+            RequestCache.end();
+        }
+
+        ______TS("reads outside a request are not cached");
+
+        assertEquals(2, fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId).size());
+        assertEquals(initialMissCount + 3, RequestCache.getMissCount(kind));
+        assertEquals(initialHitCount + 2, RequestCache.getHitCount(kind));
+
+        for (FeedbackQuestionAttributes question : fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            fqDb.deleteEntity(question);
+        }
+    }
+
     @Test
     public void testUpdateFeedbackQuestion() throws Exception {
 
@@ -1,8 +1,10 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -55,12 +57,18 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
 
         testGetFeedbackResponseCommentFromId();
 
+        testGetFeedbackResponseCommentsForIds();
+
         testGetFeedbackResponseCommentFromCommentDetails();
 
         testGetFeedbackResponseCommentForGiver();
 
         testGetFeedbackResponseCommentForResponse();
 
+        testGetFeedbackResponseCommentsForQuestion();
+
+        testGetFeedbackResponseCommentsForResponses();
+
         testUpdateFeedbackResponseComment();
 
         testGetFeedbackResponseCommentsForSession();
@@ -118,6 +126,27 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         assertNull(frcDb.getFeedbackResponseComment(-1L));
     }
 
+    private void testGetFeedbackResponseCommentsForIds() {
+
+        ______TS("null parameter");
+
+        try {
+            frcDb.getFeedbackResponseCommentsForIds(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        ______TS("typical success case, non-existent comments are left out");
+
+        Map<Long, FeedbackResponseCommentAttributes> comments =
+                frcDb.getFeedbackResponseCommentsForIds(Arrays.asList(frcaData.getId(), anotherFrcaData.getId(), -1L));
+
+        assertEquals(2, comments.size());
+        assertEquals(frcaData.toString(), comments.get(frcaData.getId()).toString());
+        assertEquals(anotherFrcaData.toString(), comments.get(anotherFrcaData.getId()).toString());
+    }
+
     private void testGetFeedbackResponseCommentFromCommentDetails() {
 
         ______TS("null parameter");
@@ -213,6 +242,55 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         verifyListsContainSameResponseCommentAttributes(new ArrayList<>(frcasExpected), frcas);
     }
 
+    private void testGetFeedbackResponseCommentsForQuestion() {
+        String questionId = "1";
+        ArrayList<FeedbackResponseCommentAttributes> frcasExpected = new ArrayList<>();
+        frcasExpected.add(frcaData);
+
+        ______TS("null parameter");
+
+        try {
+            frcDb.getFeedbackResponseCommentsForQuestion(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        ______TS("typical success case, comments on other questions are left out");
+
+        List<FeedbackResponseCommentAttributes> frcas = frcDb.getFeedbackResponseCommentsForQuestion(questionId);
+        verifyListsContainSameResponseCommentAttributes(frcasExpected, frcas);
+
+        ______TS("non-existent question");
+
+        assertTrue(frcDb.getFeedbackResponseCommentsForQuestion("nonExistentQuestionId").isEmpty());
+    }
+
+    private void testGetFeedbackResponseCommentsForResponses() {
+        String responseId = "1%student1InCourse1@gmail.tmt%student1InCourse1@gmail.tmt";
+        ArrayList<FeedbackResponseCommentAttributes> frcasExpected = new ArrayList<>();
+        frcasExpected.add(frcaData);
+
+        ______TS("null parameter");
+
+        try {
+            frcDb.getFeedbackResponseCommentsForResponses(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        ______TS("typical success case, responses without comments are ignored");
+
+        List<FeedbackResponseCommentAttributes> frcas = frcDb.getFeedbackResponseCommentsForResponses(
+                Arrays.asList(responseId, "nonExistentResponseId"));
+        verifyListsContainSameResponseCommentAttributes(frcasExpected, frcas);
+
+        ______TS("no responses");
+
+        assertTrue(frcDb.getFeedbackResponseCommentsForResponses(new ArrayList<String>()).isEmpty());
+    }
+
     private void testUpdateFeedbackResponseComment() throws Exception {
 
         ______TS("null parameter");
@@ -1,5 +1,7 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +11,12 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.EntityNotFoundException;
+import com.google.appengine.api.datastore.KeyFactory;
+
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
@@ -486,6 +494,33 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 questionId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesFromGiversForQuestion() {
+
+        ______TS("standard success case, givers without responses are ignored");
+
+        String questionId = fras.get("response1ForQ1S1C1").feedbackQuestionId;
+
+        List<FeedbackResponseAttributes> responses = frDb.getFeedbackResponsesFromGiversForQuestion(questionId,
+                Arrays.asList("student1InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt",
+                              "non-existentStudentInCourse1@gmail.tmt"));
+
+        assertEquals(2, responses.size());
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponsesFromGiversForQuestion(questionId, null);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        ______TS("no givers");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiversForQuestion(questionId, new ArrayList<String>()).isEmpty());
+    }
+
     @Test
     public void testGetFeedbackResponsesFromGiverForQuestionInSection() {
 
@@ -583,6 +618,48 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 courseId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesFromGiverAndForReceiverForSession() {
+
+        ______TS("standard success case");
+
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+
+        List<FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponsesFromGiverForSession("student1InCourse1@gmail.tmt", feedbackSessionName, courseId);
+
+        assertEquals(2, responses.size());
+
+        responses = frDb.getFeedbackResponsesForReceiverForSession(
+                "student1InCourse1@gmail.tmt", feedbackSessionName, courseId);
+
+        assertEquals(2, responses.size());
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponsesFromGiverForSession(null, feedbackSessionName, courseId);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        try {
+            frDb.getFeedbackResponsesForReceiverForSession("student1InCourse1@gmail.tmt", null, courseId);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        ______TS("non-existent feedback session");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiverForSession(
+                "student1InCourse1@gmail.tmt", "non-existent feedback session", courseId).isEmpty());
+        assertTrue(frDb.getFeedbackResponsesForReceiverForSession(
+                "student1InCourse1@gmail.tmt", "non-existent feedback session", courseId).isEmpty());
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionWithinRange() {
 
@@ -821,6 +898,100 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testSectionsInvolvedFollowSectionChanges() throws Exception {
+        FeedbackResponseAttributes fra = getNewFeedbackResponseAttributes();
+        fra.feedbackSessionName = "fsSectionsInvolvedTest";
+        fra.giverSection = "Section A";
+        fra.recipientSection = "Section B";
+        frDb.createEntity(fra);
+        fra = frDb.getFeedbackResponse(fra.feedbackQuestionId, fra.giver, fra.recipient);
+
+        ______TS("new response is found through both of its sections");
+
+        assertEquals(1, frDb.getFeedbackResponsesForSessionInSection(
+                fra.feedbackSessionName, fra.courseId, "Section A").size());
+        assertEquals(1, frDb.getFeedbackResponsesForSessionInSection(
+                fra.feedbackSessionName, fra.courseId, "Section B").size());
+        assertEquals(1, frDb.getFeedbackResponsesFromGiverForQuestionInSection(
+                fra.feedbackQuestionId, fra.giver, "Section B").size());
+        assertTrue(frDb.getFeedbackResponsesForQuestionInSection(fra.feedbackQuestionId, "Section A").isEmpty());
+
+        ______TS("response moved to another section is no longer found through the old one");
+
+        fra.recipientSection = "Section C";
+        frDb.updateFeedbackResponse(fra);
+
+        assertTrue(frDb.getFeedbackResponsesForSessionInSection(
+                fra.feedbackSessionName, fra.courseId, "Section B").isEmpty());
+        assertEquals(1, frDb.getFeedbackResponsesForSessionInSection(
+                fra.feedbackSessionName, fra.courseId, "Section C").size());
+        assertEquals(1, frDb.getFeedbackResponsesForReceiverForQuestionInSection(
+                fra.feedbackQuestionId, fra.recipient, "Section C").size());
+
+        ______TS("response between a section and no section belongs to the section for the question");
+
+        fra.recipientSection = Const.DEFAULT_SECTION;
+        frDb.updateFeedbackResponse(fra);
+
+        assertEquals(1, frDb.getFeedbackResponsesForQuestionInSection(fra.feedbackQuestionId, "Section A").size());
+        assertTrue(frDb.getFeedbackResponsesForSessionInSection(
+                fra.feedbackSessionName, fra.courseId, "Section C").isEmpty());
+
+        frDb.deleteEntity(fra);
+    }
+
+    @Test
+    public void testSectionQueriesFindResponsesWithoutSectionsInvolved() throws Exception {
+        FeedbackResponseAttributes fra = getNewFeedbackResponseAttributes();
+        fra.feedbackSessionName = "fsLegacySectionsTest";
+        fra.giverSection = "Section A";
+        fra.recipientSection = "Section B";
+        frDb.createEntity(fra);
+        fra = frDb.getFeedbackResponse(fra.feedbackQuestionId, fra.giver, fra.recipient);
+
+        removeSectionsInvolved(fra);
+
+        ______TS("legacy response is found through both of its sections, once");
+
+        assertEquals(1, frDb.getFeedbackResponsesForSessionInSection(
+                fra.feedbackSessionName, fra.courseId, "Section A").size());
+        assertEquals(1, frDb.getFeedbackResponsesForSessionInSection(
+                fra.feedbackSessionName, fra.courseId, "Section B").size());
+        assertEquals(1, frDb.getFeedbackResponsesFromGiverForQuestionInSection(
+                fra.feedbackQuestionId, fra.giver, "Section B").size());
+        assertEquals(1, frDb.getFeedbackResponsesForReceiverForQuestionInSection(
+                fra.feedbackQuestionId, fra.recipient, "Section A").size());
+        assertTrue(frDb.getFeedbackResponsesForQuestionInSection(fra.feedbackQuestionId, "Section A").isEmpty());
+
+        ______TS("legacy response between a section and no section belongs to the section for the question");
+
+        FeedbackResponseAttributes fraWithoutRecipientSection = getNewFeedbackResponseAttributes();
+        fraWithoutRecipientSection.feedbackSessionName = fra.feedbackSessionName;
+        fraWithoutRecipientSection.recipient = "legacy.recipient@gmail.tmt";
+        fraWithoutRecipientSection.giverSection = "Section A";
+        fraWithoutRecipientSection.recipientSection = Const.DEFAULT_SECTION;
+        frDb.createEntity(fraWithoutRecipientSection);
+        fraWithoutRecipientSection = frDb.getFeedbackResponse(fraWithoutRecipientSection.feedbackQuestionId,
+                fraWithoutRecipientSection.giver, fraWithoutRecipientSection.recipient);
+        removeSectionsInvolved(fraWithoutRecipientSection);
+
+        assertEquals(1, frDb.getFeedbackResponsesForQuestionInSection(fra.feedbackQuestionId, "Section A").size());
+
+        frDb.deleteEntity(fra);
+        frDb.deleteEntity(fraWithoutRecipientSection);
+    }
+
+    /**
+     * Removes {@code sectionsInvolved} from the stored response, as for responses saved before it was introduced.
+     */
+    private static void removeSectionsInvolved(FeedbackResponseAttributes fra) throws EntityNotFoundException {
+        DatastoreService datastore = DatastoreServiceFactory.getDatastoreService();
+        Entity legacyResponse = datastore.get(KeyFactory.createKey("FeedbackResponse", fra.getId()));
+        legacyResponse.removeProperty("sectionsInvolved");
+        datastore.put(legacyResponse);
+    }
+
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
         FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
 
@@ -0,0 +1,196 @@
+package teammates.test.cases.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.annotations.Test;
+
+import com.google.apphosting.api.ApiProxy;
+import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.util.Closeable;
+
+import teammates.storage.api.EntitiesDb;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link FeedbackSessionRespondentsDb}.
+ */
+public class FeedbackSessionRespondentsDbTest extends BaseComponentTestCase {
+
+    private static final int NUMBER_OF_THREADS = 20;
+    private static final int RESPONDENTS_PER_THREAD = 50;
+
+    private FeedbackSessionRespondentsDb respondentsDb = new FeedbackSessionRespondentsDb();
+
+    @Test
+    public void testRecordingOfRespondents() {
+        String sessionName = "First Session";
+        String otherSessionName = "Second Session";
+        String courseId = "FSRDbT.course";
+
+        ______TS("respondents are recorded per session and per role");
+
+        respondentsDb.addRespondents(sessionName, courseId, Arrays.asList("alice@example.com", "bob@example.com"), false);
+        respondentsDb.addRespondents(sessionName, courseId, Arrays.asList("alice@example.com"), false);
+        respondentsDb.addRespondents(sessionName, courseId, Arrays.asList("instr@example.com"), true);
+        respondentsDb.addRespondents(otherSessionName, courseId, Arrays.asList("alice@example.com"), false);
+
+        assertEquals(new HashSet<>(Arrays.asList("alice@example.com", "bob@example.com")),
+                     respondentsDb.getRespondents(sessionName, courseId, false));
+        assertEquals(new HashSet<>(Arrays.asList("instr@example.com")),
+                     respondentsDb.getRespondents(sessionName, courseId, true));
+        assertEquals(3, respondentsDb.getNumberOfRespondents(sessionName, courseId));
+        assertTrue(respondentsDb.isRespondent(sessionName, courseId, "bob@example.com", false));
+        assertFalse(respondentsDb.isRespondent(sessionName, courseId, "bob@example.com", true));
+
+        ______TS("respondents are removed");
+
+        respondentsDb.deleteRespondent(sessionName, courseId, "bob@example.com", false);
+        respondentsDb.deleteRespondent(sessionName, courseId, "non.existent@example.com", false);
+
+        assertFalse(respondentsDb.isRespondent(sessionName, courseId, "bob@example.com", false));
+        assertEquals(2, respondentsDb.getNumberOfRespondents(sessionName, courseId));
+
+        ______TS("email change is applied to all sessions of the course");
+
+        respondentsDb.updateRespondentEmailForCourse(courseId, "alice@example.com", "alice.new@example.com", false);
+
+        assertEquals(new HashSet<>(Arrays.asList("alice.new@example.com")),
+                     respondentsDb.getRespondents(sessionName, courseId, false));
+        assertEquals(new HashSet<>(Arrays.asList("alice.new@example.com")),
+                     respondentsDb.getRespondents(otherSessionName, courseId, false));
+
+        ______TS("respondents of a session and of a course are deleted");
+
+        respondentsDb.deleteRespondentsForSession(sessionName, courseId);
+
+        assertEquals(0, respondentsDb.getNumberOfRespondents(sessionName, courseId));
+        assertEquals(1, respondentsDb.getNumberOfRespondents(otherSessionName, courseId));
+
+        respondentsDb.deleteRespondentsForCourses(Arrays.asList(courseId));
+
+        assertEquals(0, respondentsDb.getNumberOfRespondents(otherSessionName, courseId));
+
+        ______TS("respondents recorded with deferred writes are counted with the others");
+
+        respondentsDb.addRespondentsDeferred(sessionName, courseId,
+                                             Arrays.asList("carol@example.com", "dave@example.com"), false);
+        EntitiesDb.flush();
+
+        assertEquals(2, respondentsDb.getNumberOfRespondents(sessionName, courseId));
+
+        respondentsDb.addRespondents(sessionName, courseId, Arrays.asList("carol@example.com", "erin@example.com"),
+                                     false);
+        respondentsDb.deleteRespondents(sessionName, courseId,
+                                        Arrays.asList("dave@example.com", "non.existent@example.com"), false);
+
+        assertEquals(2, respondentsDb.getNumberOfRespondents(sessionName, courseId));
+
+        respondentsDb.deleteRespondentsForCourses(Arrays.asList(courseId));
+    }
+
+    @Test
+    public void testConcurrentSubmissionsToOneSession() throws Exception {
+        String sessionName = "Busy Session";
+        String courseId = "FSRDbT.busy.course";
+
+        ______TS("no respondent is lost when many respondents submit at the same time");
+
+        runConcurrently(threadIndex -> {
+            for (int i = 0; i < RESPONDENTS_PER_THREAD; i++) {
+                respondentsDb.addRespondents(sessionName, courseId, Arrays.asList(getStudentEmail(threadIndex, i)),
+                                             false);
+                // every thread also records the same instructor, which must not create duplicates
+                respondentsDb.addRespondents(sessionName, courseId, Arrays.asList("instr@example.com"), true);
+            }
+        });
+
+        Set<String> expectedStudents = new HashSet<>();
+        for (int threadIndex = 0; threadIndex < NUMBER_OF_THREADS; threadIndex++) {
+            for (int i = 0; i < RESPONDENTS_PER_THREAD; i++) {
+                expectedStudents.add(getStudentEmail(threadIndex, i));
+            }
+        }
+        assertEquals(expectedStudents, respondentsDb.getRespondents(sessionName, courseId, false));
+        assertEquals(new HashSet<>(Arrays.asList("instr@example.com")),
+                     respondentsDb.getRespondents(sessionName, courseId, true));
+        assertEquals(NUMBER_OF_THREADS * RESPONDENTS_PER_THREAD + 1,
+                     respondentsDb.getNumberOfRespondents(sessionName, courseId));
+
+        ______TS("removals at the same time as submissions affect only the removed respondents");
+
+        runConcurrently(threadIndex -> {
+            for (int i = 0; i < RESPONDENTS_PER_THREAD; i++) {
+                if (threadIndex % 2 == 0) {
+                    respondentsDb.deleteRespondent(sessionName, courseId, getStudentEmail(threadIndex, i), false);
+                } else {
+                    respondentsDb.addRespondents(sessionName, courseId,
+                                                 Arrays.asList(getStudentEmail(threadIndex + NUMBER_OF_THREADS, i)),
+                                                 false);
+                }
+            }
+        });
+
+        for (int threadIndex = 0; threadIndex < NUMBER_OF_THREADS; threadIndex++) {
+            for (int i = 0; i < RESPONDENTS_PER_THREAD; i++) {
+                if (threadIndex % 2 == 0) {
+                    expectedStudents.remove(getStudentEmail(threadIndex, i));
+                } else {
+                    expectedStudents.add(getStudentEmail(threadIndex + NUMBER_OF_THREADS, i));
+                }
+            }
+        }
+        assertEquals(expectedStudents, respondentsDb.getRespondents(sessionName, courseId, false));
+        assertEquals(expectedStudents.size() + 1, respondentsDb.getNumberOfRespondents(sessionName, courseId));
+
+        respondentsDb.deleteRespondentsForCourses(Arrays.asList(courseId));
+    }
+
+    /**
+     * Runs the task in {@link #NUMBER_OF_THREADS} threads at the same time, each with the simulated GAE
+     * environment and an Objectify session of its own, and waits for all of them to finish.
+     */
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ApiProxy.Environment environment = ApiProxy.getCurrentEnvironment();
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int threadIndex = 0; threadIndex < NUMBER_OF_THREADS; threadIndex++) {
+                int index = threadIndex;
+                Callable<Void> callable = () -> {
+                    ApiProxy.setEnvironmentForCurrentThread(environment);
+                    try (Closeable closeable = ObjectifyService.begin()) {
+                        task.run(index);
+                    } finally {
+                        ApiProxy.clearEnvironmentForCurrentThread();
+                    }
+                    return null;
+                };
+                results.add(executor.submit(callable));
+            }
+            for (Future<Void> result : results) {
+                // rethrows any failure of the task
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static String getStudentEmail(int threadIndex, int index) {
+        return "student" + threadIndex + "." + index + "@example.com";
+    }
+
+    private interface ThreadTask {
+        void run(int threadIndex);
+    }
+
+}
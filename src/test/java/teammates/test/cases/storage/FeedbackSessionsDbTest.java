@@ -284,6 +284,66 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         verifyPresentInDatastore(modifiedSession);
     }
 
+    @Test
+    public void testExpectedRespondentTotal() throws Exception {
+        FeedbackSessionAttributes session = getNewFeedbackSession();
+        fsDb.deleteEntity(session);
+        fsDb.createEntity(session);
+
+        ______TS("missing total is stored");
+
+        long version = fsDb.getExpectedRespondentTotalVersion(session);
+        assertEquals(10, fsDb.storeExpectedRespondentTotalIfMissing(session, 10, version));
+        assertEquals(Integer.valueOf(10), fsDb.getFeedbackSession(session.getCourseId(),
+                session.getFeedbackSessionName()).getExpectedRespondentTotal());
+
+        ______TS("total stored by another request is kept");
+
+        FeedbackSessionAttributes staleSession = getNewFeedbackSession();
+        assertNull(staleSession.getExpectedRespondentTotal());
+        assertEquals(10, fsDb.storeExpectedRespondentTotalIfMissing(staleSession, 12, version));
+        assertEquals(Integer.valueOf(10), staleSession.getExpectedRespondentTotal());
+        assertEquals(Integer.valueOf(10), fsDb.getFeedbackSession(session.getCourseId(),
+                session.getFeedbackSessionName()).getExpectedRespondentTotal());
+
+        ______TS("total is replaced and cleared");
+
+        assertTrue(fsDb.updateExpectedRespondentTotal(session, 12, version));
+        assertEquals(Integer.valueOf(12), fsDb.getFeedbackSession(session.getCourseId(),
+                session.getFeedbackSessionName()).getExpectedRespondentTotal());
+
+        fsDb.clearExpectedRespondentTotal(session.getFeedbackSessionName(), session.getCourseId());
+        assertNull(fsDb.getFeedbackSession(session.getCourseId(),
+                session.getFeedbackSessionName()).getExpectedRespondentTotal());
+
+        ______TS("total computed before a clear is not stored");
+
+        // the total was computed after reading the version, then the course roster changed
+        long versionBeforeClear = fsDb.getExpectedRespondentTotalVersion(session);
+        fsDb.clearExpectedRespondentTotalsForCourse(session.getCourseId());
+
+        assertEquals(11, fsDb.storeExpectedRespondentTotalIfMissing(session, 11, versionBeforeClear));
+        assertFalse(fsDb.updateExpectedRespondentTotal(session, 11, versionBeforeClear));
+        assertNull(fsDb.getFeedbackSession(session.getCourseId(),
+                session.getFeedbackSessionName()).getExpectedRespondentTotal());
+
+        long versionAfterClear = fsDb.getExpectedRespondentTotalVersion(session);
+        assertEquals(13, fsDb.storeExpectedRespondentTotalIfMissing(session, 13, versionAfterClear));
+        assertEquals(Integer.valueOf(13), fsDb.getFeedbackSession(session.getCourseId(),
+                session.getFeedbackSessionName()).getExpectedRespondentTotal());
+
+        ______TS("session does not exist");
+
+        FeedbackSessionAttributes nonexistentSession = getNewFeedbackSession();
+        nonexistentSession.setFeedbackSessionName("non existent fs");
+        try {
+            fsDb.storeExpectedRespondentTotalIfMissing(nonexistentSession, 10, version);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains(FeedbackSessionsDb.ERROR_UPDATE_NON_EXISTENT, e.getLocalizedMessage());
+        }
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.com")
                 .withFeedbackSessionType(FeedbackSessionType.STANDARD)
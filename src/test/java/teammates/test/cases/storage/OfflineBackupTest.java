@@ -0,0 +1,198 @@
+package teammates.test.cases.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.client.scripts.OfflineBackup;
+import teammates.client.scripts.UploadBackupData;
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.storage.api.FeedbackQuestionsDb;
+import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
+import teammates.storage.api.StudentsDb;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.test.driver.AssertHelper;
+
+/**
+ * SUT: {@link OfflineBackup}, and the upload of its backups by {@link UploadBackupData}.
+ */
+public class OfflineBackupTest extends BaseComponentTestCase {
+
+    private FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
+    private FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+    private FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
+    private StudentsDb studentsDb = new StudentsDb();
+    private FeedbackSessionRespondentsDb respondentsDb = new FeedbackSessionRespondentsDb();
+
+    private Path backupRootDirectory;
+    private int numberOfBackups;
+
+    @BeforeClass
+    public void classSetup() throws IOException {
+        backupRootDirectory = Files.createTempDirectory("OfflineBackupTest");
+    }
+
+    @AfterClass
+    public void classTearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(backupRootDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testUploadOfIncrementalBackups() throws Exception {
+        DataBundle dataBundle = getTypicalDataBundle();
+        removeAndRestoreDataBundle(dataBundle);
+
+        ______TS("first backup: all the entities in the journal");
+
+        backUp();
+
+        ______TS("second backup: changed and deleted entities whose questions did not change");
+
+        FeedbackQuestionAttributes question = fqDb.getFeedbackQuestion("First feedback session", "idOfTypicalCourse1", 1);
+
+        FeedbackResponseAttributes changedResponse =
+                frDb.getFeedbackResponse(question.getId(), "student1InCourse1@gmail.tmt", "student1InCourse1@gmail.tmt");
+        changedResponse.setResponseDetails(new FeedbackTextResponseDetails("Changed self feedback"));
+        frDb.updateFeedbackResponse(changedResponse);
+
+        FeedbackResponseAttributes deletedResponse =
+                frDb.getFeedbackResponse(question.getId(), "student2InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt");
+        frDb.deleteFeedbackResponses(Arrays.asList(deletedResponse));
+
+        FeedbackResponseCommentAttributes changedComment =
+                frcDb.getFeedbackResponseCommentsForResponse(changedResponse.getId()).get(0);
+        changedComment.commentText = new Text("Changed comment");
+        frcDb.updateFeedbackResponseComment(changedComment);
+
+        StudentAttributes deletedStudent = dataBundle.students.get("student5InCourse1");
+        studentsDb.deleteStudentWithoutDocument(deletedStudent.course, deletedStudent.email);
+
+        backUp();
+
+        ______TS("upload into an empty Datastore restores the latest state");
+
+        backDoorLogic.removeDataBundle(dataBundle);
+        assertNull(fqDb.getFeedbackQuestion("First feedback session", "idOfTypicalCourse1", 1));
+
+        new UploadBackupDataForTest(backupRootDirectory + "/Backup").run();
+
+        FeedbackQuestionAttributes uploadedQuestion =
+                fqDb.getFeedbackQuestion("First feedback session", "idOfTypicalCourse1", 1);
+        assertNotNull(uploadedQuestion);
+        assertFalse(question.getId().equals(uploadedQuestion.getId()));
+
+        FeedbackResponseAttributes uploadedResponse = frDb.getFeedbackResponse(uploadedQuestion.getId(),
+                "student1InCourse1@gmail.tmt", "student1InCourse1@gmail.tmt");
+        assertEquals("Changed self feedback", uploadedResponse.getResponseDetails().getAnswerString());
+        assertNull(frDb.getFeedbackResponse(uploadedQuestion.getId(),
+                "student2InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt"));
+
+        FeedbackResponseCommentAttributes uploadedComment = frcDb.getFeedbackResponseComment(
+                uploadedResponse.getId(), changedComment.giverEmail, changedComment.createdAt);
+        assertEquals("Changed comment", uploadedComment.commentText.getValue());
+        assertEquals(uploadedQuestion.getId(), uploadedComment.feedbackQuestionId);
+
+        assertNull(studentsDb.getStudentForEmail(deletedStudent.course, deletedStudent.email));
+        assertNotNull(studentsDb.getStudentForEmail("idOfTypicalCourse1", "student1InCourse1@gmail.tmt"));
+
+        ______TS("upload rebuilds the respondents, which are not backed up, from the responses");
+
+        assertTrue(respondentsDb.isRespondent("First feedback session", "idOfTypicalCourse1",
+                                              "student1InCourse1@gmail.tmt", false));
+    }
+
+    @Test
+    public void testBackupWithCheckpointOlderThanJournal() throws Exception {
+        Path staleBackupRootDirectory = Files.createDirectories(backupRootDirectory.resolve("stale"));
+        Path checkpointFile = staleBackupRootDirectory.resolve("checkpoint.txt");
+        long staleCheckpoint = TimeHelper.getDateOffsetToCurrentTime(
+                -Const.SystemParams.ENTITY_CHANGES_RETENTION_DAYS - 1).getTime();
+        Files.write(checkpointFile, String.valueOf(staleCheckpoint).getBytes(StandardCharsets.UTF_8));
+
+        ______TS("backup is aborted without backing up anything or advancing the checkpoint");
+
+        OfflineBackupForTest offlineBackup =
+                new OfflineBackupForTest(staleBackupRootDirectory.toString(), "2017_01_01 00.00.00");
+        try {
+            offlineBackup.run();
+            signalFailureToDetectException();
+        } catch (IllegalStateException e) {
+            AssertHelper.assertContains("older than the journal of entity changes", e.getMessage());
+        }
+
+        assertFalse(Files.exists(staleBackupRootDirectory.resolve("Backup")));
+        assertEquals(String.valueOf(staleCheckpoint),
+                     new String(Files.readAllBytes(checkpointFile), StandardCharsets.UTF_8));
+    }
+
+    private void backUp() {
+        numberOfBackups++;
+        // a backup folder of its own for each backup, even within the same second
+        new OfflineBackupForTest(backupRootDirectory.toString(), "2017_01_01 00.00.0" + numberOfBackups).run();
+    }
+
+    /**
+     * Backs up all the changes up to now into the given directory.
+     */
+    private static class OfflineBackupForTest extends OfflineBackup {
+
+        private final String backupFolderName;
+
+        OfflineBackupForTest(String backupRootDirectory, String backupFolderName) {
+            this.backupRootDirectory = backupRootDirectory;
+            this.backupFolderName = backupFolderName;
+        }
+
+        void run() {
+            doOperation();
+        }
+
+        @Override
+        protected Date getChangesEnd() {
+            return new Date(System.currentTimeMillis() + 1);
+        }
+
+        @Override
+        protected String getCurrentDateAndTime() {
+            return backupFolderName;
+        }
+    }
+
+    /**
+     * Uploads the backups in the given directory.
+     */
+    private static class UploadBackupDataForTest extends UploadBackupData {
+
+        UploadBackupDataForTest(String backupFolder) {
+            this.backupFolder = backupFolder;
+        }
+
+        void run() {
+            doOperation();
+        }
+    }
+
+}
@@ -149,6 +149,7 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         // success test cases
         testUpdateProfilePictureSuccessInitiallyEmpty(a);
         testUpdateProfilePictureSuccessSamePictureKey(a);
+        testUpdateProfilePictureSuccessNewPictureKey(a);
     }
 
     private void testUpdateProfilePictureWithNullParameters()
@@ -223,6 +224,22 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey);
     }
 
+    private void testUpdateProfilePictureSuccessNewPictureKey(
+            AccountAttributes a) throws IOException, EntityDoesNotExistException {
+        ______TS("update picture key - new key; old picture is deleted");
+
+        String oldPictureKey = a.studentProfile.pictureKey;
+        a.studentProfile.pictureKey = uploadDefaultPictureForProfile(a.googleId);
+        assertFalse(oldPictureKey.equals(a.studentProfile.pictureKey));
+
+        profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey);
+
+        StudentProfileAttributes updatedProfile = profilesDb.getStudentProfile(a.studentProfile.googleId);
+        assertEquals(a.studentProfile.pictureKey, updatedProfile.pictureKey);
+        assertTrue(doesFileExistInGcs(new BlobKey(a.studentProfile.pictureKey)));
+        assertFalse(doesFileExistInGcs(new BlobKey(oldPictureKey)));
+    }
+
     @Test
     public void testDeleteProfilePicture() throws Exception {
         AccountAttributes a = createNewAccount();
@@ -3,6 +3,10 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -175,6 +179,37 @@ public class StudentsDbTest extends BaseComponentTestCase {
         studentsDb.deleteStudent(s2.course, s2.email);
     }
 
+    @Test
+    public void testGetStudentsForEmails() throws InvalidParametersException {
+
+        StudentAttributes s = createNewStudent();
+        StudentAttributes s2 = createNewStudent("one.new@gmail.com");
+
+        ______TS("typical success case, emails of no student in the course are ignored");
+
+        List<StudentAttributes> retrieved = studentsDb.getStudentsForEmails(s.course,
+                Arrays.asList(s.email, s2.email, "non-existent@email.com"));
+        assertEquals(2, retrieved.size());
+
+        assertTrue(studentsDb.getStudentsForEmails("any-course-id", Arrays.asList(s.email)).isEmpty());
+
+        ______TS("no emails");
+
+        assertTrue(studentsDb.getStudentsForEmails(s.course, new ArrayList<String>()).isEmpty());
+
+        ______TS("null params case");
+
+        try {
+            studentsDb.getStudentsForEmails(s.course, null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        studentsDb.deleteStudent(s.course, s.email);
+        studentsDb.deleteStudent(s2.course, s2.email);
+    }
+
     @Test
     public void testUpdateStudentWithoutDocument() throws InvalidParametersException, EntityDoesNotExistException {
 
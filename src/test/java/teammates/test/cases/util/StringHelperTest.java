@@ -194,7 +194,7 @@ public class StringHelperTest extends BaseTestCase {
     }
 
     @Test
-    public void testDecryptingInvalidCiphertextThrowsException() {
+    public void testDecryptingInvalidCiphertextThrowsException() throws InvalidParametersException {
         // The decrypt function converts a hex string into an array of bytes before decryption.
         // E.g AF is the byte 10101111
         // Hence, non-hex strings should fail to decrypt.
@@ -214,6 +214,10 @@ public class StringHelperTest extends BaseTestCase {
                 ignoreExpectedException();
             }
         }
+
+        // the cipher reused for decryption is not left in a broken state by the failures
+        String msg = "Test decryption after failures";
+        assertEquals(msg, StringHelper.decrypt(StringHelper.encrypt(msg)));
     }
 
     @Test
@@ -0,0 +1,74 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testPopulateTemplate() {
+
+        ______TS("placeholders");
+
+        String template = "<p>${greeting}, ${name}!</p><p>${name} has ${count} new ${unknown}.</p>";
+        assertEquals("<p>Hello, Alice!</p><p>Alice has 3 new ${unknown}.</p>",
+                Templates.populateTemplate(template, "${greeting}", "Hello", "${name}", "Alice", "${count}", "3"));
+        assertEquals(template, Templates.populateTemplate(template));
+        assertEquals(template, Templates.populateTemplate(template, "${absent}", "value"));
+
+        ______TS("repeated key: only the first value is used");
+
+        assertEquals("<p>Hello, Alice!</p><p>Alice has ${count} new ${unknown}.</p>",
+                Templates.populateTemplate(template, "${greeting}", "Hello", "${name}", "Alice", "${name}", "Bob"));
+
+        ______TS("value containing a later key is populated as if the keys were replaced one by one");
+
+        assertEquals("<p>Hi Alice, Alice!</p><p>Alice has ${count} new ${unknown}.</p>",
+                Templates.populateTemplate(template, "${greeting}", "Hi ${name}", "${name}", "Alice"));
+
+        ______TS("keys which are not placeholders");
+
+        assertEquals("<p>Hello, ${name}!</p><p>${name} has ${count} new ${unknown}.</p>",
+                Templates.populateTemplate(template, "${greeting}", "Hello", "has", "had", "had", "has"));
+        assertEquals("${name} costs $5", Templates.populateTemplate("${item} costs $5", "${item}", "${name}"));
+
+        ______TS("templates of the system");
+
+        String[] keyValuePairs = {
+                "${userName}", "Alice &lt;Betsy&gt;",
+                "${courseName}", "Software Engineering",
+                "${courseId}", "CS2103T",
+                "${feedbackSessionName}", "Peer Evaluation 1",
+                "${deadline}", "Sun, 01 Oct 2017, 11:59 PM",
+                "${supportEmail}", "support@example.com",
+        };
+        assertEquals(replaceOneByOne(EmailTemplates.USER_FEEDBACK_SESSION, keyValuePairs),
+                Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION, keyValuePairs));
+        assertEquals(replaceOneByOne(Templates.INSTRUCTOR_SAMPLE_DATA, "demo.course", "demo.course.1"),
+                Templates.populateTemplate(Templates.INSTRUCTOR_SAMPLE_DATA, "demo.course", "demo.course.1"));
+
+        ______TS("invalid number of key-value pairs");
+
+        try {
+            Templates.populateTemplate(template, "${name}");
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            assertEquals("The number of elements in keyValuePairs passed in must be even", e.getMessage());
+        }
+    }
+
+    private static String replaceOneByOne(String template, String... keyValuePairs) {
+        String populatedTemplate = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return populatedTemplate;
+    }
+
+}
@@ -0,0 +1,75 @@
+package teammates.test.driver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailSenderService;
+
+/**
+ * A local email sender service which accepts emails without sending them anywhere.
+ *
+ * <p>The service can be made to reject the emails to a recipient for a number of attempts,
+ * which allows the batch mode of {@link EmailSenderService} to be tested without any real provider.
+ */
+public class FakeEmailSenderService extends EmailSenderService {
+
+    private List<EmailWrapper> sentEmails = new ArrayList<>();
+    private Map<String, Integer> remainingRejectionsByRecipient = new HashMap<>();
+    private int numberOfBatchesSent;
+
+    public FakeEmailSenderService() {
+        // keeps retries short so that tests do not wait long
+        super(1);
+    }
+
+    /**
+     * Makes the service reject the next {@code numberOfRejections} emails to {@code recipient}.
+     */
+    public void rejectEmailsTo(String recipient, int numberOfRejections) {
+        remainingRejectionsByRecipient.put(recipient, numberOfRejections);
+    }
+
+    /**
+     * Groups the emails into the requests that a service sending many emails in one call would make.
+     */
+    public static List<List<EmailWrapper>> getBatchRequests(List<EmailWrapper> wrappers) {
+        return groupIntoBatchRequests(wrappers);
+    }
+
+    @Override
+    public EmailWrapper parseToEmail(EmailWrapper wrapper) {
+        return wrapper;
+    }
+
+    @Override
+    protected List<EmailWrapper> sendEmailsWithService(List<EmailWrapper> wrappers) {
+        numberOfBatchesSent++;
+        return super.sendEmailsWithService(wrappers);
+    }
+
+    @Override
+    protected boolean sendEmailWithService(EmailWrapper wrapper) {
+        int remainingRejections = remainingRejectionsByRecipient.getOrDefault(wrapper.getRecipient(), 0);
+        if (remainingRejections > 0) {
+            remainingRejectionsByRecipient.put(wrapper.getRecipient(), remainingRejections - 1);
+            return false;
+        }
+        sentEmails.add(wrapper);
+        return true;
+    }
+
+    public List<EmailWrapper> getEmailsSent() {
+        return sentEmails;
+    }
+
+    /**
+     * Returns the number of times a batch of emails (including a retry of a batch) was given to the service.
+     */
+    public int getNumberOfBatchesSent() {
+        return numberOfBatchesSent;
+    }
+
+}
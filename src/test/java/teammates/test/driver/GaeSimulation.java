@@ -14,6 +14,7 @@ import com.google.appengine.api.log.dev.LocalLogService;
 import com.google.appengine.tools.development.testing.LocalDatastoreServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalLogServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalMailServiceTestConfig;
+import com.google.appengine.tools.development.testing.LocalMemcacheServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalModulesServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalSearchServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalServiceTestHelper;
@@ -73,11 +74,12 @@ public class GaeSimulation {
         LocalUserServiceTestConfig localUserServices = new LocalUserServiceTestConfig();
         LocalDatastoreServiceTestConfig localDatastore = new LocalDatastoreServiceTestConfig();
         LocalMailServiceTestConfig localMail = new LocalMailServiceTestConfig();
+        LocalMemcacheServiceTestConfig localMemcache = new LocalMemcacheServiceTestConfig();
         LocalSearchServiceTestConfig localSearch = new LocalSearchServiceTestConfig();
         localSearch.setPersistent(false);
         LocalModulesServiceTestConfig localModules = new LocalModulesServiceTestConfig();
         LocalLogServiceTestConfig localLog = new LocalLogServiceTestConfig();
-        helper = new LocalServiceTestHelper(localDatastore, localMail, localUserServices,
+        helper = new LocalServiceTestHelper(localDatastore, localMail, localMemcache, localUserServices,
                                             localTasks, localSearch, localModules, localLog);
         helper.setUp();
 
@@ -185,6 +187,20 @@ public class GaeSimulation {
         return action;
     }
 
+    /**
+     * Returns an invocation of the given URI whose request has the given header.
+     * Its request and response can be used to check how an {@code ActionResult} is sent.
+     */
+    public InvocationContext createInvocationContext(String uri, String headerName, String headerValue) {
+        WebRequest request = new PostMethodWebRequest("http://localhost" + uri);
+        request.setHeaderField(headerName, headerValue);
+        try {
+            return sc.newInvocation(request);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Tears down the GAE simulation.
      */
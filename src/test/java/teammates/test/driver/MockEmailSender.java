@@ -1,7 +1,9 @@
 package teammates.test.driver;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import teammates.common.util.EmailWrapper;
 import teammates.logic.api.EmailSender;
@@ -15,12 +17,33 @@ import teammates.logic.api.EmailSender;
 public class MockEmailSender extends EmailSender {
 
     private List<EmailWrapper> sentEmails = new ArrayList<>();
+    private Set<String> rejectedRecipients = new HashSet<>();
+
+    /**
+     * Makes the emails to the given recipient fail when sent in a batch.
+     */
+    public void rejectEmailsTo(String recipient) {
+        rejectedRecipients.add(recipient);
+    }
 
     @Override
     public void sendEmail(EmailWrapper email) {
         sentEmails.add(email);
     }
 
+    @Override
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> emails) {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            if (rejectedRecipients.contains(email.getRecipient())) {
+                failedEmails.add(email);
+            } else {
+                sentEmails.add(email);
+            }
+        }
+        return failedEmails;
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;